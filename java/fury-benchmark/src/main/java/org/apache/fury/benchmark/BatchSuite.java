@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fury.Fury;
+import org.apache.fury.memory.MemoryBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare {@link Fury#serializeBatch} against serializing objects one by one. Scores are per
+ * object.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchSuite {
+  private static final int BATCH_SIZE = 100;
+
+  @Param({"MEDIA_CONTENT", "STRINGS"})
+  public Payload payload;
+
+  private Fury fury;
+  private List<Object> objects;
+  private MemoryBuffer buffer;
+  private MemoryBuffer batchBuffer;
+
+  @Setup
+  public void setup() {
+    fury = FuryFactory.newFury(false, false);
+    objects = new ArrayList<>();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      objects.add(payload.create());
+    }
+    buffer = MemoryBuffer.newHeapBuffer(64 * 1024);
+    batchBuffer = MemoryBuffer.newHeapBuffer(64 * 1024);
+    fury.serializeBatch(batchBuffer, objects);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public MemoryBuffer serializeOneByOne() {
+    buffer.writerIndex(0);
+    for (Object object : objects) {
+      fury.serialize(buffer, object);
+    }
+    return buffer;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public MemoryBuffer serializeBatch() {
+    buffer.writerIndex(0);
+    return fury.serializeBatch(buffer, objects);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<Object> deserializeBatch() {
+    batchBuffer.readerIndex(0);
+    return fury.deserializeBatch(batchBuffer);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import org.apache.fury.Fury;
+import org.apache.fury.ThreadSafeFury;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.FuryBuilder;
+import org.apache.fury.config.Language;
+
+/** Fury instances configured the same way across all benchmarks. */
+public class FuryFactory {
+
+  /** {@link ThreadSafeFury} implementations to compare. */
+  public enum ThreadSafeType {
+    THREAD_LOCAL,
+    POOL,
+    VIRTUAL_THREAD
+  }
+
+  public static FuryBuilder builder(boolean refTracking, boolean compatible) {
+    return Fury.builder()
+        .withLanguage(Language.JAVA)
+        .withRefTracking(refTracking)
+        .withRefCopy(refTracking)
+        .withCompatibleMode(
+            compatible ? CompatibleMode.COMPATIBLE : CompatibleMode.SCHEMA_CONSISTENT)
+        .requireClassRegistration(true);
+  }
+
+  public static Fury newFury(boolean refTracking, boolean compatible) {
+    Fury fury = builder(refTracking, compatible).build();
+    Payload.registerClasses(fury);
+    return fury;
+  }
+
+  public static ThreadSafeFury newThreadSafeFury(
+      ThreadSafeType type, boolean refTracking, boolean compatible) {
+    FuryBuilder builder = builder(refTracking, compatible);
+    int processors = Runtime.getRuntime().availableProcessors();
+    ThreadSafeFury fury;
+    switch (type) {
+      case THREAD_LOCAL:
+        fury = builder.buildThreadLocalFury();
+        break;
+      case POOL:
+        fury = builder.buildThreadSafeFuryPool(processors, processors * 2);
+        break;
+      case VIRTUAL_THREAD:
+        fury = builder.buildVirtualThreadSafeFury(processors);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown thread safe fury type " + type);
+    }
+    Payload.registerClasses(fury);
+    return fury;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.fury.Fury;
+import org.apache.fury.builder.Generated;
+import org.apache.fury.memory.MemoryBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure per-call cost of {@link Fury#serialize}/{@link Fury#deserialize} when async compilation
+ * is enabled. After all jit tasks finished, calls should take the lock-free path and cost the same
+ * as calls on a fury with async compilation disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class JITContextSuite {
+  @Param({"MEDIA_CONTENT"})
+  public Payload payload;
+
+  @Param({"false", "true"})
+  public boolean asyncCompilation;
+
+  private Fury fury;
+  private Object object;
+  private MemoryBuffer buffer;
+
+  @Setup
+  public void setup() throws InterruptedException {
+    fury = FuryFactory.builder(false, false).withAsyncCompilation(asyncCompilation).build();
+    Payload.registerClasses(fury);
+    object = payload.create();
+    buffer = MemoryBuffer.newHeapBuffer(32);
+    fury.serialize(buffer, object);
+    // measure calls after jit finished only.
+    while (!(fury.getClassResolver().getSerializer(object.getClass()) instanceof Generated)) {
+      Thread.sleep(10);
+    }
+  }
+
+  @Benchmark
+  public Object serializeDeserialize() {
+    buffer.writerIndex(0);
+    fury.serialize(buffer, object);
+    buffer.readerIndex(0);
+    return fury.deserialize(buffer);
+  }
+}
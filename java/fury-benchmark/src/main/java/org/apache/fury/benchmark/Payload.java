@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fury.BaseFury;
+import org.apache.fury.benchmark.data.DeepBean;
+import org.apache.fury.benchmark.data.Image;
+import org.apache.fury.benchmark.data.Media;
+import org.apache.fury.benchmark.data.MediaContent;
+import org.apache.fury.benchmark.data.PrimitiveArrays;
+import org.apache.fury.benchmark.data.Records;
+import org.apache.fury.benchmark.data.StringsBean;
+
+/** Benchmark corpus, each payload is a realistic object shape stressing a different code path. */
+public enum Payload {
+  /** Small object graph of strings, numbers, enums and lists. */
+  MEDIA_CONTENT {
+    @Override
+    public Object create() {
+      return MediaContent.create();
+    }
+  },
+  /** Bean tree of depth 6 and fanout 3. */
+  DEEP_BEAN {
+    @Override
+    public Object create() {
+      return DeepBean.create(6, 3, false);
+    }
+  },
+  /** Schemaless <code>Map&lt;String, Object&gt;</code> tree, like decoded json documents. */
+  MAP_TREE {
+    @Override
+    public Object create() {
+      return createMapTree(4, 4);
+    }
+  },
+  /** Records of {@link #MEDIA_CONTENT}. */
+  RECORD {
+    @Override
+    public Object create() {
+      return Records.create();
+    }
+  },
+  /** Arrays of 64k elements of byte/int/long/double. */
+  PRIMITIVE_ARRAYS {
+    @Override
+    public Object create() {
+      return PrimitiveArrays.create(1 << 16);
+    }
+  },
+  /** Latin1 and utf16 strings. */
+  STRINGS {
+    @Override
+    public Object create() {
+      return StringsBean.create();
+    }
+  };
+
+  public abstract Object create();
+
+  /** Register all classes of the corpus, so class names are not written into the payload. */
+  public static void registerClasses(BaseFury fury) {
+    fury.register(Image.class);
+    fury.register(Image.Size.class);
+    fury.register(Media.class);
+    fury.register(Media.Player.class);
+    fury.register(MediaContent.class);
+    fury.register(DeepBean.class);
+    fury.register(PrimitiveArrays.class);
+    fury.register(StringsBean.class);
+    fury.register(Records.ImageRecord.class);
+    fury.register(Records.MediaRecord.class);
+    fury.register(Records.MediaContentRecord.class);
+  }
+
+  private static Map<String, Object> createMapTree(int depth, int fanout) {
+    Map<String, Object> map = new HashMap<>();
+    map.put("id", (long) depth * 1_000_003L);
+    map.put("name", "level-" + depth);
+    map.put("score", depth / 7.0);
+    map.put("enabled", depth % 2 == 0);
+    List<Object> values = new ArrayList<>();
+    for (int i = 0; i < fanout; i++) {
+      values.add(i % 2 == 0 ? "item-" + i : i);
+    }
+    map.put("values", values);
+    if (depth > 1) {
+      for (int i = 0; i < fanout; i++) {
+        map.put("child" + i, createMapTree(depth - 1, fanout));
+      }
+    }
+    return map;
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.fury.Fury;
+import org.apache.fury.annotation.FuryRef;
+import org.apache.fury.memory.MemoryBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Serialize graphs with one million nodes to measure cost of ref tracking table. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class RefTrackingSuite {
+  private static final int NUM_NODES = 1_000_000;
+  private static final int NUM_SMALL_NODES = 100;
+
+  public static class Leaf {
+    public long id;
+    public String name;
+  }
+
+  @FuryRef(track = false)
+  public static class Point {
+    public int x;
+    public int y;
+  }
+
+  public static class Node {
+    public int id;
+    // shared by multiple nodes.
+    public Leaf leaf;
+    public Point point;
+  }
+
+  private Fury fury;
+  private Node[] graph;
+  private Node[] smallGraph;
+  private MemoryBuffer buffer;
+  private MemoryBuffer smallBuffer;
+
+  @Setup
+  public void setup() {
+    fury = FuryFactory.builder(true, false).build();
+    fury.register(Leaf.class);
+    fury.register(Point.class);
+    fury.register(Node.class);
+    fury.register(Node[].class);
+    graph = createGraph(NUM_NODES);
+    smallGraph = createGraph(NUM_SMALL_NODES);
+    buffer = MemoryBuffer.newHeapBuffer(64 * 1024 * 1024);
+    smallBuffer = MemoryBuffer.newHeapBuffer(64 * 1024);
+    fury.serialize(buffer, graph);
+  }
+
+  private static Node[] createGraph(int numNodes) {
+    Random random = new Random(7);
+    Leaf[] leaves = new Leaf[numNodes / 2];
+    for (int i = 0; i < leaves.length; i++) {
+      leaves[i] = new Leaf();
+      leaves[i].id = i;
+      leaves[i].name = "leaf";
+    }
+    Node[] nodes = new Node[numNodes];
+    for (int i = 0; i < numNodes; i++) {
+      Node node = nodes[i] = new Node();
+      node.id = i;
+      node.leaf = leaves[random.nextInt(leaves.length)];
+      node.point = new Point();
+      node.point.x = i;
+    }
+    return nodes;
+  }
+
+  @Benchmark
+  public MemoryBuffer serialize() {
+    buffer.writerIndex(0);
+    return fury.serialize(buffer, graph);
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    buffer.readerIndex(0);
+    return fury.deserialize(buffer);
+  }
+
+  /** Small graphs after a big one shouldn't pay for clearing a huge table. */
+  @Benchmark
+  public MemoryBuffer serializeSmall() {
+    smallBuffer.writerIndex(0);
+    return fury.serialize(smallBuffer, smallGraph);
+  }
+}
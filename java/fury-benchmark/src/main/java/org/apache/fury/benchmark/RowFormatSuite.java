@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.fury.benchmark.data.LineItem;
+import org.apache.fury.benchmark.data.Order;
+import org.apache.fury.format.encoder.ArrowBatchEncoder;
+import org.apache.fury.format.encoder.Encoders;
+import org.apache.fury.format.encoder.RowEncoder;
+import org.apache.fury.format.row.binary.BinaryRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Row format and arrow batch encoders of java beans. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"--add-opens=java.base/java.nio=ALL-UNNAMED"})
+@State(Scope.Thread)
+public class RowFormatSuite {
+  /** Line items of the order, also the row count of arrow batches. */
+  @Param({"10", "1000"})
+  public int numItems;
+
+  private RowEncoder<Order> rowEncoder;
+  private Order order;
+  private BinaryRow row;
+  private ArrowBatchEncoder<LineItem> arrowEncoder;
+  private List<LineItem> items;
+  private VectorSchemaRoot root;
+  private ArrowBatchEncoder<LineItem> arrowDecoder;
+
+  @Setup
+  public void setup() {
+    rowEncoder = Encoders.bean(Order.class);
+    order = Order.create(numItems);
+    row = rowEncoder.toRow(order);
+    arrowEncoder = Encoders.arrowBatch(LineItem.class);
+    items = order.items;
+    // encoded root is reused by the next encode, so decode from another encoder.
+    arrowDecoder = Encoders.arrowBatch(LineItem.class);
+    root = arrowDecoder.encode(items);
+  }
+
+  @Benchmark
+  public BinaryRow toRow() {
+    return rowEncoder.toRow(order);
+  }
+
+  @Benchmark
+  public Order fromRow() {
+    return rowEncoder.fromRow(row);
+  }
+
+  @Benchmark
+  public VectorSchemaRoot arrowEncode() {
+    return arrowEncoder.encode(items);
+  }
+
+  @Benchmark
+  public List<LineItem> arrowDecode() {
+    return arrowDecoder.decode(root);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.fury.Fury;
+import org.apache.fury.memory.MemoryBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialize/deserialize/copy every {@link Payload} with a single-threaded {@link Fury}, with ref
+ * tracking on/off and compatible/consistent mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationSuite {
+  @Param public Payload payload;
+
+  @Param({"false", "true"})
+  public boolean refTracking;
+
+  @Param({"false", "true"})
+  public boolean compatible;
+
+  private Fury fury;
+  private Object object;
+  private byte[] bytes;
+  private MemoryBuffer buffer;
+
+  @Setup
+  public void setup() {
+    fury = FuryFactory.newFury(refTracking, compatible);
+    object = payload.create();
+    bytes = fury.serialize(object);
+    buffer = MemoryBuffer.newHeapBuffer(bytes.length);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return fury.serialize(object);
+  }
+
+  /** Serialize into a reused buffer, excluding the result array allocation and copy. */
+  @Benchmark
+  public MemoryBuffer serializeToBuffer() {
+    buffer.writerIndex(0);
+    return fury.serialize(buffer, object);
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return fury.deserialize(bytes);
+  }
+
+  @Benchmark
+  public Object copy() {
+    return fury.copy(object);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.apache.fury.ThreadSafeFury;
+import org.apache.fury.benchmark.FuryFactory.ThreadSafeType;
+import org.apache.fury.config.FuryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare {@link org.apache.fury.ThreadLocalFury} with {@link
+ * FuryBuilder#buildVirtualThreadSafeFury} when every task runs in a new virtual thread. Platform
+ * threads are used when running on JDK without virtual threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class VirtualThreadFurySuite {
+  private static final int NUM_TASKS = 1000;
+
+  @Param({"THREAD_LOCAL", "VIRTUAL_THREAD"})
+  public ThreadSafeType type;
+
+  @Param({"MEDIA_CONTENT"})
+  public Payload payload;
+
+  private ThreadSafeFury fury;
+  private ThreadFactory threadFactory;
+  private Object object;
+
+  @Setup
+  public void setup() {
+    fury = FuryFactory.newThreadSafeFury(type, false, false);
+    threadFactory = threadFactory();
+    object = payload.create();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_TASKS)
+  public void serializeDeserialize() throws InterruptedException {
+    Thread[] threads = new Thread[NUM_TASKS];
+    for (int i = 0; i < NUM_TASKS; i++) {
+      threads[i] = threadFactory.newThread(() -> fury.deserialize(fury.serialize(object)));
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  private static ThreadFactory threadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+    } catch (Exception e) {
+      return Thread::new;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** A bean nested several levels deep, each level holding scalars, a child list and a parent. */
+public class DeepBean {
+  public int id;
+  public long timestamp;
+  public double score;
+  public String name;
+  public DeepBean parent;
+  public List<DeepBean> children;
+
+  public DeepBean() {}
+
+  /**
+   * Create a tree of <code>depth</code> levels where every inner node has <code>fanout</code>
+   * children. Children point back to their parent, so the graph is only serializable with ref
+   * tracking enabled when <code>withParent</code> is true.
+   */
+  public static DeepBean create(int depth, int fanout, boolean withParent) {
+    return create(null, 0, depth, fanout, withParent);
+  }
+
+  private static DeepBean create(
+      DeepBean parent, int level, int depth, int fanout, boolean withParent) {
+    DeepBean bean = new DeepBean();
+    bean.id = level * 31 + fanout;
+    bean.timestamp = 1_700_000_000_000L + level;
+    bean.score = level / 3.0;
+    bean.name = "node-" + level;
+    bean.parent = withParent ? parent : null;
+    if (level + 1 < depth) {
+      bean.children = new ArrayList<>(fanout);
+      for (int i = 0; i < fanout; i++) {
+        bean.children.add(create(bean, level + 1, depth, fanout, withParent));
+      }
+    }
+    return bean;
+  }
+}
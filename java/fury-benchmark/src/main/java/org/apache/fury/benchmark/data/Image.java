@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.Objects;
+
+/** Image of the jvm-serializers media content payload. */
+public class Image {
+  public String uri;
+  public String title;
+  public int width;
+  public int height;
+  public Size size;
+
+  public enum Size {
+    SMALL,
+    LARGE
+  }
+
+  public Image() {}
+
+  public Image(String uri, String title, int width, int height, Size size) {
+    this.uri = uri;
+    this.title = title;
+    this.width = width;
+    this.height = height;
+    this.size = size;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Image image = (Image) o;
+    return width == image.width
+        && height == image.height
+        && Objects.equals(uri, image.uri)
+        && Objects.equals(title, image.title)
+        && size == image.size;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(uri, title, width, height, size);
+  }
+}
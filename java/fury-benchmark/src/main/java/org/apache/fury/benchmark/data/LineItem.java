@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.Objects;
+
+/** Flat bean of an {@link Order}, also used for arrow batch benchmarks. */
+public class LineItem {
+  public long sku;
+  public String product;
+  public int quantity;
+  public double price;
+  public boolean gift;
+
+  public LineItem() {}
+
+  public LineItem(long sku, String product, int quantity, double price, boolean gift) {
+    this.sku = sku;
+    this.product = product;
+    this.quantity = quantity;
+    this.price = price;
+    this.gift = gift;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    LineItem item = (LineItem) o;
+    return sku == item.sku
+        && quantity == item.quantity
+        && Double.compare(price, item.price) == 0
+        && gift == item.gift
+        && Objects.equals(product, item.product);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sku, product, quantity, price, gift);
+  }
+}
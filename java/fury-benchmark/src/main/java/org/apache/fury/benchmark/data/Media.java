@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.List;
+import java.util.Objects;
+
+/** Media of the jvm-serializers media content payload. */
+public class Media {
+  public String uri;
+  public String title;
+  public int width;
+  public int height;
+  public String format;
+  public long duration;
+  public long size;
+  public int bitrate;
+  public boolean hasBitrate;
+  public List<String> persons;
+  public Player player;
+  public String copyright;
+
+  public enum Player {
+    JAVA,
+    FLASH
+  }
+
+  public Media() {}
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Media media = (Media) o;
+    return width == media.width
+        && height == media.height
+        && duration == media.duration
+        && size == media.size
+        && bitrate == media.bitrate
+        && hasBitrate == media.hasBitrate
+        && Objects.equals(uri, media.uri)
+        && Objects.equals(title, media.title)
+        && Objects.equals(format, media.format)
+        && Objects.equals(persons, media.persons)
+        && player == media.player
+        && Objects.equals(copyright, media.copyright);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(uri, title, width, height, format, duration, size, bitrate, persons);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The media content payload from <a
+ * href="https://github.com/eishay/jvm-serializers">jvm-serializers</a>, a small object graph mixing
+ * strings, numbers, enums and lists.
+ */
+public class MediaContent {
+  public Media media;
+  public List<Image> images;
+
+  public MediaContent() {}
+
+  public MediaContent(Media media, List<Image> images) {
+    this.media = media;
+    this.images = images;
+  }
+
+  public static MediaContent create() {
+    Media media = new Media();
+    media.uri = "http://javaone.com/keynote.mpg";
+    media.title = "Javaone Keynote";
+    media.width = 640;
+    media.height = 480;
+    media.format = "video/mpg4";
+    media.duration = 18000000;
+    media.size = 58982400;
+    media.bitrate = 262144;
+    media.hasBitrate = true;
+    media.persons = new ArrayList<>(Arrays.asList("Bill Gates", "Steve Jobs"));
+    media.player = Media.Player.JAVA;
+    media.copyright = null;
+    List<Image> images = new ArrayList<>();
+    images.add(
+        new Image(
+            "http://javaone.com/keynote_large.jpg",
+            "Javaone Keynote",
+            1024,
+            768,
+            Image.Size.LARGE));
+    images.add(
+        new Image(
+            "http://javaone.com/keynote_small.jpg", "Javaone Keynote", 320, 240, Image.Size.SMALL));
+    return new MediaContent(media, images);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MediaContent that = (MediaContent) o;
+    return Objects.equals(media, that.media) && Objects.equals(images, that.images);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(media, images);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/** Row format payload: scalars, a nested bean list and a string map, without enums. */
+public class Order {
+  public long orderId;
+  public String customer;
+  public String address;
+  public long createdMillis;
+  public double total;
+  public List<LineItem> items;
+  public Map<String, String> attributes;
+
+  public Order() {}
+
+  public static Order create(int numItems) {
+    Order order = new Order();
+    order.orderId = 1_000_000_007L;
+    order.customer = "customer-42";
+    order.address = "1 Infinite Loop, Cupertino, CA 95014";
+    order.createdMillis = 1_700_000_000_000L;
+    order.items = createItems(numItems);
+    for (LineItem item : order.items) {
+      order.total += item.price * item.quantity;
+    }
+    order.attributes = new HashMap<>();
+    order.attributes.put("channel", "web");
+    order.attributes.put("coupon", "SPRING24");
+    order.attributes.put("currency", "USD");
+    return order;
+  }
+
+  public static List<LineItem> createItems(int numItems) {
+    List<LineItem> items = new ArrayList<>(numItems);
+    for (int i = 0; i < numItems; i++) {
+      items.add(new LineItem(100_000L + i, "product-" + i, i % 5 + 1, 9.99 + i, i % 7 == 0));
+    }
+    return items;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Order order = (Order) o;
+    return orderId == order.orderId
+        && createdMillis == order.createdMillis
+        && Double.compare(total, order.total) == 0
+        && Objects.equals(customer, order.customer)
+        && Objects.equals(address, order.address)
+        && Objects.equals(items, order.items)
+        && Objects.equals(attributes, order.attributes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(orderId, customer, address, createdMillis, total, items, attributes);
+  }
+}
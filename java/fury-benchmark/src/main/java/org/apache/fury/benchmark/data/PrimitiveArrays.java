@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.Random;
+
+/** Large primitive arrays, serialized mostly by bulk memory copy. */
+public class PrimitiveArrays {
+  public byte[] bytes;
+  public int[] ints;
+  public long[] longs;
+  public double[] doubles;
+
+  public PrimitiveArrays() {}
+
+  public static PrimitiveArrays create(int length) {
+    Random random = new Random(17);
+    PrimitiveArrays arrays = new PrimitiveArrays();
+    arrays.bytes = new byte[length];
+    random.nextBytes(arrays.bytes);
+    arrays.ints = new int[length];
+    arrays.longs = new long[length];
+    arrays.doubles = new double[length];
+    for (int i = 0; i < length; i++) {
+      arrays.ints[i] = random.nextInt();
+      arrays.longs[i] = random.nextLong();
+      arrays.doubles[i] = random.nextDouble();
+    }
+    return arrays;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Record counterparts of {@link MediaContent}, serialized through canonical constructors. */
+public final class Records {
+  private Records() {}
+
+  public record ImageRecord(String uri, String title, int width, int height, Image.Size size) {}
+
+  public record MediaRecord(
+      String uri,
+      String title,
+      int width,
+      int height,
+      String format,
+      long duration,
+      long size,
+      int bitrate,
+      boolean hasBitrate,
+      List<String> persons,
+      Media.Player player,
+      String copyright) {}
+
+  public record MediaContentRecord(MediaRecord media, List<ImageRecord> images) {}
+
+  public static MediaContentRecord create() {
+    MediaContent content = MediaContent.create();
+    Media m = content.media;
+    MediaRecord media =
+        new MediaRecord(
+            m.uri,
+            m.title,
+            m.width,
+            m.height,
+            m.format,
+            m.duration,
+            m.size,
+            m.bitrate,
+            m.hasBitrate,
+            m.persons,
+            m.player,
+            m.copyright);
+    List<ImageRecord> images =
+        content.images.stream()
+            .map(i -> new ImageRecord(i.uri, i.title, i.width, i.height, i.size))
+            .collect(Collectors.toList());
+    return new MediaContentRecord(media, images);
+  }
+}
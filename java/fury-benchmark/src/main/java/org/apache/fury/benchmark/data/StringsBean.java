@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.benchmark.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** An object dominated by strings: latin1 and utf16 text of various lengths. */
+public class StringsBean {
+  public String id;
+  public String title;
+  public String description;
+  public String localizedDescription;
+  public List<String> tags;
+  public String[] lines;
+
+  public StringsBean() {}
+
+  public static StringsBean create() {
+    Random random = new Random(7);
+    StringsBean bean = new StringsBean();
+    bean.id = "3f1c2a7e-9b8d-4c6f-a1e2-5d4c3b2a1f0e";
+    bean.title = "Apache Fury benchmark string payload";
+    bean.description = randomString(random, 1024, 'a', 26);
+    // CJK characters force utf16 encoding.
+    bean.localizedDescription = randomString(random, 256, '\u4e00', 1000);
+    bean.tags = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      bean.tags.add("tag" + i);
+    }
+    bean.lines = new String[32];
+    for (int i = 0; i < bean.lines.length; i++) {
+      bean.lines[i] = randomString(random, 40 + i, 'A', 58);
+    }
+    return bean;
+  }
+
+  private static String randomString(Random random, int length, char base, int range) {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (base + random.nextInt(range));
+    }
+    return new String(chars);
+  }
+}
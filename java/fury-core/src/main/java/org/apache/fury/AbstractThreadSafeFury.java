@@ -22,11 +22,24 @@ package org.apache.fury;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.fury.annotation.Internal;
+import org.apache.fury.metrics.FuryMetrics;
 import org.apache.fury.resolver.ClassChecker;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.serializer.SerializerFactory;
 
 public abstract class AbstractThreadSafeFury implements ThreadSafeFury {
+  private FuryMetrics metrics;
+
+  /** Returns metrics registry shared by all fury instances, or null if metrics is disabled. */
+  public FuryMetrics getMetrics() {
+    return metrics;
+  }
+
+  @Internal
+  public void setMetrics(FuryMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   @Override
   public void register(Class<?> clz) {
     registerCallback(fury -> fury.register(clz));
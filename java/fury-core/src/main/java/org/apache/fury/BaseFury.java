@@ -20,10 +20,15 @@
 package org.apache.fury;
 
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.function.Function;
+import org.apache.fury.io.ByteBufferOverflowHandler;
 import org.apache.fury.io.FuryInputStream;
 import org.apache.fury.io.FuryReadableChannel;
+import org.apache.fury.memory.LeasedBuffer;
 import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryBufferPool;
 import org.apache.fury.serializer.BufferCallback;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.serializer.SerializerFactory;
@@ -123,6 +128,24 @@ public interface BaseFury {
   /** Serialize <code>obj</code> to a <code>buffer</code>. */
   MemoryBuffer serialize(MemoryBuffer buffer, Object obj, BufferCallback callback);
 
+  /**
+   * Serialize <code>obj</code> to a buffer leased from <code>pool</code>. The returned buffer must
+   * be released after serialized data is consumed.
+   */
+  LeasedBuffer serialize(MemoryBufferPool pool, Object obj);
+
+  /**
+   * Serialize <code>obj</code> into <code>buffer</code> starting from its position without copy.
+   * When <code>buffer</code> doesn't have enough space, <code>handler</code> will be invoked to
+   * consume written data and provide next buffer to continue serialization.
+   *
+   * @param handler overflow handler, {@link java.nio.BufferOverflowException} will be thrown if
+   *     null and the buffer is full.
+   * @return the buffer which the last part of data is written into, its position is the end of
+   *     written data.
+   */
+  ByteBuffer serialize(ByteBuffer buffer, Object obj, ByteBufferOverflowHandler handler);
+
   void serialize(OutputStream outputStream, Object obj);
 
   void serialize(OutputStream outputStream, Object obj, BufferCallback callback);
@@ -153,6 +176,24 @@ public interface BaseFury {
 
   Object deserialize(FuryReadableChannel channel, Iterable<MemoryBuffer> outOfBandBuffers);
 
+  /**
+   * Serialize <code>objects</code> as a batch, class metadata and meta strings are written once for
+   * the batch. See {@link BatchWriter} for batch layout.
+   */
+  byte[] serializeBatch(List<?> objects);
+
+  /** Serialize <code>objects</code> as a batch to <code>buffer</code>. */
+  MemoryBuffer serializeBatch(MemoryBuffer buffer, List<?> objects);
+
+  /**
+   * Deserialize all objects of a batch serialized by {@link #serializeBatch}. Use {@link
+   * BatchReader} to read objects by index.
+   */
+  List<Object> deserializeBatch(byte[] bytes);
+
+  /** Deserialize all objects of a batch from reader index of <code>buffer</code>. */
+  List<Object> deserializeBatch(MemoryBuffer buffer);
+
   /**
    * Serialize java object without class info, deserialization should use {@link
    * #deserializeJavaObject}.
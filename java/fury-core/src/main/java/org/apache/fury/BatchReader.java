@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.builder.JITContext;
+import org.apache.fury.config.Language;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.io.PayloadBlockCodec;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.resolver.MetaStringResolver;
+import org.apache.fury.resolver.RefResolver;
+import org.apache.fury.util.ExceptionUtils;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A reusable session which reads objects of a batch written by {@link BatchWriter}. Class metadata
+ * and meta strings of the batch are read once when the batch is opened, then every object can be
+ * read by its index in any order. The whole batch must be available in the buffer, a compressed
+ * batch is decompressed when it's opened. No other deserialization should be invoked on the fury
+ * between {@link #open} and {@link #close}.
+ */
+@NotThreadSafe
+public final class BatchReader implements AutoCloseable {
+  private final Fury fury;
+  private final JITContext jitContext;
+  private final RefResolver refResolver;
+  private final MetaStringResolver metaStringResolver;
+  private final boolean shareMeta;
+  private final PayloadBlockCodec payloadCodec;
+  // Buffer which the batch is read from.
+  private MemoryBuffer inputBuffer;
+  // Buffer of the batch body, which is a decompressed buffer if the batch is compressed.
+  private MemoryBuffer buffer;
+  private int startIndex;
+  private int endIndex;
+  private int[] offsets = new int[16];
+  private int size;
+  private int numMetaStrings;
+
+  public BatchReader(Fury fury) {
+    Preconditions.checkArgument(
+        fury.getLanguage() == Language.JAVA, "Batch serialization is supported by java only");
+    this.fury = fury;
+    jitContext = fury.getJITContext();
+    refResolver = fury.getRefResolver();
+    metaStringResolver = fury.getMetaStringResolver();
+    shareMeta = fury.getConfig().isMetaShareEnabled();
+    payloadCodec = fury.getPayloadCodec();
+  }
+
+  /** Open the batch starting from reader index of <code>buffer</code>. */
+  public BatchReader open(MemoryBuffer buffer) {
+    Preconditions.checkState(this.buffer == null, "Previous batch is not closed");
+    this.inputBuffer = this.buffer = buffer;
+    try {
+      byte bitmap = buffer.readByte();
+      if ((bitmap & (Fury.isNilFlag | Fury.isCrossLanguageFlag | Fury.isOutOfBandFlag)) != 0) {
+        throw new DeserializationException("Invalid batch header " + bitmap);
+      }
+      Preconditions.checkArgument(
+          Fury.isLittleEndian,
+          "Non-Little-Endian format detected. Only Little-Endian is supported.");
+      if ((bitmap & Fury.isCompressedFlag) == Fury.isCompressedFlag) {
+        if (payloadCodec == null) {
+          throw new DeserializationException(
+              "Batch is compressed, but payload compression isn't enabled by "
+                  + "`FuryBuilder#withPayloadCompression`");
+        }
+        // The input buffer is positioned after the batch by decompression.
+        buffer = this.buffer = payloadCodec.decompressFully(buffer);
+      }
+      int startIndex = this.startIndex = buffer.readerIndex();
+      int footerOffset = buffer.readInt32();
+      if (footerOffset < 4 || footerOffset > buffer.size() - startIndex) {
+        throw new DeserializationException("Invalid batch footer offset " + footerOffset);
+      }
+      buffer.readerIndex(startIndex + footerOffset);
+      int size = this.size = buffer.readVarUint32Small7();
+      int[] offsets = this.offsets;
+      if (offsets.length < size) {
+        offsets = this.offsets = new int[size];
+      }
+      for (int i = 0; i < size; i++) {
+        offsets[i] = buffer.readInt32();
+      }
+      if (shareMeta) {
+        fury.getClassResolver().readClassDefs(buffer);
+      }
+      numMetaStrings = metaStringResolver.readDynamicStrings(buffer);
+      endIndex = buffer.readerIndex();
+    } catch (Throwable t) {
+      close();
+      throw ExceptionUtils.handleReadFailed(fury, t);
+    }
+    return this;
+  }
+
+  /** Returns number of objects in current batch. */
+  public int size() {
+    return size;
+  }
+
+  /** Read the object at <code>index</code> of current batch. */
+  public Object get(int index) {
+    MemoryBuffer buffer = this.buffer;
+    Preconditions.checkState(buffer != null, "Batch is not opened");
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of batch size " + size);
+    }
+    buffer.readerIndex(startIndex + offsets[index]);
+    try {
+      jitContext.beginCall();
+      return fury.readRef(buffer);
+    } catch (Throwable t) {
+      throw ExceptionUtils.handleReadFailed(fury, t);
+    } finally {
+      refResolver.resetRead();
+      // drop strings read again from object data, only strings in footer are needed.
+      metaStringResolver.truncateDynamicReadStrings(numMetaStrings);
+      jitContext.endCall();
+    }
+  }
+
+  /** Close current batch and move reader index of the buffer to the end of the batch. */
+  @Override
+  public void close() {
+    if (buffer != null) {
+      if (buffer == inputBuffer) {
+        buffer.readerIndex(Math.max(endIndex, buffer.readerIndex()));
+      }
+      buffer = null;
+      inputBuffer = null;
+    }
+    size = 0;
+    endIndex = 0;
+    fury.resetRead();
+  }
+}
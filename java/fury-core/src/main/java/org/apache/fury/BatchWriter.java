@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.builder.JITContext;
+import org.apache.fury.collection.IntArray;
+import org.apache.fury.config.Language;
+import org.apache.fury.io.PayloadBlockCodec;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.resolver.RefResolver;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A reusable session which writes many objects into one buffer as a batch, so that per-call costs
+ * such as resolver reset are paid once per batch, and class metadata and meta strings are written
+ * once per batch instead of once per object. Objects in a batch can be read sequentially or
+ * randomly by {@link BatchReader}. Batch layout:
+ *
+ * <pre>
+ * | header | body |
+ * body: | int32 footer offset | object | object | ... | footer |
+ * footer: | varuint32 count | int32 object offsets | class defs if meta share | meta strings |
+ * </pre>
+ *
+ * <p>The header is the same bitmap byte as the header of {@link Fury#serialize}. If payload
+ * compression is enabled, the whole body is compressed as one payload. Offsets are relative to
+ * start of the body. Shared/circular references are tracked inside every object only, so that every
+ * object can be deserialized alone. No other serialization should be invoked on the fury between
+ * {@link #begin} and {@link #finish}.
+ */
+@NotThreadSafe
+public final class BatchWriter {
+  private final Fury fury;
+  private final JITContext jitContext;
+  private final RefResolver refResolver;
+  private final boolean shareMeta;
+  private final PayloadBlockCodec payloadCodec;
+  private final IntArray offsets = new IntArray(16);
+  private MemoryBuffer buffer;
+  private int headerIndex;
+  private int startIndex;
+
+  public BatchWriter(Fury fury) {
+    Preconditions.checkArgument(
+        fury.getLanguage() == Language.JAVA, "Batch serialization is supported by java only");
+    this.fury = fury;
+    jitContext = fury.getJITContext();
+    refResolver = fury.getRefResolver();
+    shareMeta = fury.getConfig().isMetaShareEnabled();
+    payloadCodec = fury.getPayloadCodec();
+  }
+
+  /** Start a new batch at writer index of <code>buffer</code>. */
+  public BatchWriter begin(MemoryBuffer buffer) {
+    Preconditions.checkState(this.buffer == null, "Previous batch is not finished");
+    this.buffer = buffer;
+    offsets.clear();
+    // hold the whole batch from being flushed for the footer offset and compression.
+    int headerIndex = this.headerIndex = buffer.reserveForUpdate(5);
+    buffer.putByte(headerIndex, Fury.BITMAP);
+    startIndex = headerIndex + 1;
+    return this;
+  }
+
+  /** Write <code>obj</code> as the next object of current batch. */
+  public BatchWriter write(Object obj) {
+    MemoryBuffer buffer = this.buffer;
+    Preconditions.checkState(buffer != null, "Batch is not started");
+    offsets.add(buffer.writerIndex() - startIndex);
+    try {
+      jitContext.beginCall();
+      fury.writeRef(buffer, obj);
+    } catch (Throwable t) {
+      abort();
+      throw t;
+    } finally {
+      refResolver.resetWrite();
+      jitContext.endCall();
+    }
+    return this;
+  }
+
+  /** Returns number of objects written in current batch. */
+  public int size() {
+    return offsets.size;
+  }
+
+  /** Write the footer of current batch and returns the buffer which the batch is written to. */
+  public MemoryBuffer finish() {
+    MemoryBuffer buffer = this.buffer;
+    Preconditions.checkState(buffer != null, "Batch is not started");
+    try {
+      int startIndex = this.startIndex;
+      buffer.putInt32(startIndex, buffer.writerIndex() - startIndex);
+      IntArray offsets = this.offsets;
+      int size = offsets.size;
+      buffer.writeVarUint32Small7(size);
+      int[] elements = offsets.elementData;
+      for (int i = 0; i < size; i++) {
+        buffer.writeInt32(elements[i]);
+      }
+      if (shareMeta) {
+        fury.getClassResolver().writeClassDefs(buffer);
+      }
+      fury.getMetaStringResolver().writeDynamicStrings(buffer);
+      if (payloadCodec != null && payloadCodec.compress(buffer, startIndex)) {
+        buffer.putByte(headerIndex, (byte) (Fury.BITMAP | Fury.isCompressedFlag));
+      }
+      return buffer;
+    } finally {
+      abort();
+    }
+  }
+
+  private void abort() {
+    fury.resetWrite();
+    buffer.releaseFlush(headerIndex);
+    buffer = null;
+  }
+}
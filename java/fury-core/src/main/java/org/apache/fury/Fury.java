@@ -22,14 +22,17 @@ package org.apache.fury;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.annotation.Internal;
 import org.apache.fury.builder.JITContext;
 import org.apache.fury.collection.IdentityMap;
 import org.apache.fury.config.CompatibleMode;
@@ -37,12 +40,22 @@ import org.apache.fury.config.Config;
 import org.apache.fury.config.FuryBuilder;
 import org.apache.fury.config.Language;
 import org.apache.fury.config.LongEncoding;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.io.ByteBufferOverflowHandler;
+import org.apache.fury.io.FuryByteBufferOutput;
 import org.apache.fury.io.FuryInputStream;
 import org.apache.fury.io.FuryReadableChannel;
+import org.apache.fury.io.FuryStreamWriter;
+import org.apache.fury.io.PayloadBlockCodec;
+import org.apache.fury.jfr.FuryEvents;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.memory.LeasedBuffer;
 import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryBufferPool;
 import org.apache.fury.memory.MemoryUtils;
+import org.apache.fury.metrics.ClassMetrics;
+import org.apache.fury.metrics.FuryMetrics;
 import org.apache.fury.resolver.ClassInfo;
 import org.apache.fury.resolver.ClassInfoHolder;
 import org.apache.fury.resolver.ClassResolver;
@@ -56,6 +69,8 @@ import org.apache.fury.resolver.XtypeResolver;
 import org.apache.fury.serializer.ArraySerializers;
 import org.apache.fury.serializer.BufferCallback;
 import org.apache.fury.serializer.BufferObject;
+import org.apache.fury.serializer.LazyObject;
+import org.apache.fury.serializer.ObjectSerializer;
 import org.apache.fury.serializer.PrimitiveSerializers.LongSerializer;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.serializer.SerializerFactory;
@@ -90,25 +105,36 @@ public final class Fury implements BaseFury {
   // this flag indicates that the object is a referencable and first write.
   public static final byte REF_VALUE_FLAG = 0;
   public static final byte NOT_SUPPORT_XLANG = 0;
-  private static final byte isNilFlag = 1;
+  static final byte isNilFlag = 1;
   private static final byte isLittleEndianFlag = 1 << 1;
-  private static final byte isCrossLanguageFlag = 1 << 2;
-  private static final byte isOutOfBandFlag = 1 << 3;
-  private static final boolean isLittleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
-  private static final byte BITMAP = isLittleEndian ? isLittleEndianFlag : 0;
+  static final byte isCrossLanguageFlag = 1 << 2;
+  static final byte isOutOfBandFlag = 1 << 3;
+  static final byte isCompressedFlag = 1 << 4;
+  static final boolean isLittleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+  static final byte BITMAP = isLittleEndian ? isLittleEndianFlag : 0;
   private static final short MAGIC_NUMBER = 0x62D4;
 
   private final Config config;
   private final boolean refTracking;
   private final boolean shareMeta;
   private final RefResolver refResolver;
+  // Tracks values of fields annotated by `@FuryRef(track = true)` if ref tracking is disabled.
+  private RefResolver fieldRefResolver;
   private final ClassResolver classResolver;
   private final XtypeResolver xtypeResolver;
   private final MetaStringResolver metaStringResolver;
   private final SerializationContext serializationContext;
   private final ClassLoader classLoader;
   private final JITContext jitContext;
+  private FuryMetrics metrics;
+  private Class<?> lastMetricsClass;
+  private ClassMetrics lastClassMetrics;
+  private ClassInfo lastMetricsClassInfo;
   private MemoryBuffer buffer;
+  private FuryByteBufferOutput byteBufferOutput;
+  private final PayloadBlockCodec payloadCodec;
+  private BatchWriter batchWriter;
+  private BatchReader batchReader;
   private final StringSerializer stringSerializer;
   private final ArrayListSerializer arrayListSerializer;
   private final HashMapSerializer hashMapSerializer;
@@ -158,6 +184,16 @@ public final class Fury implements BaseFury {
     hashMapSerializer = new HashMapSerializer(this);
     originToCopyMap = new IdentityMap<>();
     classDefEndOffset = -1;
+    if (config.getPayloadCompressor() != null) {
+      payloadCodec =
+          new PayloadBlockCodec(
+              config.getPayloadCompressor(),
+              config.getPayloadCompressionMinSize(),
+              config.getMaxPayloadSize(),
+              config.bufferSizeLimitBytes());
+    } else {
+      payloadCodec = null;
+    }
     LOG.info("Created new fury {}", this);
   }
 
@@ -294,8 +330,37 @@ public final class Fury implements BaseFury {
     return serialize(buffer, obj, null);
   }
 
+  @Override
+  public LeasedBuffer serialize(MemoryBufferPool pool, Object obj) {
+    LeasedBuffer leasedBuffer = pool.acquire(1);
+    boolean success = false;
+    try {
+      serialize(leasedBuffer.getBuffer(), obj, null);
+      success = true;
+      return leasedBuffer;
+    } finally {
+      if (!success) {
+        leasedBuffer.release();
+      }
+    }
+  }
+
+  @Override
+  public ByteBuffer serialize(ByteBuffer buffer, Object obj, ByteBufferOverflowHandler handler) {
+    FuryByteBufferOutput output = byteBufferOutput;
+    if (output == null) {
+      output = byteBufferOutput = new FuryByteBufferOutput();
+    }
+    output.reset(buffer, handler);
+    serialize(output.getBuffer(), obj, null);
+    return output.finish();
+  }
+
   @Override
   public MemoryBuffer serialize(MemoryBuffer buffer, Object obj, BufferCallback callback) {
+    Object event = FuryEvents.ENABLED ? FuryEvents.beginSerialize() : null;
+    long startNanos = metrics != null ? System.nanoTime() : 0;
+    int startWriterIndex = buffer.writerIndex();
     if (language == Language.XLANG) {
       buffer.writeInt16(MAGIC_NUMBER);
     }
@@ -312,24 +377,42 @@ public final class Fury implements BaseFury {
       bitmap |= isOutOfBandFlag;
       bufferCallback = callback;
     }
+    int bitmapIndex = buffer.writerIndex();
     buffer.writeByte(bitmap);
+    PayloadBlockCodec payloadCodec = this.payloadCodec;
+    if (payloadCodec != null) {
+      // hold payload in memory until it's compressed.
+      buffer.holdFlush(bitmapIndex);
+    }
     try {
-      jitContext.lock();
+      jitContext.beginCall();
       if (depth != 0) {
         throwDepthSerializationException();
       }
       if (language == Language.JAVA) {
         write(buffer, obj);
+        if (payloadCodec != null && payloadCodec.compress(buffer, bitmapIndex + 1)) {
+          buffer.putByte(bitmapIndex, (byte) (bitmap | isCompressedFlag));
+        }
       } else {
         buffer.writeByte((byte) Language.JAVA.ordinal());
         xwriteRef(buffer, obj);
       }
+      if (event != null) {
+        FuryEvents.commitSerialize(event, obj, buffer.writerIndex() - startWriterIndex);
+      }
+      if (metrics != null) {
+        recordSerialize(obj, buffer.writerIndex() - startWriterIndex, startNanos);
+      }
       return buffer;
     } catch (StackOverflowError t) {
       throw processStackOverflowError(t);
     } finally {
+      if (payloadCodec != null) {
+        buffer.releaseFlush(bitmapIndex);
+      }
       resetWrite();
-      jitContext.unlock();
+      jitContext.endCall();
     }
   }
 
@@ -393,6 +476,7 @@ public final class Fury implements BaseFury {
     boolean shareMeta = config.isMetaShareEnabled();
     if (shareMeta) {
       buffer.writeInt32(-1); // preserve 4-byte for meta start offsets.
+      buffer.holdFlush(startOffset);
     }
     // reduce caller stack
     if (!refResolver.writeRefOrNull(buffer, obj)) {
@@ -405,6 +489,9 @@ public final class Fury implements BaseFury {
       buffer.putInt32(startOffset, buffer.writerIndex() - startOffset - 4);
       classResolver.writeClassDefs(buffer);
     }
+    if (shareMeta) {
+      buffer.releaseFlush(startOffset);
+    }
   }
 
   /** Serialize a nullable referencable object to <code>buffer</code>. */
@@ -794,8 +881,13 @@ public final class Fury implements BaseFury {
    */
   @Override
   public Object deserialize(MemoryBuffer buffer, Iterable<MemoryBuffer> outOfBandBuffers) {
+    Object event = FuryEvents.ENABLED ? FuryEvents.beginDeserialize() : null;
+    long startNanos = metrics != null ? System.nanoTime() : 0;
+    // `buffer` will be replaced by decompressed payload if data is compressed.
+    MemoryBuffer inputBuffer = buffer;
+    int startReaderIndex = buffer.readerIndex();
     try {
-      jitContext.lock();
+      jitContext.beginCall();
       if (depth != 0) {
         throwDepthDeserializationException();
       }
@@ -820,6 +912,16 @@ public final class Fury implements BaseFury {
       } else {
         peerLanguage = Language.JAVA;
       }
+      if ((bitmap & isCompressedFlag) == isCompressedFlag) {
+        if (payloadCodec == null) {
+          throw new DeserializationException(
+              "Data is compressed, but payload compression isn't enabled by "
+                  + "`FuryBuilder#withPayloadCompression`");
+        }
+        // Compressed blocks are consumed from `buffer`, read the rest from decompressed payload.
+        // Blocks of a stream are decompressed when they are read.
+        buffer = payloadCodec.decompress(buffer);
+      }
       peerOutOfBandEnabled = (bitmap & isOutOfBandFlag) == isOutOfBandFlag;
       if (peerOutOfBandEnabled) {
         Preconditions.checkNotNull(
@@ -842,6 +944,12 @@ public final class Fury implements BaseFury {
         }
         obj = readRef(buffer);
       }
+      if (event != null) {
+        FuryEvents.commitDeserialize(event, obj, inputBuffer.readerIndex() - startReaderIndex);
+      }
+      if (metrics != null) {
+        recordDeserialize(obj, inputBuffer.readerIndex() - startReaderIndex, startNanos);
+      }
       return obj;
     } catch (Throwable t) {
       throw ExceptionUtils.handleReadFailed(this, t);
@@ -850,7 +958,75 @@ public final class Fury implements BaseFury {
         buffer.readerIndex(classDefEndOffset);
       }
       resetRead();
-      jitContext.unlock();
+      jitContext.endCall();
+    }
+  }
+
+  /**
+   * Deserialize <code>bytes</code> as a {@link LazyObject} view, fields of the root object will be
+   * deserialized only when accessed.
+   *
+   * @see #deserializeLazy(MemoryBuffer)
+   */
+  public LazyObject deserializeLazy(byte[] bytes) {
+    return deserializeLazy(MemoryUtils.wrap(bytes));
+  }
+
+  /**
+   * Deserialize <code>buffer</code> as a {@link LazyObject} view, fields of the root object will be
+   * deserialized only when accessed, and the buffer will be positioned after the root object. The
+   * root object must be serialized by {@link ObjectSerializer} or its jit serializer with {@link
+   * FuryBuilder#withFieldOffsets} enabled.
+   *
+   * <p>Reference tracking must be disabled and class registration must be required, since skipped
+   * fields may hold objects or class names referenced by accessed fields otherwise.
+   */
+  public LazyObject deserializeLazy(MemoryBuffer buffer) {
+    Preconditions.checkArgument(
+        config.isFieldOffsetsEnabled(),
+        "Field offsets must be enabled by `FuryBuilder#withFieldOffsets`");
+    Preconditions.checkArgument(
+        !refTracking && config.requireClassRegistration(),
+        "Lazy deserialization requires ref tracking disabled and class registration required");
+    try {
+      jitContext.beginCall();
+      if (depth != 0) {
+        throwDepthDeserializationException();
+      }
+      byte bitmap = buffer.readByte();
+      if ((bitmap & isNilFlag) == isNilFlag) {
+        return null;
+      }
+      if ((bitmap & (isCrossLanguageFlag | isOutOfBandFlag)) != 0) {
+        throw new DeserializationException(
+            "Lazy deserialization doesn't support xlang data or out-of-band buffers");
+      }
+      if ((bitmap & isCompressedFlag) == isCompressedFlag) {
+        if (payloadCodec == null) {
+          throw new DeserializationException(
+              "Data is compressed, but payload compression isn't enabled by "
+                  + "`FuryBuilder#withPayloadCompression`");
+        }
+        buffer = payloadCodec.decompressFully(buffer);
+      }
+      if (buffer.readByte() == Fury.NULL_FLAG) {
+        return null;
+      }
+      Serializer<?> serializer = classResolver.readClassInfo(buffer).getSerializer();
+      ObjectSerializer<?> lazyObjectSerializer =
+          ObjectSerializer.getLazyObjectSerializer(serializer);
+      if (lazyObjectSerializer == null) {
+        throw new DeserializationException(
+            String.format(
+                "Root object of type %s isn't serialized by ObjectSerializer",
+                serializer.getType()));
+      }
+      return lazyObjectSerializer.newLazyObject(buffer);
+    } catch (Throwable t) {
+      throw ExceptionUtils.handleReadFailed(this, t);
+    } finally {
+      resetRead();
+      jitContext.endCall();
     }
   }
 
@@ -869,6 +1045,55 @@ public final class Fury implements BaseFury {
     }
   }
 
+  @Override
+  public byte[] serializeBatch(List<?> objects) {
+    MemoryBuffer buf = getBuffer();
+    buf.writerIndex(0);
+    try {
+      serializeBatch(buf, objects);
+      return buf.getBytes(0, buf.writerIndex());
+    } finally {
+      resetBuffer();
+    }
+  }
+
+  @Override
+  public MemoryBuffer serializeBatch(MemoryBuffer buffer, List<?> objects) {
+    BatchWriter writer = batchWriter;
+    if (writer == null) {
+      writer = batchWriter = new BatchWriter(this);
+    }
+    writer.begin(buffer);
+    for (Object object : objects) {
+      writer.write(object);
+    }
+    return writer.finish();
+  }
+
+  @Override
+  public List<Object> deserializeBatch(byte[] bytes) {
+    return deserializeBatch(MemoryBuffer.fromByteArray(bytes));
+  }
+
+  @Override
+  public List<Object> deserializeBatch(MemoryBuffer buffer) {
+    BatchReader reader = batchReader;
+    if (reader == null) {
+      reader = batchReader = new BatchReader(this);
+    }
+    try {
+      reader.open(buffer);
+      int size = reader.size();
+      List<Object> objects = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        objects.add(reader.get(i));
+      }
+      return objects;
+    } finally {
+      reader.close();
+    }
+  }
+
   @Override
   public Object deserialize(FuryReadableChannel channel) {
     return deserialize(channel, null);
@@ -1092,14 +1317,18 @@ public final class Fury implements BaseFury {
 
   @Override
   public void serializeJavaObject(MemoryBuffer buffer, Object obj) {
+    Object event = FuryEvents.ENABLED ? FuryEvents.beginSerialize() : null;
+    long startNanos = metrics != null ? System.nanoTime() : 0;
+    int startWriterIndex = buffer.writerIndex();
     try {
-      jitContext.lock();
+      jitContext.beginCall();
       if (depth != 0) {
         throwDepthSerializationException();
       }
       if (config.isMetaShareEnabled()) {
         int startOffset = buffer.writerIndex();
         buffer.writeInt32(-1); // preserve 4-byte for meta start offsets.
+        buffer.holdFlush(startOffset);
         if (!refResolver.writeRefOrNull(buffer, obj)) {
           ClassInfo classInfo = classResolver.getOrUpdateClassInfo(obj.getClass());
           classResolver.writeClass(buffer, classInfo);
@@ -1110,17 +1339,24 @@ public final class Fury implements BaseFury {
             classResolver.writeClassDefs(buffer);
           }
         }
+        buffer.releaseFlush(startOffset);
       } else {
         if (!refResolver.writeRefOrNull(buffer, obj)) {
           ClassInfo classInfo = classResolver.getOrUpdateClassInfo(obj.getClass());
           writeData(buffer, classInfo, obj);
         }
       }
+      if (event != null) {
+        FuryEvents.commitSerialize(event, obj, buffer.writerIndex() - startWriterIndex);
+      }
+      if (metrics != null) {
+        recordSerialize(obj, buffer.writerIndex() - startWriterIndex, startNanos);
+      }
     } catch (StackOverflowError t) {
       throw processStackOverflowError(t);
     } finally {
       resetWrite();
-      jitContext.unlock();
+      jitContext.endCall();
     }
   }
 
@@ -1141,8 +1377,11 @@ public final class Fury implements BaseFury {
   @Override
   @SuppressWarnings("unchecked")
   public <T> T deserializeJavaObject(MemoryBuffer buffer, Class<T> cls) {
+    Object event = FuryEvents.ENABLED ? FuryEvents.beginDeserialize() : null;
+    long startNanos = metrics != null ? System.nanoTime() : 0;
+    int startReaderIndex = buffer.readerIndex();
     try {
-      jitContext.lock();
+      jitContext.beginCall();
       if (depth != 0) {
         throwDepthDeserializationException();
       }
@@ -1159,6 +1398,12 @@ public final class Fury implements BaseFury {
           classInfo = classResolver.getClassInfo(cls);
         }
         obj = (T) readDataInternal(buffer, classInfo);
+        if (event != null) {
+          FuryEvents.commitDeserialize(event, obj, buffer.readerIndex() - startReaderIndex);
+        }
+        if (metrics != null) {
+          recordDeserialize(obj, buffer.readerIndex() - startReaderIndex, startNanos);
+        }
         return obj;
       } else {
         return null;
@@ -1170,7 +1415,7 @@ public final class Fury implements BaseFury {
         buffer.readerIndex(classDefEndOffset);
       }
       resetRead();
-      jitContext.unlock();
+      jitContext.endCall();
     }
   }
 
@@ -1226,17 +1471,26 @@ public final class Fury implements BaseFury {
    */
   @Override
   public void serializeJavaObjectAndClass(MemoryBuffer buffer, Object obj) {
+    Object event = FuryEvents.ENABLED ? FuryEvents.beginSerialize() : null;
+    long startNanos = metrics != null ? System.nanoTime() : 0;
+    int startWriterIndex = buffer.writerIndex();
     try {
-      jitContext.lock();
+      jitContext.beginCall();
       if (depth != 0) {
         throwDepthSerializationException();
       }
       write(buffer, obj);
+      if (event != null) {
+        FuryEvents.commitSerialize(event, obj, buffer.writerIndex() - startWriterIndex);
+      }
+      if (metrics != null) {
+        recordSerialize(obj, buffer.writerIndex() - startWriterIndex, startNanos);
+      }
     } catch (StackOverflowError t) {
       throw processStackOverflowError(t);
     } finally {
       resetWrite();
-      jitContext.unlock();
+      jitContext.endCall();
     }
   }
 
@@ -1264,15 +1518,25 @@ public final class Fury implements BaseFury {
    */
   @Override
   public Object deserializeJavaObjectAndClass(MemoryBuffer buffer) {
+    Object event = FuryEvents.ENABLED ? FuryEvents.beginDeserialize() : null;
+    long startNanos = metrics != null ? System.nanoTime() : 0;
+    int startReaderIndex = buffer.readerIndex();
     try {
-      jitContext.lock();
+      jitContext.beginCall();
       if (depth != 0) {
         throwDepthDeserializationException();
       }
       if (shareMeta) {
         readClassDefs(buffer);
       }
-      return readRef(buffer);
+      Object obj = readRef(buffer);
+      if (event != null) {
+        FuryEvents.commitDeserialize(event, obj, buffer.readerIndex() - startReaderIndex);
+      }
+      if (metrics != null) {
+        recordDeserialize(obj, buffer.readerIndex() - startReaderIndex, startNanos);
+      }
+      return obj;
     } catch (Throwable t) {
       throw ExceptionUtils.handleReadFailed(this, t);
     } finally {
@@ -1280,7 +1544,7 @@ public final class Fury implements BaseFury {
         buffer.readerIndex(classDefEndOffset);
       }
       resetRead();
-      jitContext.unlock();
+      jitContext.endCall();
     }
   }
 
@@ -1458,6 +1722,16 @@ public final class Fury implements BaseFury {
   }
 
   private void serializeToStream(OutputStream outputStream, Consumer<MemoryBuffer> function) {
+    if (outputStream instanceof FuryStreamWriter) {
+      // Written data will be flushed to the stream or segments chunk by chunk.
+      function.accept(((FuryStreamWriter) outputStream).getBuffer());
+      try {
+        outputStream.flush();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      return;
+    }
     MemoryBuffer buf = getBuffer();
     if (outputStream.getClass() == ByteArrayOutputStream.class) {
       byte[] oldBytes = buf.getHeapMemory(); // Note: This should not be null.
@@ -1499,6 +1773,9 @@ public final class Fury implements BaseFury {
 
   public void reset() {
     refResolver.reset();
+    if (fieldRefResolver != null) {
+      fieldRefResolver.reset();
+    }
     classResolver.reset();
     metaStringResolver.reset();
     serializationContext.reset();
@@ -1510,6 +1787,9 @@ public final class Fury implements BaseFury {
 
   public void resetWrite() {
     refResolver.resetWrite();
+    if (fieldRefResolver != null) {
+      fieldRefResolver.resetWrite();
+    }
     classResolver.resetWrite();
     metaStringResolver.resetWrite();
     serializationContext.resetWrite();
@@ -1519,6 +1799,9 @@ public final class Fury implements BaseFury {
 
   public void resetRead() {
     refResolver.resetRead();
+    if (fieldRefResolver != null) {
+      fieldRefResolver.resetRead();
+    }
     classResolver.resetRead();
     metaStringResolver.resetRead();
     serializationContext.resetRead();
@@ -1548,6 +1831,54 @@ public final class Fury implements BaseFury {
             method));
   }
 
+  /** Returns metrics registry of this fury, or null if metrics is disabled. */
+  public FuryMetrics getMetrics() {
+    return metrics;
+  }
+
+  /** Set metrics registry which may be shared by multiple fury instances. */
+  @Internal
+  public void setMetrics(FuryMetrics metrics) {
+    this.metrics = metrics;
+    lastMetricsClass = null;
+    lastClassMetrics = null;
+    lastMetricsClassInfo = null;
+    if (refResolver instanceof MapRefResolver) {
+      ((MapRefResolver) refResolver).setMetrics(metrics);
+    }
+  }
+
+  private void recordSerialize(Object obj, int bytes, long startNanos) {
+    if (obj != null) {
+      ClassMetrics classMetrics = getClassMetrics(obj.getClass());
+      classMetrics.recordWrite(bytes, System.nanoTime() - startNanos);
+    }
+  }
+
+  private void recordDeserialize(Object obj, int bytes, long startNanos) {
+    if (obj != null) {
+      ClassMetrics classMetrics = getClassMetrics(obj.getClass());
+      classMetrics.recordRead(bytes, System.nanoTime() - startNanos);
+    }
+  }
+
+  private ClassMetrics getClassMetrics(Class<?> cls) {
+    ClassMetrics classMetrics = lastClassMetrics;
+    ClassInfo classInfo = lastMetricsClassInfo;
+    if (lastMetricsClass != cls) {
+      classMetrics = lastClassMetrics = metrics.getClassMetrics(cls);
+      lastMetricsClass = cls;
+      classInfo =
+          lastMetricsClassInfo =
+              language == Language.JAVA ? classResolver.getClassInfo(cls, false) : null;
+    }
+    // JIT serializer is set to the same class info when it's ready.
+    if (classInfo != null && classInfo.getSerializer() != null) {
+      classMetrics.updateSerializer(classInfo.getSerializer());
+    }
+    return classMetrics;
+  }
+
   public JITContext getJITContext() {
     return jitContext;
   }
@@ -1564,6 +1895,23 @@ public final class Fury implements BaseFury {
     return refResolver;
   }
 
+  /**
+   * Returns the ref resolver for fields which enable ref tracking by {@code @FuryRef(track =
+   * true)}. It's {@link #getRefResolver()} if ref tracking is enabled, otherwise a separate {@link
+   * MapRefResolver} created on first use, which tracks values of such fields only.
+   */
+  @Internal
+  public RefResolver getFieldRefResolver() {
+    if (refTracking) {
+      return refResolver;
+    }
+    RefResolver resolver = fieldRefResolver;
+    if (resolver == null) {
+      fieldRefResolver = resolver = new MapRefResolver();
+    }
+    return resolver;
+  }
+
   public ClassResolver getClassResolver() {
     return classResolver;
   }
@@ -1637,6 +1985,11 @@ public final class Fury implements BaseFury {
     return config.getCompatibleMode();
   }
 
+  /** Returns the codec for payload compression, or null if payload compression is disabled. */
+  PayloadBlockCodec getPayloadCodec() {
+    return payloadCodec;
+  }
+
   public Config getConfig() {
     return config;
   }
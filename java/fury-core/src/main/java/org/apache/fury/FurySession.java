@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.config.Language;
+import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.resolver.MetaContext;
+import org.apache.fury.resolver.MetaStringResolver;
+import org.apache.fury.resolver.SerializationContext;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A long-lived serialization session for one peer, such as a connection. Class definitions, meta
+ * strings and class name bytes are written in full only by the first message which uses them, and
+ * later messages of this session reference them by id. The peer must read all messages with a
+ * session of its own in the same order as they are written.
+ *
+ * <p>The session state is kept outside the {@link Fury}, so multiple sessions can share one fury,
+ * and plain serializations of the fury are not affected by the session. If a serialization fails,
+ * the peer may have missed some definitions, so the session becomes broken and can't be used
+ * anymore. The connection should be closed and a new session created in such cases. Closing the
+ * session releases all cached state.
+ */
+@NotThreadSafe
+public final class FurySession implements AutoCloseable {
+  private final Fury fury;
+  private final SerializationContext serializationContext;
+  private final MetaStringResolver metaStringResolver;
+  private MetaContext metaContext;
+  private MetaStringResolver.SessionState metaStringState;
+  private boolean broken;
+
+  public FurySession(Fury fury) {
+    Preconditions.checkArgument(
+        fury.getLanguage() == Language.JAVA, "Session is supported by java only");
+    this.fury = fury;
+    serializationContext = fury.getSerializationContext();
+    metaStringResolver = fury.getMetaStringResolver();
+    if (fury.getConfig().isMetaShareEnabled()) {
+      metaContext = new MetaContext();
+    }
+    metaStringState = new MetaStringResolver.SessionState();
+  }
+
+  public byte[] serialize(Object obj) {
+    bind();
+    try {
+      return fury.serialize(obj);
+    } catch (Throwable t) {
+      broken = true;
+      throw t;
+    } finally {
+      unbind();
+    }
+  }
+
+  public MemoryBuffer serialize(MemoryBuffer buffer, Object obj) {
+    bind();
+    try {
+      return fury.serialize(buffer, obj);
+    } catch (Throwable t) {
+      broken = true;
+      throw t;
+    } finally {
+      unbind();
+    }
+  }
+
+  public Object deserialize(byte[] bytes) {
+    bind();
+    try {
+      return fury.deserialize(bytes);
+    } catch (Throwable t) {
+      broken = true;
+      throw t;
+    } finally {
+      unbind();
+    }
+  }
+
+  public Object deserialize(MemoryBuffer buffer) {
+    bind();
+    try {
+      return fury.deserialize(buffer);
+    } catch (Throwable t) {
+      broken = true;
+      throw t;
+    } finally {
+      unbind();
+    }
+  }
+
+  public Object deserialize(FuryInputStream inputStream) {
+    bind();
+    try {
+      return fury.deserialize(inputStream);
+    } catch (Throwable t) {
+      broken = true;
+      throw t;
+    } finally {
+      unbind();
+    }
+  }
+
+  /** Whether a failed serialization made this session unusable. */
+  public boolean isBroken() {
+    return broken;
+  }
+
+  public boolean isClosed() {
+    return metaStringState == null;
+  }
+
+  private void bind() {
+    Preconditions.checkState(metaStringState != null, "Session is closed");
+    Preconditions.checkState(!broken, "Session is broken by a previous failure");
+    metaStringResolver.bindSession(metaStringState);
+    if (metaContext != null) {
+      try {
+        serializationContext.bindSession(metaContext);
+      } catch (Throwable t) {
+        // Don't leave the meta string resolver bound to this session when failed.
+        metaStringResolver.unbindSession();
+        throw t;
+      }
+    }
+  }
+
+  private void unbind() {
+    metaStringResolver.unbindSession();
+    serializationContext.unbindSession();
+  }
+
+  @Override
+  public void close() {
+    metaContext = null;
+    metaStringState = null;
+  }
+}
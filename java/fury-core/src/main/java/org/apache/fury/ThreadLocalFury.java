@@ -22,15 +22,19 @@ package org.apache.fury;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.concurrent.ThreadSafe;
 import org.apache.fury.annotation.Internal;
+import org.apache.fury.io.ByteBufferOverflowHandler;
 import org.apache.fury.io.FuryInputStream;
 import org.apache.fury.io.FuryReadableChannel;
+import org.apache.fury.memory.LeasedBuffer;
 import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryBufferPool;
 import org.apache.fury.memory.MemoryUtils;
 import org.apache.fury.serializer.BufferCallback;
 import org.apache.fury.util.LoaderBinding;
@@ -39,7 +43,8 @@ import org.apache.fury.util.LoaderBinding.StagingType;
 /**
  * A thread safe serialization entrance for {@link Fury} by binding a {@link Fury} for every thread.
  * Note that the thread shouldn't be created and destroyed frequently, otherwise the {@link Fury}
- * will be created and destroyed frequently, which is slow.
+ * will be created and destroyed frequently, which is slow. For virtual threads, use {@link
+ * org.apache.fury.config.FuryBuilder#buildVirtualThreadSafeFury} instead.
  */
 @ThreadSafe
 public class ThreadLocalFury extends AbstractThreadSafeFury {
@@ -122,6 +127,16 @@ public class ThreadLocalFury extends AbstractThreadSafeFury {
     return bindingThreadLocal.get().get().serialize(buffer, obj, callback);
   }
 
+  @Override
+  public LeasedBuffer serialize(MemoryBufferPool pool, Object obj) {
+    return bindingThreadLocal.get().get().serialize(pool, obj);
+  }
+
+  @Override
+  public ByteBuffer serialize(ByteBuffer buffer, Object obj, ByteBufferOverflowHandler handler) {
+    return bindingThreadLocal.get().get().serialize(buffer, obj, handler);
+  }
+
   @Override
   public void serialize(OutputStream outputStream, Object obj) {
     bindingThreadLocal.get().get().serialize(outputStream, obj);
@@ -187,6 +202,26 @@ public class ThreadLocalFury extends AbstractThreadSafeFury {
     return bindingThreadLocal.get().get().deserialize(channel, outOfBandBuffers);
   }
 
+  @Override
+  public byte[] serializeBatch(List<?> objects) {
+    return bindingThreadLocal.get().get().serializeBatch(objects);
+  }
+
+  @Override
+  public MemoryBuffer serializeBatch(MemoryBuffer buffer, List<?> objects) {
+    return bindingThreadLocal.get().get().serializeBatch(buffer, objects);
+  }
+
+  @Override
+  public List<Object> deserializeBatch(byte[] bytes) {
+    return bindingThreadLocal.get().get().deserializeBatch(bytes);
+  }
+
+  @Override
+  public List<Object> deserializeBatch(MemoryBuffer buffer) {
+    return bindingThreadLocal.get().get().deserializeBatch(buffer);
+  }
+
   @Override
   public byte[] serializeJavaObject(Object obj) {
     return bindingThreadLocal.get().get().serializeJavaObject(obj);
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reference tracking control for a class or a field.
+ *
+ * <p>Annotate immutable value classes with {@code @FuryRef(track = false)} so that their objects
+ * never enter the reference table even if reference tracking is enabled. Shared objects of such
+ * classes will be written multiple times and read as different objects, and cyclic references
+ * through them are not supported.
+ *
+ * <p>A field can override the decision of its type:
+ *
+ * <ul>
+ *   <li>{@code @FuryRef(track = false)}: values of the field won't enter the reference table, with
+ *       the same limitations as above. Only the writer needs the annotation, so it works with meta
+ *       share mode too. It takes no effect if reference tracking is disabled.
+ *   <li>{@code @FuryRef(track = true)}: track values of the field even if its type skips reference
+ *       tracking, such as strings shared by many objects when string references are ignored. If
+ *       reference tracking is disabled, only values of such fields are tracked, by a separate
+ *       reference table, so cyclic references through them are not supported. This is ignored in
+ *       compatible or meta share mode, since the peer may not annotate the field.
+ * </ul>
+ *
+ * <p>Field annotations are ignored by {@code CompatibleSerializer} used by compatible mode without
+ * meta share.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.FIELD})
+public @interface FuryRef {
+  /** Whether to track references of objects of the annotated class or field. */
+  boolean track() default true;
+}
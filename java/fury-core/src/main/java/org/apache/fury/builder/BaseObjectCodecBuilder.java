@@ -108,6 +108,7 @@ import org.apache.fury.reflect.TypeRef;
 import org.apache.fury.resolver.ClassInfo;
 import org.apache.fury.resolver.ClassInfoHolder;
 import org.apache.fury.resolver.ClassResolver;
+import org.apache.fury.resolver.MapRefResolver;
 import org.apache.fury.resolver.RefResolver;
 import org.apache.fury.serializer.CompatibleSerializer;
 import org.apache.fury.serializer.EnumSerializer;
@@ -118,6 +119,7 @@ import org.apache.fury.serializer.StringSerializer;
 import org.apache.fury.serializer.collection.AbstractCollectionSerializer;
 import org.apache.fury.serializer.collection.AbstractMapSerializer;
 import org.apache.fury.serializer.collection.CollectionFlags;
+import org.apache.fury.type.Descriptor;
 import org.apache.fury.type.TypeUtils;
 import org.apache.fury.util.GraalvmSupport;
 import org.apache.fury.util.Preconditions;
@@ -143,6 +145,8 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
   private static final TypeRef<?> MAP_SERIALIZER_TYPE = TypeRef.of(AbstractMapSerializer.class);
 
   protected final Reference refResolverRef;
+  // Created on first use since most classes don't have fields annotated by `FuryRef`.
+  private Reference fieldRefResolverRef;
   protected final Reference classResolverRef =
       fieldRef(CLASS_RESOLVER_NAME, CLASS_RESOLVER_TYPE_TOKEN);
   protected final Fury fury;
@@ -184,18 +188,13 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
 
   // Must be static to be shared across the whole process life.
   private static final Map<String, Map<String, Integer>> idGenerator = new ConcurrentHashMap<>();
+  private boolean pregenerated;
 
   public String codecClassName(Class<?> beanClass) {
-    String name = ReflectionUtils.getClassNameWithoutPackage(beanClass).replace("$", "_");
-    StringBuilder nameBuilder = new StringBuilder(name);
-    if (fury.trackingRef()) {
-      // Generated classes are different when referenceTracking is switched.
-      // So we need to use a different name.
-      nameBuilder.append("FuryRef");
-    } else {
-      nameBuilder.append("Fury");
+    if (pregenerated) {
+      return pregeneratedCodecClassName(beanClass, fury, codecSuffix());
     }
-    nameBuilder.append("Codec").append(codecSuffix());
+    StringBuilder nameBuilder = codecClassNamePrefix(beanClass, fury, codecSuffix());
     Map<String, Integer> subGenerator =
         idGenerator.computeIfAbsent(nameBuilder.toString(), k -> new ConcurrentHashMap<>());
     String key = fury.getConfig().getConfigHash() + "_" + CodeGenerator.getClassUniqueId(beanClass);
@@ -209,6 +208,36 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     return nameBuilder.toString();
   }
 
+  /**
+   * Returns codec class name generated at build time. The name is stable across processes and never
+   * collides with names of classes generated at runtime.
+   */
+  static String pregeneratedCodecClassName(Class<?> beanClass, Fury fury, String codecSuffix) {
+    return codecClassNamePrefix(beanClass, fury, codecSuffix)
+        .append("_Aot")
+        .append(fury.getConfig().getConfigFingerprint())
+        .toString();
+  }
+
+  private static StringBuilder codecClassNamePrefix(
+      Class<?> beanClass, Fury fury, String codecSuffix) {
+    String name = ReflectionUtils.getClassNameWithoutPackage(beanClass).replace("$", "_");
+    StringBuilder nameBuilder = new StringBuilder(name);
+    if (fury.trackingRef()) {
+      // Generated classes are different when referenceTracking is switched.
+      // So we need to use a different name.
+      nameBuilder.append("FuryRef");
+    } else {
+      nameBuilder.append("Fury");
+    }
+    return nameBuilder.append("Codec").append(codecSuffix);
+  }
+
+  /** Name codec by {@link #pregeneratedCodecClassName}, see {@link CodecPregenerator}. */
+  void setPregenerated(boolean pregenerated) {
+    this.pregenerated = pregenerated;
+  }
+
   public String codecQualifiedClassName(Class<?> beanClass) {
     String pkg = getPackage(beanClass);
     if (StringUtils.isNotBlank(pkg)) {
@@ -239,12 +268,15 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     ctx.addField(ctx.type(Fury.class), FURY_NAME);
     Expression encodeExpr = buildEncodeExpression();
     Expression decodeExpr = buildDecodeExpression();
+    Expression copyExpr = buildCopyExpression();
     String constructorCode =
         StringUtils.format(
             ""
                 + "super(${fury}, ${cls});\n"
                 + "this.${fury} = ${fury};\n"
-                + "${fury}.getClassResolver().setSerializerIfAbsent(${cls}, this);\n",
+                + (registerSerializer()
+                    ? "${fury}.getClassResolver().setSerializerIfAbsent(${cls}, this);\n"
+                    : ""),
             "fury",
             FURY_NAME,
             "cls",
@@ -264,12 +296,39 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         BUFFER_NAME,
         Object.class,
         ROOT_OBJECT_NAME);
-    ctx.overrideMethod("read", decodeCode, Object.class, MemoryBuffer.class, BUFFER_NAME);
+    addDecodeMethod(decodeCode);
+    if (copyExpr != null) {
+      ctx.clearExprState();
+      String copyCode = copyExpr.genCode(ctx).code();
+      copyCode = ctx.optimizeMethodCode(copyCode);
+      ctx.overrideMethod("copy", copyCode, Object.class, Object.class, ROOT_OBJECT_NAME);
+    }
     registerJITNotifyCallback();
     ctx.addConstructor(constructorCode, Fury.class, "fury", Class.class, POJO_CLASS_TYPE_NAME);
     return ctx.genCode();
   }
 
+  /**
+   * Whether the generated serializer registers itself for {@link CodecBuilder#beanClass} when no
+   * serializer is registered yet.
+   */
+  protected boolean registerSerializer() {
+    return true;
+  }
+
+  /** Add the method which reads the object by <code>decodeCode</code> to generated serializer. */
+  protected void addDecodeMethod(String decodeCode) {
+    ctx.overrideMethod("read", decodeCode, Object.class, MemoryBuffer.class, BUFFER_NAME);
+  }
+
+  /**
+   * Returns an expression that deep copies java bean of type {@link CodecBuilder#beanClass}, or
+   * null to use the copy of parent serializer.
+   */
+  protected Expression buildCopyExpression() {
+    return null;
+  }
+
   protected static class InvokeHint {
     public boolean genNewMethod;
     public Set<Expression> cutPoints = new HashSet<>();
@@ -375,6 +434,58 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     }
   }
 
+  /**
+   * Returns an expression that serialize field value of <code>descriptor</code>. Ref tracking of
+   * field type may be overridden by {@link org.apache.fury.annotation.FuryRef} of the field, which
+   * must be consistent with {@link ObjectSerializer}.
+   */
+  protected Expression serializeField(
+      Expression fieldValue, Expression buffer, Descriptor descriptor) {
+    TypeRef<?> typeRef = descriptor.getTypeRef();
+    Class<?> rawType = getRawType(typeRef);
+    if (typeRef.isPrimitive()) {
+      return serializeFor(fieldValue, buffer, typeRef);
+    }
+    boolean trackingRef = visitFury(f -> f.getClassResolver().needToWriteRef(descriptor));
+    if (trackingRef && ClassResolver.isRefTrackingDisabled(descriptor)) {
+      Expression refWritten =
+          inlineInvoke(
+              refResolverRef,
+              "writeUntrackedRefOrNull",
+              PRIMITIVE_BOOLEAN_TYPE,
+              buffer,
+              fieldValue);
+      return new If(not(refWritten), serializeForNotNull(fieldValue, buffer, typeRef, null, false));
+    }
+    if (trackingRef && !needWriteRef(rawType)) {
+      Expression refWritten =
+          inlineInvoke(
+              fieldRefResolverRef(), "writeRefOrNull", PRIMITIVE_BOOLEAN_TYPE, buffer, fieldValue);
+      return new If(not(refWritten), serializeForNotNull(fieldValue, buffer, typeRef, null, false));
+    }
+    return serializeFor(fieldValue, buffer, typeRef);
+  }
+
+  /**
+   * Returns the ref resolver for fields which enable ref tracking by {@link
+   * org.apache.fury.annotation.FuryRef}, see {@link Fury#getFieldRefResolver()}.
+   */
+  protected Reference fieldRefResolverRef() {
+    if (fury.trackingRef()) {
+      return refResolverRef;
+    }
+    Reference ref = fieldRefResolverRef;
+    if (ref == null) {
+      String name = ctx.newName("fieldRefResolver");
+      TypeRef<?> typeRef = TypeRef.of(MapRefResolver.class);
+      Expression resolverExpr =
+          new Invoke(furyRef, "getFieldRefResolver", TypeRef.of(RefResolver.class));
+      ctx.addField(ctx.type(typeRef), name, new Cast(resolverExpr, typeRef));
+      ref = fieldRefResolverRef = fieldRef(name, typeRef);
+    }
+    return ref;
+  }
+
   protected Expression writeRefOrNull(Expression buffer, Expression object) {
     return inlineInvoke(refResolverRef, "writeRefOrNull", PRIMITIVE_BOOLEAN_TYPE, buffer, object);
   }
@@ -1163,19 +1274,12 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         valueMonomorphic
             ? getClassExpr(valueTypeRawType)
             : new Invoke(value, "getClass", "valueType", CLASS_TYPE);
-    Expression writePlaceHolder = new Invoke(buffer, "writeInt16", Literal.ofShort((short) -1));
-    Expression chunkSizeOffset =
-        subtract(
-            inlineInvoke(buffer, "writerIndex", PRIMITIVE_INT_TYPE), ofInt(1), "chunkSizeOffset");
-    expressions.add(
-        key,
-        value,
-        keyTypeExpr,
-        valueTypeExpr,
-        writePlaceHolder,
-        chunkSizeOffset,
-        writePlaceHolder,
-        chunkSizeOffset);
+    // place holder for chunk header and size, which will be held from being flushed by stream
+    // writer until updated.
+    Expression chunkHeaderOffset =
+        new Invoke(
+            buffer, "reserveForUpdate", "chunkHeaderOffset", PRIMITIVE_INT_TYPE, false, ofInt(2));
+    expressions.add(key, value, keyTypeExpr, valueTypeExpr, chunkHeaderOffset);
 
     Expression chunkHeader;
     Expression keySerializer, valueSerializer;
@@ -1270,7 +1374,7 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
         valueSerializer,
         keyWriteRef,
         valueWriteRef,
-        new Invoke(buffer, "putByte", subtract(chunkSizeOffset, ofInt(1)), chunkHeader),
+        new Invoke(buffer, "putByte", chunkHeaderOffset, chunkHeader),
         chunkSize);
     Expression keyWriteRefExpr = keyWriteRef;
     Expression valueWriteRefExpr = valueWriteRef;
@@ -1350,7 +1454,10 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
                       list(new Assign(entry, new Literal(null, MAP_ENTRY_TYPE)), new Break())),
                   new If(eq(chunkSize, ofInt(MAX_CHUNK_SIZE)), new Break()));
             });
-    expressions.add(writeLoop, new Invoke(buffer, "putByte", chunkSizeOffset, chunkSize));
+    expressions.add(
+        writeLoop,
+        new Invoke(buffer, "putByte", add(chunkHeaderOffset, ofInt(1)), chunkSize),
+        new Invoke(buffer, "releaseFlush", chunkHeaderOffset));
     if (!inline) {
       expressions.add(new Return(entry));
       // method too big, spilt it into a new method.
@@ -1406,11 +1513,40 @@ public abstract class BaseObjectCodecBuilder extends CodecBuilder {
     }
   }
 
+  /**
+   * Returns an expression that deserialize field value of <code>descriptor</code>, see {@link
+   * #serializeField}.
+   */
+  protected Expression deserializeField(
+      Expression buffer, Descriptor descriptor, Function<Expression, Expression> callback) {
+    TypeRef<?> typeRef = descriptor.getTypeRef();
+    Class<?> rawType = getRawType(typeRef);
+    if (!typeRef.isPrimitive()
+        && !needWriteRef(rawType)
+        && visitFury(f -> f.getClassResolver().needToWriteRef(descriptor))) {
+      return readRef(
+          fieldRefResolverRef(),
+          buffer,
+          callback,
+          () -> deserializeForNotNull(buffer, typeRef, null));
+    }
+    return deserializeFor(buffer, typeRef, callback);
+  }
+
+  private Expression readRef(
+      Expression buffer,
+      Function<Expression, Expression> callback,
+      Supplier<Expression> deserializeForNotNull) {
+    return readRef(refResolverRef, buffer, callback, deserializeForNotNull);
+  }
+
   private Expression readRef(
+      Reference refResolverRef,
       Expression buffer,
       Function<Expression, Expression> callback,
       Supplier<Expression> deserializeForNotNull) {
-    Expression refId = tryPreserveRefId(buffer);
+    Expression refId =
+        new Invoke(refResolverRef, "tryPreserveRefId", "refId", PRIMITIVE_INT_TYPE, false, buffer);
     // indicates that the object is first read.
     Expression needDeserialize =
         ExpressionUtils.egt(refId, new Literal(Fury.NOT_NULL_VALUE_FLAG, PRIMITIVE_BYTE_TYPE));
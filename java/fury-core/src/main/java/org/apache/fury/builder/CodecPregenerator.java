@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.builder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.fury.Fury;
+import org.apache.fury.codegen.CodeGenerator;
+import org.apache.fury.codegen.CompileUnit;
+import org.apache.fury.codegen.JaninoUtils;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.logging.Logger;
+import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.reflect.TypeRef;
+import org.apache.fury.resolver.FieldResolver;
+import org.apache.fury.serializer.CodegenSerializer;
+import org.apache.fury.util.Preconditions;
+import org.apache.fury.util.StringUtils;
+
+/**
+ * Generate serializer classes at build time, so that classes can be packaged into jar and loaded by
+ * {@link org.apache.fury.resolver.ClassResolver} directly instead of generating and compiling at
+ * runtime.
+ *
+ * <p>Generated code depends on fury config and registered classes/serializers, the fury used for
+ * generation must be created in same way as the fury used at runtime. Pregenerated classes are
+ * named by the fingerprint of fury config, and will be ignored by fury with different config.
+ *
+ * <p>This class can be invoked after classes compiled, for example by exec-maven-plugin in the
+ * {@code process-classes} phase:
+ *
+ * <pre>{@code
+ * java org.apache.fury.builder.CodecPregenerator target/classes com.example.MyFuryFactory \
+ *     com.example.Foo com.example.Bar @classes.txt
+ * }</pre>
+ *
+ * <p>The fury factory must implement {@code Supplier<Fury>} and have a no-arg constructor, an
+ * argument starts with {@code @} is a file which contains a class name per line.
+ */
+public class CodecPregenerator {
+  private static final Logger LOG = LoggerFactory.getLogger(CodecPregenerator.class);
+
+  /**
+   * Generate serializer classes for {@code classes} and accessor classes they depend on.
+   *
+   * @return a map from class file path to class bytecode
+   */
+  public static Map<String, byte[]> generate(Fury fury, Class<?>... classes) {
+    Map<String, byte[]> result = new LinkedHashMap<>();
+    for (Class<?> cls : classes) {
+      Preconditions.checkArgument(
+          CodegenSerializer.supportCodegenForJavaSerialization(cls),
+          "Class %s doesn't support codegen serialization",
+          cls);
+      BaseObjectCodecBuilder codecBuilder;
+      if (fury.getCompatibleMode() == CompatibleMode.COMPATIBLE
+          && !fury.getConfig().isMetaShareEnabled()) {
+        codecBuilder =
+            new CompatibleCodecBuilder(
+                TypeRef.of(cls),
+                fury,
+                FieldResolver.of(fury, cls, true, false),
+                Generated.GeneratedSerializer.class);
+      } else {
+        codecBuilder = new ObjectCodecBuilder(cls, fury);
+      }
+      codecBuilder.setPregenerated(true);
+      String pkg = CodeGenerator.getPackage(cls);
+      CompileUnit compileUnit =
+          new CompileUnit(pkg, codecBuilder.codecClassName(cls), codecBuilder.genCode());
+      // accessors are defined in bean classloader when generating code, generated serializer
+      // will reference them by name.
+      for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+        if (compileUnit.getCode().contains(AccessorHelper.accessorClassName(c))) {
+          Preconditions.checkArgument(
+              !CodeGenerator.ENABLE_FURY_GENERATED_CLASS_UNIQUE_ID,
+              "Accessor class names are not stable, please set "
+                  + "ENABLE_FURY_GENERATED_CLASS_UNIQUE_ID=false when generating code at build time");
+          CompileUnit accessorUnit =
+              new CompileUnit(
+                  CodeGenerator.getPackage(c),
+                  AccessorHelper.accessorClassName(c),
+                  AccessorHelper.genCode(c));
+          result.putAll(JaninoUtils.toBytecode(getClassLoader(c), accessorUnit));
+        }
+      }
+      result.putAll(JaninoUtils.toBytecode(getClassLoader(cls), compileUnit));
+    }
+    return result;
+  }
+
+  /** Generate serializer classes for {@code classes} and write them into {@code outputDir}. */
+  public static void generate(Fury fury, Path outputDir, Class<?>... classes) throws IOException {
+    for (Map.Entry<String, byte[]> entry : generate(fury, classes).entrySet()) {
+      Path path = outputDir.resolve(entry.getKey()).toAbsolutePath();
+      Files.createDirectories(path.getParent());
+      Files.write(path, entry.getValue());
+      LOG.info("Write pregenerated class to {}", path);
+    }
+  }
+
+  private static ClassLoader getClassLoader(Class<?> cls) {
+    ClassLoader loader = cls.getClassLoader();
+    return loader == null ? Fury.class.getClassLoader() : loader;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static void main(String[] args) throws Exception {
+    Preconditions.checkArgument(
+        args.length >= 3,
+        "Usage: CodecPregenerator <outputDir> <furyFactoryClass> <classes or @classesFile>...");
+    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    if (loader == null) {
+      loader = CodecPregenerator.class.getClassLoader();
+    }
+    Supplier<Fury> furyFactory =
+        (Supplier<Fury>) loader.loadClass(args[1]).getDeclaredConstructor().newInstance();
+    List<String> classNames = new ArrayList<>();
+    for (String arg : Arrays.asList(args).subList(2, args.length)) {
+      if (arg.startsWith("@")) {
+        for (String line :
+            Files.readAllLines(Paths.get(arg.substring(1)), StandardCharsets.UTF_8)) {
+          if (StringUtils.isNotBlank(line) && !line.trim().startsWith("#")) {
+            classNames.add(line.trim());
+          }
+        }
+      } else {
+        classNames.add(arg);
+      }
+    }
+    Class<?>[] classes = new Class<?>[classNames.size()];
+    for (int i = 0; i < classes.length; i++) {
+      classes[i] = loader.loadClass(classNames.get(i));
+    }
+    generate(furyFactory.get(), Paths.get(args[0]), classes);
+  }
+}
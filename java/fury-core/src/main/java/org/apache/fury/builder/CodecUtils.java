@@ -30,6 +30,7 @@ import org.apache.fury.resolver.FieldResolver;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.util.ClassLoaderUtils;
 import org.apache.fury.util.Preconditions;
+import org.apache.fury.util.StringUtils;
 
 /** Codec util to create and load jit serializer class. */
 public class CodecUtils {
@@ -44,6 +45,20 @@ public class CodecUtils {
     return loadOrGenCodecClass(cls, fury, codecBuilder);
   }
 
+  public static <T> Class<? extends Serializer<T>> loadOrGenStructCodecClass(
+      Class<T> cls, Fury fury) {
+    Preconditions.checkNotNull(fury);
+    BaseObjectCodecBuilder codecBuilder = new StructCodecBuilder(cls, fury);
+    return loadOrGenCodecClass(cls, fury, codecBuilder);
+  }
+
+  public static <T> Class<? extends Serializer<T>> loadOrGenObjectStreamCodecClass(
+      Class<T> cls, Fury fury) {
+    Preconditions.checkNotNull(fury);
+    BaseObjectCodecBuilder codecBuilder = new ObjectStreamCodecBuilder(cls, fury);
+    return loadOrGenCodecClass(cls, fury, codecBuilder);
+  }
+
   public static <T> Class<? extends Serializer<T>> loadOrGenMetaSharedCodecClass(
       Fury fury, Class<T> cls, ClassDef classDef) {
     Preconditions.checkNotNull(fury);
@@ -66,6 +81,32 @@ public class CodecUtils {
     return loadOrGenCodecClass(cls, fury, codecBuilder);
   }
 
+  /**
+   * Load codec class generated at build time by {@link CodecPregenerator}, returns null if not
+   * exists.
+   *
+   * @param compatible whether load codec for {@link CompatibleCodecBuilder}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Class<? extends Serializer<T>> loadPregeneratedCodecClass(
+      Class<T> beanClass, Fury fury, boolean compatible) {
+    ClassLoader classLoader = beanClass.getClassLoader();
+    if (classLoader == null) {
+      return null;
+    }
+    String pkg = CodeGenerator.getPackage(beanClass);
+    String className =
+        BaseObjectCodecBuilder.pregeneratedCodecClassName(
+            beanClass, fury, compatible ? CompatibleCodecBuilder.CODEC_SUFFIX : "");
+    try {
+      Class<?> cls =
+          classLoader.loadClass(StringUtils.isNotBlank(pkg) ? pkg + "." + className : className);
+      return Serializer.class.isAssignableFrom(cls) ? (Class<? extends Serializer<T>>) cls : null;
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
   @SuppressWarnings("unchecked")
   static <T> Class<? extends Serializer<T>> loadOrGenCodecClass(
       Class<T> beanClass, Fury fury, BaseObjectCodecBuilder codecBuilder) {
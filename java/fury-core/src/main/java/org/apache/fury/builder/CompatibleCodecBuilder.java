@@ -83,6 +83,7 @@ import org.apache.fury.util.record.RecordUtils;
 /** A jit-version of {@link CompatibleSerializer}. */
 public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
   public static final String FIELD_RESOLVER_NAME = "fieldResolver";
+  static final String CODEC_SUFFIX = "Compatible";
   private final FieldResolver fieldResolver;
   private Map<String, Integer> recordReversedMapping;
   private final Reference fieldResolverRef;
@@ -117,7 +118,7 @@ public class CompatibleCodecBuilder extends BaseObjectCodecBuilder {
 
   @Override
   protected String codecSuffix() {
-    return "Compatible";
+    return CODEC_SUFFIX;
   }
 
   @Override
@@ -29,6 +29,7 @@ import org.apache.fury.meta.ClassDef;
 import org.apache.fury.reflect.ReflectionUtils;
 import org.apache.fury.serializer.AbstractObjectSerializer;
 import org.apache.fury.serializer.CompatibleSerializerBase;
+import org.apache.fury.serializer.ObjectSerializer;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.util.Preconditions;
 
@@ -96,9 +97,41 @@ public interface Generated {
 
   /** Base class for all type consist serializers. */
   abstract class GeneratedObjectSerializer extends GeneratedSerializer implements Generated {
+    private ObjectSerializer interpreterSerializer;
+
     public GeneratedObjectSerializer(Fury fury, Class<?> cls) {
       super(fury, cls);
     }
+
+    /**
+     * Returns an {@link ObjectSerializer} which has same format as this serializer, used for
+     * operations which generated serializers don't support, such as {@link
+     * ObjectSerializer#newLazyObject}.
+     */
+    public ObjectSerializer getInterpreterSerializer() {
+      ObjectSerializer serializer = interpreterSerializer;
+      if (serializer == null) {
+        serializer = interpreterSerializer = new ObjectSerializer(fury, type);
+      }
+      return serializer;
+    }
+  }
+
+  /**
+   * Base class for serializers of fields declared by one class of a class hierarchy serialized by
+   * {@link org.apache.fury.serializer.ObjectStreamSerializer}.
+   */
+  abstract class GeneratedObjectStreamSerializer extends GeneratedSerializer implements Generated {
+    public GeneratedObjectStreamSerializer(Fury fury, Class<?> cls) {
+      super(fury, cls);
+    }
+
+    @Override
+    public Object read(MemoryBuffer buffer) {
+      Object obj = newBean();
+      refResolver.reference(obj);
+      return readAndSetFields(buffer, obj);
+    }
   }
 
   /** Base class for all serializers with meta shared by {@link ClassDef}. */
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import org.apache.fury.Fury;
@@ -34,7 +35,15 @@ import org.apache.fury.config.Config;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.util.Preconditions;
 
-/** A context for managing jit serialization code generation in async multithreaded environment. */
+/**
+ * A context for managing jit serialization code generation in async multithreaded environment.
+ *
+ * <p>Serialization calls of {@link Fury} are wrapped by {@link #beginCall}/{@link #endCall}, which
+ * skip the {@link #jitLock} when there are no running jit tasks and no other threads waiting for
+ * the lock. Other threads acquire the lock by {@link #lock}, which will wait the lock-free call to
+ * finish first, so the lock still guards fury state changes in this case. The waiting threads are
+ * parked and woken up by {@link #endCall} of the lock-free call.
+ */
 public class JITContext {
   private final Fury fury;
   private final boolean asyncCompilationEnabled;
@@ -43,7 +52,16 @@ public class JITContext {
   private final ReentrantLock jitLock;
   // state for recursive jit fury visit.
   private int furyVisitState;
-  private int numRunningTask;
+  // Updated with `jitLock` held, read without lock in `beginCall`.
+  private volatile int numRunningTask;
+  // Thread which is running a serialization call without holding `jitLock`.
+  private volatile Thread lockFreeThread;
+  // Number of threads holding or waiting `jitLock` by `lock`.
+  private final AtomicInteger numLockRequests;
+  // Nested depth of lock-free serialization calls, only accessed by `lockFreeThread`.
+  private int lockFreeDepth;
+  // Monitor for threads in `lock` to wait the lock-free call to finish.
+  private final Object lockFreeCallMonitor = new Object();
   private final Map<Object, List<NotifyCallback>> hasJITResult;
 
   public JITContext(Fury fury) {
@@ -52,6 +70,7 @@ public class JITContext {
     // FIXME(chaokunyang) use fair lock to avoid starving jit thread.
     // It's ok the cost for fail lock is slightly higher than no-fair lock.
     jitLock = new ReentrantLock(true);
+    numLockRequests = new AtomicInteger();
     hasJITResult = new HashMap<>();
   }
 
@@ -185,21 +204,108 @@ public class JITContext {
     }
   }
 
+  /**
+   * Begin a serialization/deserialization call. The call will be lock-free if no jit tasks are
+   * running and no other threads are acquiring the jit lock, otherwise the jit lock will be held
+   * until {@link #endCall} is invoked.
+   */
+  @Internal
+  public void beginCall() {
+    if (asyncCompilationEnabled) {
+      if (lockFreeDepth > 0) {
+        lockFreeDepth++;
+        return;
+      }
+      if (!jitLock.isHeldByCurrentThread()) {
+        Thread thread = Thread.currentThread();
+        lockFreeThread = thread;
+        // Pairs with `lock`: either this thread sees the lock request, or the requesting thread
+        // sees this lock-free call and waits for it to finish.
+        if (numRunningTask == 0 && numLockRequests.get() == 0) {
+          lockFreeDepth = 1;
+          return;
+        }
+        clearLockFreeThread();
+      }
+      jitLock.lock();
+    }
+  }
+
+  private void clearLockFreeThread() {
+    lockFreeThread = null;
+    // Pairs with `lock`: either this thread sees the lock request and wakes up the requesting
+    // thread, or the requesting thread sees no lock-free call and won't wait.
+    if (numLockRequests.get() != 0) {
+      synchronized (lockFreeCallMonitor) {
+        lockFreeCallMonitor.notifyAll();
+      }
+    }
+  }
+
+  /** End a call started by {@link #beginCall}. */
+  @Internal
+  public void endCall() {
+    if (asyncCompilationEnabled) {
+      if (lockFreeDepth > 0) {
+        if (--lockFreeDepth == 0) {
+          clearLockFreeThread();
+        }
+      } else {
+        jitLock.unlock();
+      }
+    }
+  }
+
   @Internal
   public void lock() {
     if (asyncCompilationEnabled) {
+      if (lockFreeThread == Thread.currentThread()) {
+        // Nested lock in a lock-free call, other threads are waiting this call to finish.
+        jitLock.lock();
+        return;
+      }
+      numLockRequests.incrementAndGet();
+      if (lockFreeThread != null) {
+        awaitLockFreeCall();
+      }
       jitLock.lock();
     }
   }
 
+  // Wait the lock-free call to finish, new calls will hold the lock since then. The call may be an
+  // arbitrarily long serialization, so park the thread instead of spinning.
+  private void awaitLockFreeCall() {
+    boolean interrupted = false;
+    synchronized (lockFreeCallMonitor) {
+      while (lockFreeThread != null) {
+        try {
+          lockFreeCallMonitor.wait();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   @Internal
   public boolean lockedByCurrentThread() {
-    return !asyncCompilationEnabled || jitLock.isHeldByCurrentThread();
+    return !asyncCompilationEnabled
+        || jitLock.isHeldByCurrentThread()
+        || lockFreeThread == Thread.currentThread();
   }
 
   @Internal
   public void unlock() {
     if (asyncCompilationEnabled) {
+      if (lockFreeThread != Thread.currentThread()) {
+        // Decrement before releasing the lock, so that a call which begins after this thread
+        // finished its locked work can be lock-free. All state changes of this thread are
+        // published by the decrement.
+        numLockRequests.decrementAndGet();
+      }
       jitLock.unlock();
     }
   }
@@ -22,6 +22,8 @@ package org.apache.fury.builder;
 import static org.apache.fury.codegen.Code.LiteralValue.FalseLiteral;
 import static org.apache.fury.codegen.Expression.Invoke.inlineInvoke;
 import static org.apache.fury.codegen.ExpressionUtils.add;
+import static org.apache.fury.codegen.ExpressionUtils.eqNull;
+import static org.apache.fury.codegen.ExpressionUtils.subtract;
 import static org.apache.fury.collection.Collections.ofHashSet;
 import static org.apache.fury.type.TypeUtils.OBJECT_ARRAY_TYPE;
 import static org.apache.fury.type.TypeUtils.OBJECT_TYPE;
@@ -33,6 +35,8 @@ import static org.apache.fury.type.TypeUtils.getRawType;
 import static org.apache.fury.type.TypeUtils.getSizeOfPrimitiveType;
 import static org.apache.fury.type.TypeUtils.isPrimitive;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -55,11 +59,13 @@ import org.apache.fury.codegen.Expression.ReplaceStub;
 import org.apache.fury.codegen.Expression.StaticInvoke;
 import org.apache.fury.codegen.ExpressionVisitor;
 import org.apache.fury.memory.Platform;
+import org.apache.fury.reflect.ReflectionUtils;
 import org.apache.fury.reflect.TypeRef;
 import org.apache.fury.serializer.ObjectSerializer;
 import org.apache.fury.serializer.PrimitiveSerializers.LongSerializer;
 import org.apache.fury.type.Descriptor;
 import org.apache.fury.type.DescriptorGrouper;
+import org.apache.fury.type.TypeUtils;
 import org.apache.fury.util.Preconditions;
 import org.apache.fury.util.function.SerializableSupplier;
 import org.apache.fury.util.record.RecordUtils;
@@ -85,7 +91,18 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
   protected Map<String, Integer> recordReversedMapping;
 
   public ObjectCodecBuilder(Class<?> beanClass, Fury fury) {
-    super(TypeRef.of(beanClass), fury, Generated.GeneratedObjectSerializer.class);
+    this(beanClass, fury, true, Generated.GeneratedObjectSerializer.class);
+  }
+
+  /**
+   * Create a builder which serializes fields of <code>beanClass</code> in the same format as {@link
+   * ObjectSerializer#ObjectSerializer(Fury, Class, boolean)}.
+   *
+   * @param resolveParent whether serialize fields declared in super classes too.
+   */
+  protected ObjectCodecBuilder(
+      Class<?> beanClass, Fury fury, boolean resolveParent, Class<?> parentSerializerClass) {
+    super(TypeRef.of(beanClass), fury, parentSerializerClass);
     Collection<Descriptor> descriptors;
     boolean shareMeta = fury.getConfig().isMetaShareEnabled();
     if (shareMeta) {
@@ -93,10 +110,10 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
           visitFury(
               f ->
                   f.getClassResolver()
-                      .getClassDef(beanClass, true)
+                      .getClassDef(beanClass, resolveParent)
                       .getDescriptors(classResolver, beanClass));
     } else {
-      descriptors = fury.getClassResolver().getAllDescriptorsMap(beanClass, true).values();
+      descriptors = fury.getClassResolver().getAllDescriptorsMap(beanClass, resolveParent).values();
     }
     classVersionHash =
         new Literal(ObjectSerializer.computeVersionHash(descriptors), PRIMITIVE_INT_TYPE);
@@ -156,6 +173,10 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     ListExpression expressions = new ListExpression();
     Expression bean = tryCastIfPublic(inputObject, beanType, ctx.newName(beanClass));
     expressions.add(bean);
+    if (fury.getConfig().isFieldOffsetsEnabled()) {
+      expressions.add(serializeWithFieldOffsets(bean, buffer));
+      return expressions;
+    }
     if (fury.checkClassVersion()) {
       expressions.add(new Invoke(buffer, "writeInt32", classVersionHash));
     }
@@ -177,6 +198,82 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     return expressions;
   }
 
+  /**
+   * Return an expression that writes object size and field offsets ahead of fields in the same
+   * layout as {@link ObjectSerializer}. Fields are written one by one since every field offset is
+   * needed, so primitive fields aren't written in batch.
+   */
+  private Expression serializeWithFieldOffsets(Expression bean, Reference buffer) {
+    ListExpression expressions = new ListExpression();
+    // The table is updated after fields are written, hold it from being flushed by stream writer.
+    Expression start =
+        new Invoke(
+            buffer,
+            "reserveForUpdate",
+            "start",
+            PRIMITIVE_INT_TYPE,
+            false,
+            Literal.ofInt(getFieldOffsetsSize()));
+    expressions.add(start);
+    if (fury.checkClassVersion()) {
+      expressions.add(new Invoke(buffer, "writeInt32", classVersionHash));
+    }
+    // write order: primitive,boxed,final,other,collection,map
+    List<List<Descriptor>> groups = new ArrayList<>(objectCodecOptimizer.primitiveGroups);
+    groups.addAll(objectCodecOptimizer.boxedWriteGroups);
+    groups.addAll(objectCodecOptimizer.finalWriteGroups);
+    groups.addAll(objectCodecOptimizer.otherWriteGroups);
+    for (Descriptor d : objectCodecOptimizer.descriptorGrouper.getCollectionDescriptors()) {
+      groups.add(Collections.singletonList(d));
+    }
+    for (Descriptor d : objectCodecOptimizer.descriptorGrouper.getMapDescriptors()) {
+      groups.add(Collections.singletonList(d));
+    }
+    int offsetIndex = 4;
+    for (List<Descriptor> group : groups) {
+      if (group.isEmpty()) {
+        continue;
+      }
+      ListExpression groupExpressions = new ListExpression();
+      for (Descriptor d : group) {
+        groupExpressions.add(putOffset(buffer, start, offsetIndex));
+        offsetIndex += 4;
+        Expression fieldValue = getFieldValue(bean, d);
+        walkPath.add(d.getDeclaringClass() + d.getName());
+        groupExpressions.add(serializeField(fieldValue, buffer, d));
+        walkPath.removeLast();
+      }
+      expressions.add(
+          objectCodecOptimizer.invokeGenerated(
+              ofHashSet(bean, buffer, start), groupExpressions, "writeFields"));
+    }
+    expressions.add(putOffset(buffer, start, 0));
+    expressions.add(new Invoke(buffer, "releaseFlush", start));
+    return expressions;
+  }
+
+  /**
+   * Put current writer index relative to <code>start</code> at <code>start + offsetIndex</code>.
+   */
+  private Expression putOffset(Expression buffer, Expression start, int offsetIndex) {
+    Expression index = offsetIndex == 0 ? start : add(start, Literal.ofInt(offsetIndex));
+    Expression writerIndex = inlineInvoke(buffer, "writerIndex", PRIMITIVE_INT_TYPE);
+    return new Invoke(buffer, "putInt32", index, subtract(writerIndex, start));
+  }
+
+  /** Returns size of object size and field offsets written ahead of fields. */
+  private int getFieldOffsetsSize() {
+    return (objectCodecOptimizer.descriptorGrouper.getNumDescriptors() + 1) * 4;
+  }
+
+  /** Add an expression which skips object size and field offsets, fields are read sequentially. */
+  protected void skipFieldOffsets(ListExpression expressions, Expression buffer) {
+    if (fury.getConfig().isFieldOffsetsEnabled()) {
+      expressions.add(
+          new Invoke(buffer, "increaseReaderIndex", Literal.ofInt(getFieldOffsetsSize())));
+    }
+  }
+
   private void addGroupExpressions(
       List<List<Descriptor>> writeGroup,
       int numGroups,
@@ -209,7 +306,7 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
             // `bean` will be replaced by `Reference` to cut-off expr dependency.
             Expression fieldValue = getFieldValue(bean, d);
             walkPath.add(d.getDeclaringClass() + d.getName());
-            Expression fieldExpr = serializeFor(fieldValue, buffer, d.getTypeRef());
+            Expression fieldExpr = serializeField(fieldValue, buffer, d);
             walkPath.removeLast();
             groupExpressions.add(fieldExpr);
           }
@@ -432,9 +529,106 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     return add(writerPos, Literal.ofLong(acc));
   }
 
+  /**
+   * Return an expression that deep copies java bean of type {@link CodecBuilder#beanClass}. Fields
+   * are read and written directly, immutable field values are shared, final type fields are copied
+   * by their serializers without class lookup, others delegate to {@link Fury#copyObject(Object)}.
+   */
+  @Override
+  protected Expression buildCopyExpression() {
+    if (isRecord || beanClass.getClassLoader() == null) {
+      // Record copy needs all field values to invoke constructor, and jdk classes may be in
+      // packages not exported to generated code, use the parent copy instead.
+      return null;
+    }
+    Reference inputObject = new Reference(ROOT_OBJECT_NAME, OBJECT_TYPE, false);
+    ListExpression expressions = new ListExpression();
+    Expression bean = tryCastIfPublic(inputObject, beanType, ctx.newName(beanClass));
+    Expression newBean = newBean();
+    expressions.add(bean);
+    expressions.add(newBean);
+    if (fury.copyTrackingRef()) {
+      expressions.add(new Invoke(furyRef, "reference", inputObject, newBean));
+    }
+    // Copy transient fields too, which are skipped by serialization.
+    List<Descriptor> descriptors = new ArrayList<>();
+    for (Field field : ReflectionUtils.getFields(beanClass, true)) {
+      if (!Modifier.isStatic(field.getModifiers())) {
+        descriptors.add(new Descriptor(field, TypeRef.of(field.getGenericType()), null, null));
+      }
+    }
+    DescriptorGrouper grouper =
+        DescriptorGrouper.createDescriptorGrouper(
+            fury.getClassResolver()::isMonomorphic,
+            descriptors,
+            false,
+            fury.compressInt(),
+            fury.compressLong());
+    ObjectCodecOptimizer optimizer =
+        new ObjectCodecOptimizer(beanClass, grouper, !fury.isBasicTypesRefIgnored(), ctx);
+    List<List<Descriptor>> groups = new ArrayList<>(optimizer.primitiveGroups);
+    groups.addAll(optimizer.boxedWriteGroups);
+    groups.addAll(optimizer.finalWriteGroups);
+    groups.addAll(optimizer.otherWriteGroups);
+    for (Descriptor d : grouper.getCollectionDescriptors()) {
+      groups.add(Collections.singletonList(d));
+    }
+    for (Descriptor d : grouper.getMapDescriptors()) {
+      groups.add(Collections.singletonList(d));
+    }
+    for (List<Descriptor> group : groups) {
+      if (group.isEmpty()) {
+        continue;
+      }
+      SerializableSupplier<Expression> expressionSupplier =
+          () -> {
+            ListExpression groupExpressions = new ListExpression();
+            for (Descriptor d : group) {
+              // `bean` and `newBean` will be replaced by `Reference` to cut-off expr dependency.
+              Expression fieldValue = copyFieldValue(getFieldValue(bean, d), d);
+              groupExpressions.add(setFieldValue(newBean, d, fieldValue));
+            }
+            return groupExpressions;
+          };
+      if (group.size() == 1 && groups.size() < 10) {
+        expressions.add(expressionSupplier.get());
+      } else {
+        expressions.add(optimizer.invokeGenerated(expressionSupplier, "copyFields"));
+      }
+    }
+    expressions.add(new Expression.Return(newBean));
+    return expressions;
+  }
+
+  private Expression copyFieldValue(Expression fieldValue, Descriptor d) {
+    Class<?> rawType = d.getRawType();
+    if (rawType.isPrimitive()
+        || TypeUtils.isBoxed(rawType)
+        || rawType == String.class
+        || rawType.isEnum()) {
+      // immutable values can be shared between origin object and the copy.
+      return fieldValue;
+    }
+    Expression copied;
+    if (Modifier.isFinal(rawType.getModifiers()) && !rawType.isArray()) {
+      Expression serializer = getOrCreateSerializer(rawType);
+      copied =
+          new Expression.If(
+              eqNull(fieldValue),
+              new Expression.Null(OBJECT_TYPE),
+              new Invoke(furyRef, "copyObject", OBJECT_TYPE, fieldValue, serializer),
+              false,
+              OBJECT_TYPE);
+    } else {
+      copied = new Invoke(furyRef, "copyObject", OBJECT_TYPE, fieldValue);
+    }
+    return tryInlineCast(copied, d.getTypeRef());
+  }
+
   public Expression buildDecodeExpression() {
     Reference buffer = new Reference(BUFFER_NAME, bufferTypeRef, false);
     ListExpression expressions = new ListExpression();
+    skipFieldOffsets(expressions, buffer);
     if (fury.checkClassVersion()) {
       expressions.add(checkClassVersion(buffer));
     }
@@ -452,20 +646,7 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
         bean = buildComponentsArray();
       }
     }
-    expressions.addAll(deserializePrimitives(bean, buffer, objectCodecOptimizer.primitiveGroups));
-    int numGroups = getNumGroups(objectCodecOptimizer);
-    deserializeReadGroup(
-        objectCodecOptimizer.boxedReadGroups, numGroups, expressions, bean, buffer);
-    deserializeReadGroup(
-        objectCodecOptimizer.finalReadGroups, numGroups, expressions, bean, buffer);
-    deserializeReadGroup(
-        objectCodecOptimizer.otherReadGroups, numGroups, expressions, bean, buffer);
-    for (Descriptor d : objectCodecOptimizer.descriptorGrouper.getCollectionDescriptors()) {
-      expressions.add(deserializeGroup(Collections.singletonList(d), bean, buffer, false));
-    }
-    for (Descriptor d : objectCodecOptimizer.descriptorGrouper.getMapDescriptors()) {
-      expressions.add(deserializeGroup(Collections.singletonList(d), bean, buffer, false));
-    }
+    addReadFieldsExpressions(expressions, bean, buffer);
     if (isRecord) {
       if (recordCtrAccessible) {
         assert bean instanceof FieldsCollector;
@@ -485,6 +666,25 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     return expressions;
   }
 
+  /** Add expressions which read all fields from <code>buffer</code> and set them to bean. */
+  protected void addReadFieldsExpressions(
+      ListExpression expressions, Expression bean, Reference buffer) {
+    expressions.addAll(deserializePrimitives(bean, buffer, objectCodecOptimizer.primitiveGroups));
+    int numGroups = getNumGroups(objectCodecOptimizer);
+    deserializeReadGroup(
+        objectCodecOptimizer.boxedReadGroups, numGroups, expressions, bean, buffer);
+    deserializeReadGroup(
+        objectCodecOptimizer.finalReadGroups, numGroups, expressions, bean, buffer);
+    deserializeReadGroup(
+        objectCodecOptimizer.otherReadGroups, numGroups, expressions, bean, buffer);
+    for (Descriptor d : objectCodecOptimizer.descriptorGrouper.getCollectionDescriptors()) {
+      expressions.add(deserializeGroup(Collections.singletonList(d), bean, buffer, false));
+    }
+    for (Descriptor d : objectCodecOptimizer.descriptorGrouper.getMapDescriptors()) {
+      expressions.add(deserializeGroup(Collections.singletonList(d), bean, buffer, false));
+    }
+  }
+
   private void deserializeReadGroup(
       List<List<Descriptor>> readGroups,
       int numGroups,
@@ -560,9 +760,9 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
             ExpressionVisitor.ExprHolder exprHolder = ExpressionVisitor.ExprHolder.of("bean", bean);
             walkPath.add(d.getDeclaringClass() + d.getName());
             Expression action =
-                deserializeFor(
+                deserializeField(
                     buffer,
-                    d.getTypeRef(),
+                    d,
                     // `bean` will be replaced by `Reference` to cut-off expr
                     // dependency.
                     expr ->
@@ -585,14 +785,14 @@ public class ObjectCodecBuilder extends BaseObjectCodecBuilder {
     ListExpression groupExpressions = new ListExpression();
     // use Reference to cut-off expr dependency.
     for (Descriptor d : group) {
-      Expression v = deserializeFor(buffer, d.getTypeRef(), expr -> expr);
+      Expression v = deserializeField(buffer, d, expr -> expr);
       Expression action = setFieldValue(bean, d, tryInlineCast(v, d.getTypeRef()));
       groupExpressions.add(action);
     }
     return groupExpressions;
   }
 
-  private Expression checkClassVersion(Expression buffer) {
+  protected Expression checkClassVersion(Expression buffer) {
     return new StaticInvoke(
         ObjectSerializer.class,
         "checkClassVersion",
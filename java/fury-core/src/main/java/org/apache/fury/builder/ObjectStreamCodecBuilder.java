@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.builder;
+
+import static org.apache.fury.type.TypeUtils.OBJECT_TYPE;
+
+import org.apache.fury.Fury;
+import org.apache.fury.builder.Generated.GeneratedObjectStreamSerializer;
+import org.apache.fury.codegen.Expression;
+import org.apache.fury.codegen.Expression.ListExpression;
+import org.apache.fury.codegen.Expression.Reference;
+import org.apache.fury.codegen.Expression.Return;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.serializer.ObjectSerializer;
+import org.apache.fury.serializer.ObjectStreamSerializer;
+
+/**
+ * Generate serializer for fields declared by one class of a class hierarchy serialized by {@link
+ * ObjectStreamSerializer}, which are written by {@link
+ * java.io.ObjectOutputStream#defaultWriteObject} and read by {@link
+ * java.io.ObjectInputStream#defaultReadObject}. Fields are written in the same format as {@link
+ * ObjectSerializer#ObjectSerializer(Fury, Class, boolean)} without parent fields, and read into the
+ * object created by {@link ObjectStreamSerializer}.
+ */
+public class ObjectStreamCodecBuilder extends ObjectCodecBuilder {
+  public static final String CODEC_SUFFIX = "ObjectStream";
+
+  public ObjectStreamCodecBuilder(Class<?> beanClass, Fury fury) {
+    super(beanClass, fury, false, GeneratedObjectStreamSerializer.class);
+  }
+
+  @Override
+  protected String codecSuffix() {
+    return CODEC_SUFFIX;
+  }
+
+  @Override
+  protected void addCommonImports() {
+    super.addCommonImports();
+    ctx.addImport(GeneratedObjectStreamSerializer.class);
+  }
+
+  /**
+   * Don't register this serializer for <code>beanClass</code>, it only serializes fields declared
+   * in <code>beanClass</code>.
+   */
+  @Override
+  protected boolean registerSerializer() {
+    return false;
+  }
+
+  @Override
+  protected void addDecodeMethod(String decodeCode) {
+    ctx.overrideMethod(
+        "readAndSetFields",
+        decodeCode,
+        Object.class,
+        MemoryBuffer.class,
+        BUFFER_NAME,
+        Object.class,
+        ROOT_OBJECT_NAME);
+  }
+
+  /** Return an expression that reads fields from buffer and sets them to the passed object. */
+  @Override
+  public Expression buildDecodeExpression() {
+    Reference buffer = new Reference(BUFFER_NAME, bufferTypeRef, false);
+    Reference inputObject = new Reference(ROOT_OBJECT_NAME, OBJECT_TYPE, false);
+    ListExpression expressions = new ListExpression();
+    skipFieldOffsets(expressions, buffer);
+    if (fury.checkClassVersion()) {
+      expressions.add(checkClassVersion(buffer));
+    }
+    Expression bean = tryCastIfPublic(inputObject, beanType, ctx.newName(beanClass));
+    expressions.add(bean);
+    addReadFieldsExpressions(expressions, bean, buffer);
+    expressions.add(new Return(inputObject));
+    return expressions;
+  }
+
+  /** {@link ObjectStreamSerializer} copies the whole object, slot serializers are never used. */
+  @Override
+  protected Expression buildCopyExpression() {
+    return null;
+  }
+}
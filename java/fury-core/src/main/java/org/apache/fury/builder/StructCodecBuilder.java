@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.builder;
+
+import static org.apache.fury.codegen.Expression.Reference.fieldRef;
+import static org.apache.fury.codegen.ExpressionOptimizer.invokeGenerated;
+import static org.apache.fury.codegen.ExpressionUtils.neq;
+import static org.apache.fury.collection.Collections.ofHashSet;
+import static org.apache.fury.type.TypeUtils.OBJECT_TYPE;
+import static org.apache.fury.type.TypeUtils.PRIMITIVE_BYTE_TYPE;
+import static org.apache.fury.type.TypeUtils.PRIMITIVE_INT_TYPE;
+import static org.apache.fury.type.TypeUtils.PRIMITIVE_VOID_TYPE;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.fury.Fury;
+import org.apache.fury.codegen.CodeGenerator;
+import org.apache.fury.codegen.Expression;
+import org.apache.fury.codegen.Expression.Cast;
+import org.apache.fury.codegen.Expression.If;
+import org.apache.fury.codegen.Expression.Invoke;
+import org.apache.fury.codegen.Expression.ListExpression;
+import org.apache.fury.codegen.Expression.Literal;
+import org.apache.fury.codegen.Expression.Reference;
+import org.apache.fury.codegen.ExpressionUtils;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.reflect.TypeRef;
+import org.apache.fury.serializer.PrimitiveSerializers;
+import org.apache.fury.serializer.Serializer;
+import org.apache.fury.serializer.StructSerializer;
+import org.apache.fury.type.Descriptor;
+import org.apache.fury.type.GenericType;
+import org.apache.fury.type.Generics;
+import org.apache.fury.util.StringUtils;
+
+/**
+ * Generate cross-language struct serializer which extends {@link StructSerializer}. Fields are
+ * written in the same order and format as {@link StructSerializer}, but accessed directly instead
+ * of by {@link org.apache.fury.reflect.FieldAccessor}, and primitive fields are written inline.
+ */
+public class StructCodecBuilder extends BaseObjectCodecBuilder {
+  private static final TypeRef<?> SERIALIZER_TYPE = TypeRef.of(Serializer.class);
+  private static final TypeRef<?> GENERIC_TYPE = TypeRef.of(GenericType.class);
+  private static final TypeRef<?> GENERICS_TYPE = TypeRef.of(Generics.class);
+  private static final int FIELDS_PER_METHOD = 8;
+
+  private final List<Descriptor> descriptors = new ArrayList<>();
+  private final List<GenericType> fieldGenerics = new ArrayList<>();
+  private final Reference thisRef = new Reference("this", TypeRef.of(StructSerializer.class));
+  private final Reference genericsRef;
+  private final Map<Field, Descriptor> descriptorMap;
+  private Reference[] serializerRefs;
+  private Reference[] genericTypeRefs;
+
+  public StructCodecBuilder(Class<?> beanClass, Fury fury) {
+    super(TypeRef.of(beanClass), fury, StructSerializer.class);
+    descriptorMap = Descriptor.getAllDescriptorsMap(beanClass);
+    // Resolve field types the same way as the interpreter mode to keep the wire format consistent.
+    StructSerializer<?> serializer = new StructSerializer<>(fury, beanClass);
+    List<Field> fields = StructSerializer.getSortedFields(beanClass);
+    for (int i = 0; i < fields.size(); i++) {
+      descriptors.add(descriptorMap.get(fields.get(i)));
+      fieldGenerics.add(serializer.getFieldGeneric(i));
+    }
+    String genericsName = ctx.newName("generics");
+    genericsRef = fieldRef(genericsName, GENERICS_TYPE);
+    ctx.addField(
+        ctx.type(Generics.class), genericsName, new Invoke(furyRef, "getGenerics", GENERICS_TYPE));
+  }
+
+  @Override
+  protected String codecSuffix() {
+    return "Struct";
+  }
+
+  @Override
+  protected boolean isMonomorphic(Class<?> clz) {
+    return visitFury(f -> f.getClassResolver().isMonomorphic(clz));
+  }
+
+  @Override
+  public String genCode() {
+    ctx.setPackage(CodeGenerator.getPackage(beanClass));
+    ctx.setClassName(codecClassName(beanClass));
+    ctx.extendsClasses(ctx.type(parentSerializerClass));
+    ctx.reserveName(POJO_CLASS_TYPE_NAME);
+    ctx.addField(ctx.type(Fury.class), FURY_NAME);
+    Expression encodeExpr = buildEncodeExpression();
+    Expression decodeExpr = buildDecodeExpression();
+    String constructorCode =
+        StringUtils.format(
+            "" + "super(${fury}, ${cls});\n" + "this.${fury} = ${fury};\n",
+            "fury",
+            FURY_NAME,
+            "cls",
+            POJO_CLASS_TYPE_NAME);
+    ctx.clearExprState();
+    String encodeCode = encodeExpr.genCode(ctx).code();
+    encodeCode = ctx.optimizeMethodCode(encodeCode);
+    ctx.clearExprState();
+    String decodeCode = decodeExpr.genCode(ctx).code();
+    decodeCode = ctx.optimizeMethodCode(decodeCode);
+    ctx.overrideMethod(
+        "xwrite",
+        encodeCode,
+        void.class,
+        MemoryBuffer.class,
+        BUFFER_NAME,
+        Object.class,
+        ROOT_OBJECT_NAME);
+    ctx.overrideMethod("xread", decodeCode, Object.class, MemoryBuffer.class, BUFFER_NAME);
+    ctx.addConstructor(constructorCode, Fury.class, "fury", Class.class, POJO_CLASS_TYPE_NAME);
+    return ctx.genCode();
+  }
+
+  @Override
+  public Expression buildEncodeExpression() {
+    addFieldReferences();
+    Reference inputObject = new Reference(ROOT_OBJECT_NAME, OBJECT_TYPE, false);
+    Reference buffer = new Reference(BUFFER_NAME, bufferTypeRef, false);
+    ListExpression expressions = new ListExpression();
+    Expression bean = tryCastIfPublic(inputObject, beanType, ctx.newName(beanClass));
+    expressions.add(bean);
+    expressions.add(
+        new Invoke(buffer, "writeInt32", new Invoke(thisRef, "getTypeHash", PRIMITIVE_INT_TYPE)));
+    ListExpression group = new ListExpression();
+    for (int i = 0; i < descriptors.size(); i++) {
+      group.add(withGenerics(i, writeField(bean, buffer, i)));
+      if (group.expressions().size() == FIELDS_PER_METHOD) {
+        expressions.add(invokeGenerated(ctx, ofHashSet(bean, buffer), group, "writeFields", false));
+        group = new ListExpression();
+      }
+    }
+    if (!group.expressions().isEmpty()) {
+      expressions.add(invokeGenerated(ctx, ofHashSet(bean, buffer), group, "writeFields", false));
+    }
+    return expressions;
+  }
+
+  @Override
+  public Expression buildDecodeExpression() {
+    Reference buffer = new Reference(BUFFER_NAME, bufferTypeRef, false);
+    ListExpression expressions = new ListExpression();
+    expressions.add(
+        new Invoke(
+            thisRef,
+            "checkTypeHash",
+            PRIMITIVE_VOID_TYPE,
+            new Invoke(buffer, "readInt32", PRIMITIVE_INT_TYPE)));
+    Expression bean = newBean();
+    expressions.add(bean);
+    expressions.add(new Invoke(refResolverRef, "reference", bean));
+    ListExpression group = new ListExpression();
+    for (int i = 0; i < descriptors.size(); i++) {
+      group.add(withGenerics(i, readField(bean, buffer, i)));
+      if (group.expressions().size() == FIELDS_PER_METHOD) {
+        expressions.add(invokeGenerated(ctx, ofHashSet(bean, buffer), group, "readFields", false));
+        group = new ListExpression();
+      }
+    }
+    if (!group.expressions().isEmpty()) {
+      expressions.add(invokeGenerated(ctx, ofHashSet(bean, buffer), group, "readFields", false));
+    }
+    expressions.add(new Expression.Return(bean));
+    return expressions;
+  }
+
+  @Override
+  protected Expression newBean() {
+    if (sourcePublicAccessible(beanClass) && hasPublicNoArgConstructor(beanClass)) {
+      return new Expression.NewInstance(beanType);
+    }
+    // Fallback to constructor or unsafe allocation used by `StructSerializer`.
+    return tryCastIfPublic(new Invoke(thisRef, "newBean", OBJECT_TYPE), beanType, "bean");
+  }
+
+  private static boolean hasPublicNoArgConstructor(Class<?> cls) {
+    try {
+      cls.getConstructor();
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private void addFieldReferences() {
+    serializerRefs = new Reference[descriptors.size()];
+    genericTypeRefs = new Reference[descriptors.size()];
+    for (int i = 0; i < descriptors.size(); i++) {
+      GenericType fieldGeneric = fieldGenerics.get(i);
+      Expression genericTypeExpr =
+          new Invoke(thisRef, "getFieldGeneric", GENERIC_TYPE, Literal.ofInt(i));
+      if (fieldGeneric.getSerializer() != null) {
+        String name = ctx.newName("fieldSerializer");
+        ctx.addField(
+            ctx.type(Serializer.class),
+            name,
+            new Invoke(genericTypeExpr, "getSerializer", SERIALIZER_TYPE));
+        serializerRefs[i] = fieldRef(name, SERIALIZER_TYPE);
+      }
+      if (fieldGeneric.hasGenericParameters()) {
+        String name = ctx.newName("fieldGenericType");
+        ctx.addField(ctx.type(GenericType.class), name, genericTypeExpr);
+        genericTypeRefs[i] = fieldRef(name, GENERIC_TYPE);
+      }
+    }
+  }
+
+  private Expression withGenerics(int index, Expression expression) {
+    if (genericTypeRefs[index] == null) {
+      return expression;
+    }
+    return new ListExpression(
+        new Invoke(genericsRef, "pushGenericType", genericTypeRefs[index]),
+        expression,
+        new Invoke(genericsRef, "popGenericType"));
+  }
+
+  private Expression writeField(Expression bean, Expression buffer, int index) {
+    Descriptor d = descriptors.get(index);
+    Expression fieldValue = getFieldValue(bean, d);
+    Reference serializer = serializerRefs[index];
+    if (serializer == null) {
+      return new Invoke(furyRef, "xwriteRef", buffer, fieldValue);
+    }
+    String writeMethod = primitiveWriteMethod(index);
+    if (writeMethod != null) {
+      return new ListExpression(
+          new Invoke(
+              buffer, "writeByte", new Literal(Fury.NOT_NULL_VALUE_FLAG, PRIMITIVE_BYTE_TYPE)),
+          new Invoke(buffer, writeMethod, fieldValue));
+    }
+    if (d.getRawType().isPrimitive()) {
+      fieldValue = ExpressionUtils.valueOf(d.getTypeRef().wrap(), fieldValue);
+    }
+    return new Invoke(furyRef, "xwriteRef", buffer, fieldValue, serializer);
+  }
+
+  private Expression readField(Expression bean, Expression buffer, int index) {
+    Descriptor d = descriptors.get(index);
+    Reference serializer = serializerRefs[index];
+    if (serializer == null) {
+      Expression value = new Invoke(furyRef, "xreadRef", OBJECT_TYPE, buffer);
+      return setFieldValue(bean, d, tryInlineCast(value, d.getTypeRef()));
+    }
+    String writeMethod = primitiveWriteMethod(index);
+    if (writeMethod != null) {
+      String readMethod = "read" + writeMethod.substring("write".length());
+      Expression value = new Invoke(buffer, readMethod, d.getTypeRef());
+      return new If(
+          neq(
+              new Invoke(buffer, "readByte", PRIMITIVE_BYTE_TYPE),
+              new Literal(Fury.NULL_FLAG, PRIMITIVE_BYTE_TYPE)),
+          setFieldValue(bean, d, value));
+    }
+    Expression value = new Invoke(furyRef, "xreadRef", OBJECT_TYPE, buffer, serializer);
+    if (d.getRawType().isPrimitive()) {
+      Class<?> rawType = d.getRawType();
+      value =
+          new Invoke(
+              new Cast(value, d.getTypeRef().wrap()), rawType.getName() + "Value", d.getTypeRef());
+    } else {
+      value = tryInlineCast(value, d.getTypeRef());
+    }
+    return setFieldValue(bean, d, value);
+  }
+
+  /**
+   * Returns buffer write method for primitive field which are written by default primitive
+   * serializers, or null if the field can't be written inline.
+   */
+  private String primitiveWriteMethod(int index) {
+    Class<?> rawType = descriptors.get(index).getRawType();
+    Serializer<?> serializer = fieldGenerics.get(index).getSerializer();
+    if (!rawType.isPrimitive() || serializer.needToWriteRef()) {
+      return null;
+    }
+    Class<?> serializerClass = serializer.getClass();
+    if (serializerClass == PrimitiveSerializers.BooleanSerializer.class) {
+      return "writeBoolean";
+    } else if (serializerClass == PrimitiveSerializers.ByteSerializer.class) {
+      return "writeByte";
+    } else if (serializerClass == PrimitiveSerializers.ShortSerializer.class) {
+      return "writeInt16";
+    } else if (serializerClass == PrimitiveSerializers.IntSerializer.class) {
+      return "writeVarInt32";
+    } else if (serializerClass == PrimitiveSerializers.LongSerializer.class) {
+      return "writeVarInt64";
+    } else if (serializerClass == PrimitiveSerializers.FloatSerializer.class) {
+      return "writeFloat32";
+    } else if (serializerClass == PrimitiveSerializers.DoubleSerializer.class) {
+      return "writeFloat64";
+    }
+    return null;
+  }
+}
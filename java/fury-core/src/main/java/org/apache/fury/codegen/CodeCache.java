@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.codegen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fury.logging.Logger;
+import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.util.MurmurHash3;
+
+/**
+ * A persistent cache of compiled class bytes for {@link CompileUnit}s, so that janino compilation
+ * can be skipped across jvm restarts when generated code doesn't change.
+ *
+ * <p>Entries are keyed by the hash of generated code and fury version. Generated code already
+ * reflects the bean class structure, fury config and registered serializers, so any change of those
+ * will make a new entry instead of loading stale classes.
+ */
+final class CodeCache {
+  private static final Logger LOG = LoggerFactory.getLogger(CodeCache.class);
+  private static final int MAGIC_NUMBER = 0x46435043;
+  private static final String FILE_SUFFIX = ".classes";
+  private static final String FURY_VERSION;
+
+  static {
+    String version = CodeCache.class.getPackage().getImplementationVersion();
+    FURY_VERSION = version == null ? "" : version;
+  }
+
+  /** Returns cached classes for {@code units}, or null if not cached or cache is broken. */
+  static Map<String, byte[]> load(String cacheDir, List<CompileUnit> units) {
+    Path path = cachePath(cacheDir, units);
+    if (!Files.exists(path)) {
+      return null;
+    }
+    try (DataInputStream in =
+        new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+      if (in.readInt() != MAGIC_NUMBER) {
+        LOG.warn("Skip invalid code cache file {}", path);
+        return null;
+      }
+      int numClasses = in.readInt();
+      Map<String, byte[]> classes = new HashMap<>(numClasses);
+      for (int i = 0; i < numClasses; i++) {
+        String name = in.readUTF();
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        classes.put(name, bytes);
+      }
+      LOG.info("Load compiled classes {} from code cache {}", classes.keySet(), path);
+      return classes;
+    } catch (IOException e) {
+      LOG.warn("Read code cache file {} failed", path, e);
+      return null;
+    }
+  }
+
+  static void store(String cacheDir, List<CompileUnit> units, Map<String, byte[]> classes) {
+    Path path = cachePath(cacheDir, units);
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(MAGIC_NUMBER);
+      out.writeInt(classes.size());
+      for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeInt(entry.getValue().length);
+        out.write(entry.getValue());
+      }
+      out.flush();
+      Files.createDirectories(path.getParent());
+      // write to a temp file and move it, so that concurrent processes never see a partial file.
+      Path tmpPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+      Files.write(tmpPath, bytes.toByteArray());
+      try {
+        Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      LOG.warn("Write code cache file {} failed", path, e);
+    }
+  }
+
+  static Path cachePath(String cacheDir, List<CompileUnit> units) {
+    StringBuilder builder = new StringBuilder(FURY_VERSION);
+    for (CompileUnit unit : units) {
+      builder.append('\n').append(unit.getQualifiedClassName()).append('\n');
+      builder.append(unit.getCode());
+    }
+    byte[] data = builder.toString().getBytes(StandardCharsets.UTF_8);
+    long[] hash = MurmurHash3.murmurhash3_x64_128(data, 0, data.length, 47);
+    CompileUnit unit = units.get(0);
+    String fileName =
+        String.format("%s_%016x%016x%s", unit.mainClassName, hash[0], hash[1], FILE_SUFFIX);
+    return Paths.get(cacheDir, unit.pkg.replace(".", "/"), fileName).toAbsolutePath();
+  }
+}
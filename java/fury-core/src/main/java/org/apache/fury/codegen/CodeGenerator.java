@@ -36,6 +36,7 @@ import org.apache.fury.builder.AccessorHelper;
 import org.apache.fury.builder.Generated;
 import org.apache.fury.collection.Collections;
 import org.apache.fury.collection.MultiKeyWeakMap;
+import org.apache.fury.jfr.FuryEvents;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 import org.apache.fury.reflect.ReflectionUtils;
@@ -58,6 +59,7 @@ public class CodeGenerator {
 
   private static final String CODE_DIR_KEY = "FURY_CODE_DIR";
   private static final String DELETE_CODE_ON_EXIT_KEY = "FURY_DELETE_CODE_ON_EXIT";
+  private static final String CODE_CACHE_DIR_KEY = "FURY_CODE_CACHE_DIR";
 
   // This is the default value of HugeMethodLimit in the OpenJDK HotSpot JVM,
   // beyond which methods will be rejected from JIT compilation
@@ -83,7 +85,10 @@ public class CodeGenerator {
   private static ExecutorService compilationExecutorService;
 
   static {
-    boolean useUniqueId = StringUtils.isBlank(CodeGenerator.getCodeDir());
+    // generated class names must be stable across processes for code cache.
+    boolean useUniqueId =
+        StringUtils.isBlank(CodeGenerator.getCodeDir())
+            && StringUtils.isBlank(CodeGenerator.getCodeCacheDir());
     String flagValue =
         System.getProperty(
             "fury.enable_fury_generated_class_unique_id",
@@ -141,10 +146,25 @@ public class CodeGenerator {
       compileState.lock.unlock();
     } else {
       try {
-        classes =
-            JaninoUtils.toBytecode(parentClassLoader, compileUnits.toArray(new CompileUnit[0]));
+        Object event = FuryEvents.ENABLED ? FuryEvents.beginCompile() : null;
+        String codeCacheDir = getCodeCacheDir();
+        classes = null;
+        if (StringUtils.isNotBlank(codeCacheDir)) {
+          classes = CodeCache.load(codeCacheDir, compileUnits);
+        }
+        boolean cached = classes != null;
+        if (classes == null) {
+          classes =
+              JaninoUtils.toBytecode(parentClassLoader, compileUnits.toArray(new CompileUnit[0]));
+          if (StringUtils.isNotBlank(codeCacheDir)) {
+            CodeCache.store(codeCacheDir, compileUnits, classes);
+          }
+        }
         compileState.result = classes;
         compileState.finished = true;
+        if (event != null) {
+          commitCompileEvent(event, compileUnits, cached);
+        }
       } finally {
         compileState.lock.unlock();
       }
@@ -156,6 +176,18 @@ public class CodeGenerator {
     return defineClasses(classes);
   }
 
+  private static void commitCompileEvent(
+      Object event, List<CompileUnit> compileUnits, boolean cached) {
+    StringJoiner classNames = new StringJoiner(",");
+    long sourceSize = 0;
+    for (CompileUnit unit : compileUnits) {
+      classNames.add(unit.getQualifiedClassName());
+      sourceSize += unit.getCode().length();
+    }
+    boolean async = FuryJitCompilerThreadFactory.isJitCompilerThread(Thread.currentThread());
+    FuryEvents.commitCompile(event, classNames.toString(), sourceSize, cached, async);
+  }
+
   /**
    * Define classes in classloader, create a new classloader if classes can' be loaded into previous
    * classloader.
@@ -355,6 +387,15 @@ public class CodeGenerator {
     return System.getProperty(CODE_DIR_KEY, System.getenv(CODE_DIR_KEY));
   }
 
+  /**
+   * Returns the directory to cache compiled class bytes. If set, compiled classes will be loaded
+   * from this directory on later startups when generated code is unchanged, and janino compilation
+   * will be skipped.
+   */
+  public static String getCodeCacheDir() {
+    return System.getProperty(CODE_CACHE_DIR_KEY, System.getenv(CODE_CACHE_DIR_KEY));
+  }
+
   static boolean deleteCodeOnExit() {
     boolean deleteCodeOnExit = StringUtils.isBlank(getCodeDir());
     String deleteCodeOnExitStr =
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.collection;
+
+import java.util.function.BiConsumer;
+
+/**
+ * An identity map from object to int which is cleared and reused across serializations, such as the
+ * written object table of ref tracking.
+ *
+ * <p>Compared to {@link IdentityObjectIntMap}, this map:
+ *
+ * <ul>
+ *   <li>caches identity hashes of keys, so that resize won't call {@link System#identityHashCode}
+ *       again for millions of keys.
+ *   <li>records slots of keys in insertion order, so that resize and clear only touch used slots
+ *       instead of the whole table when the table is sparse.
+ *   <li>is sized by {@link #clear(int)} with the expected size of next use, so a table tuned for
+ *       big object graphs is kept across calls, and is shrunk only when it's far bigger than
+ *       needed.
+ * </ul>
+ */
+@SuppressWarnings("unchecked")
+public final class ReusableIdentityIntMap<K> {
+  private static final float LOAD_FACTOR = 0.5f;
+  // Shrink the table only if it's bigger than this times the expected table size, so
+  // that fluctuating sizes won't reallocate the table at every clear.
+  private static final int SHRINK_RATIO = 4;
+
+  private Object[] keyTable;
+  private int[] hashTable;
+  private int[] valueTable;
+  // slots of keys in insertion order.
+  private int[] slots;
+  private int mask;
+  private int threshold;
+  public int size;
+  private MapStatistics stat = new MapStatistics();
+
+  public ReusableIdentityIntMap(int initialCapacity) {
+    allocate(tableSize(initialCapacity));
+  }
+
+  private static int tableSize(int capacity) {
+    return FuryObjectMap.nextPowerOfTwo(Math.max(2, (int) (capacity / LOAD_FACTOR + 1)));
+  }
+
+  private void allocate(int tableSize) {
+    keyTable = new Object[tableSize];
+    hashTable = new int[tableSize];
+    valueTable = new int[tableSize];
+    threshold = (int) (tableSize * LOAD_FACTOR);
+    slots = new int[threshold + 1];
+    mask = tableSize - 1;
+  }
+
+  public int get(K key, int defaultValue) {
+    Object[] keyTable = this.keyTable;
+    int mask = this.mask;
+    for (int i = System.identityHashCode(key) & mask; ; i = i + 1 & mask) {
+      Object other = keyTable[i];
+      if (other == null) {
+        return defaultValue;
+      }
+      if (other == key) {
+        return valueTable[i];
+      }
+    }
+  }
+
+  public void put(K key, int value) {
+    int hash = System.identityHashCode(key);
+    Object[] keyTable = this.keyTable;
+    int mask = this.mask;
+    for (int i = hash & mask; ; i = i + 1 & mask) {
+      Object other = keyTable[i];
+      if (other == null) {
+        insert(i, key, hash, value);
+        return;
+      }
+      if (other == key) {
+        valueTable[i] = value;
+        return;
+      }
+    }
+  }
+
+  /**
+   * If key doesn't exist in map, put it and return {@link Integer#MIN_VALUE}, otherwise don't
+   * update map, just return previous value.
+   */
+  public int putOrGet(K key, int value) {
+    int hash = System.identityHashCode(key);
+    Object[] keyTable = this.keyTable;
+    int mask = this.mask;
+    for (int i = hash & mask; ; i = i + 1 & mask) {
+      Object other = keyTable[i];
+      if (other == null) {
+        insert(i, key, hash, value);
+        return Integer.MIN_VALUE;
+      }
+      if (other == key) {
+        return valueTable[i];
+      }
+    }
+  }
+
+  public int profilingPutOrGet(K key, int value) {
+    MapStatistics stat = this.stat;
+    int hash = System.identityHashCode(key);
+    Object[] keyTable = this.keyTable;
+    int mask = this.mask;
+    for (int i = hash & mask; ; i = i + 1 & mask) {
+      stat.totalProbeProfiled++;
+      Object other = keyTable[i];
+      if (other == null || other == key) {
+        int probed = stat.totalProbeProfiled - stat.lastProbeProfiled;
+        stat.maxProbeProfiled = Math.max(probed, stat.maxProbeProfiled);
+        stat.lastProbeProfiled = stat.totalProbeProfiled;
+        if (other == null) {
+          insert(i, key, hash, value);
+          return Integer.MIN_VALUE;
+        }
+        return valueTable[i];
+      }
+    }
+  }
+
+  private void insert(int slot, Object key, int hash, int value) {
+    keyTable[slot] = key;
+    hashTable[slot] = hash;
+    valueTable[slot] = value;
+    slots[size] = slot;
+    if (++size >= threshold) {
+      resize(keyTable.length << 1);
+    }
+  }
+
+  private void resize(int newSize) {
+    Object[] oldKeyTable = keyTable;
+    int[] oldHashTable = hashTable;
+    int[] oldValueTable = valueTable;
+    int[] oldSlots = slots;
+    allocate(newSize);
+    Object[] keyTable = this.keyTable;
+    int[] hashTable = this.hashTable;
+    int[] valueTable = this.valueTable;
+    int[] slots = this.slots;
+    int mask = this.mask;
+    for (int n = 0, size = this.size; n < size; n++) {
+      int oldSlot = oldSlots[n];
+      int hash = oldHashTable[oldSlot];
+      int i = hash & mask;
+      while (keyTable[i] != null) {
+        i = i + 1 & mask;
+      }
+      keyTable[i] = oldKeyTable[oldSlot];
+      hashTable[i] = hash;
+      valueTable[i] = oldValueTable[oldSlot];
+      slots[n] = i;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** Returns table capacity, i.e. the number of slots. */
+  public int capacity() {
+    return keyTable.length;
+  }
+
+  /**
+   * Remove all keys. If <code>expectedSize</code> needs a bigger table, grow the table now to avoid
+   * resizes in next use; if the table is far bigger than needed, shrink it to release memory.
+   */
+  public void clear(int expectedSize) {
+    int tableSize = tableSize(expectedSize);
+    int capacity = keyTable.length;
+    if (capacity < tableSize || capacity > tableSize * SHRINK_RATIO) {
+      size = 0;
+      allocate(tableSize);
+      return;
+    }
+    int size = this.size;
+    if (size == 0) {
+      return;
+    }
+    Object[] keyTable = this.keyTable;
+    if (size << 3 > capacity) {
+      ObjectArray.clearObjectArray(keyTable, 0, capacity);
+    } else {
+      // sparse table, clear used slots only.
+      int[] slots = this.slots;
+      for (int i = 0; i < size; i++) {
+        keyTable[slots[i]] = null;
+      }
+    }
+    this.size = 0;
+  }
+
+  public void forEach(BiConsumer<? super K, Integer> action) {
+    Object[] keyTable = this.keyTable;
+    int[] valueTable = this.valueTable;
+    int[] slots = this.slots;
+    for (int i = 0; i < size; i++) {
+      int slot = slots[i];
+      action.accept((K) keyTable[slot], valueTable[slot]);
+    }
+  }
+
+  public MapStatistics getAndResetStatistics() {
+    MapStatistics result = stat;
+    stat = new MapStatistics();
+    return result;
+  }
+}
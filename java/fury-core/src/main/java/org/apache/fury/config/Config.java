@@ -20,14 +20,17 @@
 package org.apache.fury.config;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.fury.Fury;
+import org.apache.fury.io.PayloadCompressor;
 import org.apache.fury.meta.MetaCompressor;
 import org.apache.fury.serializer.Serializer;
 import org.apache.fury.serializer.TimeSerializers;
+import org.apache.fury.util.MurmurHash3;
 import org.apache.fury.util.Preconditions;
 
 /** Config for fury, all {@link Fury} related config can be found here. */
@@ -48,6 +51,10 @@ public class Config implements Serializable {
   private final boolean compressString;
   private final boolean writeNumUtf16BytesForUtf8Encoding;
   private final boolean compressInt;
+  private final boolean compressIntArray;
+  private final boolean compressLongArray;
+  private final boolean fieldOffsetsEnabled;
+  private final boolean metricsEnabled;
   private final boolean compressLong;
   private final LongEncoding longEncoding;
   private final boolean requireClassRegistration;
@@ -56,10 +63,14 @@ public class Config implements Serializable {
   private final boolean metaShareEnabled;
   private final boolean scopedMetaShareEnabled;
   private final MetaCompressor metaCompressor;
+  private final PayloadCompressor payloadCompressor;
+  private final int payloadCompressionMinSize;
+  private final int maxPayloadSize;
   private final boolean asyncCompilationEnabled;
   private final boolean deserializeNonexistentClass;
   private final boolean scalaOptimizationEnabled;
   private transient int configHash;
+  private transient String configFingerprint;
   private final boolean deserializeNonexistentEnumValueAsNull;
   private final boolean serializeEnumByName;
   private final int bufferSizeLimitBytes;
@@ -75,6 +86,10 @@ public class Config implements Serializable {
     compressString = builder.compressString;
     writeNumUtf16BytesForUtf8Encoding = builder.writeNumUtf16BytesForUtf8Encoding;
     compressInt = builder.compressInt;
+    compressIntArray = builder.compressIntArray;
+    compressLongArray = builder.compressLongArray;
+    fieldOffsetsEnabled = builder.fieldOffsetsEnabled;
+    metricsEnabled = builder.metricsEnabled;
     longEncoding = builder.longEncoding;
     compressLong = longEncoding != LongEncoding.LE_RAW_BYTES;
     requireClassRegistration = builder.requireClassRegistration;
@@ -88,6 +103,9 @@ public class Config implements Serializable {
     metaShareEnabled = builder.metaShareEnabled;
     scopedMetaShareEnabled = builder.scopedMetaShareEnabled;
     metaCompressor = builder.metaCompressor;
+    payloadCompressor = builder.payloadCompressor;
+    payloadCompressionMinSize = builder.payloadCompressionMinSize;
+    maxPayloadSize = builder.maxPayloadSize;
     deserializeNonexistentClass = builder.deserializeNonexistentClass;
     if (deserializeNonexistentClass) {
       // Only in meta share mode or compatibleMode, fury knows how to deserialize
@@ -190,6 +208,26 @@ public class Config implements Serializable {
     return compressLong;
   }
 
+  /** Whether compress int arrays, see {@link org.apache.fury.serializer.PackedArrays}. */
+  public boolean compressIntArray() {
+    return compressIntArray;
+  }
+
+  /** Whether compress long arrays, see {@link org.apache.fury.serializer.PackedArrays}. */
+  public boolean compressLongArray() {
+    return compressLongArray;
+  }
+
+  /** Whether write field offset table for objects, see {@link FuryBuilder#withFieldOffsets}. */
+  public boolean isFieldOffsetsEnabled() {
+    return fieldOffsetsEnabled;
+  }
+
+  /** Whether collect serialization metrics, see {@link FuryBuilder#withMetrics}. */
+  public boolean isMetricsEnabled() {
+    return metricsEnabled;
+  }
+
   /** Returns long encoding. */
   public LongEncoding longEncoding() {
     return longEncoding;
@@ -243,6 +281,24 @@ public class Config implements Serializable {
     return metaCompressor;
   }
 
+  /**
+   * Returns a {@link PayloadCompressor} to compress the whole serialized payload, or null if
+   * payload compression is disabled.
+   */
+  public PayloadCompressor getPayloadCompressor() {
+    return payloadCompressor;
+  }
+
+  /** Returns min size of payload to be compressed by {@link #getPayloadCompressor()}. */
+  public int getPayloadCompressionMinSize() {
+    return payloadCompressionMinSize;
+  }
+
+  /** Returns max size of a compressed payload after it's decompressed. */
+  public int getMaxPayloadSize() {
+    return maxPayloadSize;
+  }
+
   /**
    * Whether deserialize/skip data of un-existed class. If not enabled, an exception will be thrown
    * if class not exist.
@@ -295,6 +351,9 @@ public class Config implements Serializable {
         && compressString == config.compressString
         && writeNumUtf16BytesForUtf8Encoding == config.writeNumUtf16BytesForUtf8Encoding
         && compressInt == config.compressInt
+        && compressIntArray == config.compressIntArray
+        && compressLongArray == config.compressLongArray
+        && fieldOffsetsEnabled == config.fieldOffsetsEnabled
         && compressLong == config.compressLong
         && bufferSizeLimitBytes == config.bufferSizeLimitBytes
         && requireClassRegistration == config.requireClassRegistration
@@ -303,6 +362,9 @@ public class Config implements Serializable {
         && metaShareEnabled == config.metaShareEnabled
         && scopedMetaShareEnabled == config.scopedMetaShareEnabled
         && Objects.equals(metaCompressor, config.metaCompressor)
+        && Objects.equals(payloadCompressor, config.payloadCompressor)
+        && payloadCompressionMinSize == config.payloadCompressionMinSize
+        && maxPayloadSize == config.maxPayloadSize
         && asyncCompilationEnabled == config.asyncCompilationEnabled
         && deserializeNonexistentClass == config.deserializeNonexistentClass
         && scalaOptimizationEnabled == config.scalaOptimizationEnabled
@@ -330,6 +392,9 @@ public class Config implements Serializable {
         compressString,
         writeNumUtf16BytesForUtf8Encoding,
         compressInt,
+        compressIntArray,
+        compressLongArray,
+        fieldOffsetsEnabled,
         compressLong,
         longEncoding,
         bufferSizeLimitBytes,
@@ -339,11 +404,96 @@ public class Config implements Serializable {
         metaShareEnabled,
         scopedMetaShareEnabled,
         metaCompressor,
+        payloadCompressor,
+        payloadCompressionMinSize,
+        maxPayloadSize,
         asyncCompilationEnabled,
         deserializeNonexistentClass,
         scalaOptimizationEnabled);
   }
 
+  /**
+   * Options which change generated code or the wire format. Classes generated at build time with a
+   * different value of any of them must not be loaded, see {@link #getConfigFingerprint}.
+   */
+  static final String[] FINGERPRINT_FIELDS = {
+    "language",
+    "trackingRef",
+    "basicTypesRefIgnored",
+    "stringRefIgnored",
+    "timeRefIgnored",
+    "copyRef",
+    "codeGenEnabled",
+    "checkClassVersion",
+    "compatibleMode",
+    "defaultJDKStreamSerializerType",
+    "compressString",
+    "writeNumUtf16BytesForUtf8Encoding",
+    "compressInt",
+    "compressIntArray",
+    "compressLongArray",
+    "fieldOffsetsEnabled",
+    "compressLong",
+    "longEncoding",
+    "registerGuavaTypes",
+    "metaShareEnabled",
+    "scopedMetaShareEnabled",
+    "metaCompressor",
+    "payloadCompressor",
+    "payloadCompressionMinSize",
+    "deserializeNonexistentClass",
+    "scalaOptimizationEnabled",
+    "serializeEnumByName"
+  };
+
+  /**
+   * Options which only change runtime checks and resource usage, classes generated at build time
+   * are still loaded when they differ.
+   */
+  static final String[] NON_FINGERPRINT_FIELDS = {
+    "name",
+    "checkJdkClassSerializable",
+    "metricsEnabled",
+    "requireClassRegistration",
+    "suppressClassRegistrationWarnings",
+    "asyncCompilationEnabled",
+    "deserializeNonexistentEnumValueAsNull",
+    "bufferSizeLimitBytes",
+    "maxPayloadSize"
+  };
+
+  /**
+   * Returns a hash of {@link #FINGERPRINT_FIELDS} which is stable across processes, unlike {@link
+   * #getConfigHash}. Used to name classes generated at build time, see {@link
+   * org.apache.fury.builder.CodecPregenerator}.
+   */
+  public String getConfigFingerprint() {
+    String fingerprint = configFingerprint;
+    if (fingerprint == null) {
+      StringBuilder builder = new StringBuilder();
+      for (String fieldName : FINGERPRINT_FIELDS) {
+        Object value;
+        try {
+          value = Config.class.getDeclaredField(fieldName).get(this);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+        if (value instanceof Class) {
+          value = ((Class<?>) value).getName();
+        } else if (value instanceof MetaCompressor || value instanceof PayloadCompressor) {
+          // compressors don't override `toString`.
+          value = value.getClass().getName();
+        }
+        builder.append(fieldName).append('=').append(value).append(',');
+      }
+      byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+      fingerprint =
+          Long.toHexString(MurmurHash3.murmurhash3_x64_128(bytes, 0, bytes.length, 47)[0]);
+      configFingerprint = fingerprint;
+    }
+    return fingerprint;
+  }
+
   private static final AtomicInteger counter = new AtomicInteger(0);
   // Different config instance with equality will be hold only one instance, no memory
   // leak will happen.
@@ -24,11 +24,14 @@ import java.util.concurrent.TimeUnit;
 import org.apache.fury.Fury;
 import org.apache.fury.ThreadLocalFury;
 import org.apache.fury.ThreadSafeFury;
+import org.apache.fury.io.PayloadBlockCodec;
+import org.apache.fury.io.PayloadCompressor;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.meta.DeflaterMetaCompressor;
 import org.apache.fury.meta.MetaCompressor;
+import org.apache.fury.metrics.FuryMetrics;
 import org.apache.fury.pool.ThreadPoolFury;
 import org.apache.fury.reflect.ReflectionUtils;
 import org.apache.fury.resolver.ClassResolver;
@@ -67,6 +70,10 @@ public final class FuryBuilder {
   boolean timeRefIgnored = true;
   ClassLoader classLoader;
   boolean compressInt = true;
+  boolean compressIntArray = false;
+  boolean compressLongArray = false;
+  boolean fieldOffsetsEnabled = false;
+  boolean metricsEnabled = false;
   public LongEncoding longEncoding = LongEncoding.SLI;
   boolean compressString = false;
   Boolean writeNumUtf16BytesForUtf8Encoding;
@@ -86,6 +93,9 @@ public final class FuryBuilder {
   boolean serializeEnumByName = false;
   int bufferSizeLimitBytes = 128 * 1024;
   MetaCompressor metaCompressor = new DeflaterMetaCompressor();
+  PayloadCompressor payloadCompressor;
+  int payloadCompressionMinSize;
+  int maxPayloadSize = PayloadBlockCodec.DEFAULT_MAX_PAYLOAD_SIZE;
 
   public FuryBuilder() {}
 
@@ -180,6 +190,58 @@ public final class FuryBuilder {
     return this;
   }
 
+  /**
+   * Whether compress int arrays by varint, delta, bit-packing or run-length encoding selected for
+   * every array. Disabled by default.
+   *
+   * @see org.apache.fury.serializer.PackedArrays
+   */
+  public FuryBuilder withIntArrayCompressed(boolean intArrayCompressed) {
+    this.compressIntArray = intArrayCompressed;
+    return this;
+  }
+
+  /**
+   * Whether compress long arrays by varint, delta, bit-packing or run-length encoding selected for
+   * every array. Disabled by default.
+   *
+   * @see org.apache.fury.serializer.PackedArrays
+   */
+  public FuryBuilder withLongArrayCompressed(boolean longArrayCompressed) {
+    this.compressLongArray = longArrayCompressed;
+    return this;
+  }
+
+  /**
+   * Whether write a field offset table for objects serialized by {@link
+   * org.apache.fury.serializer.ObjectSerializer}, so that fields can be deserialized lazily by
+   * {@link org.apache.fury.Fury#deserializeLazy}. Disabled by default.
+   *
+   * <p>This is supported by java schema consistent mode without meta share only. Jit serializers
+   * write the same table, but primitive fields are written one by one instead of in batch, which
+   * makes serialization a little slower.
+   *
+   * @see org.apache.fury.serializer.LazyObject
+   */
+  public FuryBuilder withFieldOffsets(boolean fieldOffsetsEnabled) {
+    this.fieldOffsetsEnabled = fieldOffsetsEnabled;
+    return this;
+  }
+
+  /**
+   * Whether collect per-class serialization metrics such as counts, bytes and time of top-level
+   * serialization calls, and reference table statistics. Metrics are shared by all fury instances
+   * of a thread safe fury, and can be exposed as a {@link org.apache.fury.metrics.FuryMXBean} by
+   * {@code getMetrics().register()}. Registered metrics must be unregistered when the fury is no
+   * longer used. Disabled by default.
+   *
+   * @see org.apache.fury.metrics.FuryMetrics
+   */
+  public FuryBuilder withMetrics(boolean metricsEnabled) {
+    this.metricsEnabled = metricsEnabled;
+    return this;
+  }
+
   /** Whether compress string for small size. */
   public FuryBuilder withStringCompressed(boolean stringCompressed) {
     this.compressString = stringCompressed;
@@ -311,6 +373,43 @@ public final class FuryBuilder {
     return this;
   }
 
+  /**
+   * Compress the whole serialized payload by <code>compressor</code> in blocks of {@link
+   * PayloadBlockCodec#BLOCK_SIZE} if the payload is at least <code>minSize</code> bytes. Compressed
+   * data is flagged in the header, and will be decompressed transparently when deserializing,
+   * including from {@link org.apache.fury.io.FuryInputStream}. Note that the passed {@link
+   * PayloadCompressor} should be thread-safe. Compressors based on `lz4` and `zstd` are provided in
+   * `fury-extensions`.
+   *
+   * <p>This is supported by {@link Language#JAVA} only. Payload serialized into a stream is held in
+   * memory until it's compressed, and serialization without header such as {@link
+   * Fury#serializeJavaObject} is not compressed.
+   *
+   * @see #withPayloadCompression(PayloadCompressor, int, int)
+   */
+  public FuryBuilder withPayloadCompression(PayloadCompressor compressor, int minSize) {
+    return withPayloadCompression(compressor, minSize, PayloadBlockCodec.DEFAULT_MAX_PAYLOAD_SIZE);
+  }
+
+  /**
+   * Like {@link #withPayloadCompression(PayloadCompressor, int)}, but compressed payload whose
+   * decompressed size exceeds <code>maxSize</code> will be rejected when deserializing, since the
+   * size is read from untrusted data.
+   */
+  public FuryBuilder withPayloadCompression(
+      PayloadCompressor compressor, int minSize, int maxSize) {
+    if (minSize < 0) {
+      throw new IllegalArgumentException("minSize must be non-negative: " + minSize);
+    }
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+    this.payloadCompressor = Objects.requireNonNull(compressor);
+    this.payloadCompressionMinSize = minSize;
+    this.maxPayloadSize = maxSize;
+    return this;
+  }
+
   /**
    * Whether deserialize/skip data of un-existed class.
    *
@@ -376,6 +475,12 @@ public final class FuryBuilder {
     }
     if (language != Language.JAVA) {
       stringRefIgnored = false;
+      if (payloadCompressor != null) {
+        throw new IllegalArgumentException("Payload compression is supported by java only.");
+      }
+      if (compressIntArray || compressLongArray) {
+        throw new IllegalArgumentException("Array compression is supported by java only.");
+      }
     }
     if (ENABLE_CLASS_REGISTRATION_FORCIBLY) {
       if (!requireClassRegistration) {
@@ -423,6 +528,14 @@ public final class FuryBuilder {
         metaShareEnabled = false;
       }
     }
+    if (fieldOffsetsEnabled) {
+      if (language != Language.JAVA
+          || compatibleMode == CompatibleMode.COMPATIBLE
+          || metaShareEnabled) {
+        throw new IllegalArgumentException(
+            "Field offsets are supported by java schema consistent mode without meta share only.");
+      }
+    }
     if (!requireClassRegistration) {
       LOG.warn(
           "Class registration isn't forced, unknown classes can be deserialized. "
@@ -441,9 +554,13 @@ public final class FuryBuilder {
    * variable, Fury creation exception will be swallowed by {@link NoClassDefFoundError}. We print
    * exception explicitly for better debugging.
    */
-  private static Fury newFury(FuryBuilder builder, ClassLoader classLoader) {
+  private static Fury newFury(FuryBuilder builder, ClassLoader classLoader, FuryMetrics metrics) {
     try {
-      return new Fury(builder, classLoader);
+      Fury fury = new Fury(builder, classLoader);
+      if (metrics != null) {
+        fury.setMetrics(metrics);
+      }
+      return fury;
     } catch (Throwable t) {
       t.printStackTrace();
       LOG.error("Fury creation failed with classloader {}", classLoader);
@@ -458,7 +575,14 @@ public final class FuryBuilder {
     // clear classLoader to avoid `LoaderBinding#furyFactory` lambda capture classLoader by
     // capturing `FuryBuilder`, which make `classLoader` not able to be gc.
     this.classLoader = null;
-    return newFury(this, loader);
+    return newFury(this, loader, newMetrics());
+  }
+
+  private FuryMetrics newMetrics() {
+    if (!metricsEnabled) {
+      return null;
+    }
+    return new FuryMetrics(name);
   }
 
   /** Build thread safe fury. */
@@ -473,11 +597,38 @@ public final class FuryBuilder {
     // clear classLoader to avoid `LoaderBinding#furyFactory` lambda capture classLoader by
     // capturing `FuryBuilder`,  which make `classLoader` not able to be gc.
     this.classLoader = null;
-    ThreadLocalFury threadSafeFury = new ThreadLocalFury(classLoader -> newFury(this, classLoader));
+    FuryMetrics metrics = newMetrics();
+    ThreadLocalFury threadSafeFury =
+        new ThreadLocalFury(classLoader -> newFury(this, classLoader, metrics));
     threadSafeFury.setClassLoader(loader);
+    threadSafeFury.setMetrics(metrics);
     return threadSafeFury;
   }
 
+  /**
+   * Build thread safe fury for virtual threads. {@link ThreadLocalFury} will create a fury for
+   * every virtual thread, this method returns a {@link ThreadPoolFury} whose fury number is capped
+   * by carrier threads number instead of threads number.
+   *
+   * @return ThreadSafeFuryPool
+   */
+  public ThreadSafeFury buildVirtualThreadSafeFury() {
+    return buildVirtualThreadSafeFury(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Build thread safe fury for virtual threads. Borrowing fury from returned {@link ThreadPoolFury}
+   * never pins carrier threads, and at most {@code maxPoolSize} fury instances will be created no
+   * matter how many virtual threads are used.
+   *
+   * @param maxPoolSize max pool size, should be close to the parallelism of virtual thread
+   *     scheduler. Virtual threads blocked in stream serialization hold a fury too.
+   * @return ThreadSafeFuryPool
+   */
+  public ThreadSafeFury buildVirtualThreadSafeFury(int maxPoolSize) {
+    return buildThreadSafeFuryPool(0, maxPoolSize, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+  }
+
   /**
    * Build pooled ThreadSafeFury.
    *
@@ -509,14 +660,16 @@ public final class FuryBuilder {
     finish();
     ClassLoader loader = this.classLoader;
     this.classLoader = null;
-    ThreadSafeFury threadSafeFury =
+    FuryMetrics metrics = newMetrics();
+    ThreadPoolFury threadSafeFury =
         new ThreadPoolFury(
-            classLoader -> newFury(this, classLoader),
+            classLoader -> newFury(this, classLoader, metrics),
             minPoolSize,
             maxPoolSize,
             expireTime,
             timeUnit);
     threadSafeFury.setClassLoader(loader);
+    threadSafeFury.setMetrics(metrics);
     return threadSafeFury;
   }
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Continuation of serialization into caller-provided {@link ByteBuffer}s, see {@link
+ * FuryByteBufferOutput}.
+ */
+@FunctionalInterface
+public interface ByteBufferOverflowHandler {
+
+  /**
+   * Invoked when <code>buffer</code> is full during serialization. Serialized data are written up
+   * to {@link ByteBuffer#position()} of <code>buffer</code>, the handler should consume them, such
+   * as writing them to a socket, and return a buffer whose remaining space will be used to continue
+   * the serialization. The returned buffer can be <code>buffer</code> itself after it's cleared.
+   */
+  ByteBuffer onOverflow(ByteBuffer buffer);
+}
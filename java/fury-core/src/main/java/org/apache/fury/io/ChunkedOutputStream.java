@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import org.apache.fury.memory.ByteBufferUtil;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.Platform;
+
+/**
+ * Base class of output streams which consume written data of the {@link MemoryBuffer} chunk by
+ * chunk. When the buffer is full, data before {@link MemoryBuffer#flushHoldIndex()} is handed to
+ * {@link #writeChunk}, and held data is copied to the beginning of the next chunk, which is bigger
+ * than a normal chunk if held data or a big write can't fit into it.
+ */
+abstract class ChunkedOutputStream extends OutputStream implements FuryStreamWriter {
+  protected final MemoryBuffer buffer;
+  // Current chunk, the whole capacity of it is mapped to the buffer from `baseIndex`.
+  protected ByteBuffer chunk;
+  // Index of the buffer which is mapped to first byte of current chunk. Data before this index
+  // has been handed to `writeChunk`.
+  protected int baseIndex;
+
+  ChunkedOutputStream(ByteBuffer chunk) {
+    this.chunk = chunk;
+    buffer =
+        chunk.isDirect()
+            ? MemoryBuffer.fromDirectByteBuffer(chunk, this)
+            : MemoryBuffer.fromByteArray(chunk.array(), this);
+  }
+
+  /** Consume first <code>length</code> bytes of <code>chunk</code>. */
+  protected abstract void writeChunk(ByteBuffer chunk, int length);
+
+  /**
+   * Returns a chunk whose capacity is not less than <code>minSize</code> for later data, <code>
+   * chunk</code> can be returned if its capacity is enough.
+   */
+  protected abstract ByteBuffer nextChunk(ByteBuffer chunk, int minSize);
+
+  /**
+   * Invoked when <code>chunk</code> is replaced by another chunk and pending data has been copied
+   * out of it, <code>writtenLength</code> bytes of it has been consumed by {@link #writeChunk}.
+   */
+  protected void onChunkReplaced(ByteBuffer chunk, int writtenLength) {}
+
+  @Override
+  public void flushBuffer(int minSize) {
+    MemoryBuffer buffer = this.buffer;
+    int writerIndex = buffer.writerIndex();
+    int flushEnd = Math.min(writerIndex, buffer.flushHoldIndex());
+    int pending = writerIndex - flushEnd;
+    int written = flushEnd - baseIndex;
+    ByteBuffer chunk = this.chunk;
+    writeChunk(chunk, written);
+    ByteBuffer newChunk = nextChunk(chunk, minSize - flushEnd);
+    if (pending > 0) {
+      if (newChunk.isDirect()) {
+        buffer.copyToUnsafe(flushEnd, null, ByteBufferUtil.getAddress(newChunk), pending);
+      } else {
+        buffer.copyToUnsafe(
+            flushEnd,
+            newChunk.array(),
+            Platform.BYTE_ARRAY_OFFSET + newChunk.arrayOffset(),
+            pending);
+      }
+    }
+    mapChunk(newChunk, flushEnd);
+    if (newChunk != chunk) {
+      onChunkReplaced(chunk, written);
+    }
+  }
+
+  /** Map the buffer to <code>chunk</code> from index <code>baseIndex</code>. */
+  protected void mapChunk(ByteBuffer chunk, int baseIndex) {
+    this.chunk = chunk;
+    this.baseIndex = baseIndex;
+    if (chunk.isDirect()) {
+      buffer.rebaseDirectBuffer(chunk, baseIndex);
+    } else {
+      buffer.rebaseHeapBuffer(chunk.array(), baseIndex);
+    }
+  }
+
+  /** Start a new payload from index 0 of <code>chunk</code>. */
+  protected void resetBuffer(ByteBuffer chunk) {
+    MemoryBuffer buffer = this.buffer;
+    buffer.releaseFlush(Integer.MAX_VALUE);
+    mapChunk(chunk, 0);
+    buffer.writerIndex(0);
+  }
+
+  /** Returns size of a bigger chunk for data of <code>size</code>. */
+  protected static int growSize(int size) {
+    return size < MemoryBuffer.BUFFER_GROW_STEP_THRESHOLD
+        ? size << 1
+        : (int) Math.min(size * 1.5d, Integer.MAX_VALUE - 8);
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public void write(int b) {
+    buffer.writeByte((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    buffer.writeBytes(b, off, len);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.io;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.fury.exception.DeserializationException;
+
+/**
+ * A payload compressor based on {@link Deflater} compression algorithm. It has no dependencies but
+ * is much slower than `lz4` or `zstd` compressors in `fury-extensions`.
+ */
+public class DeflaterPayloadCompressor implements PayloadCompressor {
+  private final int level;
+
+  public DeflaterPayloadCompressor() {
+    this(Deflater.BEST_SPEED);
+  }
+
+  public DeflaterPayloadCompressor(int level) {
+    this.level = level;
+  }
+
+  @Override
+  public int maxCompressedLength(int length) {
+    // See `deflateBound` of zlib, plus zlib wrapper header and trailer.
+    return length + (length >> 12) + (length >> 14) + (length >> 25) + 13 + 6;
+  }
+
+  @Override
+  public int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+    Deflater deflater = new Deflater(level);
+    try {
+      deflater.setInput(src, srcOffset, length);
+      deflater.finish();
+      int size = 0;
+      int capacity = maxCompressedLength(length);
+      while (!deflater.finished()) {
+        size += deflater.deflate(dst, dstOffset + size, capacity - size);
+      }
+      return size;
+    } finally {
+      deflater.end();
+    }
+  }
+
+  @Override
+  public void decompress(
+      byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int rawLength) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(src, srcOffset, length);
+      int size = 0;
+      while (size < rawLength && !inflater.finished()) {
+        int n = inflater.inflate(dst, dstOffset + size, rawLength - size);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        size += n;
+      }
+      if (size != rawLength) {
+        throw new DeserializationException(
+            String.format("Decompressed %d bytes, but %d bytes expected", size, rawLength));
+      }
+    } catch (DataFormatException e) {
+      throw new DeserializationException(e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return DeflaterPayloadCompressor.class.hashCode() * 31 + level;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o != null
+        && getClass() == o.getClass()
+        && level == ((DeflaterPayloadCompressor) o).level;
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.ByteBufferUtil;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.Platform;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A {@link FuryStreamWriter} which serializes data into caller-provided heap or direct {@link
+ * ByteBuffer}s without copy. The {@link MemoryBuffer} of this writer targets to the remaining space
+ * of current byte buffer, when the space runs out, {@link ByteBufferOverflowHandler} will be
+ * invoked to consume written data and provide next buffer to resume serialization. Without a
+ * handler, a {@link BufferOverflowException} will be thrown instead of switching to a heap buffer.
+ *
+ * <p>Data which will be updated after more data are written, see {@link MemoryBuffer#holdFlush},
+ * must be contiguous. If held data can't fit into next byte buffer, they will be buffered in a heap
+ * array and copied into byte buffers after released.
+ */
+@NotThreadSafe
+public class FuryByteBufferOutput implements FuryStreamWriter {
+  private static final byte[] EMPTY = new byte[0];
+  private final MemoryBuffer buffer;
+  private ByteBufferOverflowHandler handler;
+  private ByteBuffer target;
+  // Position of `target` which is mapped to `baseIndex` of the buffer.
+  private int targetStart;
+  // Index of the buffer which is mapped to current target or spill memory.
+  private int baseIndex;
+  // Heap memory for held data which can't fit into current target.
+  private byte[] spill = EMPTY;
+  private boolean spilling;
+
+  public FuryByteBufferOutput() {
+    buffer = MemoryBuffer.fromByteArray(EMPTY, this);
+  }
+
+  public FuryByteBufferOutput(ByteBuffer target, ByteBufferOverflowHandler handler) {
+    this();
+    reset(target, handler);
+  }
+
+  /**
+   * Write next payload into <code>target</code> starting from its position.
+   *
+   * @param handler handler to resume serialization when <code>target</code> is full, null to throw
+   *     {@link BufferOverflowException}.
+   */
+  public void reset(ByteBuffer target, ByteBufferOverflowHandler handler) {
+    Preconditions.checkArgument(
+        target.isDirect() || target.hasArray(), "Read-only buffer is not supported");
+    this.handler = handler;
+    this.target = target;
+    this.spilling = false;
+    baseIndex = 0;
+    buffer.releaseFlush(Integer.MAX_VALUE);
+    buffer.writerIndex(0);
+    buffer.readerIndex(0);
+    mapTarget(0);
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public void flushBuffer(int minSize) {
+    MemoryBuffer buffer = this.buffer;
+    int writerIndex = buffer.writerIndex();
+    int flushEnd = Math.min(writerIndex, buffer.flushHoldIndex());
+    int pending = writerIndex - flushEnd;
+    if (spilling) {
+      writeToTarget(spill, 0, flushEnd - baseIndex);
+      System.arraycopy(spill, flushEnd - baseIndex, spill, 0, pending);
+    } else {
+      if (pending > 0) {
+        ensureSpill(pending);
+        buffer.copyToUnsafe(flushEnd, spill, Platform.BYTE_ARRAY_OFFSET, pending);
+      }
+      if (flushEnd > baseIndex) {
+        target.position(targetStart + flushEnd - baseIndex);
+        target = overflow(target);
+      }
+    }
+    baseIndex = flushEnd;
+    if (target.remaining() >= minSize - flushEnd) {
+      spilling = false;
+      int position = target.position();
+      target.put(spill, 0, pending);
+      target.position(position);
+      mapTarget(flushEnd);
+    } else {
+      spilling = true;
+      ensureSpill(minSize - flushEnd);
+      buffer.rebaseHeapBuffer(spill, flushEnd);
+    }
+  }
+
+  /**
+   * Finish writing current payload, and returns the byte buffer which the last part of the payload
+   * is written into. The position of returned buffer is the end of written data.
+   */
+  public ByteBuffer finish() {
+    MemoryBuffer buffer = this.buffer;
+    int writerIndex = buffer.writerIndex();
+    buffer.releaseFlush(Integer.MAX_VALUE);
+    if (spilling) {
+      writeToTarget(spill, 0, writerIndex - baseIndex);
+      spilling = false;
+    } else {
+      target.position(targetStart + writerIndex - baseIndex);
+    }
+    ByteBuffer target = this.target;
+    this.target = null;
+    this.handler = null;
+    buffer.pointTo(EMPTY, 0, 0);
+    buffer.writerIndex(0);
+    return target;
+  }
+
+  private void mapTarget(int baseIndex) {
+    ByteBuffer target = this.target;
+    int position = target.position();
+    int size = baseIndex + target.remaining();
+    targetStart = position;
+    if (target.isDirect()) {
+      buffer.initDirectBuffer(
+          ByteBufferUtil.getAddress(target) + position - baseIndex, size, target);
+    } else {
+      buffer.initHeapBuffer(target.array(), target.arrayOffset() + position - baseIndex, size);
+    }
+    buffer.flushedIndex(baseIndex);
+  }
+
+  private void writeToTarget(byte[] bytes, int offset, int length) {
+    while (length > 0) {
+      if (!target.hasRemaining()) {
+        target = overflow(target);
+      }
+      int n = Math.min(length, target.remaining());
+      target.put(bytes, offset, n);
+      offset += n;
+      length -= n;
+    }
+  }
+
+  private ByteBuffer overflow(ByteBuffer full) {
+    if (handler == null) {
+      throw new BufferOverflowException();
+    }
+    ByteBuffer next = handler.onOverflow(full);
+    Preconditions.checkNotNull(next, "Overflow handler returned null buffer");
+    Preconditions.checkArgument(
+        next.isDirect() || next.hasArray(), "Read-only buffer is not supported");
+    Preconditions.checkArgument(next.hasRemaining(), "Overflow handler returned full buffer");
+    return next;
+  }
+
+  private void ensureSpill(int size) {
+    if (spill.length < size) {
+      byte[] newSpill = new byte[size << 1];
+      System.arraycopy(spill, 0, newSpill, 0, spill.length);
+      spill = newSpill;
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.BaseFury;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.memory.ByteBufferUtil;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A non-blocking decoder of frames written by {@link FuryFrames#writeFrame}, which can be fed with
+ * byte chunks received from network incrementally, such as in a NIO event loop.
+ *
+ * <p>Frames which are contained in a chunk completely are deserialized from the chunk directly
+ * without copy, only the frame which spans multiple chunks will be accumulated in an internal
+ * buffer until it's complete. Callers can check {@link #bytesNeeded} to know how many bytes are
+ * needed to complete current frame.
+ *
+ * <p>The internal buffer grows with received bytes instead of the size in frame header, and frames
+ * bigger than {@link #DEFAULT_MAX_FRAME_SIZE} are rejected by default, so that a peer can't force a
+ * big allocation by sending a header only.
+ */
+@NotThreadSafe
+public class FuryFrameDecoder {
+  /** Default max payload size of a frame. */
+  public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+  private static final byte[] EMPTY = new byte[0];
+  private final BaseFury fury;
+  private final int maxFrameSize;
+  private final MemoryBuffer view;
+  // Accumulated bytes of incomplete frame, including the header.
+  private byte[] pending = new byte[FuryFrames.HEADER_SIZE];
+  private int pendingSize;
+  // Payload size of incomplete frame, -1 if the header is incomplete.
+  private int frameSize = -1;
+
+  public FuryFrameDecoder(BaseFury fury) {
+    this(fury, DEFAULT_MAX_FRAME_SIZE);
+  }
+
+  /**
+   * Create a decoder for frames whose payload size is not bigger than <code>maxFrameSize</code>,
+   * bigger frames are considered as corrupted data.
+   */
+  public FuryFrameDecoder(BaseFury fury, int maxFrameSize) {
+    Preconditions.checkArgument(
+        maxFrameSize > 0 && maxFrameSize <= Integer.MAX_VALUE - 8 - FuryFrames.HEADER_SIZE,
+        "Invalid maxFrameSize %s",
+        maxFrameSize);
+    this.fury = fury;
+    this.maxFrameSize = maxFrameSize;
+    this.view = MemoryBuffer.fromByteArray(EMPTY);
+  }
+
+  /**
+   * Decode all complete frames from <code>chunk</code> and pass deserialized objects to <code>
+   * consumer</code>. All remaining bytes of the chunk will be consumed, bytes of incomplete frame
+   * will be kept by this decoder, so the chunk can be reused after this call.
+   */
+  public void decode(ByteBuffer chunk, Consumer<Object> consumer) {
+    Preconditions.checkArgument(
+        chunk.isDirect() || chunk.hasArray(), "Read-only buffer is not supported");
+    if (pendingSize > 0) {
+      if (!fillPending(chunk)) {
+        return;
+      }
+      consumer.accept(deserialize(pending, FuryFrames.HEADER_SIZE, frameSize));
+      pendingSize = 0;
+      frameSize = -1;
+    }
+    int position = chunk.position();
+    int limit = chunk.limit();
+    while (limit - position >= FuryFrames.HEADER_SIZE) {
+      int size = checkFrameSize(FuryFrames.readHeader(chunk, position));
+      int payloadStart = position + FuryFrames.HEADER_SIZE;
+      if (limit - payloadStart < size) {
+        break;
+      }
+      // Frame is complete in the chunk, deserialize in place.
+      chunk.position(payloadStart + size);
+      consumer.accept(deserialize(chunk, payloadStart, size));
+      position = payloadStart + size;
+    }
+    chunk.position(position);
+    if (position < limit) {
+      fillPending(chunk);
+    }
+  }
+
+  /**
+   * Returns number of bytes needed to complete the current frame, or the header of next frame if no
+   * frame is being accumulated.
+   */
+  public int bytesNeeded() {
+    if (frameSize < 0) {
+      return FuryFrames.HEADER_SIZE - pendingSize;
+    }
+    return FuryFrames.HEADER_SIZE + frameSize - pendingSize;
+  }
+
+  /** Drop accumulated bytes of incomplete frame. */
+  public void reset() {
+    pendingSize = 0;
+    frameSize = -1;
+  }
+
+  // Copy bytes of incomplete frame from chunk, returns whether the frame is complete.
+  private boolean fillPending(ByteBuffer chunk) {
+    if (frameSize < 0) {
+      copyToPending(chunk, FuryFrames.HEADER_SIZE - pendingSize);
+      if (pendingSize < FuryFrames.HEADER_SIZE) {
+        return false;
+      }
+      byte[] header = pending;
+      frameSize =
+          checkFrameSize(
+              (header[0] & 0xFF)
+                  | (header[1] & 0xFF) << 8
+                  | (header[2] & 0xFF) << 16
+                  | (header[3] & 0xFF) << 24);
+    }
+    copyToPending(chunk, FuryFrames.HEADER_SIZE + frameSize - pendingSize);
+    return pendingSize == FuryFrames.HEADER_SIZE + frameSize;
+  }
+
+  private void copyToPending(ByteBuffer chunk, int length) {
+    int n = Math.min(length, chunk.remaining());
+    int newSize = pendingSize + n;
+    if (pending.length < newSize) {
+      // Grow by received bytes, but not beyond the frame.
+      int frameEnd = FuryFrames.HEADER_SIZE + frameSize;
+      byte[] newPending =
+          new byte[(int) Math.min(Math.max((long) pending.length << 1, newSize), frameEnd)];
+      System.arraycopy(pending, 0, newPending, 0, pendingSize);
+      pending = newPending;
+    }
+    chunk.get(pending, pendingSize, n);
+    pendingSize = newSize;
+  }
+
+  private int checkFrameSize(int size) {
+    if (size <= 0 || size > maxFrameSize) {
+      throw new DeserializationException(
+          String.format("Invalid frame size %d, max frame size is %d", size, maxFrameSize));
+    }
+    return size;
+  }
+
+  private Object deserialize(byte[] bytes, int offset, int size) {
+    MemoryBuffer view = this.view;
+    view.pointTo(bytes, offset, size);
+    view.readerIndex(0);
+    return fury.deserialize(view);
+  }
+
+  private Object deserialize(ByteBuffer chunk, int offset, int size) {
+    MemoryBuffer view = this.view;
+    if (chunk.isDirect()) {
+      view.initDirectBuffer(ByteBufferUtil.getAddress(chunk) + offset, size, chunk);
+      view.readerIndex(0);
+      return fury.deserialize(view);
+    }
+    return deserialize(chunk.array(), chunk.arrayOffset() + offset, size);
+  }
+}
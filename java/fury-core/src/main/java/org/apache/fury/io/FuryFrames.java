@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.nio.ByteBuffer;
+import org.apache.fury.BaseFury;
+import org.apache.fury.memory.MemoryBuffer;
+
+/**
+ * Length-prefixed framing of serialized objects. A frame is a 4-byte little-endian payload size
+ * followed by the payload serialized by {@link BaseFury#serialize(MemoryBuffer, Object)}, so that a
+ * receiver can know the exact frame size once the header arrives. Frames can be decoded
+ * incrementally without blocking by {@link FuryFrameDecoder}.
+ */
+public final class FuryFrames {
+  /** Size of frame header. */
+  public static final int HEADER_SIZE = 4;
+
+  private FuryFrames() {}
+
+  /**
+   * Serialize <code>obj</code> into <code>buffer</code> as a frame. The header is held from being
+   * flushed until the payload is written when the buffer is backed by a {@link FuryStreamWriter}.
+   */
+  public static MemoryBuffer writeFrame(BaseFury fury, MemoryBuffer buffer, Object obj) {
+    int headerIndex = buffer.reserveForUpdate(HEADER_SIZE);
+    try {
+      fury.serialize(buffer, obj);
+      buffer.putInt32(headerIndex, buffer.writerIndex() - headerIndex - HEADER_SIZE);
+    } finally {
+      buffer.releaseFlush(headerIndex);
+    }
+    return buffer;
+  }
+
+  /** Serialize <code>obj</code> as a frame and return it as a byte array. */
+  public static byte[] serializeFrame(BaseFury fury, Object obj) {
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(64);
+    writeFrame(fury, buffer, obj);
+    return buffer.getBytes(0, buffer.writerIndex());
+  }
+
+  /**
+   * Returns the total size of the frame starting from position of <code>buffer</code>, including
+   * the header; or -1 if the header hasn't been received completely.
+   */
+  public static int peekFrameSize(ByteBuffer buffer) {
+    int position = buffer.position();
+    if (buffer.limit() - position < HEADER_SIZE) {
+      return -1;
+    }
+    return readHeader(buffer, position) + HEADER_SIZE;
+  }
+
+  static int readHeader(ByteBuffer buffer, int index) {
+    return (buffer.get(index) & 0xFF)
+        | (buffer.get(index + 1) & 0xFF) << 8
+        | (buffer.get(index + 2) & 0xFF) << 16
+        | (buffer.get(index + 3) & 0xFF) << 24;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A buffered stream by fury for streaming serialization, this is the write side of {@link
+ * FuryInputStream}. Serialized data will be written into a fixed-size chunk, and flushed to the
+ * underlying {@link OutputStream} when the chunk is full, so that the memory used by serialization
+ * is bounded by chunk size instead of the size of serialized data.
+ *
+ * <p>Data which will be updated after more data are written, such as size of a map chunk, is held
+ * by {@link MemoryBuffer#holdFlush} and the chunk will grow until it is released. Note that meta
+ * share mode need to update meta offset after whole object graph is written, the whole serialized
+ * data will be buffered in that mode.
+ */
+@NotThreadSafe
+public class FuryOutputStream extends ChunkedOutputStream {
+  private final OutputStream stream;
+  private final int chunkSize;
+  private final ByteBuffer initialChunk;
+
+  public FuryOutputStream(OutputStream stream) {
+    this(stream, 4096);
+  }
+
+  public FuryOutputStream(OutputStream stream, int chunkSize) {
+    super(ByteBuffer.wrap(new byte[checkChunkSize(chunkSize)]));
+    this.stream = stream;
+    this.chunkSize = chunkSize;
+    this.initialChunk = chunk;
+  }
+
+  private static int checkChunkSize(int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "Chunk size must be positive");
+    return chunkSize;
+  }
+
+  @Override
+  protected void writeChunk(ByteBuffer chunk, int length) {
+    if (length > 0) {
+      try {
+        stream.write(chunk.array(), 0, length);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  @Override
+  protected ByteBuffer nextChunk(ByteBuffer chunk, int minSize) {
+    if (minSize <= chunkSize) {
+      return initialChunk;
+    }
+    // Held data or a big write can't fit into a chunk, use a bigger buffer until it's flushed.
+    return minSize <= chunk.capacity() ? chunk : ByteBuffer.wrap(new byte[growSize(minSize)]);
+  }
+
+  public OutputStream getStream() {
+    return stream;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Write all buffered data to underlying stream and reset buffer to initial chunk. Do not invoke
+   * this method if the serialization for an object didn't finish.
+   */
+  @Override
+  public void flush() throws IOException {
+    writeChunk(chunk, buffer.writerIndex() - baseIndex);
+    resetBuffer(initialChunk);
+    stream.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    flush();
+    stream.close();
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryBufferPool;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * An output stream which keeps serialized data in a chain of fixed-size segments. When the buffer
+ * is full, written data is kept in current segment and a new segment is used for later data, so
+ * growing never copies written data. Segments can be gathered into a {@link GatheringByteChannel}
+ * by {@link #writeTo(WritableByteChannel)} without copy. Segments are allocated from a {@link
+ * MemoryBufferPool}, which can be shared by streams and can allocate direct memory, and will be
+ * returned to the pool after {@link #reset()}.
+ *
+ * <p>Every {@link #flush()} finishes a serialized payload, later payloads will be appended to the
+ * segment chain, so the total size of all payloads can exceed 2GB. A single payload is still
+ * limited to 2GB by the int index of {@link MemoryBuffer}. Data which will be updated after more
+ * data are written is kept in one segment, see {@link MemoryBuffer#holdFlush}.
+ */
+@NotThreadSafe
+public class FurySegmentedOutputStream extends ChunkedOutputStream {
+  private final MemoryBufferPool pool;
+  private final int segmentSize;
+  private final List<ByteBuffer> segments = new ArrayList<>();
+  // blocks of written segments, which will be returned to the pool after reset.
+  private final List<ByteBuffer> usedBlocks = new ArrayList<>();
+  private long size;
+
+  public FurySegmentedOutputStream() {
+    this(64 * 1024);
+  }
+
+  public FurySegmentedOutputStream(int segmentSize) {
+    this(newPool(segmentSize), segmentSize);
+  }
+
+  /**
+   * Create a stream whose segments are allocated from <code>pool</code>.
+   *
+   * @param segmentSize min size of segments, the size of allocated segments may be bigger.
+   */
+  public FurySegmentedOutputStream(MemoryBufferPool pool, int segmentSize) {
+    super(pool.allocate(segmentSize));
+    this.pool = pool;
+    this.segmentSize = segmentSize;
+  }
+
+  // A pool for segments of a stream only, freed segments are kept for reuse.
+  private static MemoryBufferPool newPool(int segmentSize) {
+    Preconditions.checkArgument(segmentSize > 0, "Segment size must be positive");
+    return new MemoryBufferPool(false, segmentSize, segmentSize, 0, Integer.MAX_VALUE);
+  }
+
+  @Override
+  protected void writeChunk(ByteBuffer chunk, int length) {
+    if (length > 0) {
+      ByteBuffer segment = chunk.duplicate();
+      segment.position(0);
+      segment.limit(length);
+      segments.add(segment);
+      usedBlocks.add(chunk);
+      size += length;
+    }
+  }
+
+  @Override
+  protected ByteBuffer nextChunk(ByteBuffer chunk, int minSize) {
+    // Held data or a big write may not fit into a segment, use a bigger block then.
+    return pool.allocate(Math.max(minSize, segmentSize));
+  }
+
+  @Override
+  protected void onChunkReplaced(ByteBuffer chunk, int writtenLength) {
+    if (writtenLength == 0) {
+      pool.release(chunk);
+    }
+  }
+
+  public int getSegmentSize() {
+    return segmentSize;
+  }
+
+  /**
+   * Add buffered data to the segment chain. Do not invoke this method if the serialization for an
+   * object didn't finish.
+   */
+  @Override
+  public void flush() {
+    MemoryBuffer buffer = this.buffer;
+    int length = buffer.writerIndex() - baseIndex;
+    if (length == 0 && baseIndex == 0) {
+      return;
+    }
+    ByteBuffer chunk = this.chunk;
+    writeChunk(chunk, length);
+    resetBuffer(pool.allocate(segmentSize));
+    onChunkReplaced(chunk, length);
+  }
+
+  /** Returns size of all flushed data. */
+  public long size() {
+    return size;
+  }
+
+  /** Returns flushed data as byte buffers which share memory with segments. */
+  public ByteBuffer[] toByteBuffers() {
+    ByteBuffer[] buffers = new ByteBuffer[segments.size()];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = segments.get(i).duplicate();
+    }
+    return buffers;
+  }
+
+  /**
+   * Write all flushed data to {@code channel}, segments will be written by a single gathering write
+   * if the channel is a {@link GatheringByteChannel}.
+   *
+   * @return number of written bytes
+   */
+  public long writeTo(WritableByteChannel channel) throws IOException {
+    ByteBuffer[] buffers = toByteBuffers();
+    long written = 0;
+    if (channel instanceof GatheringByteChannel) {
+      GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+      int offset = 0;
+      while (offset < buffers.length) {
+        written += gatheringChannel.write(buffers, offset, buffers.length - offset);
+        while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+          offset++;
+        }
+      }
+    } else {
+      for (ByteBuffer buf : buffers) {
+        while (buf.hasRemaining()) {
+          written += channel.write(buf);
+        }
+      }
+    }
+    return written;
+  }
+
+  /**
+   * Discard flushed data and return segments to the pool, byte buffers returned by {@link
+   * #toByteBuffers()} can't be used after reset.
+   */
+  public void reset() {
+    for (ByteBuffer block : usedBlocks) {
+      pool.release(block);
+    }
+    usedBlocks.clear();
+    segments.clear();
+    size = 0;
+  }
+}
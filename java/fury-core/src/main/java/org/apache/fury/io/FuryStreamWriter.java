@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import org.apache.fury.memory.MemoryBuffer;
+
+/**
+ * A streaming writer to make {@link MemoryBuffer} to support streaming writing. When the buffer
+ * needs to grow, it will ask this writer to flush written data to the underlying sink instead of
+ * allocating a bigger buffer and copying the whole written data.
+ */
+public interface FuryStreamWriter {
+
+  /**
+   * Flush written data of underlying {@link MemoryBuffer} to the sink and make the buffer writable
+   * up to <code>minSize</code>, which is an index in the buffer index space. Writer index of the
+   * buffer won't be changed after this call, data starting from {@link
+   * MemoryBuffer#flushHoldIndex()} won't be flushed.
+   */
+  void flushBuffer(int minSize);
+
+  /**
+   * Returns the underlying {@link MemoryBuffer}. This method will return same instance of buffer
+   * for same {@link FuryStreamWriter} instance.
+   */
+  MemoryBuffer getBuffer();
+}
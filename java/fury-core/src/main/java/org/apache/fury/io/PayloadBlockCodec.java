@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.Platform;
+
+/**
+ * Compress/decompress serialized payload in blocks by a {@link PayloadCompressor}. Compressed
+ * payload is laid out as:
+ *
+ * <pre>
+ * | varuint32 rawSize | block | block | ... |
+ * block: | varuint32 blockRawSize | varuint32 compressedSize | compressed bytes |
+ * </pre>
+ *
+ * <p>A block whose <code>compressedSize</code> is 0 is stored uncompressed with <code>
+ * blockRawSize</code> bytes. Blocks are read from the input one by one, so the compressed payload
+ * can be decompressed from a {@link FuryInputStream} without reading it all into memory first.
+ * Decompressed size is bounded by a max size, and memory grows only as blocks are decompressed.
+ */
+@NotThreadSafe
+public final class PayloadBlockCodec {
+  /** Raw size of a compressed block. */
+  public static final int BLOCK_SIZE = 1 << 16;
+
+  /** Default max size of a decompressed payload. */
+  public static final int DEFAULT_MAX_PAYLOAD_SIZE = 1 << 30;
+
+  private final PayloadCompressor compressor;
+  private final int minSize;
+  private final int maxSize;
+  private final int scratchSizeLimit;
+  private MemoryBuffer compressed;
+  private byte[] scratch;
+
+  public PayloadBlockCodec(
+      PayloadCompressor compressor, int minSize, int maxSize, int scratchSizeLimit) {
+    this.compressor = compressor;
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.scratchSizeLimit = scratchSizeLimit;
+  }
+
+  /**
+   * Compress data of <code>buffer</code> from <code>payloadStart</code> to its writer index in
+   * place. Data must be held from being flushed if the buffer is backed by a {@link
+   * FuryStreamWriter}.
+   *
+   * @return false if payload is smaller than min size or not compressible, in which case the buffer
+   *     is untouched.
+   */
+  public boolean compress(MemoryBuffer buffer, int payloadStart) {
+    int rawSize = buffer.writerIndex() - payloadStart;
+    if (rawSize < minSize) {
+      return false;
+    }
+    byte[] src = buffer.getHeapMemory();
+    int srcOffset;
+    if (src != null) {
+      srcOffset = (int) (buffer.getUnsafeAddress() - Platform.BYTE_ARRAY_OFFSET) + payloadStart;
+    } else {
+      src = getScratch(rawSize);
+      buffer.getBytes(payloadStart, src, 0, rawSize);
+      srcOffset = 0;
+    }
+    MemoryBuffer out = compressed;
+    if (out == null) {
+      out = compressed = MemoryBuffer.newHeapBuffer(BLOCK_SIZE);
+    }
+    out.writerIndex(0);
+    out.writeVarUint32(rawSize);
+    for (int pos = 0; pos < rawSize; pos += BLOCK_SIZE) {
+      int blockSize = Math.min(BLOCK_SIZE, rawSize - pos);
+      int maxSize = compressor.maxCompressedLength(blockSize);
+      out.ensure(out.writerIndex() + 10 + maxSize);
+      out.writeVarUint32(blockSize);
+      int sizeIndex = out.writerIndex();
+      // compressed size may take fewer bytes, fixed 3 bytes is enough for `BLOCK_SIZE`.
+      out.writerIndex(sizeIndex + 3);
+      int size =
+          compressor.compress(src, srcOffset + pos, blockSize, out.getHeapMemory(), sizeIndex + 3);
+      if (size >= blockSize) {
+        out.writerIndex(sizeIndex);
+        out.writeVarUint32(0);
+        out.writeBytes(src, srcOffset + pos, blockSize);
+      } else {
+        out.putByte(sizeIndex, (byte) (size & 0x7F | 0x80));
+        out.putByte(sizeIndex + 1, (byte) (size >>> 7 & 0x7F | 0x80));
+        out.putByte(sizeIndex + 2, (byte) (size >>> 14));
+        out.writerIndex(sizeIndex + 3 + size);
+      }
+      if (out.writerIndex() >= rawSize) {
+        // not compressible, abort early.
+        shrink();
+        return false;
+      }
+    }
+    buffer.writerIndex(payloadStart);
+    buffer.writeBytes(out.getHeapMemory(), 0, out.writerIndex());
+    shrink();
+    return true;
+  }
+
+  /**
+   * Read compressed payload from <code>buffer</code> and returns a new buffer of decompressed data.
+   * A new buffer is created for every payload since deserialized objects may be slices of it. If
+   * <code>buffer</code> is read from a {@link FuryInputStream} or {@link FuryReadableChannel},
+   * blocks are decompressed only when the returned buffer reads them.
+   */
+  public MemoryBuffer decompress(MemoryBuffer buffer) {
+    if (isStream(buffer)) {
+      return new BlockStreamReader(buffer, readRawSize(buffer, false)).buffer;
+    }
+    return decompressFully(buffer);
+  }
+
+  /**
+   * Read compressed payload from <code>buffer</code> and returns a new buffer of all decompressed
+   * data.
+   */
+  public MemoryBuffer decompressFully(MemoryBuffer buffer) {
+    int rawSize = readRawSize(buffer, !isStream(buffer));
+    // grow as blocks are decompressed instead of trusting `rawSize`.
+    byte[] raw = new byte[Math.min(rawSize, BLOCK_SIZE)];
+    int pos = 0;
+    while (pos < rawSize) {
+      int blockSize = readBlockSize(buffer, pos, rawSize);
+      if (pos + blockSize > raw.length) {
+        raw =
+            Arrays.copyOf(raw, (int) Math.min(rawSize, Math.max(pos + blockSize, raw.length * 2L)));
+      }
+      readBlock(buffer, raw, pos, blockSize);
+      pos += blockSize;
+    }
+    shrink();
+    return MemoryBuffer.fromByteArray(raw, 0, rawSize);
+  }
+
+  private static boolean isStream(MemoryBuffer buffer) {
+    FuryStreamReader reader = buffer.getStreamReader();
+    return reader instanceof FuryInputStream || reader instanceof FuryReadableChannel;
+  }
+
+  private int readRawSize(MemoryBuffer buffer, boolean checkRatio) {
+    int rawSize = buffer.readVarUint32();
+    if (rawSize < 0 || rawSize > maxSize) {
+      throw new DeserializationException(
+          String.format("Invalid compressed payload size %d, max size is %d", rawSize, maxSize));
+    }
+    // every block takes at least 3 bytes for its sizes and data.
+    long numBlocks = (rawSize + (long) BLOCK_SIZE - 1) / BLOCK_SIZE;
+    if (checkRatio && numBlocks * 3 > buffer.remaining()) {
+      throw new DeserializationException(
+          String.format(
+              "Compressed payload size %d is too large for %d bytes", rawSize, buffer.remaining()));
+    }
+    return rawSize;
+  }
+
+  private int readBlockSize(MemoryBuffer buffer, int pos, int rawSize) {
+    int blockSize = buffer.readVarUint32();
+    if (blockSize <= 0 || blockSize > BLOCK_SIZE || blockSize > rawSize - pos) {
+      throw new DeserializationException("Invalid compressed block size " + blockSize);
+    }
+    return blockSize;
+  }
+
+  private void readBlock(MemoryBuffer buffer, byte[] raw, int pos, int blockSize) {
+    int size = buffer.readVarUint32();
+    // blocks which can't be compressed to a smaller size are stored raw.
+    if (size < 0 || size >= blockSize) {
+      throw new DeserializationException(
+          String.format("Invalid compressed block of size %d/%d", blockSize, size));
+    }
+    if (size == 0) {
+      buffer.readBytes(raw, pos, blockSize);
+    } else {
+      buffer.checkReadableBytes(size);
+      byte[] src = buffer.getHeapMemory();
+      if (src != null) {
+        int srcOffset =
+            (int) (buffer.getUnsafeAddress() - Platform.BYTE_ARRAY_OFFSET) + buffer.readerIndex();
+        compressor.decompress(src, srcOffset, size, raw, pos, blockSize);
+        buffer.increaseReaderIndex(size);
+      } else {
+        src = getScratch(size);
+        buffer.readBytes(src, 0, size);
+        compressor.decompress(src, 0, size, raw, pos, blockSize);
+      }
+    }
+  }
+
+  private byte[] getScratch(int size) {
+    byte[] bytes = scratch;
+    if (bytes == null || bytes.length < size) {
+      bytes = scratch = new byte[size];
+    }
+    return bytes;
+  }
+
+  private void shrink() {
+    if (compressed != null && compressed.size() > scratchSizeLimit) {
+      compressed = null;
+    }
+    if (scratch != null && scratch.length > scratchSizeLimit) {
+      scratch = null;
+    }
+  }
+
+  /**
+   * A {@link FuryStreamReader} which decompresses blocks from an input stream into its buffer one
+   * by one when more data is needed.
+   */
+  private final class BlockStreamReader extends AbstractStreamReader {
+    private final MemoryBuffer input;
+    private final int rawSize;
+    private final MemoryBuffer buffer;
+
+    private BlockStreamReader(MemoryBuffer input, int rawSize) {
+      this.input = input;
+      this.rawSize = rawSize;
+      buffer = MemoryBuffer.fromByteArray(new byte[Math.min(rawSize, BLOCK_SIZE)], 0, 0, this);
+    }
+
+    @Override
+    public int fillBuffer(int minFillSize) {
+      MemoryBuffer buffer = this.buffer;
+      int size = buffer.size();
+      if (minFillSize > rawSize - size) {
+        throw new IndexOutOfBoundsException(
+            String.format(
+                "No enough data in the compressed payload of size %d: %d + %d",
+                rawSize, size, minFillSize));
+      }
+      int pos = size;
+      while (pos < size + minFillSize) {
+        int blockSize = readBlockSize(input, pos, rawSize);
+        byte[] heapMemory = buffer.getHeapMemory();
+        if (pos + blockSize > heapMemory.length) {
+          // Copy to a new array, deserialized objects may be slices of the current one.
+          byte[] newMemory =
+              new byte[(int) Math.min(rawSize, Math.max(pos + blockSize, heapMemory.length * 2L))];
+          System.arraycopy(heapMemory, 0, newMemory, 0, pos);
+          buffer.initHeapBuffer(newMemory, 0, pos);
+          heapMemory = newMemory;
+        }
+        readBlock(input, heapMemory, pos, blockSize);
+        pos += blockSize;
+        buffer.increaseSize(blockSize);
+      }
+      if (pos == rawSize) {
+        shrink();
+      }
+      return pos - size;
+    }
+
+    @Override
+    public void readTo(byte[] dst, int dstIndex, int length) {
+      int remaining = buffer.remaining();
+      if (remaining < length) {
+        fillBuffer(length - remaining);
+      }
+      buffer.readBytes(dst, dstIndex, length);
+    }
+
+    @Override
+    public void readToUnsafe(Object target, long targetPointer, int numBytes) {
+      MemoryBuffer buf = buffer;
+      int remaining = buf.remaining();
+      if (remaining < numBytes) {
+        fillBuffer(numBytes - remaining);
+      }
+      Platform.copyMemory(
+          buf.getHeapMemory(), buf.getUnsafeReaderAddress(), target, targetPointer, numBytes);
+      buf.increaseReaderIndex(numBytes);
+    }
+
+    @Override
+    public void readToByteBuffer(ByteBuffer dst, int length) {
+      MemoryBuffer buf = buffer;
+      int remaining = buf.remaining();
+      if (remaining < length) {
+        fillBuffer(length - remaining);
+      }
+      buf.read(dst, length);
+    }
+
+    @Override
+    public int readToByteBuffer(ByteBuffer dst) {
+      MemoryBuffer buf = buffer;
+      int length = Math.min(dst.remaining(), rawSize - buf.readerIndex());
+      readToByteBuffer(dst, length);
+      return length;
+    }
+
+    @Override
+    public MemoryBuffer getBuffer() {
+      return buffer;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.io;
+
+/**
+ * A block compressor used to compress the whole serialized payload, see {@link
+ * org.apache.fury.config.FuryBuilder#withPayloadCompression}. The implementation of this interface
+ * should be thread safe, and should implement `equals/hashCode` so that furies created with equal
+ * compressors can share generated serializers.
+ */
+public interface PayloadCompressor {
+  /** Returns the max size of compressed data for a block of <code>length</code> bytes. */
+  int maxCompressedLength(int length);
+
+  /**
+   * Compress <code>length</code> bytes of <code>src</code> into <code>dst</code>. The space of
+   * <code>dst</code> is at least {@link #maxCompressedLength(int)} bytes.
+   *
+   * @return size of compressed data.
+   */
+  int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset);
+
+  /**
+   * Decompress <code>length</code> bytes of <code>src</code> into exactly <code>rawLength</code>
+   * bytes of <code>dst</code>.
+   */
+  void decompress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int rawLength);
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.jfr;
+
+import org.apache.fury.annotation.Internal;
+
+/**
+ * Recorder of fury events, implemented by <code>fury-jfr</code> on top of Java Flight Recorder.
+ * Events are passed around as opaque objects so this module doesn't depend on <code>jdk.jfr
+ * </code>, which doesn't exist on JDK 8.
+ *
+ * @see FuryEvents
+ */
+@Internal
+public interface EventRecorder {
+  /** Returns a started serialize event, or null if it's not enabled in current recording. */
+  Object beginSerialize();
+
+  void commitSerialize(Object event, Object obj, long bytes);
+
+  /** Returns a started deserialize event, or null if it's not enabled in current recording. */
+  Object beginDeserialize();
+
+  void commitDeserialize(Object event, Object obj, long bytes);
+
+  /** Returns a started compile event, or null if it's not enabled in current recording. */
+  Object beginCompile();
+
+  void commitCompile(
+      Object event, String classNames, long sourceSize, boolean cached, boolean async);
+
+  /** Returns a started class defs write event, or null if it's not enabled. */
+  Object beginWriteClassDefs();
+
+  void commitWriteClassDefs(Object event, int numClassDefs, long bytes);
+
+  void bufferGrow(long oldSize, long newSize);
+}
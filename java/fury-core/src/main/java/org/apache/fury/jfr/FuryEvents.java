@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.jfr;
+
+import org.apache.fury.annotation.Internal;
+import org.apache.fury.util.ExceptionUtils;
+
+/**
+ * Java Flight Recorder events of fury. Events are disabled by default, add <code>fury-jfr</code> to
+ * classpath and set system property <code>fury.enable_jfr_events</code> or env <code>
+ * FURY_ENABLE_JFR_EVENTS</code> to <code>true</code> to enable them. Event classes live in <code>
+ * fury-jfr</code> which requires JDK 11+, this facade is all fury core knows about them.
+ *
+ * <p>{@link #ENABLED} is a static final constant, callers must check it before invoking other
+ * methods of this class, so disabled events will be removed by JIT entirely.
+ */
+@Internal
+public class FuryEvents {
+  private static final String RECORDER_CLASS = "org.apache.fury.jfr.events.JfrEventRecorder";
+
+  private static final EventRecorder RECORDER = loadRecorder();
+
+  public static final boolean ENABLED =
+      "true"
+              .equalsIgnoreCase(
+                  System.getProperty(
+                      "fury.enable_jfr_events", System.getenv("FURY_ENABLE_JFR_EVENTS")))
+          && RECORDER != null;
+
+  private static EventRecorder loadRecorder() {
+    try {
+      // fails on JVMs without JFR or when `fury-jfr` is not in classpath.
+      return (EventRecorder)
+          Class.forName(RECORDER_CLASS, true, FuryEvents.class.getClassLoader())
+              .getConstructor()
+              .newInstance();
+    } catch (Throwable e) {
+      ExceptionUtils.ignore(e);
+      return null;
+    }
+  }
+
+  /** Returns a started serialize event, or null if it's not enabled in current recording. */
+  public static Object beginSerialize() {
+    return RECORDER.beginSerialize();
+  }
+
+  public static void commitSerialize(Object event, Object obj, long bytes) {
+    RECORDER.commitSerialize(event, obj, bytes);
+  }
+
+  /** Returns a started deserialize event, or null if it's not enabled in current recording. */
+  public static Object beginDeserialize() {
+    return RECORDER.beginDeserialize();
+  }
+
+  public static void commitDeserialize(Object event, Object obj, long bytes) {
+    RECORDER.commitDeserialize(event, obj, bytes);
+  }
+
+  /** Returns a started compile event, or null if it's not enabled in current recording. */
+  public static Object beginCompile() {
+    return RECORDER.beginCompile();
+  }
+
+  public static void commitCompile(
+      Object event, String classNames, long sourceSize, boolean cached, boolean async) {
+    RECORDER.commitCompile(event, classNames, sourceSize, cached, async);
+  }
+
+  /** Returns a started class defs write event, or null if it's not enabled. */
+  public static Object beginWriteClassDefs() {
+    return RECORDER.beginWriteClassDefs();
+  }
+
+  public static void commitWriteClassDefs(Object event, int numClassDefs, long bytes) {
+    RECORDER.commitWriteClassDefs(event, numClassDefs, bytes);
+  }
+
+  public static void bufferGrow(long oldSize, long newSize) {
+    RECORDER.bufferGrow(oldSize, newSize);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+import java.nio.ByteBuffer;
+import org.apache.fury.io.FuryStreamWriter;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A {@link MemoryBuffer} backed by a block leased from {@link MemoryBufferPool}. When the buffer is
+ * full, a bigger block will be acquired from the pool, written data will be copied into it and the
+ * old block will be returned to the pool. {@link #release} must be invoked after the buffer is
+ * used, the buffer can't be used anymore after released.
+ *
+ * <p>This class is not thread-safe, but it can be released by another thread.
+ */
+public final class LeasedBuffer implements FuryStreamWriter, AutoCloseable {
+  private final MemoryBufferPool pool;
+  private final MemoryBuffer buffer;
+  private Object block;
+
+  LeasedBuffer(MemoryBufferPool pool, int minSize) {
+    this.pool = pool;
+    block = pool.allocateBlock(minSize);
+    if (block instanceof byte[]) {
+      buffer = MemoryBuffer.fromByteArray((byte[]) block, this);
+    } else {
+      buffer = MemoryBuffer.fromDirectByteBuffer((ByteBuffer) block, this);
+    }
+  }
+
+  @Override
+  public MemoryBuffer getBuffer() {
+    Preconditions.checkState(block != null, "Buffer has been released");
+    return buffer;
+  }
+
+  /** Returns size of leased block, which is not less than size of written data. */
+  public int capacity() {
+    Preconditions.checkState(block != null, "Buffer has been released");
+    return MemoryBufferPool.blockSize(block);
+  }
+
+  /** Grow the buffer by a bigger block from pool, written data won't be flushed but copied. */
+  @Override
+  public void flushBuffer(int minSize) {
+    Preconditions.checkState(block != null, "Buffer has been released");
+    MemoryBuffer buffer = this.buffer;
+    if (minSize <= buffer.size()) {
+      return;
+    }
+    // Pooled blocks are power-of-two sized, doubling the size keeps growth amortized.
+    int newSize =
+        (int) Math.min(Math.max(minSize, (long) buffer.size() << 1), Integer.MAX_VALUE - 8);
+    Object newBlock = pool.allocateBlock(newSize);
+    int writerIndex = buffer.writerIndex();
+    if (newBlock instanceof byte[]) {
+      byte[] heapBlock = (byte[]) newBlock;
+      buffer.copyToUnsafe(0, heapBlock, Platform.BYTE_ARRAY_OFFSET, writerIndex);
+      buffer.pointTo(heapBlock, 0, heapBlock.length);
+    } else {
+      ByteBuffer directBlock = (ByteBuffer) newBlock;
+      long address = ByteBufferUtil.getAddress(directBlock);
+      buffer.copyToUnsafe(0, null, address, writerIndex);
+      buffer.initDirectBuffer(address, directBlock.capacity(), directBlock);
+    }
+    Object oldBlock = block;
+    block = newBlock;
+    pool.releaseBlock(oldBlock);
+  }
+
+  /** Returns whether this buffer has been released to the pool. */
+  public boolean isReleased() {
+    return block == null;
+  }
+
+  /** Return leased memory to the pool. */
+  public void release() {
+    Object block = this.block;
+    Preconditions.checkState(block != null, "Buffer has been released");
+    this.block = null;
+    pool.releaseBlock(block);
+  }
+
+  @Override
+  public void close() {
+    if (block != null) {
+      release();
+    }
+  }
+}
@@ -26,6 +26,8 @@ import java.util.Arrays;
 import org.apache.fury.annotation.CodegenInvoke;
 import org.apache.fury.io.AbstractStreamReader;
 import org.apache.fury.io.FuryStreamReader;
+import org.apache.fury.io.FuryStreamWriter;
+import org.apache.fury.jfr.FuryEvents;
 import sun.misc.Unsafe;
 
 /**
@@ -88,6 +90,13 @@ public final class MemoryBuffer {
   private int readerIndex;
   private int writerIndex;
   private final FuryStreamReader streamReader;
+  // If not null, growing will flush written data to the writer instead of copying to a bigger
+  // buffer.
+  private FuryStreamWriter streamWriter;
+  // Written data from this index won't be flushed by `streamWriter`, since it may be updated later.
+  private int flushHoldIndex = Integer.MAX_VALUE;
+  // Data before this index has been flushed by `streamWriter` and is not accessible anymore.
+  private int flushedIndex;
 
   /**
    * Creates a new memory buffer that represents the memory of the byte array.
@@ -177,6 +186,7 @@ public final class MemoryBuffer {
     this.address = offHeapAddress;
     this.addressLimit = this.address + size;
     this.size = size;
+    this.flushedIndex = 0;
   }
 
   private class BoundChecker extends AbstractStreamReader {
@@ -204,6 +214,7 @@ public final class MemoryBuffer {
     this.address = startPos;
     this.size = length;
     this.addressLimit = startPos + length;
+    this.flushedIndex = 0;
   }
 
   // ------------------------------------------------------------------------
@@ -301,6 +312,19 @@ public final class MemoryBuffer {
   // ------------------------------------------------------------------------
 
   private void checkPosition(long index, long pos, long length) {
+    if (BoundsChecking.BOUNDS_CHECKING_ENABLED) {
+      if (index < flushedIndex || pos > addressLimit - length) {
+        throwOOBException(index);
+      }
+    }
+  }
+
+  // Updating flushed data will write out of current memory, so this is checked even if bounds
+  // checking is disabled. `flushedIndex` is always 0 if no `streamWriter` is attached.
+  private void checkPutPosition(long index, long pos, long length) {
+    if (index < flushedIndex) {
+      throwOOBException(index);
+    }
     if (BoundsChecking.BOUNDS_CHECKING_ENABLED) {
       if (index < 0 || pos > addressLimit - length) {
         throwOOBException();
@@ -357,6 +381,9 @@ public final class MemoryBuffer {
     if ((offset | numBytes | (offset + numBytes) | (remaining - numBytes)) < 0) {
       throwOOBException();
     }
+    if (offset < flushedIndex) {
+      throwOOBException(offset);
+    }
     final int sourcePos = source.position();
     if (source.isDirect()) {
       final long sourceAddr = ByteBufferUtil.getAddress(source) + sourcePos;
@@ -389,6 +416,9 @@ public final class MemoryBuffer {
         < 0) {
       throwOOBException();
     }
+    if (index < flushedIndex) {
+      throwOOBException(index);
+    }
     final long arrayAddress = Platform.BYTE_ARRAY_OFFSET + offset;
     Platform.copyMemory(src, arrayAddress, heapMemory, pos, length);
   }
@@ -401,13 +431,13 @@ public final class MemoryBuffer {
 
   public void putByte(int index, int b) {
     final long pos = address + index;
-    checkPosition(index, pos, 1);
+    checkPutPosition(index, pos, 1);
     UNSAFE.putByte(heapMemory, pos, (byte) b);
   }
 
   public void putByte(int index, byte b) {
     final long pos = address + index;
-    checkPosition(index, pos, 1);
+    checkPutPosition(index, pos, 1);
     UNSAFE.putByte(heapMemory, pos, b);
   }
 
@@ -418,7 +448,9 @@ public final class MemoryBuffer {
   }
 
   public void putBoolean(int index, boolean value) {
-    UNSAFE.putByte(heapMemory, address + index, (value ? (byte) 1 : (byte) 0));
+    final long pos = address + index;
+    checkPutPosition(index, pos, 1);
+    UNSAFE.putByte(heapMemory, pos, (value ? (byte) 1 : (byte) 0));
   }
 
   public char getChar(int index) {
@@ -430,7 +462,7 @@ public final class MemoryBuffer {
 
   public void putChar(int index, char value) {
     final long pos = address + index;
-    checkPosition(index, pos, 2);
+    checkPutPosition(index, pos, 2);
     if (!LITTLE_ENDIAN) {
       value = Character.reverseBytes(value);
     }
@@ -446,7 +478,7 @@ public final class MemoryBuffer {
 
   public void putInt16(int index, short value) {
     final long pos = address + index;
-    checkPosition(index, pos, 2);
+    checkPutPosition(index, pos, 2);
     if (!LITTLE_ENDIAN) {
       value = Short.reverseBytes(value);
     }
@@ -462,7 +494,7 @@ public final class MemoryBuffer {
 
   public void putInt32(int index, int value) {
     final long pos = address + index;
-    checkPosition(index, pos, 4);
+    checkPutPosition(index, pos, 4);
     if (!LITTLE_ENDIAN) {
       value = Integer.reverseBytes(value);
     }
@@ -494,7 +526,7 @@ public final class MemoryBuffer {
 
   public void putInt64(int index, long value) {
     final long pos = address + index;
-    checkPosition(index, pos, 8);
+    checkPutPosition(index, pos, 8);
     if (!LITTLE_ENDIAN) {
       value = Long.reverseBytes(value);
     }
@@ -529,7 +561,7 @@ public final class MemoryBuffer {
 
   public void putFloat32(int index, float value) {
     final long pos = address + index;
-    checkPosition(index, pos, 4);
+    checkPutPosition(index, pos, 4);
     int v = Float.floatToRawIntBits(value);
     if (!LITTLE_ENDIAN) {
       v = Integer.reverseBytes(v);
@@ -549,7 +581,7 @@ public final class MemoryBuffer {
 
   public void putFloat64(int index, double value) {
     final long pos = address + index;
-    checkPosition(index, pos, 8);
+    checkPutPosition(index, pos, 8);
     long v = Double.doubleToRawLongBits(value);
     if (!LITTLE_ENDIAN) {
       v = Long.reverseBytes(v);
@@ -557,6 +589,18 @@ public final class MemoryBuffer {
     UNSAFE.putLong(heapMemory, pos, v);
   }
 
+  // Check should be done outside to avoid this method got into the critical path.
+  private void throwOOBException(long index) {
+    if (index < flushedIndex && index >= 0) {
+      throw new IndexOutOfBoundsException(
+          String.format(
+              "Index %d has been flushed by %s, data before %d is not accessible anymore. Data "
+                  + "which will be updated later must be held by reserveForUpdate or holdFlush.",
+              index, streamWriter, flushedIndex));
+    }
+    throwOOBException();
+  }
+
   // Check should be done outside to avoid this method got into the critical path.
   private void throwOOBException() {
     throw new IndexOutOfBoundsException(
@@ -1233,15 +1277,109 @@ public final class MemoryBuffer {
   }
 
   private void growBuffer(int length) {
+    if (streamWriter != null) {
+      streamWriter.flushBuffer(length);
+      return;
+    }
     int newSize =
         length < BUFFER_GROW_STEP_THRESHOLD
             ? length << 2
             : (int) Math.min(length * 1.5d, Integer.MAX_VALUE - 8);
+    if (FuryEvents.ENABLED) {
+      FuryEvents.bufferGrow(size, newSize);
+    }
     byte[] data = new byte[newSize];
     copyToUnsafe(0, data, Platform.BYTE_ARRAY_OFFSET, size());
     initHeapBuffer(data, 0, data.length);
   }
 
+  /**
+   * Hold data written from <code>index</code> in this buffer, so that the {@link FuryStreamWriter}
+   * won't flush it before {@link #releaseFlush} is invoked with same index. This is needed for data
+   * which will be updated after more data are written, such as a size placeholder. Holds must be
+   * released in reverse order.
+   */
+  public void holdFlush(int index) {
+    if (index < flushHoldIndex) {
+      flushHoldIndex = index;
+    }
+  }
+
+  /**
+   * Release the hold by {@link #holdFlush} or {@link #reserveForUpdate} on <code>index</code>,
+   * {@link Integer#MAX_VALUE} releases all holds.
+   */
+  public void releaseFlush(int index) {
+    // Holds are nested, only the outermost hold takes effect.
+    if (index == flushHoldIndex || index == Integer.MAX_VALUE) {
+      flushHoldIndex = Integer.MAX_VALUE;
+    }
+  }
+
+  /**
+   * Skip <code>numBytes</code> for data which will be updated later and hold them from being
+   * flushed by {@link FuryStreamWriter}. {@link #releaseFlush} must be invoked with returned index
+   * after the data is updated.
+   *
+   * @return the index of reserved bytes.
+   */
+  public int reserveForUpdate(int numBytes) {
+    final int writerIdx = writerIndex;
+    final int newIdx = writerIdx + numBytes;
+    ensure(newIdx);
+    writerIndex = newIdx;
+    if (writerIdx < flushHoldIndex) {
+      flushHoldIndex = writerIdx;
+    }
+    return writerIdx;
+  }
+
+  public int flushHoldIndex() {
+    return flushHoldIndex;
+  }
+
+  public FuryStreamWriter getStreamWriter() {
+    return streamWriter;
+  }
+
+  /**
+   * Point this buffer to <code>buffer</code> and map index <code>baseIndex</code> of this buffer to
+   * <code>buffer[0]</code>. Data before <code>baseIndex</code> is not accessible anymore. This is
+   * used by {@link FuryStreamWriter} to reuse a chunk for new data without changing writer index.
+   */
+  public void rebaseHeapBuffer(byte[] buffer, int baseIndex) {
+    initHeapBuffer(buffer, -baseIndex, baseIndex + buffer.length);
+    flushedIndex = baseIndex;
+  }
+
+  /**
+   * Point this buffer to the whole capacity of direct <code>buffer</code> and map index <code>
+   * baseIndex</code> of this buffer to its first byte, see {@link #rebaseHeapBuffer}.
+   */
+  public void rebaseDirectBuffer(ByteBuffer buffer, int baseIndex) {
+    checkArgument(buffer.isDirect());
+    initDirectBuffer(
+        ByteBufferUtil.getAddress(buffer) - baseIndex, baseIndex + buffer.capacity(), buffer);
+    flushedIndex = baseIndex;
+  }
+
+  /**
+   * Returns the index before which data has been flushed by {@link FuryStreamWriter}. Accessing
+   * data before this index by random access methods such as {@link #putInt32} will throw {@link
+   * IndexOutOfBoundsException}.
+   */
+  public int flushedIndex() {
+    return flushedIndex;
+  }
+
+  /**
+   * Set the index before which data has been flushed by {@link FuryStreamWriter}, this must be
+   * invoked after the buffer is re-initialized for data starting from <code>flushedIndex</code>.
+   */
+  public void flushedIndex(int flushedIndex) {
+    this.flushedIndex = flushedIndex;
+  }
+
   // -------------------------------------------------------------------------
   //                          Read Methods
   // -------------------------------------------------------------------------
@@ -2611,6 +2749,16 @@ public final class MemoryBuffer {
     return new MemoryBuffer(buffer, offset, length, streamReader);
   }
 
+  /**
+   * Creates a new memory buffer that targets to the given heap memory, written data will be flushed
+   * to <code>streamWriter</code> when the buffer is full.
+   */
+  public static MemoryBuffer fromByteArray(byte[] buffer, FuryStreamWriter streamWriter) {
+    MemoryBuffer memoryBuffer = new MemoryBuffer(buffer, 0, buffer.length);
+    memoryBuffer.streamWriter = streamWriter;
+    return memoryBuffer;
+  }
+
   /** Creates a new memory buffer that targets to the given heap memory region. */
   public static MemoryBuffer fromByteArray(byte[] buffer) {
     return new MemoryBuffer(buffer, 0, buffer.length);
@@ -2639,6 +2787,19 @@ public final class MemoryBuffer {
     return new MemoryBuffer(offHeapAddress, size, buffer, streamReader);
   }
 
+  /**
+   * Creates a new memory buffer that targets to the whole capacity of given direct buffer, written
+   * data will be flushed to <code>streamWriter</code> when the buffer is full.
+   */
+  public static MemoryBuffer fromDirectByteBuffer(
+      ByteBuffer buffer, FuryStreamWriter streamWriter) {
+    checkArgument(buffer.isDirect());
+    MemoryBuffer memoryBuffer =
+        new MemoryBuffer(ByteBufferUtil.getAddress(buffer), buffer.capacity(), buffer);
+    memoryBuffer.streamWriter = streamWriter;
+    return memoryBuffer;
+  }
+
   /**
    * Creates a new memory buffer that represents the provided native memory. The buffer will change
    * into a heap buffer automatically if not enough.
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.concurrent.ThreadSafe;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A thread-safe pool of memory blocks for {@link MemoryBuffer}. Block sizes are power-of-two size
+ * classes from {@code minBlockSize} to {@code maxBlockSize}, blocks bigger than {@code
+ * maxBlockSize} are not pooled. Released blocks up to {@code maxThreadCacheBlockSize} are cached by
+ * the releasing thread first, so memory retained by every thread is bounded by a few small blocks.
+ * Other blocks are shared by all threads in bounded queues.
+ *
+ * <p>Blocks are leased by {@link #acquire} as {@link LeasedBuffer}, which grows by acquiring a
+ * bigger block from this pool and must be released after used. Raw blocks can be allocated by
+ * {@link #allocate} and returned by {@link #release} too.
+ */
+@ThreadSafe
+public final class MemoryBufferPool {
+  /** Default size of biggest block cached per thread, smaller blocks are acquired more often. */
+  public static final int DEFAULT_MAX_THREAD_CACHE_BLOCK_SIZE = 32 * 1024;
+
+  private final boolean direct;
+  private final int minBlockSizeShift;
+  private final int numSizeClasses;
+  private final int numThreadCachedSizeClasses;
+  private final int sharedCacheSize;
+  private final ConcurrentLinkedQueue<Object>[] sharedBlocks;
+  private final AtomicInteger[] numSharedBlocks;
+  private final ThreadLocal<BlockStack[]> threadCaches;
+
+  /** Create a pool of heap memory with block size from 1KB to 16MB. */
+  public MemoryBufferPool() {
+    this(false, 1024, 16 * 1024 * 1024, 4, 64);
+  }
+
+  /**
+   * Create a pool of memory blocks, blocks up to {@link #DEFAULT_MAX_THREAD_CACHE_BLOCK_SIZE} are
+   * cached per thread.
+   *
+   * @see #MemoryBufferPool(boolean, int, int, int, int, int)
+   */
+  public MemoryBufferPool(
+      boolean direct,
+      int minBlockSize,
+      int maxBlockSize,
+      int threadCacheSize,
+      int sharedCacheSize) {
+    this(
+        direct,
+        minBlockSize,
+        maxBlockSize,
+        DEFAULT_MAX_THREAD_CACHE_BLOCK_SIZE,
+        threadCacheSize,
+        sharedCacheSize);
+  }
+
+  /**
+   * Create a pool of memory blocks.
+   *
+   * @param direct whether allocate off-heap memory by {@link ByteBuffer#allocateDirect}
+   * @param minBlockSize size of smallest block, will be rounded up to power of two
+   * @param maxBlockSize size of biggest pooled block, will be rounded up to power of two
+   * @param maxThreadCacheBlockSize size of biggest block cached per thread, bigger blocks are
+   *     shared by all threads only
+   * @param threadCacheSize max number of cached blocks per size class for every thread
+   * @param sharedCacheSize max number of shared blocks per size class
+   */
+  @SuppressWarnings("unchecked")
+  public MemoryBufferPool(
+      boolean direct,
+      int minBlockSize,
+      int maxBlockSize,
+      int maxThreadCacheBlockSize,
+      int threadCacheSize,
+      int sharedCacheSize) {
+    Preconditions.checkArgument(
+        minBlockSize > 0 && minBlockSize <= maxBlockSize && maxBlockSize <= 1 << 30,
+        "Invalid block size range");
+    Preconditions.checkArgument(
+        maxThreadCacheBlockSize >= 0 && threadCacheSize >= 0 && sharedCacheSize >= 0);
+    this.direct = direct;
+    this.minBlockSizeShift = shift(minBlockSize);
+    this.numSizeClasses = shift(maxBlockSize) - minBlockSizeShift + 1;
+    if (threadCacheSize == 0 || maxThreadCacheBlockSize < minBlockSize) {
+      numThreadCachedSizeClasses = 0;
+    } else {
+      // round down, a thread never caches blocks bigger than `maxThreadCacheBlockSize`.
+      int maxShift = 31 - Integer.numberOfLeadingZeros(maxThreadCacheBlockSize);
+      numThreadCachedSizeClasses = Math.min(maxShift - minBlockSizeShift + 1, numSizeClasses);
+    }
+    this.sharedCacheSize = sharedCacheSize;
+    sharedBlocks = new ConcurrentLinkedQueue[numSizeClasses];
+    numSharedBlocks = new AtomicInteger[numSizeClasses];
+    for (int i = 0; i < numSizeClasses; i++) {
+      sharedBlocks[i] = new ConcurrentLinkedQueue<>();
+      numSharedBlocks[i] = new AtomicInteger();
+    }
+    threadCaches =
+        ThreadLocal.withInitial(
+            () -> {
+              BlockStack[] stacks = new BlockStack[numThreadCachedSizeClasses];
+              for (int i = 0; i < numThreadCachedSizeClasses; i++) {
+                stacks[i] = new BlockStack(threadCacheSize);
+              }
+              return stacks;
+            });
+  }
+
+  // returns the exponent of the smallest power of two which is not less than size.
+  private static int shift(int size) {
+    return 32 - Integer.numberOfLeadingZeros(size - 1);
+  }
+
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /** Lease a buffer whose size is not less than {@code minSize}. */
+  public LeasedBuffer acquire(int minSize) {
+    Preconditions.checkArgument(minSize > 0, "minSize must be positive");
+    return new LeasedBuffer(this, minSize);
+  }
+
+  /**
+   * Allocate a block whose capacity is not less than {@code minSize}, the block is a direct buffer
+   * if this pool is direct, otherwise it wraps a whole heap array. The block should be returned by
+   * {@link #release} after used.
+   */
+  public ByteBuffer allocate(int minSize) {
+    Preconditions.checkArgument(minSize > 0, "minSize must be positive");
+    Object block = allocateBlock(minSize);
+    return block instanceof byte[] ? ByteBuffer.wrap((byte[]) block) : (ByteBuffer) block;
+  }
+
+  /** Return a block allocated by {@link #allocate} to this pool. */
+  public void release(ByteBuffer block) {
+    if (block.isDirect()) {
+      releaseBlock(block);
+    } else {
+      Preconditions.checkArgument(block.hasArray() && block.arrayOffset() == 0);
+      releaseBlock(block.array());
+    }
+  }
+
+  int sizeClass(int size) {
+    return Math.max(shift(size) - minBlockSizeShift, 0);
+  }
+
+  /** Returns a heap {@code byte[]} or direct {@link ByteBuffer} which is not less than size. */
+  Object allocateBlock(int size) {
+    int sizeClass = sizeClass(size);
+    if (sizeClass >= numSizeClasses) {
+      return newBlock(size);
+    }
+    Object block;
+    if (sizeClass < numThreadCachedSizeClasses) {
+      block = threadCaches.get()[sizeClass].pop();
+      if (block != null) {
+        return block;
+      }
+    }
+    block = sharedBlocks[sizeClass].poll();
+    if (block != null) {
+      numSharedBlocks[sizeClass].decrementAndGet();
+      return block;
+    }
+    return newBlock(1 << (sizeClass + minBlockSizeShift));
+  }
+
+  private Object newBlock(int size) {
+    return direct ? ByteBuffer.allocateDirect(size) : new byte[size];
+  }
+
+  void releaseBlock(Object block) {
+    int size = blockSize(block);
+    int sizeClass = sizeClass(size);
+    if (sizeClass >= numSizeClasses || size != 1 << (sizeClass + minBlockSizeShift)) {
+      // not pooled block.
+      return;
+    }
+    if (sizeClass < numThreadCachedSizeClasses && threadCaches.get()[sizeClass].push(block)) {
+      return;
+    }
+    if (numSharedBlocks[sizeClass].incrementAndGet() <= sharedCacheSize) {
+      sharedBlocks[sizeClass].add(block);
+    } else {
+      numSharedBlocks[sizeClass].decrementAndGet();
+    }
+  }
+
+  static int blockSize(Object block) {
+    return block instanceof byte[] ? ((byte[]) block).length : ((ByteBuffer) block).capacity();
+  }
+
+  /** Blocks cached by a thread for a size class, accessed by the owner thread only. */
+  private static final class BlockStack {
+    private final Object[] blocks;
+    private int size;
+
+    private BlockStack(int capacity) {
+      blocks = new Object[capacity];
+    }
+
+    private Object pop() {
+      if (size == 0) {
+        return null;
+      }
+      Object block = blocks[--size];
+      blocks[size] = null;
+      return block;
+    }
+
+    private boolean push(Object block) {
+      if (size == blocks.length) {
+        return false;
+      }
+      blocks[size++] = block;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.fury.builder.Generated;
+import org.apache.fury.serializer.Serializer;
+
+/**
+ * Metrics of a class which is the root of serialized or deserialized object graphs. Counters are
+ * {@link LongAdder} which stripe updates from different threads to different cells, so fury
+ * instances of a thread safe fury won't contend with each other. Only class names are kept, so
+ * metrics won't keep user classes and their class loaders alive.
+ */
+public final class ClassMetrics {
+  private final String className;
+  private final LongAdder serializedCount = new LongAdder();
+  private final LongAdder deserializedCount = new LongAdder();
+  private final LongAdder bytesWritten = new LongAdder();
+  private final LongAdder bytesRead = new LongAdder();
+  private final LongAdder serializeNanos = new LongAdder();
+  private final LongAdder deserializeNanos = new LongAdder();
+  private volatile String serializerClassName;
+  private volatile boolean jitSerializer;
+
+  ClassMetrics(Class<?> cls) {
+    this.className = cls.getName();
+  }
+
+  public void recordWrite(long bytes, long nanos) {
+    serializedCount.increment();
+    bytesWritten.add(bytes);
+    serializeNanos.add(nanos);
+  }
+
+  public void recordRead(long bytes, long nanos) {
+    deserializedCount.increment();
+    bytesRead.add(bytes);
+    deserializeNanos.add(nanos);
+  }
+
+  /** Update serializer in use, which may be switched to a JIT serializer asynchronously. */
+  public void updateSerializer(Serializer<?> serializer) {
+    Class<?> serializerClass = serializer.getClass();
+    String serializerClassName = serializerClass.getName();
+    if (!serializerClassName.equals(this.serializerClassName)) {
+      jitSerializer = Generated.class.isAssignableFrom(serializerClass);
+      this.serializerClassName = serializerClassName;
+    }
+  }
+
+  void reset() {
+    serializedCount.reset();
+    deserializedCount.reset();
+    bytesWritten.reset();
+    bytesRead.reset();
+    serializeNanos.reset();
+    deserializeNanos.reset();
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public long getSerializedCount() {
+    return serializedCount.sum();
+  }
+
+  public long getDeserializedCount() {
+    return deserializedCount.sum();
+  }
+
+  public long getBytesWritten() {
+    return bytesWritten.sum();
+  }
+
+  public long getBytesRead() {
+    return bytesRead.sum();
+  }
+
+  public long getSerializeTimeNanos() {
+    return serializeNanos.sum();
+  }
+
+  public long getDeserializeTimeNanos() {
+    return deserializeNanos.sum();
+  }
+
+  /** Returns serializer class name, or null if unknown, such as in cross-language mode. */
+  public String getSerializerClassName() {
+    return serializerClassName;
+  }
+
+  /** Returns true if the serializer in use is generated by fury JIT. */
+  public boolean isJitSerializer() {
+    return jitSerializer;
+  }
+
+  @Override
+  public String toString() {
+    return "ClassMetrics{"
+        + "class="
+        + getClassName()
+        + ", serializedCount="
+        + getSerializedCount()
+        + ", deserializedCount="
+        + getDeserializedCount()
+        + ", bytesWritten="
+        + getBytesWritten()
+        + ", bytesRead="
+        + getBytesRead()
+        + ", serializer="
+        + getSerializerClassName()
+        + '}';
+  }
+}
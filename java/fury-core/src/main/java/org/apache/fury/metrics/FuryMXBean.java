@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import java.util.List;
+
+/**
+ * JMX management interface of fury serialization metrics, registered under domain <code>
+ * org.apache.fury</code> for every fury or thread safe fury built with metrics enabled.
+ *
+ * @see org.apache.fury.config.FuryBuilder#withMetrics
+ */
+public interface FuryMXBean {
+  /** Returns name of the fury, which is used in the JMX object name too. */
+  String getName();
+
+  /** Returns metrics of root classes of serialized or deserialized object graphs. */
+  List<ClassMetrics> getClassMetrics();
+
+  long getSerializedCount();
+
+  long getDeserializedCount();
+
+  long getBytesWritten();
+
+  long getBytesRead();
+
+  /** Returns number of serializations which tracked at least one reference. */
+  long getRefTableUseCount();
+
+  /** Returns total number of objects put into the reference table. */
+  long getRefTableTrackedObjects();
+
+  /** Returns max number of objects tracked by the reference table in a serialization. */
+  long getRefTableMaxSize();
+
+  /**
+   * Returns total hash probes of reference table, which is collected only when system property
+   * <code>fury.enable_ref_profiling</code> is true.
+   */
+  long getRefTableTotalProbes();
+
+  /** Returns max hash probes of a reference table lookup, see {@link #getRefTableTotalProbes}. */
+  long getRefTableMaxProbe();
+
+  /** Reset all counters to zero. */
+  void reset();
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import com.google.common.collect.MapMaker;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.fury.collection.MapStatistics;
+import org.apache.fury.logging.Logger;
+import org.apache.fury.logging.LoggerFactory;
+
+/**
+ * Registry of serialization metrics shared by all fury instances of a thread safe fury. Metrics are
+ * recorded for root objects of top-level serialization calls only, nested objects are counted in
+ * bytes and time of their root.
+ */
+public final class FuryMetrics implements FuryMXBean {
+  private static final Logger LOG = LoggerFactory.getLogger(FuryMetrics.class);
+  private static final String DOMAIN = "org.apache.fury";
+  private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+
+  private final String name;
+  // Classes are weakly referenced to not leak user class loaders.
+  private final ConcurrentMap<Class<?>, ClassMetrics> classMetrics =
+      new MapMaker().weakKeys().makeMap();
+  private final LongAdder refTableUseCount = new LongAdder();
+  private final LongAdder refTableTrackedObjects = new LongAdder();
+  private final LongAccumulator refTableMaxSize = new LongAccumulator(Math::max, 0);
+  private final LongAdder refTableTotalProbes = new LongAdder();
+  private final LongAccumulator refTableMaxProbe = new LongAccumulator(Math::max, 0);
+  private ObjectName objectName;
+
+  public FuryMetrics(String name) {
+    this.name = name == null ? "fury-" + ID_GENERATOR.incrementAndGet() : name;
+  }
+
+  /** Returns metrics of <code>cls</code>, callers should cache it to avoid map lookup. */
+  public ClassMetrics getClassMetrics(Class<?> cls) {
+    ClassMetrics metrics = classMetrics.get(cls);
+    if (metrics == null) {
+      metrics = classMetrics.computeIfAbsent(cls, ClassMetrics::new);
+    }
+    return metrics;
+  }
+
+  /**
+   * Record reference table usage of a serialization.
+   *
+   * @param size number of objects tracked by the reference table
+   * @param statistics hash probe statistics, null if reference profiling is disabled
+   */
+  public void recordRefTable(int size, MapStatistics statistics) {
+    refTableUseCount.increment();
+    refTableTrackedObjects.add(size);
+    refTableMaxSize.accumulate(size);
+    if (statistics != null) {
+      refTableTotalProbes.add(statistics.totalProbeProfiled);
+      refTableMaxProbe.accumulate(statistics.maxProbeProfiled);
+    }
+  }
+
+  /**
+   * Register this registry to platform MBean server, failures are logged and ignored. Fury never
+   * registers metrics by itself, callers which register it must call {@link #unregister} when the
+   * fury is no longer used, otherwise the MBean server will keep this registry alive.
+   */
+  public synchronized void register() {
+    if (objectName != null) {
+      return;
+    }
+    try {
+      ObjectName objectName = new ObjectName(DOMAIN + ":type=Fury,name=" + ObjectName.quote(name));
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      if (server.isRegistered(objectName)) {
+        objectName =
+            new ObjectName(
+                DOMAIN
+                    + ":type=Fury,name="
+                    + ObjectName.quote(name)
+                    + ",id="
+                    + ID_GENERATOR.incrementAndGet());
+      }
+      server.registerMBean(this, objectName);
+      this.objectName = objectName;
+    } catch (Throwable t) {
+      LOG.warn("Register fury metrics {} to MBean server failed", name, t);
+    }
+  }
+
+  /** Unregister this registry from platform MBean server. */
+  public synchronized void unregister() {
+    if (objectName == null) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    } catch (Throwable t) {
+      LOG.warn("Unregister fury metrics {} failed", name, t);
+    }
+    objectName = null;
+  }
+
+  /** Returns JMX object name of this registry, or null if it's not registered. */
+  public synchronized ObjectName getObjectName() {
+    return objectName;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public List<ClassMetrics> getClassMetrics() {
+    return new ArrayList<>(classMetrics.values());
+  }
+
+  @Override
+  public long getSerializedCount() {
+    long count = 0;
+    for (ClassMetrics metrics : classMetrics.values()) {
+      count += metrics.getSerializedCount();
+    }
+    return count;
+  }
+
+  @Override
+  public long getDeserializedCount() {
+    long count = 0;
+    for (ClassMetrics metrics : classMetrics.values()) {
+      count += metrics.getDeserializedCount();
+    }
+    return count;
+  }
+
+  @Override
+  public long getBytesWritten() {
+    long bytes = 0;
+    for (ClassMetrics metrics : classMetrics.values()) {
+      bytes += metrics.getBytesWritten();
+    }
+    return bytes;
+  }
+
+  @Override
+  public long getBytesRead() {
+    long bytes = 0;
+    for (ClassMetrics metrics : classMetrics.values()) {
+      bytes += metrics.getBytesRead();
+    }
+    return bytes;
+  }
+
+  @Override
+  public long getRefTableUseCount() {
+    return refTableUseCount.sum();
+  }
+
+  @Override
+  public long getRefTableTrackedObjects() {
+    return refTableTrackedObjects.sum();
+  }
+
+  @Override
+  public long getRefTableMaxSize() {
+    return refTableMaxSize.get();
+  }
+
+  @Override
+  public long getRefTableTotalProbes() {
+    return refTableTotalProbes.sum();
+  }
+
+  @Override
+  public long getRefTableMaxProbe() {
+    return refTableMaxProbe.get();
+  }
+
+  @Override
+  public void reset() {
+    // Keep class metrics since fury instances cache them.
+    classMetrics.values().forEach(ClassMetrics::reset);
+    refTableUseCount.reset();
+    refTableTrackedObjects.reset();
+    refTableMaxSize.reset();
+    refTableTotalProbes.reset();
+    refTableMaxProbe.reset();
+  }
+}
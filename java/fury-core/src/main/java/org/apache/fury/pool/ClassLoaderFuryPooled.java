@@ -19,9 +19,10 @@
 
 package org.apache.fury.pool;
 
+import com.google.common.collect.MapMaker;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
@@ -49,7 +50,11 @@ public class ClassLoaderFuryPooled {
    */
   private final Queue<Fury> idleCacheQueue;
 
-  final WeakHashMap<Fury, Object> allFury = new WeakHashMap<>();
+  /**
+   * All created furies, weak keys are compared by identity. Use a concurrent map instead of a
+   * synchronized one so that fury creation never pins virtual thread carriers.
+   */
+  final Map<Fury, Object> allFury = new MapMaker().weakKeys().makeMap();
 
   /** active cache size's number change by : 1. getLoaderBind() 2. returnObject(LoaderBinding). */
   private final AtomicInteger activeCacheNumber = new AtomicInteger(0);
@@ -119,7 +124,7 @@ public class ClassLoaderFuryPooled {
     Fury fury = furyFactory.apply(classLoader);
     factoryCallback.accept(fury);
     idleCacheQueue.add(fury);
-    allFury.put(fury, null);
+    allFury.put(fury, Boolean.TRUE);
   }
 
   void setFactoryCallback(Consumer<Fury> factoryCallback) {
@@ -21,6 +21,8 @@ package org.apache.fury.pool;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -130,16 +132,22 @@ public class FuryPooledObjectFactory {
     classLoaderLocal.remove();
   }
 
-  /** Get cache or put new added pooledFury. */
-  private synchronized ClassLoaderFuryPooled getOrAddCache(ClassLoader classLoader) {
-    ClassLoaderFuryPooled classLoaderFuryPooled =
-        classLoaderFuryPooledCache.getIfPresent(classLoader);
-    if (classLoaderFuryPooled == null) {
-      classLoaderFuryPooled =
-          new ClassLoaderFuryPooled(classLoader, furyFactory, minPoolSize, maxPoolSize);
-      classLoaderFuryPooled.setFactoryCallback(factoryCallback);
-      classLoaderFuryPooledCache.put(classLoader, classLoaderFuryPooled);
+  /**
+   * Get cache or put new added pooledFury. Guava cache loads pooledFury for same classloader only
+   * once without holding a monitor, so virtual threads won't pin their carriers here.
+   */
+  private ClassLoaderFuryPooled getOrAddCache(ClassLoader classLoader) {
+    try {
+      return classLoaderFuryPooledCache.get(
+          classLoader,
+          () -> {
+            ClassLoaderFuryPooled classLoaderFuryPooled =
+                new ClassLoaderFuryPooled(classLoader, furyFactory, minPoolSize, maxPoolSize);
+            classLoaderFuryPooled.setFactoryCallback(factoryCallback);
+            return classLoaderFuryPooled;
+          });
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new RuntimeException(e.getCause());
     }
-    return classLoaderFuryPooled;
   }
 }
@@ -21,6 +21,7 @@ package org.apache.fury.pool;
 
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,11 +29,14 @@ import javax.annotation.concurrent.ThreadSafe;
 import org.apache.fury.AbstractThreadSafeFury;
 import org.apache.fury.Fury;
 import org.apache.fury.annotation.Internal;
+import org.apache.fury.io.ByteBufferOverflowHandler;
 import org.apache.fury.io.FuryInputStream;
 import org.apache.fury.io.FuryReadableChannel;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.memory.LeasedBuffer;
 import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryBufferPool;
 import org.apache.fury.memory.MemoryUtils;
 import org.apache.fury.resolver.ClassChecker;
 import org.apache.fury.serializer.BufferCallback;
@@ -110,6 +114,16 @@ public class ThreadPoolFury extends AbstractThreadSafeFury {
     return execute(fury -> fury.serialize(buffer, obj));
   }
 
+  @Override
+  public LeasedBuffer serialize(MemoryBufferPool pool, Object obj) {
+    return execute(fury -> fury.serialize(pool, obj));
+  }
+
+  @Override
+  public ByteBuffer serialize(ByteBuffer buffer, Object obj, ByteBufferOverflowHandler handler) {
+    return execute(fury -> fury.serialize(buffer, obj, handler));
+  }
+
   @Override
   public MemoryBuffer serialize(MemoryBuffer buffer, Object obj, BufferCallback callback) {
     return execute(fury -> fury.serialize(buffer, obj, callback));
@@ -188,6 +202,26 @@ public class ThreadPoolFury extends AbstractThreadSafeFury {
     return execute(fury -> fury.deserialize(channel, outOfBandBuffers));
   }
 
+  @Override
+  public byte[] serializeBatch(List<?> objects) {
+    return execute(fury -> fury.serializeBatch(objects));
+  }
+
+  @Override
+  public MemoryBuffer serializeBatch(MemoryBuffer buffer, List<?> objects) {
+    return execute(fury -> fury.serializeBatch(buffer, objects));
+  }
+
+  @Override
+  public List<Object> deserializeBatch(byte[] bytes) {
+    return execute(fury -> fury.deserializeBatch(bytes));
+  }
+
+  @Override
+  public List<Object> deserializeBatch(MemoryBuffer buffer) {
+    return execute(fury -> fury.deserializeBatch(buffer));
+  }
+
   @Override
   public byte[] serializeJavaObject(Object obj) {
     return execute(fury -> fury.serializeJavaObject(obj));
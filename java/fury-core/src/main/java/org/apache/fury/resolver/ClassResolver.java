@@ -84,6 +84,7 @@ import java.util.stream.Collectors;
 import org.apache.fury.Fury;
 import org.apache.fury.FuryCopyable;
 import org.apache.fury.annotation.CodegenInvoke;
+import org.apache.fury.annotation.FuryRef;
 import org.apache.fury.annotation.Internal;
 import org.apache.fury.builder.CodecUtils;
 import org.apache.fury.builder.Generated;
@@ -99,8 +100,10 @@ import org.apache.fury.collection.ObjectArray;
 import org.apache.fury.collection.ObjectMap;
 import org.apache.fury.collection.Tuple2;
 import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.Config;
 import org.apache.fury.config.Language;
 import org.apache.fury.exception.InsecureException;
+import org.apache.fury.jfr.FuryEvents;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 import org.apache.fury.memory.MemoryBuffer;
@@ -1027,7 +1030,13 @@ public class ClassResolver {
       } else {
         try {
           extRegistry.getClassCtx.add(cls);
-          Class<? extends Serializer> sc;
+          Class<? extends Serializer> sc =
+              CodecUtils.loadPregeneratedCodecClass(
+                  cls, fury, fury.getCompatibleMode() == CompatibleMode.COMPATIBLE && !shareMeta);
+          if (sc != null) {
+            // generated at build time, no need to generate at runtime.
+            return sc;
+          }
           switch (fury.getCompatibleMode()) {
             case SCHEMA_CONSISTENT:
               sc =
@@ -1114,6 +1123,23 @@ public class ClassResolver {
         Tuple2.of(clz, searchParent), t -> Descriptor.getAllDescriptorsMap(clz, searchParent));
   }
 
+  private static final ClassValue<Boolean> refTrackingDisabledCache =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          FuryRef furyRef = type.getAnnotation(FuryRef.class);
+          return furyRef != null && !furyRef.track();
+        }
+      };
+
+  /**
+   * Whether objects of <code>cls</code> opt out ref tracking by {@code @FuryRef(track = false)}.
+   * Such objects won't enter written object table of ref resolver.
+   */
+  public static boolean isRefTrackingDisabled(Class<?> cls) {
+    return refTrackingDisabledCache.get(cls);
+  }
+
   /**
    * Whether to track reference for this type. If false, reference tracing of subclasses may be
    * ignored too.
@@ -1131,6 +1157,47 @@ public class ClassResolver {
     return false;
   }
 
+  /**
+   * Whether to write field value of <code>descriptor</code> with reference flags. Besides {@link
+   * #needToWriteRef(Class)}, a field can enable ref tracking by {@code @FuryRef(track = true)} even
+   * if ref tracking is disabled, values of such fields are tracked by {@link
+   * Fury#getFieldRefResolver()} then. Field annotation is ignored in compatible or meta share mode,
+   * since peer class may not annotate the field in the same way.
+   *
+   * @see #isRefTrackingDisabled(Descriptor)
+   */
+  public boolean needToWriteRef(Descriptor descriptor) {
+    Class<?> cls = descriptor.getRawType();
+    if (needToWriteRef(cls)) {
+      return true;
+    }
+    Config config = fury.getConfig();
+    if (cls.isPrimitive()
+        || config.isMetaShareEnabled()
+        || config.getCompatibleMode() == CompatibleMode.COMPATIBLE) {
+      return false;
+    }
+    FuryRef furyRef = getFuryRef(descriptor);
+    return furyRef != null && furyRef.track();
+  }
+
+  /**
+   * Whether field value of <code>descriptor</code> opts out ref tracking by {@code @FuryRef(track =
+   * false)}. The value is still written with reference flags if {@link #needToWriteRef(Descriptor)}
+   * returns true, but won't be put into written object table of ref resolver. Reader is the same as
+   * other fields, so this is only needed by serialization.
+   */
+  public static boolean isRefTrackingDisabled(Descriptor descriptor) {
+    FuryRef furyRef = getFuryRef(descriptor);
+    return furyRef != null && !furyRef.track();
+  }
+
+  private static FuryRef getFuryRef(Descriptor descriptor) {
+    // `descriptor.getField()` will be null when peer class doesn't have this field.
+    Field field = descriptor.getField();
+    return field == null ? null : field.getAnnotation(FuryRef.class);
+  }
+
   public ClassInfo getClassInfo(short classId) {
     ClassInfo classInfo = registeredId2ClassInfo[classId];
     assert classInfo != null : classId;
@@ -1546,6 +1613,8 @@ public class ClassResolver {
     MetaContext metaContext = fury.getSerializationContext().getMetaContext();
     ObjectArray<ClassDef> writingClassDefs = metaContext.writingClassDefs;
     final int size = writingClassDefs.size;
+    Object event = FuryEvents.ENABLED ? FuryEvents.beginWriteClassDefs() : null;
+    int startWriterIndex = buffer.writerIndex();
     buffer.writeVarUint32Small7(size);
     if (buffer.isHeapFullyWriteable()) {
       writeClassDefs(buffer, writingClassDefs, size);
@@ -1555,6 +1624,9 @@ public class ClassResolver {
       }
     }
     metaContext.writingClassDefs.size = 0;
+    if (event != null) {
+      FuryEvents.commitWriteClassDefs(event, size, buffer.writerIndex() - startWriterIndex);
+    }
   }
 
   private void writeClassDefs(
@@ -25,11 +25,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.fury.Fury;
-import org.apache.fury.collection.IdentityObjectIntMap;
 import org.apache.fury.collection.IntArray;
 import org.apache.fury.collection.MapStatistics;
 import org.apache.fury.collection.ObjectArray;
+import org.apache.fury.collection.ReusableIdentityIntMap;
 import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.metrics.FuryMetrics;
 import org.apache.fury.util.Preconditions;
 
 /** Resolving reference by tracking reference by an IdentityMap. */
@@ -39,23 +40,24 @@ public final class MapRefResolver implements RefResolver {
   private static final boolean ENABLE_FURY_REF_PROFILING =
       "true".equalsIgnoreCase(System.getProperty("fury.enable_ref_profiling"));
 
-  // Map clean will zero all key array elements, which is unnecessary for
   private static final int DEFAULT_MAP_CAPACITY = 4;
   private static final int DEFAULT_ARRAY_CAPACITY = 4;
-  // use average size to amortise resize/clear cost.
-  // exponential smoothing can't reflect overall reference size, thus not
-  // suitable for amortization.
-  // FIXME median may be better, but calculate median streaming is complicated.
-  // FIXME is there a more accurate way to predict reference size?
-  // maybe more complicated exponential smoothing?
-  private long writeCounter;
-  private long writeTotalObjectSize = 0;
-  private long readCounter;
-  private long readTotalObjectSize = 0;
-  private final IdentityObjectIntMap<Object> writtenObjects =
-      new IdentityObjectIntMap<>(DEFAULT_MAP_CAPACITY, 0.51f);
+  // Shrink read objects array only if it's bigger than this times the expected size.
+  private static final int SHRINK_RATIO = 4;
+  // Expected object sizes of next call. It follows increased sizes immediately, and decays towards
+  // smaller sizes slowly, so that tables tuned for big object graphs are kept across calls, and an
+  // outlier big graph won't keep a huge table forever.
+  private int expectedWriteSize = DEFAULT_MAP_CAPACITY;
+  private int expectedReadSize = DEFAULT_ARRAY_CAPACITY;
+  private FuryMetrics metrics;
+  private final ReusableIdentityIntMap<Object> writtenObjects =
+      new ReusableIdentityIntMap<>(DEFAULT_MAP_CAPACITY);
   private final ObjectArray readObjects = new ObjectArray(DEFAULT_ARRAY_CAPACITY);
   private final IntArray readRefIds = new IntArray(DEFAULT_ARRAY_CAPACITY);
+  // Written objects may be less than ids when some objects opt out ref tracking.
+  private int nextWriteRefId;
+  private Class<?> lastCheckedClass;
+  private boolean lastRefTrackingDisabled;
 
   // last read object which is not a reference
   private Object readObject;
@@ -69,15 +71,7 @@ public final class MapRefResolver implements RefResolver {
       buffer._unsafeWriteByte(Fury.NULL_FLAG);
       return true;
     } else {
-      // The id should be consistent with `#nextReadRefId`
-      int newWriteRefId = writtenObjects.size;
-      int writtenRefId;
-      if (ENABLE_FURY_REF_PROFILING) {
-        // replaceRef is rare, just ignore it for profiling.
-        writtenRefId = writtenObjects.profilingPutOrGet(obj, newWriteRefId);
-      } else {
-        writtenRefId = writtenObjects.putOrGet(obj, newWriteRefId);
-      }
+      int writtenRefId = putOrGetWrittenRefId(obj);
       if (writtenRefId >= 0) {
         // The obj has been written previously.
         buffer._unsafeWriteByte(Fury.REF_FLAG);
@@ -95,15 +89,7 @@ public final class MapRefResolver implements RefResolver {
   public boolean writeRefValueFlag(MemoryBuffer buffer, Object obj) {
     assert obj != null;
     buffer.grow(10);
-    // The id should be consistent with `#nextReadRefId`
-    int newWriteRefId = writtenObjects.size;
-    int writtenRefId;
-    if (ENABLE_FURY_REF_PROFILING) {
-      // replaceRef is rare, just ignore it for profiling.
-      writtenRefId = writtenObjects.profilingPutOrGet(obj, newWriteRefId);
-    } else {
-      writtenRefId = writtenObjects.putOrGet(obj, newWriteRefId);
-    }
+    int writtenRefId = putOrGetWrittenRefId(obj);
     if (writtenRefId >= 0) {
       // The obj has been written previously.
       buffer._unsafeWriteByte(Fury.REF_FLAG);
@@ -116,6 +102,54 @@ public final class MapRefResolver implements RefResolver {
     }
   }
 
+  @Override
+  public boolean writeUntrackedRefOrNull(MemoryBuffer buffer, Object obj) {
+    if (obj == null) {
+      buffer.writeByte(Fury.NULL_FLAG);
+      return true;
+    }
+    // Take an id without entering the table, since reader will preserve an id for it too.
+    nextWriteRefId++;
+    buffer.writeByte(Fury.REF_VALUE_FLAG);
+    return false;
+  }
+
+  /**
+   * Returns ref id of <code>obj</code> if it's written before, otherwise assign a new ref id to it
+   * and return {@link Integer#MIN_VALUE}.
+   */
+  private int putOrGetWrittenRefId(Object obj) {
+    // The id should be consistent with `#nextReadRefId`
+    int newWriteRefId = nextWriteRefId;
+    if (isRefTrackingDisabled(obj.getClass())) {
+      // Take an id without entering the table, since reader will preserve an id for it too.
+      nextWriteRefId = newWriteRefId + 1;
+      return Integer.MIN_VALUE;
+    }
+    int writtenRefId;
+    if (ENABLE_FURY_REF_PROFILING) {
+      // replaceRef is rare, just ignore it for profiling.
+      writtenRefId = writtenObjects.profilingPutOrGet(obj, newWriteRefId);
+    } else {
+      writtenRefId = writtenObjects.putOrGet(obj, newWriteRefId);
+    }
+    if (writtenRefId < 0) {
+      nextWriteRefId = newWriteRefId + 1;
+    }
+    return writtenRefId;
+  }
+
+  private boolean isRefTrackingDisabled(Class<?> cls) {
+    // Checked before the class is resolved, so it can't rely on class info of the class.
+    // Objects of the same class are usually written together, so the class value lookup is
+    // skipped mostly.
+    if (cls != lastCheckedClass) {
+      lastCheckedClass = cls;
+      lastRefTrackingDisabled = ClassResolver.isRefTrackingDisabled(cls);
+    }
+    return lastRefTrackingDisabled;
+  }
+
   @Override
   public boolean writeNullFlag(MemoryBuffer buffer, Object obj) {
     if (obj == null) {
@@ -128,7 +162,11 @@ public final class MapRefResolver implements RefResolver {
   @Override
   public void replaceRef(Object original, Object newObject) {
     int newObjectId = writtenObjects.get(newObject, -1);
-    Preconditions.checkArgument(newObjectId != -1);
+    if (newObjectId == -1) {
+      // Objects which opt out ref tracking can't be referenced later.
+      Preconditions.checkArgument(isRefTrackingDisabled(newObject.getClass()));
+      return;
+    }
     writtenObjects.put(original, newObjectId);
   }
 
@@ -220,46 +258,46 @@ public final class MapRefResolver implements RefResolver {
     resetRead();
   }
 
+  /** Record reference table statistics to <code>metrics</code> on every write reset. */
+  public void setMetrics(FuryMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   @Override
   public void resetWrite() {
-    IdentityObjectIntMap<Object> writtenObjects = this.writtenObjects;
-    // TODO handle outlier big size.
-    long writeTotalObjectSize = this.writeTotalObjectSize + writtenObjects.size;
-    long writeCounter = this.writeCounter + 1;
-    if (writeCounter < 0 || writeTotalObjectSize < 0) { // overflow;
-      writeCounter = 1;
-      writeTotalObjectSize = writtenObjects.size;
-    }
-    this.writeCounter = writeCounter;
-    this.writeTotalObjectSize = writeTotalObjectSize;
-    int avg = (int) (writeTotalObjectSize / writeCounter);
-    if (avg <= DEFAULT_MAP_CAPACITY) {
-      avg = DEFAULT_MAP_CAPACITY;
+    ReusableIdentityIntMap<Object> writtenObjects = this.writtenObjects;
+    if (metrics != null && writtenObjects.size > 0) {
+      metrics.recordRefTable(
+          writtenObjects.size,
+          ENABLE_FURY_REF_PROFILING ? writtenObjects.getAndResetStatistics() : null);
     }
-    writtenObjects.clearApproximate(avg);
+    int expectedSize =
+        this.expectedWriteSize = expectedSize(expectedWriteSize, writtenObjects.size);
+    writtenObjects.clear(expectedSize);
+    nextWriteRefId = 0;
   }
 
   @Override
   public void resetRead() {
     ObjectArray readObjects = this.readObjects;
-    // TODO handle outlier big size.
-    long readTotalObjectSize = this.readTotalObjectSize + readObjects.size();
-    long readCounter = this.readCounter + 1;
-    if (readCounter < 0 || readTotalObjectSize < 0) { // overflow;
-      readCounter = 1;
-      readTotalObjectSize = readObjects.size();
-    }
-    this.readCounter = readCounter;
-    this.readTotalObjectSize = readTotalObjectSize;
-    int avg = (int) (readTotalObjectSize / readCounter);
-    if (avg <= DEFAULT_ARRAY_CAPACITY) {
-      avg = DEFAULT_ARRAY_CAPACITY;
+    int expectedSize = this.expectedReadSize = expectedSize(expectedReadSize, readObjects.size);
+    if (readObjects.objects.length > expectedSize * SHRINK_RATIO) {
+      readObjects.clearApproximate(expectedSize);
+    } else {
+      readObjects.clear();
     }
-    readObjects.clearApproximate(avg);
     readRefIds.clear();
     readObject = null;
   }
 
+  private static int expectedSize(int expectedSize, int size) {
+    if (size >= expectedSize) {
+      return size;
+    }
+    // decay by 1/8 of the difference.
+    return Math.max(expectedSize - ((expectedSize - size + 7) >>> 3), DEFAULT_ARRAY_CAPACITY);
+  }
+
   public static class RefStatistics {
     LinkedHashMap<Class<?>, Integer> refTypeSummary;
     int refCount;
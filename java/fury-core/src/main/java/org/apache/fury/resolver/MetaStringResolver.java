@@ -20,6 +20,7 @@
 package org.apache.fury.resolver;
 
 import java.util.Arrays;
+import org.apache.fury.collection.IdentityObjectIntMap;
 import org.apache.fury.collection.LongLongMap;
 import org.apache.fury.collection.LongMap;
 import org.apache.fury.collection.ObjectMap;
@@ -28,6 +29,7 @@ import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.meta.Encoders;
 import org.apache.fury.meta.MetaString;
 import org.apache.fury.util.MurmurHash3;
+import org.apache.fury.util.Preconditions;
 
 /**
  * A resolver for limited string value writing. Currently, we only support classname dynamic
@@ -55,6 +57,26 @@ public final class MetaStringResolver {
   private MetaStringBytes[] dynamicReadStringIds = new MetaStringBytes[32];
   private short dynamicWriteStringId;
   private short dynamicReadStringId;
+  private SessionState session;
+  private MetaStringBytes[] unboundWrittenString;
+  private MetaStringBytes[] unboundReadStringIds;
+
+  /**
+   * Dynamic string ids kept across serializations for a long-lived peer, so that every string is
+   * written in full only once for the peer.
+   *
+   * @see org.apache.fury.FurySession
+   */
+  public static final class SessionState {
+    private MetaStringBytes[] writtenString = new MetaStringBytes[8];
+    private MetaStringBytes[] readStringIds = new MetaStringBytes[8];
+    // Ids are kept per session instead of in shared `MetaStringBytes`, so that binding a session
+    // doesn't need to restore ids of all strings written for it.
+    private final IdentityObjectIntMap<MetaStringBytes> writtenStringIds =
+        new IdentityObjectIntMap<>(initialCapacity, furyMapLoadFactor);
+    private short numWrittenString;
+    private short numReadString;
+  }
 
   public MetaStringResolver() {
     dynamicWriteStringId = 0;
@@ -71,11 +93,21 @@ public final class MetaStringResolver {
   }
 
   public void writeMetaStringBytesWithFlag(MemoryBuffer buffer, MetaStringBytes byteString) {
-    short id = byteString.dynamicWriteStringId;
+    SessionState session = this.session;
+    short id =
+        session == null
+            ? byteString.dynamicWriteStringId
+            : (short)
+                session.writtenStringIds.get(
+                    byteString, MetaStringBytes.DEFAULT_DYNAMIC_WRITE_STRING_ID);
     if (id == MetaStringBytes.DEFAULT_DYNAMIC_WRITE_STRING_ID) {
       // noinspection Duplicates
       id = dynamicWriteStringId++;
-      byteString.dynamicWriteStringId = id;
+      if (session == null) {
+        byteString.dynamicWriteStringId = id;
+      } else {
+        session.writtenStringIds.put(byteString, id);
+      }
       MetaStringBytes[] dynamicWrittenMetaString = this.dynamicWrittenString;
       if (dynamicWrittenMetaString.length <= id) {
         dynamicWrittenMetaString = growWrite(id);
@@ -97,11 +129,21 @@ public final class MetaStringResolver {
   }
 
   public void writeMetaStringBytes(MemoryBuffer buffer, MetaStringBytes byteString) {
-    short id = byteString.dynamicWriteStringId;
+    SessionState session = this.session;
+    short id =
+        session == null
+            ? byteString.dynamicWriteStringId
+            : (short)
+                session.writtenStringIds.get(
+                    byteString, MetaStringBytes.DEFAULT_DYNAMIC_WRITE_STRING_ID);
     if (id == MetaStringBytes.DEFAULT_DYNAMIC_WRITE_STRING_ID) {
       // noinspection Duplicates
       id = dynamicWriteStringId++;
-      byteString.dynamicWriteStringId = id;
+      if (session == null) {
+        byteString.dynamicWriteStringId = id;
+      } else {
+        session.writtenStringIds.put(byteString, id);
+      }
       MetaStringBytes[] dynamicWrittenMetaString = this.dynamicWrittenString;
       if (dynamicWrittenMetaString.length <= id) {
         dynamicWrittenMetaString = growWrite(id);
@@ -284,12 +326,95 @@ public final class MetaStringResolver {
     return this.dynamicReadStringIds = tmp;
   }
 
+  /**
+   * Write all meta strings written since last {@link #resetWrite} in the order of their dynamic
+   * ids, so that data referencing them can be read after {@link #readDynamicStrings} without
+   * reading the data where they are written first.
+   */
+  public void writeDynamicStrings(MemoryBuffer buffer) {
+    int size = dynamicWriteStringId;
+    buffer.writeVarUint32Small7(size);
+    for (int i = 0; i < size; i++) {
+      MetaStringBytes byteString = dynamicWrittenString[i];
+      int length = byteString.bytes.length;
+      buffer.writeVarUint32Small7(length << 1);
+      if (length > SMALL_STRING_THRESHOLD) {
+        buffer.writeInt64(byteString.hashCode);
+      } else {
+        buffer.writeByte(byteString.encoding.getValue());
+      }
+      buffer.writeBytes(byteString.bytes);
+    }
+  }
+
+  /**
+   * Read meta strings written by {@link #writeDynamicStrings} as dynamic strings.
+   *
+   * @return number of dynamic strings read.
+   */
+  public int readDynamicStrings(MemoryBuffer buffer) {
+    resetRead();
+    int size = buffer.readVarUint32Small7();
+    for (int i = 0; i < size; i++) {
+      readMetaStringBytes(buffer);
+    }
+    return size;
+  }
+
+  /** Discard dynamic strings read after the first <code>size</code> ones. */
+  public void truncateDynamicReadStrings(int size) {
+    int dynamicReadId = this.dynamicReadStringId;
+    for (int i = size; i < dynamicReadId; i++) {
+      dynamicReadStringIds[i] = null;
+    }
+    this.dynamicReadStringId = (short) Math.min(size, dynamicReadId);
+  }
+
+  /**
+   * Use dynamic string ids of <code>session</code> for following serializations until {@link
+   * #unbindSession}. Ids are not reset after serialization when a session is bound.
+   */
+  public void bindSession(SessionState session) {
+    Preconditions.checkState(this.session == null, "A session is bound already");
+    Preconditions.checkState(
+        dynamicWriteStringId == 0 && dynamicReadStringId == 0,
+        "Can't bind session during serialization");
+    unboundWrittenString = dynamicWrittenString;
+    unboundReadStringIds = dynamicReadStringIds;
+    dynamicWrittenString = session.writtenString;
+    dynamicWriteStringId = session.numWrittenString;
+    dynamicReadStringIds = session.readStringIds;
+    dynamicReadStringId = session.numReadString;
+    this.session = session;
+  }
+
+  public void unbindSession() {
+    SessionState session = this.session;
+    if (session == null) {
+      return;
+    }
+    session.writtenString = dynamicWrittenString;
+    session.numWrittenString = dynamicWriteStringId;
+    session.readStringIds = dynamicReadStringIds;
+    session.numReadString = dynamicReadStringId;
+    dynamicWrittenString = unboundWrittenString;
+    dynamicReadStringIds = unboundReadStringIds;
+    unboundWrittenString = null;
+    unboundReadStringIds = null;
+    dynamicWriteStringId = 0;
+    dynamicReadStringId = 0;
+    this.session = null;
+  }
+
   public void reset() {
     resetRead();
     resetWrite();
   }
 
   public void resetRead() {
+    if (session != null) {
+      return;
+    }
     int dynamicReadId = this.dynamicReadStringId;
     if (dynamicReadId != 0) {
       for (int i = 0; i < dynamicReadId; i++) {
@@ -300,6 +425,9 @@ public final class MetaStringResolver {
   }
 
   public void resetWrite() {
+    if (session != null) {
+      return;
+    }
     int dynamicWriteStringId = this.dynamicWriteStringId;
     if (dynamicWriteStringId != 0) {
       for (int i = 0; i < dynamicWriteStringId; i++) {
@@ -36,6 +36,11 @@ public final class NoRefResolver implements RefResolver {
     }
   }
 
+  @Override
+  public boolean writeUntrackedRefOrNull(MemoryBuffer buffer, Object obj) {
+    return writeRefOrNull(buffer, obj);
+  }
+
   @Override
   public boolean writeRefValueFlag(MemoryBuffer buffer, Object obj) {
     assert obj != null;
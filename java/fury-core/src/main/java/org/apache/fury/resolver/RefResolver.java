@@ -42,6 +42,15 @@ public interface RefResolver {
    */
   boolean writeRefValueFlag(MemoryBuffer buffer, Object obj);
 
+  /**
+   * Write null tag for the obj if the obj is null, otherwise write a new value tag without tracking
+   * the obj, so that later writes of the same obj will write it again. The written data can be read
+   * in the same way as {@link #writeRefOrNull}.
+   *
+   * @return true if no bytes need to be written for the object.
+   */
+  boolean writeUntrackedRefOrNull(MemoryBuffer buffer, Object obj);
+
   /**
    * Write null tag for the obj if the obj is null, otherwise do nothing.
    *
@@ -22,6 +22,7 @@ package org.apache.fury.resolver;
 import java.util.IdentityHashMap;
 import org.apache.fury.config.Config;
 import org.apache.fury.config.FuryBuilder;
+import org.apache.fury.util.Preconditions;
 
 /**
  * A context is used to add some context-related information, so that the serializers can set up
@@ -32,6 +33,8 @@ public final class SerializationContext {
   private final IdentityHashMap<Object, Object> objects = new IdentityHashMap<>();
   private final boolean scopedMetaShareEnabled;
   private MetaContext metaContext;
+  private MetaContext unboundMetaContext;
+  private boolean sessionBound;
 
   public SerializationContext(Config config) {
     scopedMetaShareEnabled = config.isScopedMetaShareEnabled();
@@ -68,10 +71,33 @@ public final class SerializationContext {
     this.metaContext = metaContext;
   }
 
+  /**
+   * Use <code>metaContext</code> of a long-lived session for following serializations until {@link
+   * #unbindSession}. The bound context won't be reset after serialization, so that class
+   * definitions are written and read only once for the session.
+   */
+  public void bindSession(MetaContext metaContext) {
+    Preconditions.checkState(!sessionBound, "A session is bound already");
+    unboundMetaContext = this.metaContext;
+    this.metaContext = metaContext;
+    sessionBound = true;
+  }
+
+  public void unbindSession() {
+    if (sessionBound) {
+      metaContext = unboundMetaContext;
+      unboundMetaContext = null;
+      sessionBound = false;
+    }
+  }
+
   public void resetWrite() {
     if (!objects.isEmpty()) {
       objects.clear();
     }
+    if (sessionBound) {
+      return;
+    }
     if (scopedMetaShareEnabled) {
       metaContext.classMap.clear();
       metaContext.writingClassDefs.size = 0;
@@ -84,6 +110,9 @@ public final class SerializationContext {
     if (!objects.isEmpty()) {
       objects.clear();
     }
+    if (sessionBound) {
+      return;
+    }
     if (scopedMetaShareEnabled) {
       metaContext.readClassInfos.size = 0;
       metaContext.readClassDefs.size = 0;
@@ -96,6 +125,9 @@ public final class SerializationContext {
     if (!objects.isEmpty()) {
       objects.clear();
     }
+    if (sessionBound) {
+      return;
+    }
     if (scopedMetaShareEnabled) {
       metaContext.classMap.clear();
       metaContext.writingClassDefs.size = 0;
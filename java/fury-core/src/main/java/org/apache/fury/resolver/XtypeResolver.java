@@ -45,6 +45,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.fury.Fury;
+import org.apache.fury.builder.JITContext;
 import org.apache.fury.collection.IdentityMap;
 import org.apache.fury.collection.LongMap;
 import org.apache.fury.collection.ObjectMap;
@@ -58,6 +59,7 @@ import org.apache.fury.memory.Platform;
 import org.apache.fury.meta.Encoders;
 import org.apache.fury.meta.MetaString;
 import org.apache.fury.reflect.ReflectionUtils;
+import org.apache.fury.serializer.CodegenSerializer;
 import org.apache.fury.serializer.EnumSerializer;
 import org.apache.fury.serializer.NonexistentClass;
 import org.apache.fury.serializer.NonexistentClassSerializers;
@@ -71,6 +73,7 @@ import org.apache.fury.type.Generics;
 import org.apache.fury.type.TypeUtils;
 import org.apache.fury.type.Types;
 import org.apache.fury.util.Preconditions;
+import org.apache.fury.util.record.RecordUtils;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 // TODO(chaokunyang) Abstract type resolver for java/xlang type resolution.
@@ -206,7 +209,7 @@ public class XtypeResolver {
       if (type.isEnum()) {
         classInfo.serializer = new EnumSerializer(fury, (Class<Enum>) type);
       } else {
-        classInfo.serializer = new StructSerializer(fury, type);
+        classInfo.serializer = newStructSerializer(classInfo);
       }
     }
     classInfoMap.put(type, classInfo);
@@ -214,6 +217,52 @@ public class XtypeResolver {
     xtypeIdToClassMap.put(xtypeId, classInfo);
   }
 
+  private Serializer<?> newStructSerializer(ClassInfo classInfo) {
+    Class<?> type = classInfo.cls;
+    // Generic structs may have different field types for different type arguments, which are
+    // resolved at runtime by the interpreter mode serializer.
+    if (fury.getConfig().isCodeGenEnabled()
+        && CodegenSerializer.supportCodegenForJavaSerialization(type)
+        && !RecordUtils.isRecord(type)
+        && type.getTypeParameters().length == 0) {
+      Class<? extends Serializer> sc =
+          fury.getJITContext()
+              .registerSerializerJITCallback(
+                  () -> StructSerializer.class,
+                  () -> loadStructCodegenSerializer(type),
+                  new JITContext.SerializerJITCallback<Class<? extends Serializer>>() {
+                    @Override
+                    public void onSuccess(Class<? extends Serializer> result) {
+                      if (result != StructSerializer.class) {
+                        classInfo.serializer = Serializers.newSerializer(fury, type, result);
+                      }
+                    }
+
+                    @Override
+                    public Object id() {
+                      return type;
+                    }
+                  });
+      if (sc != StructSerializer.class) {
+        return Serializers.newSerializer(fury, type, sc);
+      }
+    }
+    return new StructSerializer(fury, type);
+  }
+
+  private Class<? extends Serializer> loadStructCodegenSerializer(Class<?> type) {
+    try {
+      return CodegenSerializer.loadStructCodegenSerializer(fury, type);
+    } catch (Throwable t) {
+      // The interpreter mode serializer writes the same data, keep using it.
+      LOG.warn(
+          String.format(
+              "Generate struct serializer for %s failed, use interpreter mode instead", type),
+          t);
+      return StructSerializer.class;
+    }
+  }
+
   private ClassInfo newClassInfo(Class<?> type, Serializer<?> serializer, short xtypeId) {
     return newClassInfo(
         type,
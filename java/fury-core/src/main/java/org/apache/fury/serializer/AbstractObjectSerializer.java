@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
 import org.apache.fury.Fury;
 import org.apache.fury.collection.Tuple2;
 import org.apache.fury.collection.Tuple3;
+import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.Platform;
 import org.apache.fury.reflect.FieldAccessor;
 import org.apache.fury.reflect.ReflectionUtils;
@@ -329,6 +330,15 @@ public abstract class AbstractObjectSerializer<T> extends Serializer<T> {
     return fieldInfos;
   }
 
+  /**
+   * Read fields from <code>buffer</code> and set them to an object created by the caller, such as
+   * fields declared by one class of a class hierarchy.
+   */
+  public T readAndSetFields(MemoryBuffer buffer, T obj) {
+    // java record object doesn't support update state.
+    throw new UnsupportedOperationException();
+  }
+
   protected T newBean() {
     if (constructor != null) {
       try {
@@ -376,6 +386,7 @@ public abstract class AbstractObjectSerializer<T> extends Serializer<T> {
               descriptor.getField() != null
                   ? FieldAccessor.createAccessor(descriptor.getField())
                   : null,
+              descriptor,
               fury);
       otherFields[cnt++] = genericTypeField;
     }
@@ -398,6 +409,7 @@ public abstract class AbstractObjectSerializer<T> extends Serializer<T> {
         d.getDeclaringClass() + "." + d.getName(),
         // `d.getField()` will be null when peer class doesn't have this field.
         d.getField() != null ? FieldAccessor.createAccessor(d.getField()) : null,
+        d,
         fury);
   }
 
@@ -406,6 +418,7 @@ public abstract class AbstractObjectSerializer<T> extends Serializer<T> {
         d.getTypeRef(),
         d.getDeclaringClass() + "." + d.getName(),
         d.getField() != null ? FieldAccessor.createAccessor(d.getField()) : null,
+        d,
         fury);
   }
 
@@ -436,9 +449,17 @@ public abstract class AbstractObjectSerializer<T> extends Serializer<T> {
 
   static final class FinalTypeField extends InternalFieldInfo {
     final ClassInfo classInfo;
+    // Whether ref tracking of field type is overridden by `FuryRef` of the field.
+    final boolean refTrackingEnabled;
+    final boolean refTrackingDisabled;
+    final RefResolver refResolver;
 
-    private FinalTypeField(Class<?> type, String fieldName, FieldAccessor accessor, Fury fury) {
-      super(getRegisteredClassId(fury, type), fieldName, accessor);
+    private FinalTypeField(
+        Class<?> type, String fieldName, FieldAccessor accessor, Descriptor d, Fury fury) {
+      super(getFinalFieldClassId(fury, type, d), fieldName, accessor);
+      refTrackingEnabled = isRefTrackingEnabled(fury, type, d);
+      refTrackingDisabled = isRefTrackingDisabled(fury, d);
+      refResolver = refTrackingEnabled ? fury.getFieldRefResolver() : fury.getRefResolver();
       // invoke `copy` to avoid ObjectSerializer construct clear serializer by `clearSerializer`.
       if (type == FinalObjectTypeStub.class) {
         // `FinalObjectTypeStub` has no fields, using its `classInfo`
@@ -454,23 +475,37 @@ public abstract class AbstractObjectSerializer<T> extends Serializer<T> {
     final GenericType genericType;
     final ClassInfoHolder classInfoHolder;
     final boolean trackingRef;
+    // Whether ref tracking of field type is overridden by `FuryRef` of the field.
+    final boolean refTrackingEnabled;
+    final boolean refTrackingDisabled;
+    final RefResolver refResolver;
 
     private GenericTypeField(
-        Class<?> cls, String qualifiedFieldName, FieldAccessor accessor, Fury fury) {
+        Class<?> cls, String qualifiedFieldName, FieldAccessor accessor, Descriptor d, Fury fury) {
       super(getRegisteredClassId(fury, cls), qualifiedFieldName, accessor);
       // TODO support generics <T> in Pojo<T>, see ComplexObjectSerializer.getGenericTypes
       genericType = fury.getClassResolver().buildGenericType(cls);
       classInfoHolder = fury.getClassResolver().nilClassInfoHolder();
-      trackingRef = fury.getClassResolver().needToWriteRef(cls);
+      trackingRef = fury.getClassResolver().needToWriteRef(d);
+      refTrackingEnabled = isRefTrackingEnabled(fury, cls, d);
+      refTrackingDisabled = isRefTrackingDisabled(fury, d);
+      refResolver = refTrackingEnabled ? fury.getFieldRefResolver() : fury.getRefResolver();
     }
 
     private GenericTypeField(
-        TypeRef<?> typeRef, String qualifiedFieldName, FieldAccessor accessor, Fury fury) {
+        TypeRef<?> typeRef,
+        String qualifiedFieldName,
+        FieldAccessor accessor,
+        Descriptor d,
+        Fury fury) {
       super(getRegisteredClassId(fury, getRawType(typeRef)), qualifiedFieldName, accessor);
       // TODO support generics <T> in Pojo<T>, see ComplexObjectSerializer.getGenericTypes
       genericType = fury.getClassResolver().buildGenericType(typeRef);
       classInfoHolder = fury.getClassResolver().nilClassInfoHolder();
-      trackingRef = fury.getClassResolver().needToWriteRef(getRawType(typeRef));
+      trackingRef = fury.getClassResolver().needToWriteRef(d);
+      refTrackingEnabled = isRefTrackingEnabled(fury, getRawType(typeRef), d);
+      refTrackingDisabled = isRefTrackingDisabled(fury, d);
+      refResolver = refTrackingEnabled ? fury.getFieldRefResolver() : fury.getRefResolver();
     }
 
     @Override
@@ -488,6 +523,23 @@ public abstract class AbstractObjectSerializer<T> extends Serializer<T> {
     }
   }
 
+  private static boolean isRefTrackingEnabled(Fury fury, Class<?> cls, Descriptor d) {
+    ClassResolver classResolver = fury.getClassResolver();
+    return !classResolver.needToWriteRef(cls) && classResolver.needToWriteRef(d);
+  }
+
+  private static boolean isRefTrackingDisabled(Fury fury, Descriptor d) {
+    return ClassResolver.isRefTrackingDisabled(d) && fury.getClassResolver().needToWriteRef(d);
+  }
+
+  private static short getFinalFieldClassId(Fury fury, Class<?> cls, Descriptor d) {
+    if (isRefTrackingEnabled(fury, cls, d) || isRefTrackingDisabled(fury, d)) {
+      // Skip fast path for basic types, since ref tracking is overridden by field.
+      return ClassResolver.NO_CLASS_ID;
+    }
+    return getRegisteredClassId(fury, cls);
+  }
+
   private static short getRegisteredClassId(Fury fury, Class<?> cls) {
     Short classId = fury.getClassResolver().getRegisteredClassId(cls);
     return classId == null ? ClassResolver.NO_CLASS_ID : classId;
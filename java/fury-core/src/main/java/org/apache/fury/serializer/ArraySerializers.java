@@ -440,14 +440,20 @@ public class ArraySerializers {
   }
 
   public static final class IntArraySerializer extends PrimitiveArraySerializer<int[]> {
+    private final boolean compressArray;
 
     public IntArraySerializer(Fury fury) {
       super(fury, int[].class);
+      compressArray = fury.getConfig().compressIntArray();
     }
 
     @Override
     public void write(MemoryBuffer buffer, int[] value) {
       if (fury.getBufferCallback() == null) {
+        if (compressArray) {
+          PackedArrays.writeIntArray(buffer, value);
+          return;
+        }
         int size = Math.multiplyExact(value.length, elemSize);
         buffer.writePrimitiveArrayWithSize(value, offset, size);
       } else {
@@ -471,6 +477,9 @@ public class ArraySerializers {
         buf.copyToUnsafe(0, values, offset, size);
         return values;
       } else {
+        if (compressArray) {
+          return PackedArrays.readIntArray(buffer);
+        }
         int size = buffer.readVarUint32Small7();
         int numElements = size / elemSize;
         int[] values = new int[numElements];
@@ -481,14 +490,20 @@ public class ArraySerializers {
   }
 
   public static final class LongArraySerializer extends PrimitiveArraySerializer<long[]> {
+    private final boolean compressArray;
 
     public LongArraySerializer(Fury fury) {
       super(fury, long[].class);
+      compressArray = fury.getConfig().compressLongArray();
     }
 
     @Override
     public void write(MemoryBuffer buffer, long[] value) {
       if (fury.getBufferCallback() == null) {
+        if (compressArray) {
+          PackedArrays.writeLongArray(buffer, value);
+          return;
+        }
         int size = Math.multiplyExact(value.length, elemSize);
         buffer.writePrimitiveArrayWithSize(value, offset, size);
       } else {
@@ -512,6 +527,9 @@ public class ArraySerializers {
         buf.copyToUnsafe(0, values, offset, size);
         return values;
       } else {
+        if (compressArray) {
+          return PackedArrays.readLongArray(buffer);
+        }
         int size = buffer.readVarUint32Small7();
         int numElements = size / elemSize;
         long[] values = new long[numElements];
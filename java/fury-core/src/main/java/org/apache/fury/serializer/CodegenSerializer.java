@@ -53,6 +53,16 @@ public final class CodegenSerializer {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  public static <T> Class<Serializer<T>> loadStructCodegenSerializer(Fury fury, Class<T> cls) {
+    try {
+      return (Class<Serializer<T>>) CodecUtils.loadOrGenStructCodecClass(cls, fury);
+    } catch (Exception e) {
+      String msg = String.format("Create struct serializer failed, \nclass: %s", cls);
+      throw new RuntimeException(msg, e);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   public static <T> Class<Serializer<T>> loadCompatibleCodegenSerializer(Fury fury, Class<T> cls) {
     try {
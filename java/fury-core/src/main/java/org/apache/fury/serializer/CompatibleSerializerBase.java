@@ -21,7 +21,6 @@ package org.apache.fury.serializer;
 
 import java.lang.invoke.MethodHandle;
 import org.apache.fury.Fury;
-import org.apache.fury.memory.MemoryBuffer;
 
 /**
  * Base class for compatible serializer. Both JIT mode serializer and interpreter-mode serializer
@@ -35,9 +34,4 @@ public abstract class CompatibleSerializerBase<T> extends AbstractObjectSerializ
   public CompatibleSerializerBase(Fury fury, Class<T> type, MethodHandle constructor) {
     super(fury, type, constructor);
   }
-
-  public T readAndSetFields(MemoryBuffer buffer, T obj) {
-    // java record object doesn't support update state.
-    throw new UnsupportedOperationException();
-  }
 }
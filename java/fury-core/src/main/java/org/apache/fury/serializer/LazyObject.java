@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.serializer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.apache.fury.Fury;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.util.Preconditions;
+
+/**
+ * A lazy view of an object serialized by {@link ObjectSerializer} with field offsets, see {@link
+ * org.apache.fury.config.FuryBuilder#withFieldOffsets}. Only accessed fields are deserialized;
+ * other fields, including nested objects, strings and collections, are skipped by their offsets
+ * without being constructed. Nested objects can be accessed lazily by {@link #getLazy} too.
+ *
+ * <p>The view reads the buffer which it's created from, so the buffer must not be modified while
+ * the view is in use. Every access deserializes the field again, cache the returned value if it's
+ * accessed multiple times.
+ */
+@NotThreadSafe
+public final class LazyObject {
+  private final ObjectSerializer<?> serializer;
+  private final MemoryBuffer buffer;
+  // start of object size and field offsets of this object.
+  private final int start;
+  private Map<String, Integer> fieldIndexes;
+
+  LazyObject(ObjectSerializer<?> serializer, MemoryBuffer buffer, int start) {
+    this.serializer = serializer;
+    this.buffer = buffer;
+    this.start = start;
+  }
+
+  public Class<?> getType() {
+    return serializer.getType();
+  }
+
+  /** Returns serialized size of this object in bytes. */
+  public int getSize() {
+    return buffer.getInt32(start);
+  }
+
+  /** Returns names of serialized fields in serialization order. */
+  public List<String> getFieldNames() {
+    return serializer.getFieldNames();
+  }
+
+  /** Deserialize field <code>fieldName</code> only, primitive values will be boxed. */
+  public Object get(String fieldName) {
+    int index = getFieldIndex(fieldName);
+    int readerIndex = buffer.readerIndex();
+    Fury fury = beginRead();
+    try {
+      return serializer.readField(buffer, start, index);
+    } finally {
+      endRead(fury, readerIndex);
+    }
+  }
+
+  /**
+   * Returns a lazy view of field <code>fieldName</code> without deserializing it, or null if the
+   * field value is null. The field value must be an object serialized by {@link ObjectSerializer}.
+   */
+  public LazyObject getLazy(String fieldName) {
+    int index = getFieldIndex(fieldName);
+    int readerIndex = buffer.readerIndex();
+    Fury fury = beginRead();
+    try {
+      return serializer.readLazyField(buffer, start, index);
+    } finally {
+      endRead(fury, readerIndex);
+    }
+  }
+
+  /** Deserialize the whole object. */
+  public Object toObject() {
+    int readerIndex = buffer.readerIndex();
+    Fury fury = beginRead();
+    buffer.readerIndex(start);
+    try {
+      return serializer.read(buffer);
+    } finally {
+      endRead(fury, readerIndex);
+    }
+  }
+
+  // Every access is a top-level deserialization, see `Fury#deserializeLazy`.
+  private Fury beginRead() {
+    Fury fury = serializer.fury;
+    Preconditions.checkState(
+        fury.getDepth() == 0, "LazyObject can't be accessed when deserializing");
+    fury.getJITContext().beginCall();
+    return fury;
+  }
+
+  private void endRead(Fury fury, int readerIndex) {
+    buffer.readerIndex(readerIndex);
+    fury.resetRead();
+    fury.getJITContext().endCall();
+  }
+
+  private int getFieldIndex(String fieldName) {
+    Map<String, Integer> fieldIndexes = this.fieldIndexes;
+    if (fieldIndexes == null) {
+      fieldIndexes = new HashMap<>();
+      List<String> fieldNames = serializer.getFieldNames();
+      for (int i = 0; i < fieldNames.size(); i++) {
+        // Fields of the same name declared by parent classes can't be distinguished by name.
+        fieldIndexes.putIfAbsent(fieldNames.get(i), i);
+      }
+      this.fieldIndexes = fieldIndexes;
+    }
+    Integer index = fieldIndexes.get(fieldName);
+    if (index == null) {
+      throw new IllegalArgumentException(
+          String.format("Field %s doesn't exist in %s", fieldName, getType()));
+    }
+    return index;
+  }
+}
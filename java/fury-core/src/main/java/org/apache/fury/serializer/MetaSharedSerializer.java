@@ -157,7 +157,7 @@ public class MetaSharedSerializer<T> extends AbstractObjectSerializer<T> {
           assert fieldInfo.classInfo != null;
           Object fieldValue =
               ObjectSerializer.readFinalObjectFieldValue(
-                  fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+                  fury, classResolver, fieldInfo, isFinal, buffer);
           fieldAccessor.putObject(obj, fieldValue);
         }
       } else {
@@ -167,7 +167,7 @@ public class MetaSharedSerializer<T> extends AbstractObjectSerializer<T> {
             fury.readRef(buffer, classInfoHolder);
           } else {
             ObjectSerializer.readFinalObjectFieldValue(
-                fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+                fury, classResolver, fieldInfo, isFinal, buffer);
           }
         }
       }
@@ -194,7 +194,6 @@ public class MetaSharedSerializer<T> extends AbstractObjectSerializer<T> {
   private void readFields(MemoryBuffer buffer, Object[] fields) {
     int counter = 0;
     Fury fury = this.fury;
-    RefResolver refResolver = this.refResolver;
     ClassResolver classResolver = this.classResolver;
     // read order: primitive,boxed,final,other,collection,map
     ObjectSerializer.FinalTypeField[] finalFields = this.finalFields;
@@ -211,7 +210,7 @@ public class MetaSharedSerializer<T> extends AbstractObjectSerializer<T> {
         } else {
           Object fieldValue =
               ObjectSerializer.readFinalObjectFieldValue(
-                  fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+                  fury, classResolver, fieldInfo, isFinal, buffer);
           fields[counter++] = fieldValue;
         }
       } else {
@@ -221,7 +220,7 @@ public class MetaSharedSerializer<T> extends AbstractObjectSerializer<T> {
             fury.readRef(buffer, classInfoHolder);
           } else {
             ObjectSerializer.readFinalObjectFieldValue(
-                fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+                fury, classResolver, fieldInfo, isFinal, buffer);
           }
         }
         fields[counter++] = null;
@@ -109,7 +109,6 @@ public final class NonexistentClassSerializers {
       ClassDef classDef = value.classDef;
       ClassFieldsInfo fieldsInfo = getClassFieldsInfo(classDef);
       Fury fury = this.fury;
-      RefResolver refResolver = fury.getRefResolver();
       ClassResolver classResolver = fury.getClassResolver();
       if (fury.checkClassVersion()) {
         buffer.writeInt32(fieldsInfo.classVersionHash);
@@ -146,7 +145,7 @@ public final class NonexistentClassSerializers {
       for (ObjectSerializer.GenericTypeField fieldInfo : fieldsInfo.containerFields) {
         Object fieldValue = value.get(fieldInfo.qualifiedFieldName);
         ObjectSerializer.writeContainerFieldValue(
-            fury, refResolver, classResolver, generics, fieldInfo, buffer, fieldValue);
+            fury, classResolver, generics, fieldInfo, buffer, fieldValue);
       }
     }
 
@@ -205,7 +204,7 @@ public final class NonexistentClassSerializers {
           } else {
             fieldValue =
                 ObjectSerializer.readFinalObjectFieldValue(
-                    fury, refResolver, classResolver, fieldInfo, isFinal[i], buffer);
+                    fury, classResolver, fieldInfo, isFinal[i], buffer);
           }
         }
         entries.add(new MapEntry(fieldInfo.qualifiedFieldName, fieldValue));
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.apache.fury.Fury;
+import org.apache.fury.builder.Generated.GeneratedObjectSerializer;
 import org.apache.fury.collection.Tuple2;
 import org.apache.fury.collection.Tuple3;
 import org.apache.fury.exception.FuryException;
@@ -41,6 +42,7 @@ import org.apache.fury.resolver.RefResolver;
 import org.apache.fury.type.Descriptor;
 import org.apache.fury.type.DescriptorGrouper;
 import org.apache.fury.type.Generics;
+import org.apache.fury.util.Preconditions;
 import org.apache.fury.util.record.RecordInfo;
 import org.apache.fury.util.record.RecordUtils;
 
@@ -73,6 +75,9 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
   private final GenericTypeField[] otherFields;
   private final GenericTypeField[] containerFields;
   private final int classVersionHash;
+  private final boolean fieldOffsetsEnabled;
+  // Size of object size and field offsets written ahead of fields, see `writeWithFieldOffsets`.
+  private final int fieldOffsetsSize;
 
   public ObjectSerializer(Fury fury, Class<T> cls) {
     this(fury, cls, true);
@@ -122,10 +127,20 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
     isFinal = infos.f0.f1;
     otherFields = infos.f1;
     containerFields = infos.f2;
+    fieldOffsetsEnabled = fury.getConfig().isFieldOffsetsEnabled();
+    fieldOffsetsSize = (getNumFields() + 1) * 4;
+  }
+
+  private int getNumFields() {
+    return finalFields.length + otherFields.length + containerFields.length;
   }
 
   @Override
   public void write(MemoryBuffer buffer, T value) {
+    if (fieldOffsetsEnabled) {
+      writeWithFieldOffsets(buffer, value);
+      return;
+    }
     Fury fury = this.fury;
     RefResolver refResolver = this.refResolver;
     ClassResolver classResolver = this.classResolver;
@@ -135,15 +150,79 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
     // write order: primitive,boxed,final,other,collection,map
     writeFinalFields(buffer, value, fury, refResolver, classResolver);
     for (GenericTypeField fieldInfo : otherFields) {
-      FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
-      Object fieldValue = fieldAccessor.getObject(value);
-      if (fieldInfo.trackingRef) {
-        fury.writeRef(buffer, fieldValue, fieldInfo.classInfoHolder);
+      writeOtherField(fury, classResolver, fieldInfo, buffer, value);
+    }
+    writeContainerFields(buffer, value, fury, classResolver);
+  }
+
+  /**
+   * Write object size and offset of every field ahead of fields, so that {@link LazyObject} can
+   * skip the whole object or seek to a field directly. The layout is: | int32 object size | int32
+   * offset of every field | class version hash | fields |, sizes and offsets are relative to the
+   * start of this object.
+   */
+  private void writeWithFieldOffsets(MemoryBuffer buffer, T value) {
+    Fury fury = this.fury;
+    RefResolver refResolver = this.refResolver;
+    ClassResolver classResolver = this.classResolver;
+    // The table is updated after fields are written, hold it from being flushed by stream writer.
+    int start = buffer.reserveForUpdate(fieldOffsetsSize);
+    try {
+      if (fury.checkClassVersion()) {
+        buffer.writeInt32(classVersionHash);
+      }
+      int offsetIndex = start + 4;
+      boolean metaShareEnabled = fury.getConfig().isMetaShareEnabled();
+      for (int i = 0; i < finalFields.length; i++) {
+        buffer.putInt32(offsetIndex, buffer.writerIndex() - start);
+        offsetIndex += 4;
+        writeFinalField(buffer, value, i, metaShareEnabled, fury, refResolver, classResolver);
+      }
+      for (GenericTypeField fieldInfo : otherFields) {
+        buffer.putInt32(offsetIndex, buffer.writerIndex() - start);
+        offsetIndex += 4;
+        writeOtherField(fury, classResolver, fieldInfo, buffer, value);
+      }
+      Generics generics = fury.getGenerics();
+      for (GenericTypeField fieldInfo : containerFields) {
+        buffer.putInt32(offsetIndex, buffer.writerIndex() - start);
+        offsetIndex += 4;
+        Object fieldValue = fieldInfo.fieldAccessor.getObject(value);
+        writeContainerFieldValue(fury, classResolver, generics, fieldInfo, buffer, fieldValue);
+      }
+      buffer.putInt32(start, buffer.writerIndex() - start);
+    } finally {
+      buffer.releaseFlush(start);
+    }
+  }
+
+  private static void writeOtherField(
+      Fury fury,
+      ClassResolver classResolver,
+      GenericTypeField fieldInfo,
+      MemoryBuffer buffer,
+      Object value) {
+    FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+    Object fieldValue = fieldAccessor.getObject(value);
+    if (fieldInfo.trackingRef) {
+      if (fieldInfo.refTrackingEnabled || fieldInfo.refTrackingDisabled) {
+        RefResolver refResolver = fieldInfo.refResolver;
+        boolean refWritten =
+            fieldInfo.refTrackingDisabled
+                ? refResolver.writeUntrackedRefOrNull(buffer, fieldValue)
+                : refResolver.writeRefOrNull(buffer, fieldValue);
+        if (!refWritten) {
+          fury.writeNonRef(
+              buffer,
+              fieldValue,
+              classResolver.getClassInfo(fieldValue.getClass(), fieldInfo.classInfoHolder));
+        }
       } else {
-        fury.writeNullable(buffer, fieldValue, fieldInfo.classInfoHolder);
+        fury.writeRef(buffer, fieldValue, fieldInfo.classInfoHolder);
       }
+    } else {
+      fury.writeNullable(buffer, fieldValue, fieldInfo.classInfoHolder);
     }
-    writeContainerFields(buffer, value, fury, refResolver, classResolver);
   }
 
   private void writeFinalFields(
@@ -152,61 +231,81 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
       Fury fury,
       RefResolver refResolver,
       ClassResolver classResolver) {
-    FinalTypeField[] finalFields = this.finalFields;
     boolean metaShareEnabled = fury.getConfig().isMetaShareEnabled();
     for (int i = 0; i < finalFields.length; i++) {
-      FinalTypeField fieldInfo = finalFields[i];
-      FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
-      short classId = fieldInfo.classId;
-      if (writePrimitiveFieldValueFailed(fury, buffer, value, fieldAccessor, classId)) {
-        Object fieldValue = fieldAccessor.getObject(value);
-        if (writeBasicObjectFieldValueFailed(fury, buffer, fieldValue, classId)) {
-          Serializer<Object> serializer = fieldInfo.classInfo.getSerializer();
-          if (!metaShareEnabled || isFinal[i]) {
-            // whether tracking ref is recorded in `fieldInfo.serializer`, so it's still
-            // consistent with jit serializer.
-            fury.writeRef(buffer, fieldValue, serializer);
-          } else {
-            if (serializer.needToWriteRef()) {
-              if (!refResolver.writeRefOrNull(buffer, fieldValue)) {
-                classResolver.writeClass(buffer, fieldInfo.classInfo);
-                // No generics for field, no need to update `depth`.
-                serializer.write(buffer, fieldValue);
-              }
-            } else {
-              fury.writeNullable(buffer, fieldValue, fieldInfo.classInfo);
-            }
-          }
-        }
-      }
+      writeFinalField(buffer, value, i, metaShareEnabled, fury, refResolver, classResolver);
     }
   }
 
-  private void writeContainerFields(
+  private void writeFinalField(
       MemoryBuffer buffer,
       T value,
+      int i,
+      boolean metaShareEnabled,
       Fury fury,
       RefResolver refResolver,
       ClassResolver classResolver) {
+    FinalTypeField fieldInfo = finalFields[i];
+    FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
+    short classId = fieldInfo.classId;
+    if (writePrimitiveFieldValueFailed(fury, buffer, value, fieldAccessor, classId)) {
+      Object fieldValue = fieldAccessor.getObject(value);
+      if (writeBasicObjectFieldValueFailed(fury, buffer, fieldValue, classId)) {
+        Serializer<Object> serializer = fieldInfo.classInfo.getSerializer();
+        if (fieldInfo.refTrackingEnabled || fieldInfo.refTrackingDisabled) {
+          boolean refWritten =
+              fieldInfo.refTrackingDisabled
+                  ? fieldInfo.refResolver.writeUntrackedRefOrNull(buffer, fieldValue)
+                  : fieldInfo.refResolver.writeRefOrNull(buffer, fieldValue);
+          if (!refWritten) {
+            if (metaShareEnabled && !isFinal[i]) {
+              classResolver.writeClass(buffer, fieldInfo.classInfo);
+            }
+            serializer.write(buffer, fieldValue);
+          }
+        } else if (!metaShareEnabled || isFinal[i]) {
+          // whether tracking ref is recorded in `fieldInfo.serializer`, so it's still
+          // consistent with jit serializer.
+          fury.writeRef(buffer, fieldValue, serializer);
+        } else {
+          if (serializer.needToWriteRef()) {
+            if (!refResolver.writeRefOrNull(buffer, fieldValue)) {
+              classResolver.writeClass(buffer, fieldInfo.classInfo);
+              // No generics for field, no need to update `depth`.
+              serializer.write(buffer, fieldValue);
+            }
+          } else {
+            fury.writeNullable(buffer, fieldValue, fieldInfo.classInfo);
+          }
+        }
+      }
+    }
+  }
+
+  private void writeContainerFields(
+      MemoryBuffer buffer, T value, Fury fury, ClassResolver classResolver) {
     Generics generics = fury.getGenerics();
     for (GenericTypeField fieldInfo : containerFields) {
       FieldAccessor fieldAccessor = fieldInfo.fieldAccessor;
       Object fieldValue = fieldAccessor.getObject(value);
-      writeContainerFieldValue(
-          fury, refResolver, classResolver, generics, fieldInfo, buffer, fieldValue);
+      writeContainerFieldValue(fury, classResolver, generics, fieldInfo, buffer, fieldValue);
     }
   }
 
   static void writeContainerFieldValue(
       Fury fury,
-      RefResolver refResolver,
       ClassResolver classResolver,
       Generics generics,
       GenericTypeField fieldInfo,
       MemoryBuffer buffer,
       Object fieldValue) {
     if (fieldInfo.trackingRef) {
-      if (!refResolver.writeRefOrNull(buffer, fieldValue)) {
+      RefResolver refResolver = fieldInfo.refResolver;
+      boolean refWritten =
+          fieldInfo.refTrackingDisabled
+              ? refResolver.writeUntrackedRefOrNull(buffer, fieldValue)
+              : refResolver.writeRefOrNull(buffer, fieldValue);
+      if (!refWritten) {
         ClassInfo classInfo =
             classResolver.getClassInfo(fieldValue.getClass(), fieldInfo.classInfoHolder);
         generics.pushGenericType(fieldInfo.genericType);
@@ -248,8 +347,11 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
 
   public Object[] readFields(MemoryBuffer buffer) {
     Fury fury = this.fury;
-    RefResolver refResolver = this.refResolver;
     ClassResolver classResolver = this.classResolver;
+    if (fieldOffsetsEnabled) {
+      // fields are read sequentially, skip object size and field offsets.
+      buffer.increaseReaderIndex(fieldOffsetsSize);
+    }
     if (fury.checkClassVersion()) {
       int hash = buffer.readInt32();
       checkClassVersion(fury, hash, classVersionHash);
@@ -269,7 +371,7 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
         fieldValues[counter++] = Serializers.readPrimitiveValue(fury, buffer, classId);
       } else {
         Object fieldValue =
-            readFinalObjectFieldValue(fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+            readFinalObjectFieldValue(fury, classResolver, fieldInfo, isFinal, buffer);
         fieldValues[counter++] = fieldValue;
       }
     }
@@ -285,10 +387,14 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
     return fieldValues;
   }
 
+  @Override
   public T readAndSetFields(MemoryBuffer buffer, T obj) {
     Fury fury = this.fury;
-    RefResolver refResolver = this.refResolver;
     ClassResolver classResolver = this.classResolver;
+    if (fieldOffsetsEnabled) {
+      // fields are read sequentially, skip object size and field offsets.
+      buffer.increaseReaderIndex(fieldOffsetsSize);
+    }
     if (fury.checkClassVersion()) {
       int hash = buffer.readInt32();
       checkClassVersion(fury, hash, classVersionHash);
@@ -304,7 +410,7 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
       if (readPrimitiveFieldValueFailed(fury, buffer, obj, fieldAccessor, classId)
           && readBasicObjectFieldValueFailed(fury, buffer, obj, fieldAccessor, classId)) {
         Object fieldValue =
-            readFinalObjectFieldValue(fury, refResolver, classResolver, fieldInfo, isFinal, buffer);
+            readFinalObjectFieldValue(fury, classResolver, fieldInfo, isFinal, buffer);
         fieldAccessor.putObject(obj, fieldValue);
       }
     }
@@ -322,28 +428,138 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
     return obj;
   }
 
+  /**
+   * Create a {@link LazyObject} view for the object starts at reader index of <code>buffer</code>,
+   * and skip the whole object.
+   */
+  public LazyObject newLazyObject(MemoryBuffer buffer) {
+    Preconditions.checkArgument(fieldOffsetsEnabled, "Field offsets are not enabled for %s", type);
+    int start = buffer.readerIndex();
+    int size = buffer.readInt32();
+    if (fury.checkClassVersion()) {
+      int hash = buffer.getInt32(start + fieldOffsetsSize);
+      checkClassVersion(fury, hash, classVersionHash);
+    }
+    buffer.readerIndex(start + size);
+    return new LazyObject(this, buffer, start);
+  }
+
+  /**
+   * Returns the serializer which creates {@link LazyObject} views for objects written by <code>
+   * serializer</code>, or null if <code>serializer</code> doesn't write {@link ObjectSerializer}
+   * format.
+   */
+  public static ObjectSerializer<?> getLazyObjectSerializer(Serializer<?> serializer) {
+    if (serializer instanceof ObjectSerializer) {
+      return (ObjectSerializer<?>) serializer;
+    }
+    if (serializer instanceof GeneratedObjectSerializer) {
+      // jit serializer has same format as `ObjectSerializer`.
+      return ((GeneratedObjectSerializer) serializer).getInterpreterSerializer();
+    }
+    return null;
+  }
+
+  /** Returns field names in the order of field offsets. */
+  List<String> getFieldNames() {
+    List<String> names = new ArrayList<>(getNumFields());
+    for (FinalTypeField fieldInfo : finalFields) {
+      names.add(fieldInfo.fieldAccessor.getField().getName());
+    }
+    for (GenericTypeField fieldInfo : otherFields) {
+      names.add(fieldInfo.fieldAccessor.getField().getName());
+    }
+    for (GenericTypeField fieldInfo : containerFields) {
+      names.add(fieldInfo.fieldAccessor.getField().getName());
+    }
+    return names;
+  }
+
+  /** Deserialize field <code>index</code> of the object starts at <code>start</code>. */
+  Object readField(MemoryBuffer buffer, int start, int index) {
+    seekField(buffer, start, index);
+    if (index < finalFields.length) {
+      FinalTypeField fieldInfo = finalFields[index];
+      short classId = fieldInfo.classId;
+      if (classId >= ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID
+          && classId <= ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID) {
+        return Serializers.readPrimitiveValue(fury, buffer, classId);
+      }
+      return readFinalObjectFieldValue(fury, classResolver, fieldInfo, true, buffer);
+    }
+    index -= finalFields.length;
+    if (index < otherFields.length) {
+      return readOtherFieldValue(fury, otherFields[index], buffer);
+    }
+    return readContainerFieldValue(
+        fury, fury.getGenerics(), containerFields[index - otherFields.length], buffer);
+  }
+
+  /**
+   * Create a {@link LazyObject} view for field <code>index</code> of the object starts at <code>
+   * start</code>, returns null if field value is null.
+   */
+  LazyObject readLazyField(MemoryBuffer buffer, int start, int index) {
+    seekField(buffer, start, index);
+    Serializer<?> serializer = null;
+    if (index < finalFields.length) {
+      FinalTypeField fieldInfo = finalFields[index];
+      short classId = fieldInfo.classId;
+      if (classId < ClassResolver.PRIMITIVE_BOOLEAN_CLASS_ID
+          || classId > ClassResolver.PRIMITIVE_DOUBLE_CLASS_ID) {
+        if (buffer.readByte() == Fury.NULL_FLAG) {
+          return null;
+        }
+        serializer = fieldInfo.classInfo.getSerializer();
+      }
+    } else {
+      int i = index - finalFields.length;
+      GenericTypeField fieldInfo =
+          i < otherFields.length ? otherFields[i] : containerFields[i - otherFields.length];
+      if (buffer.readByte() == Fury.NULL_FLAG) {
+        return null;
+      }
+      serializer = classResolver.readClassInfo(buffer, fieldInfo.classInfoHolder).getSerializer();
+    }
+    ObjectSerializer<?> lazyObjectSerializer = getLazyObjectSerializer(serializer);
+    if (lazyObjectSerializer == null) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Field %s of %s isn't an object serialized by ObjectSerializer, "
+                  + "use `LazyObject#get` instead.",
+              getFieldNames().get(index), type));
+    }
+    return lazyObjectSerializer.newLazyObject(buffer);
+  }
+
+  private void seekField(MemoryBuffer buffer, int start, int index) {
+    buffer.readerIndex(start + buffer.getInt32(start + 4 + index * 4));
+  }
+
   /**
    * Read final object field value. Note that primitive field value can't be read by this method,
    * because primitive field doesn't write null flag.
    */
   static Object readFinalObjectFieldValue(
       Fury fury,
-      RefResolver refResolver,
       ClassResolver classResolver,
       FinalTypeField fieldInfo,
       boolean isFinal,
       MemoryBuffer buffer) {
     Serializer<Object> serializer = fieldInfo.classInfo.getSerializer();
     Object fieldValue;
-    if (isFinal) {
+    if (isFinal && !fieldInfo.refTrackingEnabled) {
       // whether tracking ref is recorded in `fieldInfo.serializer`, so it's still
       // consistent with jit serializer.
       fieldValue = fury.readRef(buffer, serializer);
     } else {
-      if (serializer.needToWriteRef()) {
+      if (fieldInfo.refTrackingEnabled || serializer.needToWriteRef()) {
+        RefResolver refResolver = fieldInfo.refResolver;
         int nextReadRefId = refResolver.tryPreserveRefId(buffer);
         if (nextReadRefId >= Fury.NOT_NULL_VALUE_FLAG) {
-          classResolver.readClassInfo(buffer, fieldInfo.classInfo);
+          if (!isFinal) {
+            classResolver.readClassInfo(buffer, fieldInfo.classInfo);
+          }
           fieldValue = serializer.read(buffer);
           refResolver.setReadObject(nextReadRefId, fieldValue);
         } else {
@@ -365,7 +581,7 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
   static Object readOtherFieldValue(Fury fury, GenericTypeField fieldInfo, MemoryBuffer buffer) {
     Object fieldValue;
     if (fieldInfo.trackingRef) {
-      fieldValue = fury.readRef(buffer, fieldInfo.classInfoHolder);
+      fieldValue = readRef(fury, fieldInfo, buffer);
     } else {
       byte headFlag = buffer.readByte();
       if (headFlag == Fury.NULL_FLAG) {
@@ -377,12 +593,27 @@ public final class ObjectSerializer<T> extends AbstractObjectSerializer<T> {
     return fieldValue;
   }
 
+  private static Object readRef(Fury fury, GenericTypeField fieldInfo, MemoryBuffer buffer) {
+    if (!fieldInfo.refTrackingEnabled) {
+      return fury.readRef(buffer, fieldInfo.classInfoHolder);
+    }
+    RefResolver refResolver = fieldInfo.refResolver;
+    int nextReadRefId = refResolver.tryPreserveRefId(buffer);
+    if (nextReadRefId >= Fury.NOT_NULL_VALUE_FLAG) {
+      Object fieldValue = fury.readNonRef(buffer, fieldInfo.classInfoHolder);
+      refResolver.setReadObject(nextReadRefId, fieldValue);
+      return fieldValue;
+    } else {
+      return refResolver.getReadObject();
+    }
+  }
+
   static Object readContainerFieldValue(
       Fury fury, Generics generics, GenericTypeField fieldInfo, MemoryBuffer buffer) {
     Object fieldValue;
     if (fieldInfo.trackingRef) {
       generics.pushGenericType(fieldInfo.genericType);
-      fieldValue = fury.readRef(buffer, fieldInfo.classInfoHolder);
+      fieldValue = readRef(fury, fieldInfo, buffer);
       generics.popGenericType();
     } else {
       byte headFlag = buffer.readByte();
@@ -44,14 +44,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.apache.fury.Fury;
 import org.apache.fury.builder.CodecUtils;
 import org.apache.fury.builder.Generated;
+import org.apache.fury.builder.ObjectStreamCodecBuilder;
 import org.apache.fury.collection.ObjectArray;
 import org.apache.fury.collection.ObjectIntMap;
+import org.apache.fury.config.CompatibleMode;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 import org.apache.fury.memory.MemoryBuffer;
@@ -75,10 +76,19 @@ import org.apache.fury.util.unsafe._JDKAccess;
  * </ul>
  *
  * <p>`ObjectInputStream#setObjectInputFilter` will be ignored by this serializer.
+ *
+ * <p>In schema consistent mode, fields written by `defaultWriteObject` are serialized in the same
+ * format as {@link ObjectSerializer} by a jit serializer generated by {@link
+ * ObjectStreamCodecBuilder}. Fields written by `putFields/writeFields` are still serialized by
+ * {@link CompatibleSerializer}, since they may not exist in current class.
  */
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class ObjectStreamSerializer extends AbstractObjectSerializer {
   private static final Logger LOG = LoggerFactory.getLogger(ObjectStreamSerializer.class);
+  // Flags written ahead of slot fields in schema consistent mode to tell `defaultReadObject` and
+  // `readFields` how fields are written.
+  private static final byte DEFAULT_FIELDS = 0;
+  private static final byte PUT_FIELDS = 1;
 
   private final Constructor constructor;
   private final SlotsInfo[] slotsInfos;
@@ -133,7 +143,7 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
         StreamClassInfo streamClassInfo = slotsInfo.streamClassInfo;
         Method writeObjectMethod = streamClassInfo.writeObjectMethod;
         if (writeObjectMethod == null) {
-          slotsInfo.slotsSerializer.write(buffer, value);
+          slotsInfo.writeDefaultFields(buffer, value);
         } else {
           FuryObjectOutputStream objectOutputStream = slotsInfo.objectOutputStream;
           Object oldObject = objectOutputStream.targetObject;
@@ -179,7 +189,8 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
     int numClasses = buffer.readInt16();
     int slotIndex = 0;
     try {
-      TreeMap<Integer, ObjectInputValidation> callbacks = new TreeMap<>(Collections.reverseOrder());
+      // allocated by `registerValidation` lazily.
+      TreeMap<Integer, ObjectInputValidation> callbacks = null;
       for (int i = 0; i < numClasses; i++) {
         Class<?> currentClass = classResolver.readClassInternal(buffer);
         SlotsInfo slotsInfo = slotsInfos[slotIndex++];
@@ -198,42 +209,44 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
         }
         Method readObjectMethod = streamClassInfo.readObjectMethod;
         if (readObjectMethod == null) {
-          slotsInfo.slotsSerializer.readAndSetFields(buffer, obj);
+          slotsInfo.readDefaultFields(buffer, obj);
         } else {
           FuryObjectInputStream objectInputStream = slotsInfo.objectInputStream;
           MemoryBuffer oldBuffer = objectInputStream.buffer;
           Object oldObject = objectInputStream.targetObject;
           FuryObjectInputStream.GetFieldImpl oldGetField = objectInputStream.getField;
-          FuryObjectInputStream.GetFieldImpl getField =
-              (FuryObjectInputStream.GetFieldImpl) slotsInfo.getFieldPool.popOrNull();
-          if (getField == null) {
-            getField = new FuryObjectInputStream.GetFieldImpl(slotsInfo);
-          }
           boolean fieldsRead = objectInputStream.fieldsRead;
           try {
             objectInputStream.fieldsRead = false;
             objectInputStream.buffer = buffer;
             objectInputStream.targetObject = obj;
-            objectInputStream.getField = getField;
+            // `GetField` is taken from pool only if `readFields` is invoked.
+            objectInputStream.getField = null;
             objectInputStream.callbacks = callbacks;
             if (streamClassInfo.readObjectFunc != null) {
               streamClassInfo.readObjectFunc.accept(obj, objectInputStream);
             } else {
               readObjectMethod.invoke(obj, objectInputStream);
             }
+            callbacks = objectInputStream.callbacks;
           } finally {
+            FuryObjectInputStream.GetFieldImpl getField = objectInputStream.getField;
+            if (getField != null) {
+              Arrays.fill(getField.vals, FuryObjectInputStream.NO_VALUE_STUB);
+              slotsInfo.getFieldPool.add(getField);
+            }
             objectInputStream.fieldsRead = fieldsRead;
             objectInputStream.buffer = oldBuffer;
             objectInputStream.targetObject = oldObject;
             objectInputStream.getField = oldGetField;
-            slotsInfo.getFieldPool.add(getField);
             objectInputStream.callbacks = null;
-            Arrays.fill(getField.vals, FuryObjectInputStream.NO_VALUE_STUB);
           }
         }
       }
-      for (ObjectInputValidation validation : callbacks.values()) {
-        validation.validateObject();
+      if (callbacks != null) {
+        for (ObjectInputValidation validation : callbacks.values()) {
+          validation.validateObject();
+        }
       }
     } catch (InvocationTargetException | IllegalAccessException | InvalidObjectException e) {
       throwSerializationException(type, e);
@@ -316,9 +329,18 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
     private final ClassInfo classInfo;
     private final StreamClassInfo streamClassInfo;
     // mark non-final for async-jit to update it to jit-serializer.
-    private CompatibleSerializerBase slotsSerializer;
+    private AbstractObjectSerializer slotsSerializer;
+    // Whether write `DEFAULT_FIELDS/PUT_FIELDS` flag ahead of fields.
+    private final boolean fieldsFlagged;
+    // Created lazily to read fields written by `writeFields` in `defaultReadObject`.
+    private CompatibleSerializer compatibleSlotsSerializer;
+    // Created lazily to read fields written by `defaultWriteObject` in `readFields`.
+    private ObjectSerializer defaultFieldsSerializer;
+    // Index in `putFieldInfos` of every field read by `defaultFieldsSerializer`, -1 if absent.
+    private int[] defaultFieldsPutIndices;
     private final ObjectIntMap<String> fieldIndexMap;
     private final FieldResolver putFieldsResolver;
+    private final FieldResolver.FieldInfo[] putFieldInfos;
     private final CompatibleSerializer compatibleStreamSerializer;
     private final FuryObjectOutputStream objectOutputStream;
     private final FuryObjectInputStream objectInputStream;
@@ -336,28 +358,51 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       // (`serialPersistentFields` field can't provide generics.)
       // So we need to mark all container fields type to `Object` to avoid reader deserialize data
       // using field generic types.
-      Class<? extends Serializer> sc = CompatibleSerializer.class;
-      FieldResolver fieldResolver = FieldResolver.of(fury, type, false, true);
-      if (fury.getConfig().isCodeGenEnabled()
-          && CodegenSerializer.supportCodegenForJavaSerialization(cls)) {
-        sc =
-            fury.getJITContext()
-                .registerSerializerJITCallback(
-                    () -> CompatibleSerializer.class,
-                    () ->
-                        CodecUtils.loadOrGenCompatibleCodecClass(
-                            cls,
-                            fury,
-                            fieldResolver,
-                            Generated.GeneratedCompatibleSerializer.class),
-                    c ->
-                        this.slotsSerializer =
-                            (CompatibleSerializerBase) Serializers.newSerializer(fury, type, c));
-      }
-      if (sc == CompatibleSerializer.class) {
-        this.slotsSerializer = new CompatibleSerializer(fury, type, fieldResolver);
+      boolean codegen =
+          fury.getConfig().isCodeGenEnabled()
+              && CodegenSerializer.supportCodegenForJavaSerialization(cls);
+      if (fury.getConfig().getCompatibleMode() == CompatibleMode.COMPATIBLE) {
+        Class<? extends Serializer> sc = CompatibleSerializer.class;
+        FieldResolver fieldResolver = FieldResolver.of(fury, type, false, true);
+        if (codegen) {
+          sc =
+              fury.getJITContext()
+                  .registerSerializerJITCallback(
+                      () -> CompatibleSerializer.class,
+                      () ->
+                          CodecUtils.loadOrGenCompatibleCodecClass(
+                              cls,
+                              fury,
+                              fieldResolver,
+                              Generated.GeneratedCompatibleSerializer.class),
+                      c ->
+                          this.slotsSerializer =
+                              (AbstractObjectSerializer) Serializers.newSerializer(fury, type, c));
+        }
+        if (sc == CompatibleSerializer.class) {
+          this.slotsSerializer = new CompatibleSerializer(fury, type, fieldResolver);
+        } else {
+          this.slotsSerializer =
+              (AbstractObjectSerializer) Serializers.newSerializer(fury, type, sc);
+        }
       } else {
-        this.slotsSerializer = (CompatibleSerializerBase) Serializers.newSerializer(fury, type, sc);
+        Class<? extends Serializer> sc = ObjectSerializer.class;
+        if (codegen) {
+          sc =
+              fury.getJITContext()
+                  .registerSerializerJITCallback(
+                      () -> ObjectSerializer.class,
+                      () -> CodecUtils.loadOrGenObjectStreamCodecClass(cls, fury),
+                      c ->
+                          this.slotsSerializer =
+                              (AbstractObjectSerializer) Serializers.newSerializer(fury, type, c));
+        }
+        if (sc == ObjectSerializer.class) {
+          this.slotsSerializer = new ObjectSerializer(fury, type, false);
+        } else {
+          this.slotsSerializer =
+              (AbstractObjectSerializer) Serializers.newSerializer(fury, type, sc);
+        }
       }
       fieldIndexMap = new ObjectIntMap<>(4, 0.4f);
       List<ClassField> allFields = new ArrayList<>();
@@ -366,15 +411,22 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       }
       if (streamClassInfo.writeObjectMethod != null || streamClassInfo.readObjectMethod != null) {
         putFieldsResolver = new FieldResolver(fury, cls, true, allFields, new HashSet<>());
-        AtomicInteger idx = new AtomicInteger(0);
-        for (FieldResolver.FieldInfo fieldInfo : putFieldsResolver.getAllFieldsList()) {
-          fieldIndexMap.put(fieldInfo.getName(), idx.getAndIncrement());
+        putFieldInfos =
+            putFieldsResolver.getAllFieldsList().toArray(new FieldResolver.FieldInfo[0]);
+        for (int i = 0; i < putFieldInfos.length; i++) {
+          fieldIndexMap.put(putFieldInfos[i].getName(), i);
         }
         compatibleStreamSerializer = new CompatibleSerializer(fury, cls, putFieldsResolver);
       } else {
         putFieldsResolver = null;
+        putFieldInfos = null;
         compatibleStreamSerializer = null;
       }
+      // `defaultWriteObject` and `writeFields` write fields in different formats in schema
+      // consistent mode, the reader needs a flag to tell which one is used.
+      fieldsFlagged =
+          putFieldsResolver != null
+              && fury.getConfig().getCompatibleMode() != CompatibleMode.COMPATIBLE;
       if (streamClassInfo.writeObjectMethod != null) {
         try {
           objectOutputStream = new FuryObjectOutputStream(this);
@@ -398,6 +450,62 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       getFieldPool = new ObjectArray();
     }
 
+    private void writeDefaultFields(MemoryBuffer buffer, Object obj) {
+      if (fieldsFlagged) {
+        buffer.writeByte(DEFAULT_FIELDS);
+      }
+      slotsSerializer.write(buffer, obj);
+    }
+
+    private void readDefaultFields(MemoryBuffer buffer, Object obj) {
+      if (fieldsFlagged && buffer.readByte() == PUT_FIELDS) {
+        CompatibleSerializer serializer = compatibleSlotsSerializer;
+        if (serializer == null) {
+          FieldResolver fieldResolver = FieldResolver.of(slotsSerializer.fury, cls, false, true);
+          serializer = new CompatibleSerializer(slotsSerializer.fury, cls, fieldResolver);
+          compatibleSlotsSerializer = serializer;
+        }
+        // skip fields which don't exist in current class.
+        serializer.readAndSetFields(buffer, obj);
+      } else {
+        slotsSerializer.readAndSetFields(buffer, obj);
+      }
+    }
+
+    /** Read fields into <code>vals</code> in the order of {@link #putFieldInfos}. */
+    private void readPutFields(MemoryBuffer buffer, Object[] vals) {
+      if (fieldsFlagged && buffer.readByte() == DEFAULT_FIELDS) {
+        // fields are written by `defaultWriteObject`, decode them without setting to the object,
+        // the object must keep default values until `readObject` assigns the fields it wants.
+        ObjectSerializer serializer = defaultFieldsSerializer;
+        if (serializer == null) {
+          if (slotsSerializer instanceof ObjectSerializer) {
+            serializer = (ObjectSerializer) slotsSerializer;
+          } else {
+            // jit serializer has same format as `ObjectSerializer`.
+            serializer = new ObjectSerializer(slotsSerializer.fury, cls, false);
+          }
+          List<String> fieldNames = serializer.getFieldNames();
+          int[] putFieldIndices = new int[fieldNames.size()];
+          for (int i = 0; i < putFieldIndices.length; i++) {
+            putFieldIndices[i] = fieldIndexMap.get(fieldNames.get(i), -1);
+          }
+          defaultFieldsPutIndices = putFieldIndices;
+          defaultFieldsSerializer = serializer;
+        }
+        Object[] fieldValues = serializer.readFields(buffer);
+        int[] putFieldIndices = defaultFieldsPutIndices;
+        for (int i = 0; i < fieldValues.length; i++) {
+          int index = putFieldIndices[i];
+          if (index != -1) {
+            vals[index] = fieldValues[i];
+          }
+        }
+      } else {
+        compatibleStreamSerializer.readFields(buffer, vals);
+      }
+    }
+
     @Override
     public String toString() {
       return "SlotsInfo{" + "cls=" + cls + '}';
@@ -540,6 +648,9 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       if (curPut == null) {
         throw new NotActiveException("no current PutField object");
       }
+      if (slotsInfo.fieldsFlagged) {
+        buffer.writeByte(PUT_FIELDS);
+      }
       slotsInfo.compatibleStreamSerializer.writeFieldsValues(buffer, curPut.vals);
       Arrays.fill(curPut.vals, null);
       putFieldsCache.add(curPut);
@@ -552,7 +663,7 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       if (fieldsWritten) {
         throw new NotActiveException("not in writeObject invocation or fields already written");
       }
-      slotsInfo.slotsSerializer.write(buffer, targetObject);
+      slotsInfo.writeDefaultFields(buffer, targetObject);
       fieldsWritten = true;
     }
 
@@ -849,7 +960,13 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       if (fieldsRead) {
         throw new NotActiveException("not in readObject invocation or fields already read");
       }
-      slotsInfo.compatibleStreamSerializer.readFields(buffer, getField.vals);
+      GetFieldImpl getField = (GetFieldImpl) slotsInfo.getFieldPool.popOrNull();
+      if (getField == null) {
+        getField = new GetFieldImpl(slotsInfo);
+      }
+      // set before reading to return it to pool if read failed.
+      this.getField = getField;
+      slotsInfo.readPutFields(buffer, getField.vals);
       fieldsRead = true;
       return getField;
     }
@@ -859,7 +976,7 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       if (fieldsRead) {
         throw new NotActiveException("not in readObject invocation or fields already read");
       }
-      slotsInfo.slotsSerializer.readAndSetFields(buffer, targetObject);
+      slotsInfo.readDefaultFields(buffer, targetObject);
       fieldsRead = true;
     }
 
@@ -876,6 +993,9 @@ public class ObjectStreamSerializer extends AbstractObjectSerializer {
       if (obj == null) {
         throw new InvalidObjectException("null callback");
       }
+      if (callbacks == null) {
+        callbacks = new TreeMap<>(Collections.reverseOrder());
+      }
       callbacks.put(prio, obj);
     }
 
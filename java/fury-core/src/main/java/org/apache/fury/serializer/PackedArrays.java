@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.serializer;
+
+import java.util.Arrays;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.Platform;
+
+/**
+ * Compact encodings for <code>int[]</code> and <code>long[]</code>, enabled by {@link
+ * org.apache.fury.config.FuryBuilder#withIntArrayCompressed} and {@link
+ * org.apache.fury.config.FuryBuilder#withLongArrayCompressed}. An encoding is selected for every
+ * array by sampling at most {@link #SAMPLE_SIZE} elements:
+ *
+ * <ul>
+ *   <li>{@link #RAW}: fixed-width little-endian bytes, used for small or random values.
+ *   <li>{@link #VARINT}: zigzag varint of every value, used for small values.
+ *   <li>{@link #DELTA}: first value followed by zigzag varint deltas, used for sorted values such
+ *       as timestamps and ids.
+ *   <li>{@link #BIT_PACKED}: frame of reference, min value followed by <code>value - min</code>
+ *       packed into fixed number of bits, used for values in a narrow range.
+ *   <li>{@link #RLE}: runs of <code>(value, length)</code>, used for repeated values.
+ * </ul>
+ *
+ * <p>Data layout is <code>| encoding byte | payload |</code>, where payload of {@link #RAW} is same
+ * as the uncompressed arrays, and payloads of others start with number of elements.
+ */
+public final class PackedArrays {
+  public static final byte RAW = 0;
+  public static final byte VARINT = 1;
+  public static final byte DELTA = 2;
+  public static final byte BIT_PACKED = 3;
+  public static final byte RLE = 4;
+
+  /** Max number of elements sampled to select encoding. */
+  public static final int SAMPLE_SIZE = 64;
+
+  // Arrays smaller than this are always written raw.
+  private static final int MIN_ENCODING_SIZE = 4;
+
+  private PackedArrays() {}
+
+  public static void writeIntArray(MemoryBuffer buffer, int[] values) {
+    int n = values.length;
+    byte encoding = n < MIN_ENCODING_SIZE ? RAW : selectIntEncoding(values);
+    buffer.writeByte(encoding);
+    switch (encoding) {
+      case VARINT:
+        buffer.writeVarUint32(n);
+        for (int v : values) {
+          buffer.writeVarInt32(v);
+        }
+        break;
+      case DELTA:
+        {
+          buffer.writeVarUint32(n);
+          int prev = 0;
+          for (int v : values) {
+            buffer.writeVarInt32(v - prev);
+            prev = v;
+          }
+          break;
+        }
+      case BIT_PACKED:
+        writeIntsBitPacked(buffer, values);
+        break;
+      case RLE:
+        writeIntRuns(buffer, values);
+        break;
+      default:
+        buffer.writePrimitiveArrayWithSize(values, Platform.INT_ARRAY_OFFSET, n * 4);
+    }
+  }
+
+  public static int[] readIntArray(MemoryBuffer buffer) {
+    byte encoding = buffer.readByte();
+    if (encoding == RAW) {
+      int size = buffer.readVarUint32Small7();
+      int[] values = new int[size / 4];
+      buffer.readToUnsafe(values, Platform.INT_ARRAY_OFFSET, size);
+      return values;
+    }
+    int n = buffer.readVarUint32();
+    int[] values = new int[n];
+    switch (encoding) {
+      case VARINT:
+        for (int i = 0; i < n; i++) {
+          values[i] = buffer.readVarInt32();
+        }
+        break;
+      case DELTA:
+        {
+          int prev = 0;
+          for (int i = 0; i < n; i++) {
+            prev += buffer.readVarInt32();
+            values[i] = prev;
+          }
+          break;
+        }
+      case BIT_PACKED:
+        {
+          int min = buffer.readVarInt32();
+          unpackInts(buffer, buffer.readByte(), min, values);
+          break;
+        }
+      case RLE:
+        for (int i = 0; i < n; ) {
+          int v = buffer.readVarInt32();
+          int end = i + buffer.readVarUint32();
+          Arrays.fill(values, i, end, v);
+          i = end;
+        }
+        break;
+      default:
+        throw new IllegalStateException("Unknown int array encoding " + encoding);
+    }
+    return values;
+  }
+
+  public static void writeLongArray(MemoryBuffer buffer, long[] values) {
+    int n = values.length;
+    byte encoding = n < MIN_ENCODING_SIZE ? RAW : selectLongEncoding(values);
+    buffer.writeByte(encoding);
+    switch (encoding) {
+      case VARINT:
+        buffer.writeVarUint32(n);
+        for (long v : values) {
+          buffer.writeVarInt64(v);
+        }
+        break;
+      case DELTA:
+        {
+          buffer.writeVarUint32(n);
+          long prev = 0;
+          for (long v : values) {
+            buffer.writeVarInt64(v - prev);
+            prev = v;
+          }
+          break;
+        }
+      case BIT_PACKED:
+        writeLongsBitPacked(buffer, values);
+        break;
+      case RLE:
+        writeLongRuns(buffer, values);
+        break;
+      default:
+        buffer.writePrimitiveArrayWithSize(values, Platform.LONG_ARRAY_OFFSET, n * 8);
+    }
+  }
+
+  public static long[] readLongArray(MemoryBuffer buffer) {
+    byte encoding = buffer.readByte();
+    if (encoding == RAW) {
+      int size = buffer.readVarUint32Small7();
+      long[] values = new long[size / 8];
+      buffer.readToUnsafe(values, Platform.LONG_ARRAY_OFFSET, size);
+      return values;
+    }
+    int n = buffer.readVarUint32();
+    long[] values = new long[n];
+    switch (encoding) {
+      case VARINT:
+        for (int i = 0; i < n; i++) {
+          values[i] = buffer.readVarInt64();
+        }
+        break;
+      case DELTA:
+        {
+          long prev = 0;
+          for (int i = 0; i < n; i++) {
+            prev += buffer.readVarInt64();
+            values[i] = prev;
+          }
+          break;
+        }
+      case BIT_PACKED:
+        {
+          long min = buffer.readVarInt64();
+          unpackLongs(buffer, buffer.readByte(), min, values);
+          break;
+        }
+      case RLE:
+        for (int i = 0; i < n; ) {
+          long v = buffer.readVarInt64();
+          int end = i + buffer.readVarUint32();
+          Arrays.fill(values, i, end, v);
+          i = end;
+        }
+        break;
+      default:
+        throw new IllegalStateException("Unknown long array encoding " + encoding);
+    }
+    return values;
+  }
+
+  static byte selectIntEncoding(int[] values) {
+    int n = values.length;
+    int step = Math.max(1, n / SAMPLE_SIZE);
+    long varintBytes = 0;
+    long deltaBytes = 0;
+    int numSamples = 0;
+    int numChanges = 0;
+    int min = values[0];
+    int max = min;
+    for (int i = 0; i < n; i += step) {
+      int v = values[i];
+      varintBytes += varUint64Size(zigzag(v));
+      if (i > 0) {
+        int delta = v - values[i - 1];
+        deltaBytes += varUint64Size(zigzag(delta));
+        if (delta != 0) {
+          numChanges++;
+        }
+      }
+      min = Math.min(min, v);
+      max = Math.max(max, v);
+      numSamples++;
+    }
+    int width = 32 - Integer.numberOfLeadingZeros(max - min);
+    byte encoding =
+        selectEncoding(
+            n, 4, numSamples, varintBytes, deltaBytes, numChanges, (long) n * width / 8 + 6);
+    if (encoding == BIT_PACKED) {
+      // Sampling may miss outliers, check against the exact bit width.
+      for (int v : values) {
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+      }
+      width = 32 - Integer.numberOfLeadingZeros(max - min);
+      encoding =
+          selectEncoding(
+              n, 4, numSamples, varintBytes, deltaBytes, numChanges, (long) n * width / 8 + 6);
+    }
+    return encoding;
+  }
+
+  static byte selectLongEncoding(long[] values) {
+    int n = values.length;
+    int step = Math.max(1, n / SAMPLE_SIZE);
+    long varintBytes = 0;
+    long deltaBytes = 0;
+    int numSamples = 0;
+    int numChanges = 0;
+    long min = values[0];
+    long max = min;
+    for (int i = 0; i < n; i += step) {
+      long v = values[i];
+      varintBytes += varUint64Size(zigzag(v));
+      if (i > 0) {
+        long delta = v - values[i - 1];
+        deltaBytes += varUint64Size(zigzag(delta));
+        if (delta != 0) {
+          numChanges++;
+        }
+      }
+      min = Math.min(min, v);
+      max = Math.max(max, v);
+      numSamples++;
+    }
+    int width = 64 - Long.numberOfLeadingZeros(max - min);
+    byte encoding =
+        selectEncoding(
+            n, 8, numSamples, varintBytes, deltaBytes, numChanges, (long) n * width / 8 + 11);
+    if (encoding == BIT_PACKED) {
+      for (long v : values) {
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+      }
+      width = 64 - Long.numberOfLeadingZeros(max - min);
+      encoding =
+          selectEncoding(
+              n, 8, numSamples, varintBytes, deltaBytes, numChanges, (long) n * width / 8 + 11);
+    }
+    return encoding;
+  }
+
+  private static byte selectEncoding(
+      int n,
+      int elemSize,
+      int numSamples,
+      long sampleVarintBytes,
+      long sampleDeltaBytes,
+      int numChanges,
+      long bitPackedBytes) {
+    long varintBytes = sampleVarintBytes * n / numSamples;
+    long deltaBytes = varintBytes;
+    long rleBytes = Long.MAX_VALUE;
+    if (numSamples > 1) {
+      // Deltas of sampled elements are computed with their predecessors.
+      deltaBytes = sampleDeltaBytes * n / (numSamples - 1);
+      long numRuns = 1 + (long) numChanges * n / (numSamples - 1);
+      rleBytes = numRuns * (sampleVarintBytes / numSamples + 2);
+    }
+    long bestBytes = n * (long) elemSize * 7 / 8;
+    byte encoding = RAW;
+    if (varintBytes < bestBytes) {
+      bestBytes = varintBytes;
+      encoding = VARINT;
+    }
+    if (deltaBytes < bestBytes) {
+      bestBytes = deltaBytes;
+      encoding = DELTA;
+    }
+    if (bitPackedBytes < bestBytes) {
+      bestBytes = bitPackedBytes;
+      encoding = BIT_PACKED;
+    }
+    if (rleBytes < bestBytes) {
+      encoding = RLE;
+    }
+    return encoding;
+  }
+
+  private static void writeIntsBitPacked(MemoryBuffer buffer, int[] values) {
+    int min = values[0];
+    int max = min;
+    for (int v : values) {
+      min = Math.min(min, v);
+      max = Math.max(max, v);
+    }
+    int width = 32 - Integer.numberOfLeadingZeros(max - min);
+    buffer.writeVarUint32(values.length);
+    buffer.writeVarInt32(min);
+    buffer.writeByte(width);
+    long acc = 0;
+    int bits = 0;
+    for (int v : values) {
+      long u = (v - min) & 0xFFFFFFFFL;
+      acc |= u << bits;
+      bits += width;
+      if (bits >= 64) {
+        buffer.writeInt64(acc);
+        bits -= 64;
+        acc = bits == 0 ? 0 : u >>> (width - bits);
+      }
+    }
+    writeTailBits(buffer, acc, bits);
+  }
+
+  private static void writeLongsBitPacked(MemoryBuffer buffer, long[] values) {
+    long min = values[0];
+    long max = min;
+    for (long v : values) {
+      min = Math.min(min, v);
+      max = Math.max(max, v);
+    }
+    int width = 64 - Long.numberOfLeadingZeros(max - min);
+    buffer.writeVarUint32(values.length);
+    buffer.writeVarInt64(min);
+    buffer.writeByte(width);
+    long acc = 0;
+    int bits = 0;
+    for (long v : values) {
+      long u = v - min;
+      acc |= u << bits;
+      bits += width;
+      if (bits >= 64) {
+        buffer.writeInt64(acc);
+        bits -= 64;
+        acc = bits == 0 ? 0 : u >>> (width - bits);
+      }
+    }
+    writeTailBits(buffer, acc, bits);
+  }
+
+  private static void writeTailBits(MemoryBuffer buffer, long acc, int bits) {
+    for (; bits > 0; bits -= 8) {
+      buffer.writeByte((byte) acc);
+      acc >>>= 8;
+    }
+  }
+
+  private static void unpackInts(MemoryBuffer buffer, int width, int min, int[] values) {
+    long mask = (1L << width) - 1;
+    long remaining = ((long) values.length * width + 7) >>> 3;
+    long acc = 0;
+    int bits = 0;
+    for (int i = 0; i < values.length; i++) {
+      long u;
+      if (bits >= width) {
+        u = acc & mask;
+        acc >>>= width;
+        bits -= width;
+      } else {
+        long word = readWord(buffer, remaining);
+        remaining -= 8;
+        u = (acc | word << bits) & mask;
+        int used = width - bits;
+        acc = word >>> used;
+        bits = 64 - used;
+      }
+      values[i] = (int) u + min;
+    }
+  }
+
+  private static void unpackLongs(MemoryBuffer buffer, int width, long min, long[] values) {
+    long mask = width == 64 ? -1L : (1L << width) - 1;
+    long remaining = ((long) values.length * width + 7) >>> 3;
+    long acc = 0;
+    int bits = 0;
+    for (int i = 0; i < values.length; i++) {
+      long u;
+      if (bits >= width) {
+        u = acc & mask;
+        acc >>>= width;
+        bits -= width;
+      } else {
+        long word = readWord(buffer, remaining);
+        remaining -= 8;
+        u = (acc | word << bits) & mask;
+        int used = width - bits;
+        acc = used == 64 ? 0 : word >>> used;
+        bits = 64 - used;
+      }
+      values[i] = u + min;
+    }
+  }
+
+  private static long readWord(MemoryBuffer buffer, long remaining) {
+    if (remaining >= 8) {
+      return buffer.readInt64();
+    }
+    long word = 0;
+    for (int j = 0; j < remaining; j++) {
+      word |= (buffer.readByte() & 0xFFL) << (j << 3);
+    }
+    return word;
+  }
+
+  private static void writeIntRuns(MemoryBuffer buffer, int[] values) {
+    int n = values.length;
+    buffer.writeVarUint32(n);
+    for (int i = 0; i < n; ) {
+      int v = values[i];
+      int end = i + 1;
+      while (end < n && values[end] == v) {
+        end++;
+      }
+      buffer.writeVarInt32(v);
+      buffer.writeVarUint32(end - i);
+      i = end;
+    }
+  }
+
+  private static void writeLongRuns(MemoryBuffer buffer, long[] values) {
+    int n = values.length;
+    buffer.writeVarUint32(n);
+    for (int i = 0; i < n; ) {
+      long v = values[i];
+      int end = i + 1;
+      while (end < n && values[end] == v) {
+        end++;
+      }
+      buffer.writeVarInt64(v);
+      buffer.writeVarUint32(end - i);
+      i = end;
+    }
+  }
+
+  private static long zigzag(long v) {
+    return (v << 1) ^ (v >> 63);
+  }
+
+  private static int varUint64Size(long v) {
+    return (63 - Long.numberOfLeadingZeros(v | 1)) / 7 + 1;
+  }
+}
@@ -20,6 +20,7 @@
 package org.apache.fury.serializer;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +29,7 @@ import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.fury.Fury;
 import org.apache.fury.config.Language;
 import org.apache.fury.exception.ClassNotCompatibleException;
@@ -82,8 +84,7 @@ public class StructSerializer<T> extends Serializer<T> {
     }
     this.constructor = ctr;
     fieldAccessors =
-        Descriptor.getFields(cls).stream()
-            .sorted(Comparator.comparing(f -> StringUtils.lowerCamelToLowerUnderscore(f.getName())))
+        getSortedFields(cls).stream()
             .map(FieldAccessor::createAccessor)
             .toArray(FieldAccessor[]::new);
     fieldGenerics = buildFieldGenerics(fury, TypeRef.of(cls), fieldAccessors);
@@ -91,6 +92,21 @@ public class StructSerializer<T> extends Serializer<T> {
     genericTypesCache.put(null, fieldGenerics);
   }
 
+  /**
+   * Returns fields of <code>cls</code> in serialization order. Generated struct serializers must
+   * follow this order too.
+   */
+  public static List<Field> getSortedFields(Class<?> cls) {
+    return Descriptor.getFields(cls).stream()
+        .sorted(Comparator.comparing(f -> StringUtils.lowerCamelToLowerUnderscore(f.getName())))
+        .collect(Collectors.toList());
+  }
+
+  /** Returns generic type of the field at <code>index</code> of {@link #getSortedFields}. */
+  public GenericType getFieldGeneric(int index) {
+    return genericTypesCache.get(null)[index];
+  }
+
   private <T> GenericType[] buildFieldGenerics(
       Fury fury, TypeRef<T> type, FieldAccessor[] fieldAccessors) {
     return Arrays.stream(fieldAccessors)
@@ -141,12 +157,7 @@ public class StructSerializer<T> extends Serializer<T> {
   public void xwrite(MemoryBuffer buffer, T value) {
     // TODO(chaokunyang) support fields back and forward compatible.
     //  Maybe need to serialize fields name too.
-    int typeHash = this.typeHash;
-    if (typeHash == 0) {
-      typeHash = computeStructHash();
-      this.typeHash = typeHash;
-    }
-    buffer.writeInt32(typeHash);
+    buffer.writeInt32(getTypeHash());
     Generics generics = fury.getGenerics();
     GenericType[] fieldGenerics = getGenericTypes(generics);
     for (int i = 0; i < fieldAccessors.length; i++) {
@@ -186,18 +197,7 @@ public class StructSerializer<T> extends Serializer<T> {
 
   @Override
   public T xread(MemoryBuffer buffer) {
-    int typeHash = this.typeHash;
-    if (typeHash == 0) {
-      typeHash = computeStructHash();
-      this.typeHash = typeHash;
-    }
-    int newHash = buffer.readInt32();
-    if (newHash != typeHash) {
-      throw new ClassNotCompatibleException(
-          String.format(
-              "Hash %d is not consistent with %s for class %s",
-              newHash, typeHash, fury.getClassResolver().getCurrentReadClass()));
-    }
+    checkTypeHash(buffer.readInt32());
     T obj = newBean();
     fury.getRefResolver().reference(obj);
     Generics generics = fury.getGenerics();
@@ -224,7 +224,30 @@ public class StructSerializer<T> extends Serializer<T> {
     return obj;
   }
 
-  private T newBean() {
+  /**
+   * Returns hash of field types, it's computed lazily because field types may be registered after
+   * this serializer is created.
+   */
+  protected final int getTypeHash() {
+    int typeHash = this.typeHash;
+    if (typeHash == 0) {
+      typeHash = computeStructHash();
+      this.typeHash = typeHash;
+    }
+    return typeHash;
+  }
+
+  protected final void checkTypeHash(int newHash) {
+    int typeHash = getTypeHash();
+    if (newHash != typeHash) {
+      throw new ClassNotCompatibleException(
+          String.format(
+              "Hash %d is not consistent with %s for class %s",
+              newHash, typeHash, fury.getClassResolver().getCurrentReadClass()));
+    }
+  }
+
+  protected T newBean() {
     if (constructor != null) {
       try {
         return constructor.newInstance();
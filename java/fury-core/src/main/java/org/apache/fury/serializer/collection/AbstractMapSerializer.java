@@ -275,8 +275,8 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     Class keyType = key.getClass();
     Class valueType = value.getClass();
     // place holder for chunk header and size.
-    buffer.writeInt16((short) -1);
-    int chunkSizeOffset = buffer.writerIndex() - 1;
+    int chunkHeaderOffset = buffer.reserveForUpdate(2);
+    int chunkSizeOffset = chunkHeaderOffset + 1;
     int chunkHeader = 0;
     if (keySerializer != null) {
       chunkHeader |= KEY_DECL_TYPE;
@@ -297,7 +297,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     if (valueWriteRef) {
       chunkHeader |= TRACKING_VALUE_REF;
     }
-    buffer.putByte(chunkSizeOffset - 1, (byte) chunkHeader);
+    buffer.putByte(chunkHeaderOffset, (byte) chunkHeader);
     RefResolver refResolver = fury.getRefResolver();
     // Use int to make chunk size representable for 0~255 instead of 0~127.
     int chunkSize = 0;
@@ -329,6 +329,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
       }
     }
     buffer.putByte(chunkSizeOffset, (byte) chunkSize);
+    buffer.releaseFlush(chunkHeaderOffset);
     return entry;
   }
 
@@ -385,8 +386,8 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     Class valueType = value.getClass();
     Serializer keySerializer, valueSerializer;
     // place holder for chunk header and size.
-    buffer.writeInt16((short) -1);
-    int chunkSizeOffset = buffer.writerIndex() - 1;
+    int chunkHeaderOffset = buffer.reserveForUpdate(2);
+    int chunkSizeOffset = chunkHeaderOffset + 1;
     int chunkHeader = 0;
     // noinspection Duplicates
     if (keyGenericTypeFinal) {
@@ -409,7 +410,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
     if (valueWriteRef) {
       chunkHeader |= TRACKING_VALUE_REF;
     }
-    buffer.putByte(chunkSizeOffset - 1, (byte) chunkHeader);
+    buffer.putByte(chunkHeaderOffset, (byte) chunkHeader);
     RefResolver refResolver = fury.getRefResolver();
     // Use int to make chunk size representable for 0~255 instead of 0~127.
     int chunkSize = 0;
@@ -449,6 +450,7 @@ public abstract class AbstractMapSerializer<T> extends Serializer<T> {
       }
     }
     buffer.putByte(chunkSizeOffset, (byte) chunkSize);
+    buffer.releaseFlush(chunkHeaderOffset);
     return entry;
   }
 
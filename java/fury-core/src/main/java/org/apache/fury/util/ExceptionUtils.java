@@ -20,6 +20,7 @@
 package org.apache.fury.util;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.fury.Fury;
@@ -58,8 +59,10 @@ public class ExceptionUtils {
   public static RuntimeException handleReadFailed(Fury fury, Throwable t) {
     if (fury.getRefResolver() instanceof MapRefResolver) {
       ObjectArray readObjects = ((MapRefResolver) fury.getRefResolver()).getReadObjects();
-      // carry with read objects for better trouble shooting.
-      List<Object> objects = Arrays.asList(readObjects.objects).subList(0, readObjects.size);
+      // carry with read objects for better trouble shooting. Copy them since read objects
+      // will be cleared for next deserialization.
+      List<Object> objects =
+          new ArrayList<>(Arrays.asList(readObjects.objects).subList(0, readObjects.size));
       throw new DeserializationException(objects, t);
     } else {
       Platform.throwException(t);
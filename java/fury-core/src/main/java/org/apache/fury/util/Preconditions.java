@@ -41,6 +41,12 @@ public class Preconditions {
     }
   }
 
+  public static void checkState(boolean expression, String errorMessage) {
+    if (!expression) {
+      throw new IllegalStateException(errorMessage);
+    }
+  }
+
   public static void checkArgument(boolean b) {
     if (!b) {
       throw new IllegalArgumentException();
@@ -24,13 +24,19 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class FuryJitCompilerThreadFactory implements ThreadFactory {
+  private static final String THREAD_NAME_PREFIX = "fury-jit-compiler-";
   private final ThreadFactory backingThreadFactory = Executors.defaultThreadFactory();
   private final AtomicInteger threadNumber = new AtomicInteger(0);
 
   @Override
   public Thread newThread(Runnable task) {
     Thread thread = backingThreadFactory.newThread(task);
-    thread.setName("fury-jit-compiler-" + threadNumber.incrementAndGet());
+    thread.setName(THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
     return thread;
   }
+
+  /** Returns true if <code>thread</code> is created by this factory. */
+  public static boolean isJitCompilerThread(Thread thread) {
+    return thread.getName().startsWith(THREAD_NAME_PREFIX);
+  }
 }
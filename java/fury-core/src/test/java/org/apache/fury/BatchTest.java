@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.Language;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.io.DeflaterPayloadCompressor;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.test.bean.BeanA;
+import org.apache.fury.test.bean.Cyclic;
+import org.testng.annotations.Test;
+
+public class BatchTest extends FuryTestBase {
+  enum Color {
+    RED,
+    GREEN
+  }
+
+  private static List<Object> createObjects(int size) {
+    List<Object> objects = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      switch (i % 4) {
+        case 0:
+          objects.add(BeanA.createBeanA(2));
+          break;
+        case 1:
+          objects.add(Color.values()[i % 2]);
+          break;
+        case 2:
+          objects.add(Arrays.asList("a" + i, Color.GREEN, null));
+          break;
+        default:
+          objects.add(i);
+      }
+    }
+    return objects;
+  }
+
+  @Test(dataProvider = "compressNumberScopedMetaShare")
+  public void testSerializeBatch(boolean compressNumber, boolean scopedMetaShare) {
+    Fury fury =
+        builder()
+            .withNumberCompressed(compressNumber)
+            .withCompatibleMode(
+                scopedMetaShare ? CompatibleMode.COMPATIBLE : CompatibleMode.SCHEMA_CONSISTENT)
+            .withScopedMetaShare(scopedMetaShare)
+            .build();
+    List<Object> objects = createObjects(100);
+    byte[] bytes = fury.serializeBatch(objects);
+    assertEquals(fury.deserializeBatch(bytes), objects);
+    int totalSize = 0;
+    for (Object object : objects) {
+      totalSize += fury.serialize(object).length;
+    }
+    // class metadata and meta strings are written once.
+    assertTrue(bytes.length < totalSize, bytes.length + " " + totalSize);
+    // fury can be used as normal after a batch.
+    serDeCheck(fury, objects);
+    assertEquals(fury.deserializeBatch(fury.serializeBatch(new ArrayList<>())), new ArrayList<>());
+  }
+
+  @Test(dataProvider = "scopedMetaShare")
+  public void testRandomAccess(boolean scopedMetaShare) {
+    Fury fury =
+        builder()
+            .withRefTracking(true)
+            .withCompatibleMode(
+                scopedMetaShare ? CompatibleMode.COMPATIBLE : CompatibleMode.SCHEMA_CONSISTENT)
+            .withScopedMetaShare(scopedMetaShare)
+            .build();
+    List<Object> objects = createObjects(20);
+    objects.add(Cyclic.create(true));
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(32);
+    BatchWriter writer = new BatchWriter(fury);
+    writer.begin(buffer);
+    for (Object object : objects) {
+      writer.write(object);
+    }
+    assertEquals(writer.size(), objects.size());
+    writer.finish();
+    fury.serializeBatch(buffer, Arrays.asList("next", "batch"));
+    // read objects backwards, so that meta strings referenced by id are read before definitions.
+    try (BatchReader reader = new BatchReader(fury).open(buffer)) {
+      assertEquals(reader.size(), objects.size());
+      for (int i = objects.size() - 1; i >= 0; i--) {
+        assertEquals(reader.get(i), objects.get(i));
+      }
+      assertEquals(reader.get(3), objects.get(3));
+      Cyclic cyclic = (Cyclic) reader.get(objects.size() - 1);
+      assertSame(cyclic.cyclic, cyclic);
+    }
+    assertEquals(fury.deserializeBatch(buffer), Arrays.asList("next", "batch"));
+    assertEquals(buffer.readerIndex(), buffer.writerIndex());
+  }
+
+  @Test
+  public void testThreadSafeFury() {
+    ThreadSafeFury fury = builder().buildThreadSafeFuryPool(1, 2);
+    List<Object> objects = createObjects(20);
+    assertEquals(fury.deserializeBatch(fury.serializeBatch(objects)), objects);
+    fury = builder().buildThreadLocalFury();
+    assertEquals(fury.deserializeBatch(fury.serializeBatch(objects)), objects);
+  }
+
+  @Test
+  public void testCompressedBatch() {
+    Fury fury = builder().withPayloadCompression(new DeflaterPayloadCompressor(), 128).build();
+    List<Object> objects = createObjects(200);
+    byte[] bytes = fury.serializeBatch(objects);
+    Fury plainFury = builder().build();
+    byte[] plainBytes = plainFury.serializeBatch(objects);
+    assertTrue(bytes.length < plainBytes.length, bytes.length + " " + plainBytes.length);
+    assertEquals(fury.deserializeBatch(bytes), objects);
+    // uncompressed batch can be read by a fury with compression enabled.
+    assertEquals(fury.deserializeBatch(plainBytes), objects);
+    assertThrows(DeserializationException.class, () -> plainFury.deserializeBatch(bytes));
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(32);
+    fury.serializeBatch(buffer, objects);
+    fury.serializeBatch(buffer, Arrays.asList("next", "batch"));
+    try (BatchReader reader = new BatchReader(fury).open(buffer)) {
+      assertEquals(reader.get(8), objects.get(8));
+    }
+    assertEquals(fury.deserializeBatch(buffer), Arrays.asList("next", "batch"));
+    assertEquals(buffer.readerIndex(), buffer.writerIndex());
+  }
+
+  @Test
+  public void testInvalidBatchHeader() {
+    Fury fury = builder().build();
+    assertThrows(DeserializationException.class, () -> fury.deserializeBatch(fury.serialize(null)));
+    Fury xlangFury = builder().withLanguage(Language.XLANG).build();
+    byte[] bytes = xlangFury.serialize("abc");
+    // skip magic number.
+    assertThrows(
+        DeserializationException.class,
+        () -> fury.deserializeBatch(Arrays.copyOfRange(bytes, 2, bytes.length)));
+  }
+
+  @Test
+  public void testSerializeBatchFailed() {
+    Fury fury = builder().requireClassRegistration(true).build();
+    assertThrows(
+        RuntimeException.class, () -> fury.serializeBatch(Arrays.asList(1, new Object() {})));
+    assertEquals(
+        fury.serializeBatch(Arrays.asList(1, 2)),
+        builder().build().serializeBatch(Arrays.asList(1, 2)));
+  }
+}
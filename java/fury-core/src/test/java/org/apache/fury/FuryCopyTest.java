@@ -76,6 +76,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
+import org.apache.fury.builder.Generated;
 import org.apache.fury.collection.LazyMap;
 import org.apache.fury.serializer.EnumSerializerTest;
 import org.apache.fury.serializer.EnumSerializerTest.EnumFoo;
@@ -386,4 +387,98 @@ public class FuryCopyTest extends FuryTestBase {
       assertEquals(fury.copy(collectionFields).toCanEqual(), collectionFields.toCanEqual());
     }
   }
+
+  public static final class CopyNested {
+    public int[] values;
+    public EnumFoo foo;
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CopyNested that = (CopyNested) o;
+      return Arrays.equals(values, that.values) && foo == that.foo;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(values);
+    }
+  }
+
+  public static class CopyBean {
+    private int f1;
+    private final String f2;
+    private Long f3;
+    private CopyNested f4;
+    private CopyNested f5;
+    private Object f6;
+    private List<CopyNested> f7;
+
+    public CopyBean() {
+      f2 = null;
+    }
+
+    public CopyBean(String f2) {
+      this.f2 = f2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CopyBean copyBean = (CopyBean) o;
+      return f1 == copyBean.f1
+          && java.util.Objects.equals(f2, copyBean.f2)
+          && java.util.Objects.equals(f3, copyBean.f3)
+          && java.util.Objects.equals(f4, copyBean.f4)
+          && java.util.Objects.equals(f5, copyBean.f5)
+          && java.util.Objects.equals(f6, copyBean.f6)
+          && java.util.Objects.equals(f7, copyBean.f7);
+    }
+
+    @Override
+    public int hashCode() {
+      return f1;
+    }
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testBeanCopy(boolean enableCodegen) {
+    for (boolean refCopy : new boolean[] {false, true}) {
+      Fury fury = builder().withCodegen(enableCodegen).withRefCopy(refCopy).build();
+      CopyNested nested = new CopyNested();
+      nested.values = new int[] {1, 2, 3};
+      nested.foo = EnumFoo.B;
+      CopyBean bean = new CopyBean("str");
+      bean.f1 = 10;
+      bean.f3 = 100L;
+      bean.f4 = nested;
+      bean.f5 = null;
+      bean.f6 = nested;
+      bean.f7 = new ArrayList<>(Arrays.asList(nested, nested));
+      CopyBean copy = fury.copy(bean);
+      Assert.assertEquals(
+          fury.getClassResolver().getSerializer(CopyBean.class) instanceof Generated,
+          enableCodegen);
+      assertEquals(copy, bean);
+      Assert.assertSame(copy.f2, bean.f2);
+      Assert.assertNotSame(copy.f4, bean.f4);
+      Assert.assertNotSame(copy.f4.values, bean.f4.values);
+      Assert.assertNotSame(copy.f6, bean.f6);
+      Assert.assertNotSame(copy.f7, bean.f7);
+      if (refCopy) {
+        Assert.assertSame(copy.f4, copy.f6);
+        Assert.assertSame(copy.f7.get(0), copy.f4);
+      }
+    }
+  }
 }
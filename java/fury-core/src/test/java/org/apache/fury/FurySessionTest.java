@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.resolver.MetaContext;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.Test;
+
+public class FurySessionTest extends FuryTestBase {
+  enum Color {
+    RED,
+    GREEN
+  }
+
+  private static Fury createFury(boolean scopedMetaShare) {
+    return builder()
+        .withCompatibleMode(
+            scopedMetaShare ? CompatibleMode.COMPATIBLE : CompatibleMode.SCHEMA_CONSISTENT)
+        .withScopedMetaShare(scopedMetaShare)
+        .withCodegen(false)
+        .build();
+  }
+
+  @Test(dataProvider = "scopedMetaShare")
+  public void testSessionMessages(boolean scopedMetaShare) {
+    Fury fury1 = createFury(scopedMetaShare);
+    Fury fury2 = createFury(scopedMetaShare);
+    Object obj = Arrays.asList(BeanA.createBeanA(2), Color.GREEN);
+    try (FurySession writer = new FurySession(fury1);
+        FurySession reader = new FurySession(fury2)) {
+      byte[] first = writer.serialize(obj);
+      assertEquals(reader.deserialize(first), obj);
+      byte[] plain = fury1.serialize(obj);
+      assertEquals(plain.length, first.length);
+      // plain serialization is not affected by sessions.
+      assertEquals(fury2.deserialize(plain), obj);
+      for (int i = 0; i < 3; i++) {
+        byte[] bytes = writer.serialize(obj);
+        // class definitions and names are written by the first message only.
+        assertTrue(bytes.length < first.length, bytes.length + " " + first.length);
+        assertEquals(reader.deserialize(bytes), obj);
+      }
+      MemoryBuffer buffer = writer.serialize(MemoryBuffer.newHeapBuffer(32), Color.RED);
+      assertEquals(reader.deserialize(buffer), Color.RED);
+    }
+  }
+
+  @Test
+  public void testMultipleSessions() {
+    Fury fury1 = createFury(true);
+    Fury fury2 = createFury(true);
+    FurySession writer1 = new FurySession(fury1);
+    FurySession writer2 = new FurySession(fury1);
+    FurySession reader1 = new FurySession(fury2);
+    FurySession reader2 = new FurySession(fury2);
+    BeanA beanA = BeanA.createBeanA(2);
+    assertEquals(reader1.deserialize(writer1.serialize(beanA)), beanA);
+    assertEquals(reader2.deserialize(writer2.serialize(Color.RED)), Color.RED);
+    // `writer2` doesn't know that `BeanA` is written by `writer1`.
+    assertEquals(reader2.deserialize(writer2.serialize(beanA)), beanA);
+    assertEquals(reader1.deserialize(writer1.serialize(Color.GREEN)), Color.GREEN);
+    assertEquals(reader1.deserialize(writer1.serialize(beanA)), beanA);
+  }
+
+  @Test
+  public void testCloseAndBroken() {
+    Fury fury = createFury(true);
+    FurySession writer = new FurySession(fury);
+    FurySession reader = new FurySession(fury);
+    byte[] bytes = writer.serialize(BeanA.createBeanA(2));
+    assertThrows(RuntimeException.class, () -> reader.deserialize(Arrays.copyOf(bytes, 10)));
+    assertTrue(reader.isBroken());
+    assertThrows(IllegalStateException.class, () -> reader.deserialize(bytes));
+    writer.close();
+    assertTrue(writer.isClosed());
+    writer.close();
+    assertThrows(IllegalStateException.class, () -> writer.serialize(1));
+    serDeCheck(fury, BeanA.createBeanA(2));
+  }
+
+  @Test
+  public void testBindFailed() {
+    Fury fury = createFury(true);
+    FurySession session = new FurySession(fury);
+    fury.getSerializationContext().bindSession(new MetaContext());
+    assertThrows(IllegalStateException.class, () -> session.serialize(BeanA.createBeanA(2)));
+    fury.getSerializationContext().unbindSession();
+    // meta string resolver is unbound too, so that another session can be used.
+    FurySession writer = new FurySession(fury);
+    FurySession reader = new FurySession(fury);
+    assertEquals(reader.deserialize(writer.serialize(Color.RED)), Color.RED);
+    serDeCheck(fury, Color.GREEN);
+  }
+}
@@ -35,6 +35,7 @@ import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -53,6 +54,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.apache.fury.annotation.Expose;
+import org.apache.fury.annotation.FuryRef;
 import org.apache.fury.annotation.Ignore;
 import org.apache.fury.builder.Generated;
 import org.apache.fury.config.CompatibleMode;
@@ -63,6 +65,7 @@ import org.apache.fury.exception.InsecureException;
 import org.apache.fury.memory.MemoryBuffer;
 import org.apache.fury.memory.MemoryUtils;
 import org.apache.fury.memory.Platform;
+import org.apache.fury.resolver.ClassResolver;
 import org.apache.fury.resolver.MetaContext;
 import org.apache.fury.serializer.ArraySerializersTest;
 import org.apache.fury.serializer.EnumSerializerTest;
@@ -673,4 +676,210 @@ public class FuryTest extends FuryTestBase {
     Assert.assertEquals(struct1.f1, struct2.f1);
     Assert.assertEquals(struct1.f2, struct2.f2);
   }
+
+  @FuryRef(track = false)
+  @Data
+  @AllArgsConstructor
+  public static class Point {
+    int x;
+    int y;
+  }
+
+  @Data
+  public static class PointHolder {
+    Point p1;
+    Point p2;
+    Object p3;
+    List<Object> list;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testRefTrackingOptOut(boolean enableCodegen) {
+    Fury fury = builder().withRefTracking(true).withCodegen(enableCodegen).build();
+    assertTrue(ClassResolver.isRefTrackingDisabled(Point.class));
+    Point point = new Point(1, 2);
+    List<Object> shared = new LinkedList<>();
+    PointHolder holder = new PointHolder();
+    holder.p1 = point;
+    holder.p2 = point;
+    holder.p3 = point;
+    holder.list = Arrays.asList(point, shared, shared);
+    PointHolder newHolder = serDe(fury, holder);
+    assertEquals(newHolder, holder);
+    // point is written as value every time.
+    Assert.assertNotSame(newHolder.p1, newHolder.p2);
+    Assert.assertNotSame(newHolder.p1, newHolder.p3);
+    Assert.assertNotSame(newHolder.p3, newHolder.list.get(0));
+    // other objects are still tracked.
+    Assert.assertSame(newHolder.list.get(1), newHolder.list.get(2));
+  }
+
+  public static final class Leaf {
+    int value;
+
+    public Leaf(int value) {
+      this.value = value;
+    }
+  }
+
+  @Data
+  public static class FieldRefHolder {
+    @FuryRef(track = false)
+    Leaf leaf1;
+
+    Leaf leaf2;
+
+    @FuryRef(track = false)
+    Object obj;
+
+    @FuryRef(track = false)
+    List<String> list1;
+
+    List<String> list2;
+
+    @FuryRef(track = true)
+    String str1;
+
+    @FuryRef(track = true)
+    String str2;
+
+    String str3;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testFieldRefTracking(boolean enableCodegen) {
+    FuryBuilder builder = builder().withRefTracking(true);
+    Fury fury = builder.withCodegen(enableCodegen).build();
+    Fury fury2 = builder.withCodegen(!enableCodegen).build();
+    Leaf leaf = new Leaf(1);
+    List<String> list = new ArrayList<>(ImmutableList.of("a", "b"));
+    String str = new String("abc");
+    FieldRefHolder holder = new FieldRefHolder();
+    holder.leaf1 = leaf;
+    holder.leaf2 = leaf;
+    holder.obj = leaf;
+    holder.list1 = list;
+    holder.list2 = list;
+    holder.str1 = str;
+    holder.str2 = str;
+    holder.str3 = str;
+    for (int i = 0; i < 2; i++) {
+      FieldRefHolder newHolder = serDe(fury, holder);
+      assertEquals(newHolder.leaf1.value, 1);
+      assertEquals(newHolder.list1, list);
+      assertEquals(newHolder.str3, str);
+      // fields which opt out ref tracking are written as value every time.
+      Assert.assertNotSame(newHolder.leaf1, newHolder.leaf2);
+      Assert.assertNotSame(newHolder.obj, newHolder.leaf2);
+      Assert.assertNotSame(newHolder.list1, newHolder.list2);
+      Assert.assertSame(newHolder.str1, newHolder.str2);
+      Assert.assertNotSame(newHolder.str1, newHolder.str3);
+    }
+    // jit serializer and interpreter serializer should be consistent.
+    FieldRefHolder newHolder = (FieldRefHolder) fury2.deserialize(fury.serialize(holder));
+    Assert.assertNotSame(newHolder.leaf1, newHolder.leaf2);
+    Assert.assertSame(newHolder.str1, newHolder.str2);
+    assertEquals(newHolder.list2, list);
+  }
+
+  @Data
+  public static class FieldRefOptOutHolder {
+    @FuryRef(track = false)
+    Leaf leaf1;
+
+    Leaf leaf2;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testFieldRefTrackingMetaShare(boolean enableCodegen) {
+    Fury fury =
+        builder()
+            .withRefTracking(true)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(true)
+            .withCodegen(enableCodegen)
+            .build();
+    FieldRefOptOutHolder holder = new FieldRefOptOutHolder();
+    holder.leaf1 = holder.leaf2 = new Leaf(1);
+    // opt out works in meta share mode since only the writer needs the annotation.
+    FieldRefOptOutHolder newHolder = serDe(fury, holder);
+    Assert.assertNotSame(newHolder.leaf1, newHolder.leaf2);
+    // opt in is ignored since the peer may not annotate the field.
+    FieldRefHolder refHolder = new FieldRefHolder();
+    refHolder.str1 = refHolder.str2 = new String("abc");
+    FieldRefHolder newRefHolder = serDe(fury, refHolder);
+    assertEquals(newRefHolder.str1, "abc");
+    Assert.assertNotSame(newRefHolder.str1, newRefHolder.str2);
+  }
+
+  @Data
+  public static class FieldRefOptInHolder {
+    @FuryRef(track = true)
+    Leaf leaf1;
+
+    @FuryRef(track = true)
+    Leaf leaf2;
+
+    Leaf leaf3;
+
+    @FuryRef(track = true)
+    List<String> list1;
+
+    @FuryRef(track = true)
+    List<String> list2;
+
+    @FuryRef(track = true)
+    Object obj;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testFieldRefTrackingOptIn(boolean enableCodegen) {
+    FuryBuilder builder = builder().withRefTracking(false);
+    Fury fury = builder.withCodegen(enableCodegen).build();
+    Fury fury2 = builder.withCodegen(!enableCodegen).build();
+    Leaf leaf = new Leaf(1);
+    List<String> list = new ArrayList<>(ImmutableList.of("a", "b"));
+    FieldRefOptInHolder holder = new FieldRefOptInHolder();
+    holder.leaf1 = holder.leaf2 = holder.leaf3 = leaf;
+    holder.list1 = holder.list2 = list;
+    holder.obj = leaf;
+    for (Fury f : new Fury[] {fury, fury2}) {
+      for (int i = 0; i < 2; i++) {
+        // only annotated fields are tracked, by a separate ref table.
+        FieldRefOptInHolder newHolder = (FieldRefOptInHolder) f.deserialize(fury.serialize(holder));
+        assertEquals(newHolder.leaf1.value, 1);
+        Assert.assertSame(newHolder.leaf1, newHolder.leaf2);
+        Assert.assertSame(newHolder.leaf1, newHolder.obj);
+        Assert.assertNotSame(newHolder.leaf1, newHolder.leaf3);
+        assertEquals(newHolder.list1, list);
+        Assert.assertSame(newHolder.list1, newHolder.list2);
+      }
+    }
+    FieldRefHolder refHolder = new FieldRefHolder();
+    refHolder.leaf1 = refHolder.leaf2 = leaf;
+    refHolder.str1 = refHolder.str2 = refHolder.str3 = new String("abc");
+    FieldRefHolder newRefHolder = (FieldRefHolder) fury2.deserialize(fury.serialize(refHolder));
+    Assert.assertNotSame(newRefHolder.leaf1, newRefHolder.leaf2);
+    Assert.assertSame(newRefHolder.str1, newRefHolder.str2);
+    Assert.assertNotSame(newRefHolder.str1, newRefHolder.str3);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testFieldRefTrackingCompatible(boolean enableCodegen) {
+    Fury fury =
+        builder()
+            .withRefTracking(true)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(false)
+            .withCodegen(enableCodegen)
+            .build();
+    // field annotations are ignored by compatible serializer.
+    FieldRefOptInHolder holder = new FieldRefOptInHolder();
+    holder.leaf1 = holder.leaf3 = new Leaf(1);
+    FieldRefOptInHolder newHolder = serDe(fury, holder);
+    Assert.assertSame(newHolder.leaf1, newHolder.leaf3);
+    FieldRefOptOutHolder optOutHolder = new FieldRefOptOutHolder();
+    optOutHolder.leaf1 = optOutHolder.leaf2 = new Leaf(1);
+    assertEquals(serDe(fury, optOutHolder).leaf1.value, 1);
+  }
 }
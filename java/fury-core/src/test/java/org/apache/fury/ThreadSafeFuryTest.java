@@ -23,6 +23,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -74,6 +75,37 @@ public class ThreadSafeFuryTest extends FuryTestBase {
     assertFalse(hasException);
   }
 
+  @Test
+  public void testVirtualThreadSafeFury() throws InterruptedException {
+    BeanA beanA = BeanA.createBeanA(2);
+    ThreadSafeFury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .requireClassRegistration(false)
+            .buildVirtualThreadSafeFury(2);
+    Set<Fury> furySet = ConcurrentHashMap.newKeySet();
+    ((AbstractThreadSafeFury) fury).registerCallback(furySet::add);
+    Thread[] threads = new Thread[64];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                try {
+                  assertEquals(fury.deserialize(fury.serialize(beanA)), beanA);
+                } catch (Throwable e) {
+                  hasException = true;
+                  e.printStackTrace();
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertFalse(hasException);
+    assertTrue(furySet.size() <= 2);
+  }
+
   @Test
   public void testRegistration() throws Exception {
     BeanB bean = BeanB.createBeanB(2);
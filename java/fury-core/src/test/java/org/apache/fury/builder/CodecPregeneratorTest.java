@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.builder;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.codegen.CodeGenerator;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.util.ClassLoaderUtils;
+import org.testng.annotations.Test;
+
+public class CodecPregeneratorTest extends FuryTestBase {
+
+  @Data
+  public static class PregeneratedBean {
+    public int f1;
+    private String f2;
+    private List<String> f3;
+  }
+
+  @Data
+  public static class PregeneratedCompatibleBean {
+    private long f1;
+    private String f2;
+  }
+
+  private static PregeneratedBean createBean() {
+    PregeneratedBean bean = new PregeneratedBean();
+    bean.f1 = 10;
+    bean.setF2("abc");
+    bean.setF3(Arrays.asList("a", "b"));
+    return bean;
+  }
+
+  private static void define(Class<?> beanClass, Map<String, byte[]> classes) {
+    for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+      String className = CodeGenerator.fullClassNameFromClassFilePath(entry.getKey());
+      assertNotNull(
+          ClassLoaderUtils.tryDefineClassesInClassLoader(
+              className, beanClass, beanClass.getClassLoader(), entry.getValue()));
+    }
+  }
+
+  @Test
+  public void testLoadPregeneratedCodec() throws Exception {
+    Map<String, byte[]> classes =
+        CodecPregenerator.generate(
+            builder().withRefTracking(false).build(), PregeneratedBean.class);
+    assertEquals(classes.size(), 1);
+    Fury fury = builder().withRefTracking(false).build();
+    assertNull(CodecUtils.loadPregeneratedCodecClass(PregeneratedBean.class, fury, false));
+    define(PregeneratedBean.class, classes);
+    Class<?> serializerClass =
+        CodecUtils.loadPregeneratedCodecClass(PregeneratedBean.class, fury, false);
+    assertNotNull(serializerClass);
+    assertEquals(
+        CodeGenerator.fullClassNameFromClassFilePath(classes.keySet().iterator().next()),
+        serializerClass.getName());
+    serDeCheck(fury, createBean());
+    assertEquals(
+        fury.getClassResolver().getSerializerClass(PregeneratedBean.class), serializerClass);
+    // pregenerated codec won't be used by fury with different config.
+    Fury fury2 = builder().withRefTracking(true).build();
+    serDeCheck(fury2, createBean());
+    assertNotEquals(
+        fury2.getClassResolver().getSerializerClass(PregeneratedBean.class), serializerClass);
+  }
+
+  @Test
+  public void testWritePregeneratedCompatibleCodec() throws Exception {
+    Path outputDir = Files.createTempDirectory("fury_pregenerated");
+    CodecPregenerator.generate(
+        builder().withCompatibleMode(CompatibleMode.COMPATIBLE).withScopedMetaShare(false).build(),
+        outputDir,
+        PregeneratedCompatibleBean.class);
+    Fury fury =
+        builder().withCompatibleMode(CompatibleMode.COMPATIBLE).withScopedMetaShare(false).build();
+    String pkg = CodeGenerator.getPackage(PregeneratedCompatibleBean.class);
+    String className =
+        BaseObjectCodecBuilder.pregeneratedCodecClassName(
+            PregeneratedCompatibleBean.class, fury, CompatibleCodecBuilder.CODEC_SUFFIX);
+    Path path = outputDir.resolve(CodeGenerator.classFilepath(pkg, className));
+    byte[] bytecode = Files.readAllBytes(path);
+    assertNotNull(
+        ClassLoaderUtils.tryDefineClassesInClassLoader(
+            pkg + "." + className,
+            PregeneratedCompatibleBean.class,
+            PregeneratedCompatibleBean.class.getClassLoader(),
+            bytecode));
+    PregeneratedCompatibleBean bean = new PregeneratedCompatibleBean();
+    bean.setF1(100);
+    bean.setF2("str");
+    serDeCheck(fury, bean);
+    assertEquals(
+        fury.getClassResolver().getSerializerClass(PregeneratedCompatibleBean.class).getName(),
+        pkg + "." + className);
+  }
+}
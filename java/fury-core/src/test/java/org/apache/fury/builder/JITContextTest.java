@@ -20,11 +20,15 @@
 package org.apache.fury.builder;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.Data;
 import org.apache.fury.Fury;
 import org.apache.fury.FuryTestBase;
@@ -167,6 +171,54 @@ public class JITContextTest extends FuryTestBase {
     serDeCheck(fury, o);
   }
 
+  @Test(timeOut = 60000)
+  public void testLockFreeCall() throws Exception {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .requireClassRegistration(false)
+            .withAsyncCompilation(true)
+            .build();
+    BeanA beanA = BeanA.createBeanA(2);
+    serDeCheck(fury, beanA);
+    while (!(getSerializer(fury, BeanA.class) instanceof Generated)) {
+      Thread.sleep(100);
+    }
+    JITContext jitContext = fury.getJITContext();
+    while (jitContext.hasJITResult(BeanA.class)) {
+      Thread.sleep(10);
+    }
+    ReentrantLock jitLock =
+        (ReentrantLock) ReflectionUtils.getObjectFieldValue(jitContext, "jitLock");
+    // jit threads have released the lock when the jit result is cleared.
+    jitContext.beginCall();
+    assertFalse(jitLock.isHeldByCurrentThread());
+    assertTrue(jitContext.lockedByCurrentThread());
+    // nested lock in lock-free call shouldn't be blocked.
+    jitContext.lock();
+    jitContext.unlock();
+    CountDownLatch locked = new CountDownLatch(1);
+    Thread thread =
+        new Thread(
+            () -> {
+              jitContext.lock();
+              locked.countDown();
+              jitContext.unlock();
+            });
+    thread.start();
+    // lock from other threads should wait the lock-free call to finish.
+    assertFalse(locked.await(100, TimeUnit.MILLISECONDS));
+    // the waiting thread is parked instead of spinning.
+    assertEquals(thread.getState(), Thread.State.WAITING);
+    jitContext.endCall();
+    locked.await();
+    thread.join();
+    serDeCheck(fury, beanA);
+    jitContext.beginCall();
+    assertFalse(jitLock.isHeldByCurrentThread());
+    jitContext.endCall();
+  }
+
   @Data
   public static final class TestAccessLevel {
     PkgAccessLevel f1;
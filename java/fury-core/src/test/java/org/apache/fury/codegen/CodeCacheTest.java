@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.codegen;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class CodeCacheTest {
+  private static final String PKG = "org.apache.fury.codegen";
+
+  private static CompileUnit unit(int value) {
+    String code =
+        "package "
+            + PKG
+            + ";\npublic class CodeCacheTestValue {\n"
+            + "  public static int value() { return "
+            + value
+            + "; }\n}";
+    return new CompileUnit(PKG, "CodeCacheTestValue", code);
+  }
+
+  @Test
+  public void testLoadAndStore() throws IOException {
+    Path cacheDir = Files.createTempDirectory("fury_code_cache");
+    String dir = cacheDir.toString();
+    List<CompileUnit> units = Collections.singletonList(unit(1));
+    assertNull(CodeCache.load(dir, units));
+    Map<String, byte[]> classes = JaninoUtils.toBytecode(getClass().getClassLoader(), unit(1));
+    CodeCache.store(dir, units, classes);
+    assertTrue(Files.exists(CodeCache.cachePath(dir, units)));
+    Map<String, byte[]> cached = CodeCache.load(dir, units);
+    assertEquals(cached.keySet(), classes.keySet());
+    for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+      assertEquals(cached.get(entry.getKey()), entry.getValue());
+    }
+    // changed code must not hit the entry of old code.
+    assertNotEquals(
+        CodeCache.cachePath(dir, Collections.singletonList(unit(2))),
+        CodeCache.cachePath(dir, units));
+    assertNull(CodeCache.load(dir, Collections.singletonList(unit(2))));
+  }
+
+  @Test
+  public void testCompileFromCache() throws Exception {
+    Path cacheDir = Files.createTempDirectory("fury_code_cache");
+    String dir = cacheDir.toString();
+    // Put classes of another code under the entry of `unit(1)`, then compile `unit(1)` should get
+    // the cached classes without compiling it by janino.
+    Map<String, byte[]> classes = JaninoUtils.toBytecode(getClass().getClassLoader(), unit(2));
+    CodeCache.store(dir, Collections.singletonList(unit(1)), classes);
+    System.setProperty("FURY_CODE_CACHE_DIR", dir);
+    try {
+      CodeGenerator codeGenerator = new CodeGenerator(getClass().getClassLoader());
+      ClassLoader loader = codeGenerator.compile(unit(1));
+      Class<?> cls = loader.loadClass(PKG + ".CodeCacheTestValue");
+      assertEquals(cls.getMethod("value").invoke(null), 2);
+    } finally {
+      System.clearProperty("FURY_CODE_CACHE_DIR");
+    }
+    // classes compiled by janino will be written to cache.
+    List<CompileUnit> units = Collections.singletonList(unit(3));
+    System.setProperty("FURY_CODE_CACHE_DIR", dir);
+    try {
+      CodeGenerator codeGenerator = new CodeGenerator(getClass().getClassLoader());
+      ClassLoader loader = codeGenerator.compile(unit(3));
+      Class<?> cls = loader.loadClass(PKG + ".CodeCacheTestValue");
+      assertEquals(cls.getMethod("value").invoke(null), 3);
+    } finally {
+      System.clearProperty("FURY_CODE_CACHE_DIR");
+    }
+    assertTrue(Files.exists(CodeCache.cachePath(dir, units)));
+  }
+}
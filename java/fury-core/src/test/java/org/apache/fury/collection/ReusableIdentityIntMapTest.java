@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.collection;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class ReusableIdentityIntMapTest {
+
+  @Test
+  public void testPutOrGet() {
+    ReusableIdentityIntMap<Object> map = new ReusableIdentityIntMap<>(4);
+    List<Object> objects = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Object o = new Object();
+      objects.add(o);
+      assertEquals(map.putOrGet(o, i), Integer.MIN_VALUE);
+    }
+    assertEquals(map.size(), 1000);
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(map.putOrGet(objects.get(i), -1), i);
+      assertEquals(map.get(objects.get(i), -1), i);
+    }
+    assertEquals(map.get(new Object(), -1), -1);
+    map.put(objects.get(0), 10);
+    assertEquals(map.get(objects.get(0), -1), 10);
+    assertEquals(map.size(), 1000);
+    Map<Object, Integer> entries = new IdentityHashMap<>();
+    map.forEach(entries::put);
+    assertEquals(entries.size(), 1000);
+    assertEquals(entries.get(objects.get(1)).intValue(), 1);
+  }
+
+  @Test
+  public void testClear() {
+    ReusableIdentityIntMap<Object> map = new ReusableIdentityIntMap<>(4);
+    Object[] objects = new Object[10000];
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = new Object();
+      map.putOrGet(objects[i], i);
+    }
+    int capacity = map.capacity();
+    // table is kept for expected size.
+    map.clear(objects.length);
+    assertEquals(map.capacity(), capacity);
+    assertEquals(map.size(), 0);
+    for (Object object : objects) {
+      assertEquals(map.get(object, -1), -1);
+    }
+    // sparse clear.
+    for (int i = 0; i < 10; i++) {
+      map.putOrGet(objects[i], i);
+    }
+    map.clear(objects.length);
+    assertEquals(map.capacity(), capacity);
+    for (Object object : objects) {
+      assertEquals(map.get(object, -1), -1);
+    }
+    // shrink when table is far bigger than expected.
+    map.clear(10);
+    assertTrue(map.capacity() < capacity);
+    map.putOrGet(objects[0], 0);
+    // grow ahead for big expected size.
+    map.clear(100000);
+    assertTrue(map.capacity() > capacity);
+    assertEquals(map.get(objects[0], -1), -1);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.config;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.fury.Fury;
+import org.testng.annotations.Test;
+
+public class ConfigTest {
+
+  @Test
+  public void testFingerprintFields() {
+    Set<String> fingerprintFields = new HashSet<>(Arrays.asList(Config.FINGERPRINT_FIELDS));
+    Set<String> nonFingerprintFields = new HashSet<>(Arrays.asList(Config.NON_FINGERPRINT_FIELDS));
+    for (Field field : Config.class.getDeclaredFields()) {
+      int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+        continue;
+      }
+      // A new option must be put into one of the lists, so it won't be ignored by mistake.
+      assertTrue(
+          fingerprintFields.remove(field.getName()) ^ nonFingerprintFields.remove(field.getName()),
+          field.getName());
+    }
+    assertTrue(fingerprintFields.isEmpty(), fingerprintFields.toString());
+    assertTrue(nonFingerprintFields.isEmpty(), nonFingerprintFields.toString());
+  }
+
+  @Test
+  public void testConfigFingerprint() {
+    String fingerprint = Fury.builder().build().getConfig().getConfigFingerprint();
+    assertEquals(Fury.builder().build().getConfig().getConfigFingerprint(), fingerprint);
+    assertEquals(
+        Fury.builder()
+            .withName("test")
+            .requireClassRegistration(false)
+            .withAsyncCompilation(true)
+            .build()
+            .getConfig()
+            .getConfigFingerprint(),
+        fingerprint);
+    assertNotEquals(
+        Fury.builder().withRefTracking(true).build().getConfig().getConfigFingerprint(),
+        fingerprint);
+    assertNotEquals(
+        Fury.builder().withNumberCompressed(false).build().getConfig().getConfigFingerprint(),
+        fingerprint);
+  }
+}
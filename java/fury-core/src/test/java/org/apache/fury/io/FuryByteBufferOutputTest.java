@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FuryByteBufferOutputTest extends FuryTestBase {
+
+  /** Mimic a socket writer which drains the buffer and reuses it. */
+  private static class Sink implements ByteBufferOverflowHandler {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private int numOverflows;
+
+    @Override
+    public ByteBuffer onOverflow(ByteBuffer buffer) {
+      numOverflows++;
+      drain(buffer);
+      return buffer;
+    }
+
+    private void drain(ByteBuffer buffer) {
+      buffer.flip();
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      out.write(bytes, 0, bytes.length);
+      buffer.clear();
+    }
+  }
+
+  @DataProvider
+  public static Object[][] directAndCodegen() {
+    return new Object[][] {{false, false}, {false, true}, {true, false}, {true, true}};
+  }
+
+  private static ByteBuffer allocate(boolean direct, int size) {
+    return direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+  }
+
+  @Test(dataProvider = "directAndCodegen")
+  public void testSerialize(boolean direct, boolean enableCodegen) {
+    Fury fury = builder().withCodegen(enableCodegen).withRefTracking(true).build();
+    List<Object> list = new ArrayList<>();
+    Map<String, BeanA> map = new HashMap<>();
+    for (int i = 0; i < 200; i++) {
+      BeanA beanA = BeanA.createBeanA(2);
+      list.add(beanA);
+      map.put("k" + i, beanA);
+    }
+    list.add(map);
+    byte[] bytes = fury.serialize(list);
+    Sink sink = new Sink();
+    ByteBuffer buffer = allocate(direct, 256);
+    buffer.position(3);
+    ByteBuffer last = fury.serialize(buffer, list, sink);
+    assertSame(last, buffer);
+    assertTrue(sink.numOverflows > 10);
+    sink.drain(last);
+    byte[] written = sink.out.toByteArray();
+    assertEquals(written.length, bytes.length + 3);
+    MemoryBuffer writtenBuffer = MemoryBuffer.fromByteArray(written, 3, bytes.length);
+    assertEquals(writtenBuffer.getBytes(0, bytes.length), bytes);
+    assertEquals(fury.deserialize(writtenBuffer), list);
+  }
+
+  @Test(dataProvider = "directAndCodegen")
+  public void testSerializeHeldData(boolean direct, boolean enableCodegen) {
+    // meta share holds whole payload to update meta offset.
+    Fury fury =
+        builder()
+            .withCodegen(enableCodegen)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(true)
+            .build();
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(BeanA.createBeanA(2));
+    }
+    Sink sink = new Sink();
+    FuryByteBufferOutput output = new FuryByteBufferOutput();
+    for (int i = 0; i < 2; i++) {
+      output.reset(allocate(direct, 64), sink);
+      fury.serialize(output.getBuffer(), list);
+      sink.drain(output.finish());
+    }
+    MemoryBuffer buffer = MemoryBuffer.fromByteArray(sink.out.toByteArray());
+    assertEquals(fury.deserialize(buffer), list);
+    assertEquals(fury.deserialize(buffer), list);
+    assertEquals(buffer.remaining(), 0);
+  }
+
+  @Test(dataProvider = "direct")
+  public void testOverflowWithoutHandler(boolean direct) {
+    Fury fury = builder().build();
+    ByteBuffer buffer = allocate(direct, 1024);
+    ByteBuffer last = fury.serialize(buffer, "abc", null);
+    assertSame(last, buffer);
+    buffer.flip();
+    assertEquals(fury.deserialize(MemoryBuffer.fromByteBuffer(buffer)), "abc");
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(BeanA.createBeanA(2));
+    }
+    assertThrows(
+        BufferOverflowException.class, () -> fury.serialize(allocate(direct, 1024), list, null));
+  }
+
+  @DataProvider
+  public static Object[][] direct() {
+    return new Object[][] {{false}, {true}};
+  }
+}
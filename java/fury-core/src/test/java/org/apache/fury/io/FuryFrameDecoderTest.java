@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.reflect.ReflectionUtils;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class FuryFrameDecoderTest extends FuryTestBase {
+
+  @DataProvider
+  public static Object[][] chunkSizes() {
+    return new Object[][] {{1, false}, {3, true}, {7, false}, {100, true}, {100000, false}};
+  }
+
+  @Test(dataProvider = "chunkSizes")
+  public void testDecode(int chunkSize, boolean direct) throws IOException {
+    Fury fury = builder().withRefTracking(true).build();
+    List<Object> objects = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      objects.add(BeanA.createBeanA(2));
+      objects.add("str" + i);
+      objects.add(null);
+    }
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryOutputStream stream = new FuryOutputStream(bas, 16)) {
+      for (Object object : objects) {
+        FuryFrames.writeFrame(fury, stream.getBuffer(), object);
+        stream.flush();
+      }
+    }
+    byte[] bytes = bas.toByteArray();
+    assertEquals(
+        FuryFrames.peekFrameSize(ByteBuffer.wrap(bytes)),
+        FuryFrames.serializeFrame(fury, objects.get(0)).length);
+    FuryFrameDecoder decoder = new FuryFrameDecoder(fury);
+    List<Object> decoded = new ArrayList<>();
+    ByteBuffer chunk =
+        direct ? ByteBuffer.allocateDirect(chunkSize) : ByteBuffer.allocate(chunkSize);
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      chunk.clear();
+      chunk.put(bytes, i, Math.min(chunkSize, bytes.length - i));
+      chunk.flip();
+      decoder.decode(chunk, decoded::add);
+      assertEquals(chunk.remaining(), 0);
+    }
+    assertEquals(decoded, objects);
+    assertEquals(decoder.bytesNeeded(), FuryFrames.HEADER_SIZE);
+  }
+
+  @Test
+  public void testBytesNeeded() {
+    Fury fury = builder().build();
+    byte[] frame = FuryFrames.serializeFrame(fury, "abc");
+    FuryFrameDecoder decoder = new FuryFrameDecoder(fury);
+    List<Object> decoded = new ArrayList<>();
+    decoder.decode(ByteBuffer.wrap(frame, 0, 2), decoded::add);
+    assertEquals(decoder.bytesNeeded(), 2);
+    decoder.decode(ByteBuffer.wrap(frame, 2, 3), decoded::add);
+    assertEquals(decoder.bytesNeeded(), frame.length - 5);
+    decoder.decode(ByteBuffer.wrap(frame, 5, frame.length - 5), decoded::add);
+    assertEquals(decoded, Arrays.asList("abc"));
+  }
+
+  @Test
+  public void testInvalidFrame() {
+    Fury fury = builder().build();
+    FuryFrameDecoder decoder = new FuryFrameDecoder(fury, 100);
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(8);
+    buffer.writeInt32(101);
+    assertThrows(
+        DeserializationException.class,
+        () -> decoder.decode(ByteBuffer.wrap(buffer.getBytes(0, 4)), o -> {}));
+  }
+
+  @Test
+  public void testFrameSizeLimit() {
+    Fury fury = builder().build();
+    FuryFrameDecoder decoder = new FuryFrameDecoder(fury);
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(8);
+    buffer.writeInt32(FuryFrameDecoder.DEFAULT_MAX_FRAME_SIZE + 1);
+    assertThrows(
+        DeserializationException.class,
+        () -> decoder.decode(ByteBuffer.wrap(buffer.getBytes(0, 4)), o -> {}));
+    // A header only can't force allocating memory for the whole frame.
+    decoder.reset();
+    buffer.putInt32(0, FuryFrameDecoder.DEFAULT_MAX_FRAME_SIZE);
+    decoder.decode(ByteBuffer.wrap(buffer.getBytes(0, 4)), o -> {});
+    decoder.decode(ByteBuffer.wrap(new byte[10]), o -> {});
+    assertEquals(decoder.bytesNeeded(), FuryFrameDecoder.DEFAULT_MAX_FRAME_SIZE - 10);
+    byte[] pending = (byte[]) ReflectionUtils.getObjectFieldValue(decoder, "pending");
+    assertTrue(pending.length < 64, String.valueOf(pending.length));
+  }
+
+  @Test
+  public void testWriteFrameFailed() {
+    Fury fury = builder().requireClassRegistration(true).build();
+    FuryOutputStream stream = new FuryOutputStream(new ByteArrayOutputStream(), 16);
+    MemoryBuffer buffer = stream.getBuffer();
+    assertThrows(
+        RuntimeException.class, () -> FuryFrames.writeFrame(fury, buffer, new Object() {}));
+    assertEquals(buffer.flushHoldIndex(), Integer.MAX_VALUE);
+  }
+}
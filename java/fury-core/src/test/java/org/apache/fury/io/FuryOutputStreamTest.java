@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.Test;
+
+public class FuryOutputStreamTest extends FuryTestBase {
+
+  private static class CountingOutputStream extends ByteArrayOutputStream {
+    private int numWrites;
+    private int maxWriteSize;
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+      numWrites++;
+      maxWriteSize = Math.max(maxWriteSize, len);
+      super.write(b, off, len);
+    }
+  }
+
+  @Test
+  public void testBufferFlush() throws IOException {
+    CountingOutputStream bas = new CountingOutputStream();
+    FuryOutputStream stream = new FuryOutputStream(bas, 16);
+    MemoryBuffer buffer = stream.getBuffer();
+    for (int i = 0; i < 100; i++) {
+      buffer.writeInt64(i);
+      buffer.writeVarInt32(i);
+    }
+    assertTrue(bas.numWrites > 1);
+    assertTrue(bas.maxWriteSize <= 16);
+    int index = buffer.reserveForUpdate(4);
+    for (int i = 0; i < 100; i++) {
+      buffer.writeInt64(i);
+    }
+    buffer.putInt32(index, 100);
+    buffer.releaseFlush(index);
+    stream.flush();
+    assertEquals(buffer.writerIndex(), 0);
+    MemoryBuffer readBuffer = MemoryBuffer.fromByteArray(bas.toByteArray());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(readBuffer.readInt64(), i);
+      assertEquals(readBuffer.readVarInt32(), i);
+    }
+    assertEquals(readBuffer.readInt32(), 100);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(readBuffer.readInt64(), i);
+    }
+    assertEquals(readBuffer.remaining(), 0);
+  }
+
+  @Test
+  public void testUpdateFlushedData() {
+    FuryOutputStream stream = new FuryOutputStream(new ByteArrayOutputStream(), 16);
+    MemoryBuffer buffer = stream.getBuffer();
+    int index = buffer.writerIndex();
+    buffer.writeInt32(0);
+    for (int i = 0; i < 10; i++) {
+      buffer.writeInt64(i);
+    }
+    // Size placeholder which isn't held must fail loudly instead of corrupting memory.
+    assertTrue(buffer.flushedIndex() > index);
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.putInt32(index, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.putByte(index, (byte) 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.put(index, new byte[4]));
+    int heldIndex = buffer.reserveForUpdate(4);
+    for (int i = 0; i < 10; i++) {
+      buffer.writeInt64(i);
+    }
+    buffer.putInt32(heldIndex, 1);
+    buffer.releaseFlush(heldIndex);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testSerializeStream(boolean enableCodegen) throws IOException {
+    Fury fury = builder().withCodegen(enableCodegen).withRefTracking(true).build();
+    List<Object> list = new ArrayList<>();
+    Map<String, BeanA> map = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      BeanA beanA = BeanA.createBeanA(2);
+      list.add(beanA);
+      map.put("k" + i, beanA);
+    }
+    list.add(map);
+    byte[] bytes = fury.serialize(list);
+    CountingOutputStream bas = new CountingOutputStream();
+    try (FuryOutputStream stream = new FuryOutputStream(bas, 1024)) {
+      fury.serialize(stream, list);
+      // data should be flushed chunk by chunk, rather than a single write at last.
+      assertTrue(bas.numWrites > 10);
+      assertEquals(bas.toByteArray(), bytes);
+      fury.serialize(stream, map);
+      fury.serializeJavaObject(stream, map);
+    }
+    FuryInputStream inputStream = new FuryInputStream(new ByteArrayInputStream(bas.toByteArray()));
+    assertEquals(fury.deserialize(inputStream), list);
+    assertEquals(fury.deserialize(inputStream), map);
+    assertEquals(fury.deserializeJavaObject(inputStream, HashMap.class), map);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testSerializeStreamMetaShare(boolean enableCodegen) throws IOException {
+    Fury fury =
+        builder()
+            .withCodegen(enableCodegen)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(true)
+            .build();
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      list.add(BeanA.createBeanA(2));
+    }
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryOutputStream stream = new FuryOutputStream(bas, 64)) {
+      fury.serialize(stream, list);
+      fury.serialize(stream, list);
+    }
+    FuryInputStream inputStream = new FuryInputStream(new ByteArrayInputStream(bas.toByteArray()));
+    assertEquals(fury.deserialize(inputStream), list);
+    assertEquals(fury.deserialize(inputStream), list);
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.memory.ByteBufferUtil;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.memory.MemoryBufferPool;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.Test;
+
+public class FurySegmentedOutputStreamTest extends FuryTestBase {
+
+  @Test
+  public void testSegments() throws IOException {
+    FurySegmentedOutputStream stream = new FurySegmentedOutputStream(16);
+    MemoryBuffer buffer = stream.getBuffer();
+    for (int i = 0; i < 100; i++) {
+      buffer.writeInt64(i);
+      buffer.writeVarInt32(i);
+    }
+    int index = buffer.reserveForUpdate(4);
+    for (int i = 0; i < 100; i++) {
+      buffer.writeInt64(i);
+    }
+    buffer.putInt32(index, 100);
+    buffer.releaseFlush(index);
+    int writerIndex = buffer.writerIndex();
+    stream.flush();
+    assertEquals(buffer.writerIndex(), 0);
+    assertEquals(stream.size(), writerIndex);
+    ByteBuffer[] buffers = stream.toByteBuffers();
+    assertTrue(buffers.length > 10);
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    assertEquals(stream.writeTo(Channels.newChannel(bas)), writerIndex);
+    MemoryBuffer readBuffer = MemoryBuffer.fromByteArray(bas.toByteArray());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(readBuffer.readInt64(), i);
+      assertEquals(readBuffer.readVarInt32(), i);
+    }
+    assertEquals(readBuffer.readInt32(), 100);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(readBuffer.readInt64(), i);
+    }
+    assertEquals(readBuffer.remaining(), 0);
+    byte[] segment = buffers[0].array();
+    stream.reset();
+    assertEquals(stream.size(), 0);
+    assertEquals(stream.toByteBuffers().length, 0);
+    // segments are reused after reset.
+    for (int i = 0; i < 10; i++) {
+      buffer.writeInt64(i);
+    }
+    stream.flush();
+    boolean reused = false;
+    for (ByteBuffer byteBuffer : stream.toByteBuffers()) {
+      reused |= byteBuffer.array() == segment;
+    }
+    assertTrue(reused);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testSerializeSegments(boolean enableCodegen) throws IOException {
+    Fury fury = builder().withCodegen(enableCodegen).withRefTracking(true).build();
+    List<Object> list = new ArrayList<>();
+    Map<String, BeanA> map = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      BeanA beanA = BeanA.createBeanA(2);
+      list.add(beanA);
+      map.put("k" + i, beanA);
+    }
+    list.add(map);
+    byte[] bytes = fury.serialize(list);
+    FurySegmentedOutputStream stream = new FurySegmentedOutputStream(1024);
+    fury.serialize(stream, list);
+    assertEquals(stream.size(), bytes.length);
+    assertTrue(stream.toByteBuffers().length > 10);
+    fury.serialize(stream, map);
+    fury.serializeJavaObject(stream, map);
+    Path path = Files.createTempFile("fury_segments", ".bin");
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      assertEquals(stream.writeTo(channel), stream.size());
+    }
+    byte[] written = Files.readAllBytes(path);
+    Files.delete(path);
+    assertEquals(written.length, stream.size());
+    FuryInputStream inputStream = new FuryInputStream(new ByteArrayInputStream(written));
+    assertEquals(fury.deserialize(inputStream), list);
+    assertEquals(fury.deserialize(inputStream), map);
+    assertEquals(fury.deserializeJavaObject(inputStream, HashMap.class), map);
+    MemoryBuffer buffer = stream.getBuffer();
+    stream.reset();
+    assertSame(stream.getBuffer(), buffer);
+    fury.serialize(stream, list);
+    assertEquals(stream.size(), bytes.length);
+  }
+
+  @Test(dataProvider = "oneBoolOption")
+  public void testPooledSegments(boolean direct) throws IOException {
+    Fury fury = builder().withRefTracking(true).build();
+    MemoryBufferPool pool = new MemoryBufferPool(direct, 256, 64 * 1024, 4, 64);
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(BeanA.createBeanA(2));
+    }
+    byte[] bytes = fury.serialize(list);
+    FurySegmentedOutputStream stream = new FurySegmentedOutputStream(pool, 256);
+    assertEquals(stream.getBuffer().isOffHeap(), direct);
+    // A single payload is limited by the int index of MemoryBuffer, later payloads are appended.
+    for (int i = 0; i < 3; i++) {
+      fury.serialize(stream, list);
+      assertEquals(stream.size(), (long) bytes.length * (i + 1));
+    }
+    ByteBuffer[] buffers = stream.toByteBuffers();
+    for (ByteBuffer buffer : buffers) {
+      assertEquals(buffer.isDirect(), direct);
+    }
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    stream.writeTo(Channels.newChannel(bas));
+    FuryInputStream inputStream = new FuryInputStream(new ByteArrayInputStream(bas.toByteArray()));
+    for (int i = 0; i < 3; i++) {
+      assertEquals(fury.deserialize(inputStream), list);
+    }
+    stream.reset();
+    // segments are returned to the pool and shared by other streams.
+    FurySegmentedOutputStream stream2 = new FurySegmentedOutputStream(pool, 256);
+    fury.serialize(stream2, list);
+    boolean reused = false;
+    for (ByteBuffer segment : stream2.toByteBuffers()) {
+      for (ByteBuffer buffer : buffers) {
+        reused |=
+            direct
+                ? ByteBufferUtil.getAddress(segment) == ByteBufferUtil.getAddress(buffer)
+                : segment.array() == buffer.array();
+      }
+    }
+    assertTrue(reused);
+    assertEquals(fury.deserialize(toBytes(stream2)), list);
+  }
+
+  private static byte[] toBytes(FurySegmentedOutputStream stream) throws IOException {
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    stream.writeTo(Channels.newChannel(bas));
+    return bas.toByteArray();
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.config.Language;
+import org.apache.fury.exception.DeserializationException;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.Test;
+
+public class PayloadCompressionTest extends FuryTestBase {
+
+  private static List<Object> createList(int size) {
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      list.add(BeanA.createBeanA(2));
+    }
+    return list;
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testCompress(boolean enableCodegen) {
+    Fury fury = builder().withCodegen(enableCodegen).withRefTracking(true).build();
+    Fury compressFury =
+        builder()
+            .withCodegen(enableCodegen)
+            .withRefTracking(true)
+            .withPayloadCompression(new DeflaterPayloadCompressor(), 128)
+            .build();
+    List<Object> list = createList(1000);
+    byte[] bytes = fury.serialize(list);
+    byte[] compressed = compressFury.serialize(list);
+    assertTrue(compressed.length < bytes.length / 2, compressed.length + " " + bytes.length);
+    assertEquals(compressFury.deserialize(compressed), list);
+    // uncompressed data can still be read.
+    assertEquals(compressFury.deserialize(bytes), list);
+    // payload smaller than min size is not compressed.
+    assertEquals(compressFury.serialize("abc"), fury.serialize("abc"));
+    assertEquals(compressFury.deserialize(compressFury.serialize("abc")), "abc");
+    assertThrows(RuntimeException.class, () -> fury.deserialize(compressed));
+  }
+
+  @Test
+  public void testIncompressible() {
+    Fury fury = builder().withPayloadCompression(new DeflaterPayloadCompressor(), 0).build();
+    byte[] data = new byte[PayloadBlockCodec.BLOCK_SIZE * 2 + 7];
+    new Random(7).nextBytes(data);
+    byte[] bytes = fury.serialize(data);
+    assertEquals(bytes, builder().build().serialize(data));
+    assertEquals(fury.deserialize(bytes), data);
+  }
+
+  @Test
+  public void testMultipleBlocks() {
+    Fury fury = builder().withPayloadCompression(new DeflaterPayloadCompressor(), 0).build();
+    byte[] data = new byte[PayloadBlockCodec.BLOCK_SIZE * 3 + 100];
+    Random random = new Random(7);
+    for (int i = 0; i < data.length; i += 2) {
+      // half of the blocks are compressible, the others will be stored raw.
+      data[i] = (byte) ((i / PayloadBlockCodec.BLOCK_SIZE) % 2 == 0 ? 0 : random.nextInt());
+    }
+    byte[] bytes = fury.serialize(data);
+    assertTrue(bytes.length < data.length);
+    assertEquals(fury.deserialize(bytes), data);
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+    directBuffer.put(bytes);
+    directBuffer.flip();
+    assertEquals(fury.deserialize(MemoryBuffer.fromByteBuffer(directBuffer)), data);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testStream(boolean enableCodegen) throws IOException {
+    Fury fury =
+        builder()
+            .withCodegen(enableCodegen)
+            .withCompatibleMode(CompatibleMode.COMPATIBLE)
+            .withScopedMetaShare(true)
+            .withPayloadCompression(new DeflaterPayloadCompressor(), 128)
+            .build();
+    List<Object> list = createList(1000);
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryOutputStream stream = new FuryOutputStream(bas, 64)) {
+      fury.serialize(stream, list);
+      fury.serialize(stream, "abc");
+      fury.serialize(stream, list);
+    }
+    // read compressed blocks in small chunks.
+    FuryInputStream inputStream =
+        new FuryInputStream(new ByteArrayInputStream(bas.toByteArray()), 16);
+    assertEquals(fury.deserialize(inputStream), list);
+    assertEquals(fury.deserialize(inputStream), "abc");
+    assertEquals(fury.deserialize(inputStream), list);
+  }
+
+  @Test
+  public void testMaxPayloadSize() {
+    Fury fury = builder().withPayloadCompression(new DeflaterPayloadCompressor(), 0, 4096).build();
+    byte[] small = new byte[4000];
+    assertEquals(fury.deserialize(fury.serialize(small)), small);
+    byte[] large = fury.serialize(new byte[5000]);
+    assertThrows(DeserializationException.class, () -> fury.deserialize(large));
+    assertThrows(
+        DeserializationException.class,
+        () -> fury.deserialize(new FuryInputStream(new ByteArrayInputStream(large))));
+  }
+
+  @Test
+  public void testMaliciousPayloadSize() {
+    Fury fury = builder().withPayloadCompression(new DeflaterPayloadCompressor(), 0).build();
+    byte[] bytes = fury.serialize(new byte[1000]);
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(16);
+    buffer.writeByte(bytes[0]);
+    buffer.writeVarUint32(PayloadBlockCodec.DEFAULT_MAX_PAYLOAD_SIZE);
+    // a compressed block can't be larger than `BLOCK_SIZE`.
+    buffer.writeVarUint32(PayloadBlockCodec.BLOCK_SIZE * 2);
+    buffer.writeVarUint32(1);
+    buffer.writeByte(0);
+    byte[] malicious = buffer.getBytes(0, buffer.writerIndex());
+    assertThrows(DeserializationException.class, () -> fury.deserialize(malicious));
+    assertThrows(
+        DeserializationException.class,
+        () -> fury.deserialize(new FuryInputStream(new ByteArrayInputStream(malicious))));
+  }
+
+  @Test
+  public void testStreamBlocks() {
+    PayloadBlockCodec codec =
+        new PayloadBlockCodec(
+            new DeflaterPayloadCompressor(), 0, PayloadBlockCodec.DEFAULT_MAX_PAYLOAD_SIZE, 1024);
+    byte[] data = new byte[PayloadBlockCodec.BLOCK_SIZE * 3 + 100];
+    MemoryBuffer compressed = MemoryBuffer.newHeapBuffer(16);
+    compressed.writeBytes(data);
+    assertTrue(codec.compress(compressed, 0));
+    byte[] bytes = compressed.getBytes(0, compressed.writerIndex());
+    FuryInputStream inputStream = new FuryInputStream(new ByteArrayInputStream(bytes), 16);
+    MemoryBuffer decompressed = codec.decompress(inputStream.getBuffer());
+    assertEquals(decompressed.size(), 0);
+    decompressed.readByte();
+    // only the first block is decompressed.
+    assertEquals(decompressed.size(), PayloadBlockCodec.BLOCK_SIZE);
+    byte[] rest = new byte[data.length - 1];
+    decompressed.readBytes(rest);
+    assertEquals(decompressed.size(), data.length);
+    assertEquals(decompressed.remaining(), 0);
+    assertEquals(
+        codec.decompressFully(MemoryBuffer.fromByteArray(bytes)).getBytes(0, data.length), data);
+  }
+
+  @Test
+  public void testDirectBuffer() {
+    Fury fury = builder().withPayloadCompression(new DeflaterPayloadCompressor(), 0).build();
+    List<Object> list = createList(100);
+    MemoryBuffer buffer = MemoryBuffer.fromByteBuffer(ByteBuffer.allocateDirect(16));
+    fury.serialize(buffer, list);
+    assertEquals(fury.deserialize(buffer), list);
+  }
+
+  @Test
+  public void testXlangNotSupported() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            Fury.builder()
+                .withLanguage(Language.XLANG)
+                .withPayloadCompression(new DeflaterPayloadCompressor(), 0)
+                .build());
+  }
+}
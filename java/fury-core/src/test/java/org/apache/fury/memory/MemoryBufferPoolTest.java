@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.memory;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.ThreadSafeFury;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class MemoryBufferPoolTest extends FuryTestBase {
+
+  @DataProvider
+  public static Object[][] direct() {
+    return new Object[][] {{false}, {true}};
+  }
+
+  @Test(dataProvider = "direct")
+  public void testReuse(boolean direct) {
+    MemoryBufferPool pool = new MemoryBufferPool(direct, 64, 1024, 2, 4);
+    LeasedBuffer buffer = pool.acquire(10);
+    assertEquals(buffer.capacity(), 64);
+    assertEquals(buffer.getBuffer().isOffHeap(), direct);
+    Object block = blockOf(buffer);
+    buffer.release();
+    assertTrue(buffer.isReleased());
+    assertThrows(IllegalStateException.class, buffer::release);
+    assertThrows(IllegalStateException.class, buffer::getBuffer);
+    try (LeasedBuffer buffer2 = pool.acquire(64)) {
+      assertSame(blockOf(buffer2), block);
+      try (LeasedBuffer buffer3 = pool.acquire(64)) {
+        assertNotSame(blockOf(buffer3), block);
+      }
+    }
+    // not pooled.
+    try (LeasedBuffer buffer4 = pool.acquire(2000)) {
+      assertEquals(buffer4.capacity(), 2000);
+    }
+  }
+
+  @Test(dataProvider = "direct")
+  public void testThreadCache(boolean direct) throws InterruptedException {
+    MemoryBufferPool pool = new MemoryBufferPool(direct, 64, 1 << 20, 256, 2, 4);
+    ByteBuffer small = pool.allocate(256);
+    ByteBuffer large = pool.allocate(1024);
+    pool.release(small);
+    pool.release(large);
+    ByteBuffer[] allocated = new ByteBuffer[2];
+    Thread thread =
+        new Thread(
+            () -> {
+              allocated[0] = pool.allocate(256);
+              allocated[1] = pool.allocate(1024);
+            });
+    thread.start();
+    thread.join();
+    // small blocks are cached by the releasing thread, large blocks are shared only.
+    assertNotSame(blockOf(allocated[0]), blockOf(small));
+    assertSame(blockOf(allocated[1]), blockOf(large));
+    assertSame(blockOf(pool.allocate(256)), blockOf(small));
+  }
+
+  @Test(dataProvider = "direct")
+  public void testGrow(boolean direct) {
+    MemoryBufferPool pool = new MemoryBufferPool(direct, 16, 1 << 20, 2, 4);
+    try (LeasedBuffer leasedBuffer = pool.acquire(1)) {
+      MemoryBuffer buffer = leasedBuffer.getBuffer();
+      for (int i = 0; i < 1000; i++) {
+        buffer.writeInt64(i);
+      }
+      assertEquals(buffer.isOffHeap(), direct);
+      assertEquals(leasedBuffer.capacity(), 8192);
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(buffer.readInt64(), i);
+      }
+    }
+    // grown blocks are returned to pool.
+    try (LeasedBuffer leasedBuffer = pool.acquire(16)) {
+      assertEquals(leasedBuffer.capacity(), 16);
+    }
+  }
+
+  @Test(dataProvider = "direct")
+  public void testSerialize(boolean direct) {
+    MemoryBufferPool pool = new MemoryBufferPool(direct, 64, 1 << 20, 2, 4);
+    Fury fury = builder().build();
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(BeanA.createBeanA(2));
+    }
+    byte[] bytes = fury.serialize(list);
+    try (LeasedBuffer leasedBuffer = fury.serialize(pool, list)) {
+      MemoryBuffer buffer = leasedBuffer.getBuffer();
+      assertEquals(buffer.getBytes(0, buffer.writerIndex()), bytes);
+      assertEquals(fury.deserialize(buffer), list);
+    }
+    ThreadSafeFury threadSafeFury = builder().buildThreadSafeFury();
+    try (LeasedBuffer leasedBuffer = threadSafeFury.serialize(pool, list)) {
+      assertEquals(threadSafeFury.deserialize(leasedBuffer.getBuffer()), list);
+    }
+  }
+
+  private static Object blockOf(ByteBuffer buffer) {
+    return buffer.isDirect() ? buffer : buffer.array();
+  }
+
+  private static Object blockOf(LeasedBuffer buffer) {
+    MemoryBuffer memoryBuffer = buffer.getBuffer();
+    return memoryBuffer.isOffHeap()
+        ? memoryBuffer.getOffHeapBuffer()
+        : memoryBuffer.getHeapMemory();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.metrics;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.openmbean.CompositeData;
+import org.apache.fury.Fury;
+import org.apache.fury.ThreadLocalFury;
+import org.apache.fury.config.Language;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.Test;
+
+public class FuryMetricsTest {
+
+  @Test
+  public void testDisabledByDefault() {
+    Fury fury = Fury.builder().requireClassRegistration(false).build();
+    assertNull(fury.getMetrics());
+    assertNull(Fury.builder().buildThreadLocalFury().getMetrics());
+  }
+
+  @Test
+  public void testClassMetrics() {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withRefTracking(true)
+            .withMetrics(true)
+            .requireClassRegistration(false)
+            .build();
+    FuryMetrics metrics = fury.getMetrics();
+    assertNotNull(metrics);
+    // metrics are registered to MBean server by callers only.
+    assertNull(metrics.getObjectName());
+    try {
+      BeanA beanA = BeanA.createBeanA(2);
+      byte[] bytes = fury.serialize(beanA);
+      fury.deserialize(bytes);
+      fury.deserialize(fury.serialize(beanA));
+      fury.serialize("str");
+      ClassMetrics classMetrics = metrics.getClassMetrics(BeanA.class);
+      assertEquals(classMetrics.getSerializedCount(), 2);
+      assertEquals(classMetrics.getDeserializedCount(), 2);
+      assertEquals(classMetrics.getBytesWritten(), bytes.length * 2L);
+      assertEquals(classMetrics.getBytesRead(), bytes.length * 2L);
+      assertTrue(classMetrics.getSerializeTimeNanos() > 0);
+      assertTrue(classMetrics.isJitSerializer());
+      assertEquals(metrics.getSerializedCount(), 3);
+      assertEquals(metrics.getClassMetrics().size(), 2);
+      assertTrue(metrics.getRefTableUseCount() >= 2);
+      assertTrue(metrics.getRefTableMaxSize() > 0);
+      metrics.reset();
+      assertEquals(classMetrics.getSerializedCount(), 0);
+      assertEquals(metrics.getRefTableUseCount(), 0);
+      fury.serialize(beanA);
+      assertEquals(classMetrics.getSerializedCount(), 1);
+    } finally {
+      metrics.unregister();
+    }
+  }
+
+  @Test
+  public void testJavaObjectMetrics() {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.JAVA)
+            .withMetrics(true)
+            .requireClassRegistration(false)
+            .build();
+    FuryMetrics metrics = fury.getMetrics();
+    try {
+      BeanA beanA = BeanA.createBeanA(2);
+      byte[] bytes = fury.serializeJavaObjectAndClass(beanA);
+      fury.deserializeJavaObjectAndClass(bytes);
+      byte[] bytes2 = fury.serializeJavaObject(beanA);
+      fury.deserializeJavaObject(bytes2, BeanA.class);
+      ClassMetrics classMetrics = metrics.getClassMetrics(BeanA.class);
+      assertEquals(classMetrics.getSerializedCount(), 2);
+      assertEquals(classMetrics.getDeserializedCount(), 2);
+      assertEquals(classMetrics.getBytesWritten(), bytes.length + (long) bytes2.length);
+      assertEquals(classMetrics.getBytesRead(), bytes.length + (long) bytes2.length);
+      assertTrue(classMetrics.isJitSerializer());
+    } finally {
+      metrics.unregister();
+    }
+  }
+
+  @Test
+  public void testThreadSafeFuryMXBean() throws Exception {
+    ThreadLocalFury fury =
+        Fury.builder()
+            .withName("metrics-test")
+            .withMetrics(true)
+            .withCodegen(false)
+            .requireClassRegistration(false)
+            .buildThreadLocalFury();
+    FuryMetrics metrics = fury.getMetrics();
+    metrics.register();
+    try {
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      List<Runnable> tasks = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        tasks.add(() -> fury.deserialize(fury.serialize(BeanA.createBeanA(2))));
+      }
+      tasks.forEach(executor::submit);
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+      ClassMetrics classMetrics = metrics.getClassMetrics(BeanA.class);
+      assertEquals(classMetrics.getSerializedCount(), 100);
+      assertEquals(classMetrics.getDeserializedCount(), 100);
+      assertFalse(classMetrics.isJitSerializer());
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertNotNull(metrics.getObjectName());
+      assertEquals(server.getAttribute(metrics.getObjectName(), "Name"), "metrics-test");
+      assertEquals(server.getAttribute(metrics.getObjectName(), "SerializedCount"), 100L);
+      CompositeData[] classMetricsData =
+          (CompositeData[]) server.getAttribute(metrics.getObjectName(), "ClassMetrics");
+      assertEquals(classMetricsData.length, 1);
+      assertEquals(classMetricsData[0].get("className"), BeanA.class.getName());
+      assertEquals(classMetricsData[0].get("deserializedCount"), 100L);
+    } finally {
+      metrics.unregister();
+    }
+    assertNull(metrics.getObjectName());
+  }
+}
@@ -19,6 +19,9 @@
 
 package org.apache.fury.pool;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.fury.Fury;
 import org.apache.fury.config.Language;
@@ -128,6 +131,37 @@ public class ClassLoaderFuryPooledTest {
     thread.join();
   }
 
+  @Test(timeOut = 60000)
+  public void testConcurrentGetFury() throws InterruptedException {
+    int maxPoolSize = 3;
+    ClassLoaderFuryPooled pooled = getPooled(1, maxPoolSize);
+    AtomicInteger borrowed = new AtomicInteger();
+    AtomicInteger maxBorrowed = new AtomicInteger();
+    Set<Fury> furySet = ConcurrentHashMap.newKeySet();
+    Thread[] threads = new Thread[16];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  Fury fury = pooled.getFury();
+                  furySet.add(fury);
+                  int n = borrowed.incrementAndGet();
+                  maxBorrowed.accumulateAndGet(n, Math::max);
+                  Assert.assertEquals(fury.deserialize(fury.serialize(j)), j);
+                  borrowed.decrementAndGet();
+                  pooled.returnFury(fury);
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertTrue(maxBorrowed.get() <= maxPoolSize);
+    Assert.assertTrue(furySet.size() <= maxPoolSize);
+  }
+
   @Test
   public void testReturnFury() {
     Function<ClassLoader, Fury> furyFactory = getFuryFactory();
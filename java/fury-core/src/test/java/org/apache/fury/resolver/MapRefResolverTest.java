@@ -21,9 +21,12 @@ package org.apache.fury.resolver;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 import java.util.Map;
+import org.apache.fury.Fury;
+import org.apache.fury.annotation.FuryRef;
 import org.apache.fury.memory.MemoryBuffer;
 import org.testng.annotations.Test;
 
@@ -67,4 +70,59 @@ public class MapRefResolverTest {
     // assertTrue(referenceStatistics.mapStatistics.maxProbeProfiled > 0);
     // assertTrue(referenceStatistics.referenceCount > 0);
   }
+
+  @Test
+  public void testResetReuseTable() {
+    MapRefResolver refResolver = new MapRefResolver();
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(32);
+    Object[] objects = new Object[10000];
+    for (int i = 0; i < objects.length; i++) {
+      objects[i] = new Object();
+    }
+    for (Object object : objects) {
+      assertFalse(refResolver.writeRefOrNull(buffer, object));
+    }
+    refResolver.resetWrite();
+    buffer.writerIndex(0);
+    // ids start from zero again after reset.
+    assertFalse(refResolver.writeRefOrNull(buffer, objects[1]));
+    assertTrue(refResolver.writeRefOrNull(buffer, objects[1]));
+    assertEquals(buffer.getByte(1), Fury.REF_FLAG);
+    assertEquals(buffer.getByte(2), 0);
+    for (int i = 0; i < 100; i++) {
+      refResolver.resetWrite();
+      assertFalse(refResolver.writeRefOrNull(buffer, objects[0]));
+    }
+    for (int i = 0; i < objects.length; i++) {
+      refResolver.preserveRefId();
+      refResolver.reference(objects[i]);
+    }
+    refResolver.resetRead();
+    refResolver.preserveRefId();
+    refResolver.reference(objects[2]);
+    assertEquals(refResolver.getReadObject(0), objects[2]);
+    assertEquals(refResolver.getReadObjects().size(), 1);
+  }
+
+  @FuryRef(track = false)
+  private static final class Untracked {}
+
+  @Test
+  public void testRefTrackingOptOut() {
+    MapRefResolver refResolver = new MapRefResolver();
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(32);
+    // `Untracked` isn't resolved by any class resolver before, the first object mustn't be tracked
+    // either.
+    Untracked untracked = new Untracked();
+    assertFalse(refResolver.writeRefOrNull(buffer, untracked));
+    assertFalse(refResolver.writeRefOrNull(buffer, untracked));
+    Object tracked = new Object();
+    assertFalse(refResolver.writeRefOrNull(buffer, tracked));
+    assertTrue(refResolver.writeRefOrNull(buffer, tracked));
+    // ids are still taken by untracked objects.
+    assertEquals(buffer.getByte(buffer.writerIndex() - 1), 2);
+    refResolver.replaceRef(new Object(), untracked);
+    assertThrows(
+        IllegalArgumentException.class, () -> refResolver.replaceRef(new Object(), new Object()));
+  }
 }
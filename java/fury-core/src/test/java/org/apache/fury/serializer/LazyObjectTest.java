@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.serializer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.builder.Generated;
+import org.apache.fury.config.CompatibleMode;
+import org.apache.fury.io.FuryOutputStream;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.test.bean.BeanA;
+import org.apache.fury.util.StringUtils;
+import org.testng.annotations.Test;
+
+public class LazyObjectTest extends FuryTestBase {
+
+  @Data
+  public static class Inner {
+    int id;
+    String name;
+  }
+
+  @Data
+  public static class Outer {
+    int count;
+    long total;
+    Integer boxed;
+    String title;
+    Inner inner;
+    Inner nullInner;
+    Object any;
+    List<String> tags;
+    Map<String, Inner> innerMap;
+  }
+
+  @Data
+  public static class CustomObjectStream implements Serializable {
+    int id;
+    String name;
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+      s.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+      s.defaultReadObject();
+    }
+  }
+
+  private static Fury newFury(boolean compressNumber, boolean codegen) {
+    Fury fury =
+        Fury.builder()
+            .withFieldOffsets(true)
+            .withNumberCompressed(compressNumber)
+            .withCodegen(codegen)
+            .requireClassRegistration(true)
+            .build();
+    fury.register(Inner.class);
+    fury.register(Outer.class);
+    return fury;
+  }
+
+  private static Outer newOuter() {
+    Inner inner = new Inner();
+    inner.id = 7;
+    inner.name = "inner";
+    Outer outer = new Outer();
+    outer.count = 10;
+    outer.total = 1L << 40;
+    outer.boxed = 3;
+    outer.title = "title";
+    outer.inner = inner;
+    outer.any = inner;
+    outer.tags = new ArrayList<>(Arrays.asList("a", "b"));
+    outer.innerMap = new HashMap<>(ImmutableMap.of("k", inner));
+    return outer;
+  }
+
+  @Test(dataProvider = "compressNumberAndCodeGen")
+  public void testLazyObject(boolean compressNumber, boolean codegen) {
+    Fury fury = newFury(compressNumber, codegen);
+    Outer outer = newOuter();
+    serDeCheck(fury, outer);
+    // jit serializers write same field offsets as `ObjectSerializer`.
+    assertEquals(fury.getClassResolver().getSerializer(Outer.class) instanceof Generated, codegen);
+    Fury other = newFury(compressNumber, !codegen);
+    assertEquals(other.deserialize(fury.serialize(outer)), outer);
+    assertEquals(other.deserializeLazy(fury.serialize(outer)).get("innerMap"), outer.innerMap);
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(32);
+    fury.serialize(buffer, outer);
+    fury.serialize(buffer, "next");
+    LazyObject lazyObject = fury.deserializeLazy(buffer);
+    // the whole object is skipped.
+    assertEquals(fury.deserialize(buffer), "next");
+    assertEquals(lazyObject.getType(), Outer.class);
+    assertEquals(lazyObject.get("count"), 10);
+    assertEquals(lazyObject.get("total"), 1L << 40);
+    assertEquals(lazyObject.get("boxed"), 3);
+    assertEquals(lazyObject.get("title"), "title");
+    assertEquals(lazyObject.get("tags"), outer.tags);
+    assertEquals(lazyObject.get("innerMap"), outer.innerMap);
+    assertEquals(lazyObject.get("inner"), outer.inner);
+    assertNull(lazyObject.get("nullInner"));
+    assertNull(lazyObject.getLazy("nullInner"));
+    LazyObject inner = lazyObject.getLazy("inner");
+    assertEquals(inner.get("name"), "inner");
+    assertEquals(inner.get("id"), 7);
+    assertEquals(inner.toObject(), outer.inner);
+    LazyObject any = lazyObject.getLazy("any");
+    assertEquals(any.getType(), Inner.class);
+    assertEquals(any.get("name"), "inner");
+    assertEquals(lazyObject.toObject(), outer);
+    assertThrows(IllegalArgumentException.class, () -> lazyObject.get("nonexistent"));
+    assertThrows(IllegalArgumentException.class, () -> lazyObject.getLazy("title"));
+    assertThrows(IllegalArgumentException.class, () -> lazyObject.getLazy("count"));
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testFuryOutputStream(boolean codegen) throws IOException {
+    Fury fury = newFury(true, codegen);
+    Outer outer = newOuter();
+    outer.title = StringUtils.random(200);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    // offset tables are updated after fields are written, which must not be flushed before.
+    try (FuryOutputStream stream = new FuryOutputStream(bos, 64)) {
+      fury.serialize(stream, outer);
+      fury.serialize(stream, outer);
+    }
+    MemoryBuffer buffer = MemoryBuffer.fromByteArray(bos.toByteArray());
+    assertEquals(fury.deserialize(buffer), outer);
+    LazyObject lazyObject = fury.deserializeLazy(buffer);
+    assertEquals(lazyObject.get("title"), outer.title);
+    assertEquals(lazyObject.getLazy("inner").get("name"), "inner");
+    assertEquals(lazyObject.toObject(), outer);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testFieldOffsets(boolean codegen) {
+    Fury fury =
+        Fury.builder()
+            .withFieldOffsets(true)
+            .withCodegen(codegen)
+            .requireClassRegistration(false)
+            .build();
+    serDeCheck(fury, BeanA.createBeanA(2));
+    CustomObjectStream customObjectStream = new CustomObjectStream();
+    customObjectStream.id = 1;
+    customObjectStream.name = "abc";
+    serDeCheck(fury, customObjectStream);
+    assertThrows(
+        IllegalArgumentException.class, () -> fury.deserializeLazy(fury.serialize(newOuter())));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            Fury.builder()
+                .withFieldOffsets(true)
+                .withCompatibleMode(CompatibleMode.COMPATIBLE)
+                .build());
+  }
+}
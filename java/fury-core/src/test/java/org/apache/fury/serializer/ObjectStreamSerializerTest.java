@@ -25,6 +25,7 @@ import static org.testng.Assert.assertSame;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamField;
@@ -434,6 +435,60 @@ public class ObjectStreamSerializerTest extends FuryTestBase {
     copyCheck(fury, testClassObj4);
   }
 
+  @EqualsAndHashCode(callSuper = true)
+  public static class WriteObjectTestClass5 extends WriteObjectTestClass {
+    private String data;
+    private long id;
+
+    public WriteObjectTestClass5(char[] value, String data, long id) {
+      super(value);
+      this.data = data;
+      this.id = id;
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+      s.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+      // readFields compatible with defaultWriteObject
+      ObjectInputStream.GetField fields = s.readFields();
+      if (data != null || id != 0) {
+        throw new InvalidObjectException("readFields must not set fields to the object");
+      }
+      data = (String) fields.get("data", null);
+      id = fields.get("id", 0L);
+    }
+  }
+
+  @Test(dataProvider = "javaFury")
+  public void testReadFieldsAfterDefaultWriteObject(Fury fury) {
+    fury.registerSerializer(
+        WriteObjectTestClass5.class, new ObjectStreamSerializer(fury, WriteObjectTestClass5.class));
+    serDeCheck(fury, new WriteObjectTestClass5(new char[] {'a', 'b'}, "abc", 1L << 40));
+    serDeCheck(fury, new WriteObjectTestClass5(new char[] {'a'}, null, -1));
+  }
+
+  @Test
+  public void testDefaultFieldsCodegenFormat() {
+    // Interpreter and generated slot serializers must be able to read each other's data.
+    Fury[] furies = new Fury[2];
+    for (int i = 0; i < 2; i++) {
+      furies[i] =
+          builder()
+              .withCodegen(i == 1)
+              .withRefTracking(true)
+              .requireClassRegistration(false)
+              .build();
+      furies[i].registerSerializer(
+          WriteObjectTestClass2.class,
+          new ObjectStreamSerializer(furies[i], WriteObjectTestClass2.class));
+    }
+    WriteObjectTestClass2 o = new WriteObjectTestClass2(new char[] {'a', 'b'}, "abc");
+    assertEquals(furies[1].deserialize(furies[0].serialize(o)), o);
+    assertEquals(furies[0].deserialize(furies[1].serialize(o)), o);
+  }
+
   // TODO(chaokunyang) add `readObjectNoData` test for class inheritance change.
   // @Test
   public void testReadObjectNoData() {}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.serializer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.io.FuryInputStream;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.test.bean.ArraysData;
+import org.testng.annotations.Test;
+
+public class PackedArraysTest extends FuryTestBase {
+
+  private static int[] checkInts(int[] values, byte expectedEncoding) {
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(16);
+    PackedArrays.writeIntArray(buffer, values);
+    assertEquals(buffer.getByte(0), expectedEncoding);
+    assertEquals(PackedArrays.readIntArray(buffer), values);
+    assertEquals(buffer.readerIndex(), buffer.writerIndex());
+    return values;
+  }
+
+  private static long[] checkLongs(long[] values, byte expectedEncoding) {
+    MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(16);
+    PackedArrays.writeLongArray(buffer, values);
+    assertEquals(buffer.getByte(0), expectedEncoding);
+    assertEquals(PackedArrays.readLongArray(buffer), values);
+    assertEquals(buffer.readerIndex(), buffer.writerIndex());
+    return values;
+  }
+
+  @Test
+  public void testIntEncodings() {
+    Random random = new Random(17);
+    int n = 1000;
+    int[] small = new int[n];
+    int[] sorted = new int[n];
+    int[] narrow = new int[n];
+    int[] runs = new int[n];
+    int[] randoms = new int[n];
+    for (int i = 0; i < n; i++) {
+      // outliers make bit-packing wide.
+      small[i] = i % 50 == 7 ? 1 << 30 : random.nextInt(100) - 50;
+      sorted[i] = 1_000_000_000 + i * 3 + random.nextInt(3);
+      narrow[i] = 1_000_000_000 + random.nextInt(1000);
+      runs[i] = i / 100 * -7;
+      randoms[i] = random.nextInt();
+    }
+    checkInts(small, PackedArrays.VARINT);
+    checkInts(sorted, PackedArrays.DELTA);
+    checkInts(narrow, PackedArrays.BIT_PACKED);
+    checkInts(runs, PackedArrays.RLE);
+    checkInts(randoms, PackedArrays.RAW);
+    checkInts(new int[] {1, 2}, PackedArrays.RAW);
+    checkInts(new int[0], PackedArrays.RAW);
+    checkInts(new int[] {5, 5, 5, 5, 5}, PackedArrays.RLE);
+  }
+
+  @Test
+  public void testLongEncodings() {
+    Random random = new Random(17);
+    int n = 1000;
+    long[] small = new long[n];
+    long[] sorted = new long[n];
+    long[] narrow = new long[n];
+    long[] runs = new long[n];
+    long[] randoms = new long[n];
+    for (int i = 0; i < n; i++) {
+      small[i] = i % 50 == 7 ? Long.MAX_VALUE : random.nextInt(100) - 50;
+      sorted[i] = 1_700_000_000_000L + i * 1000L + random.nextInt(10);
+      narrow[i] = Long.MIN_VALUE + random.nextInt(1 << 20);
+      runs[i] = i / 100 * 1_000_000_000_000L;
+      randoms[i] = random.nextLong();
+    }
+    checkLongs(small, PackedArrays.VARINT);
+    checkLongs(sorted, PackedArrays.DELTA);
+    checkLongs(narrow, PackedArrays.BIT_PACKED);
+    checkLongs(runs, PackedArrays.RLE);
+    checkLongs(randoms, PackedArrays.RAW);
+  }
+
+  @Test
+  public void testBitPackedWidths() {
+    Random random = new Random(7);
+    for (int width = 0; width <= 32; width++) {
+      for (int n : new int[] {5, 63, 64, 65, 130}) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+          values[i] = Integer.MIN_VALUE + (width == 0 ? 0 : random.nextInt() >>> (32 - width));
+        }
+        MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(16);
+        writeBitPacked(buffer, values);
+        assertEquals(PackedArrays.readIntArray(buffer), values);
+      }
+    }
+    for (int width = 0; width <= 64; width += 7) {
+      long[] values = new long[77];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = width == 0 ? 3 : random.nextLong() >>> (64 - width);
+      }
+      values[0] = Long.MIN_VALUE;
+      MemoryBuffer buffer = MemoryBuffer.newHeapBuffer(16);
+      PackedArrays.writeLongArray(buffer, values);
+      assertEquals(PackedArrays.readLongArray(buffer), values);
+    }
+  }
+
+  // Pack bit by bit, as a reference for the word-at-a-time implementation.
+  private static void writeBitPacked(MemoryBuffer buffer, int[] values) {
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int v : values) {
+      min = Math.min(min, v);
+      max = Math.max(max, v);
+    }
+    int width = 32 - Integer.numberOfLeadingZeros(max - min);
+    buffer.writeByte(PackedArrays.BIT_PACKED);
+    buffer.writeVarUint32(values.length);
+    buffer.writeVarInt32(min);
+    buffer.writeByte(width);
+    long acc = 0;
+    int bits = 0;
+    for (int v : values) {
+      long u = (v - min) & 0xFFFFFFFFL;
+      for (int i = 0; i < width; i++) {
+        acc |= ((u >>> i) & 1) << bits;
+        if (++bits == 64) {
+          buffer.writeInt64(acc);
+          acc = 0;
+          bits = 0;
+        }
+      }
+    }
+    for (; bits > 0; bits -= 8) {
+      buffer.writeByte((byte) acc);
+      acc >>>= 8;
+    }
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testSerializeCompressedArrays(boolean enableCodegen) {
+    Fury fury =
+        builder()
+            .withCodegen(enableCodegen)
+            .withIntArrayCompressed(true)
+            .withLongArrayCompressed(true)
+            .build();
+    int[] ints = new int[10000];
+    long[] longs = new long[10000];
+    for (int i = 0; i < ints.length; i++) {
+      ints[i] = i;
+      longs[i] = 1_700_000_000_000L + i;
+    }
+    byte[] bytes = fury.serialize(new Object[] {ints, longs});
+    assertTrue(bytes.length < (ints.length * 12) / 4, String.valueOf(bytes.length));
+    serDeCheck(fury, ints);
+    serDeCheck(fury, longs);
+    serDeCheck(fury, new ArraysData(100));
+    FuryInputStream stream = new FuryInputStream(new ByteArrayInputStream(bytes), 8);
+    Object[] arrays = (Object[]) fury.deserialize(stream);
+    assertEquals(arrays[0], ints);
+    assertEquals(arrays[1], longs);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.serializer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.apache.fury.Fury;
+import org.apache.fury.FuryTestBase;
+import org.apache.fury.config.Language;
+import org.testng.annotations.Test;
+
+public class StructSerializerTest extends FuryTestBase {
+
+  @Data
+  public static class Inner {
+    int id;
+    String name;
+  }
+
+  @Data
+  public static class Outer {
+    boolean f1;
+    byte f2;
+    short f3;
+    int f4;
+    long f5;
+    float f6;
+    double f7;
+    Integer f8;
+    Long f9;
+    String f10;
+    List<String> f11;
+    Map<String, Integer> f12;
+    Inner f13;
+    short[] f14;
+    Object f15;
+  }
+
+  @Data
+  private static class PrivateStruct {
+    private int a;
+    private String b;
+  }
+
+  private static Fury newFury(boolean codegen) {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.XLANG)
+            .withRefTracking(true)
+            .withCodegen(codegen)
+            .requireClassRegistration(false)
+            .build();
+    fury.register(Inner.class, "test.Inner");
+    fury.register(Outer.class, "test.Outer");
+    fury.register(PrivateStruct.class, "test.PrivateStruct");
+    return fury;
+  }
+
+  private static Outer newOuter() {
+    Inner inner = new Inner();
+    inner.id = 7;
+    inner.name = "inner";
+    Outer outer = new Outer();
+    outer.f1 = true;
+    outer.f2 = Byte.MIN_VALUE;
+    outer.f3 = Short.MAX_VALUE;
+    outer.f4 = -12345;
+    outer.f5 = Long.MAX_VALUE;
+    outer.f6 = 1.5f;
+    outer.f7 = 1 / 3.0;
+    outer.f9 = -1L;
+    outer.f10 = "abc";
+    outer.f11 = new ArrayList<>(Arrays.asList("a", "b", null));
+    outer.f12 = new HashMap<>(ImmutableMap.of("k", 1));
+    outer.f13 = inner;
+    outer.f14 = new short[] {1, 2};
+    outer.f15 = "any";
+    return outer;
+  }
+
+  @Test
+  public void testCodegenSerializer() {
+    Fury fury = newFury(true);
+    Serializer<?> serializer = fury.getXtypeResolver().getClassInfo(Outer.class).getSerializer();
+    assertTrue(serializer instanceof StructSerializer);
+    assertNotEquals(serializer.getClass(), StructSerializer.class);
+    serializer = fury.getXtypeResolver().getClassInfo(PrivateStruct.class).getSerializer();
+    assertNotEquals(serializer.getClass(), StructSerializer.class);
+    Serializer<?> interpreter =
+        newFury(false).getXtypeResolver().getClassInfo(Outer.class).getSerializer();
+    assertEquals(interpreter.getClass(), StructSerializer.class);
+  }
+
+  @Test(dataProvider = "enableCodegen")
+  public void testStructRoundTrip(boolean codegen) {
+    Fury fury = newFury(codegen);
+    Outer outer = newOuter();
+    assertEquals(fury.deserialize(fury.serialize(outer)), outer);
+    Outer empty = new Outer();
+    assertEquals(fury.deserialize(fury.serialize(empty)), empty);
+    PrivateStruct struct = new PrivateStruct();
+    struct.a = 10;
+    struct.b = "b";
+    assertEquals(fury.deserialize(fury.serialize(struct)), struct);
+  }
+
+  @Test
+  public void testAsyncCompilation() throws InterruptedException {
+    Fury fury =
+        Fury.builder()
+            .withLanguage(Language.XLANG)
+            .withRefTracking(true)
+            .withAsyncCompilation(true)
+            .requireClassRegistration(false)
+            .build();
+    fury.register(Inner.class, "test.Inner");
+    fury.register(Outer.class, "test.Outer");
+    Outer outer = newOuter();
+    byte[] bytes = fury.serialize(outer);
+    assertEquals(fury.deserialize(bytes), outer);
+    // registration doesn't wait for jit, interpreter serializer is replaced when jit finished.
+    while (getSerializer(fury, Outer.class).getClass() == StructSerializer.class) {
+      Thread.sleep(10);
+    }
+    assertTrue(getSerializer(fury, Outer.class) instanceof StructSerializer);
+    assertEquals(fury.deserialize(bytes), outer);
+    assertEquals(fury.serialize(outer), bytes);
+  }
+
+  private static Serializer<?> getSerializer(Fury fury, Class<?> cls) {
+    try {
+      fury.getJITContext().lock();
+      return fury.getXtypeResolver().getClassInfo(cls).getSerializer();
+    } finally {
+      fury.getJITContext().unlock();
+    }
+  }
+
+  @Test
+  public void testCodegenConsistentWithInterpreter() {
+    Fury codegenFury = newFury(true);
+    Fury interpreterFury = newFury(false);
+    for (Object o : new Object[] {newOuter(), new Outer()}) {
+      byte[] bytes = codegenFury.serialize(o);
+      assertEquals(interpreterFury.serialize(o), bytes);
+      assertEquals(interpreterFury.deserialize(bytes), o);
+      assertEquals(codegenFury.deserialize(interpreterFury.serialize(o)), o);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.io;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.apache.fury.exception.DeserializationException;
+
+/** A payload compressor based on `lz4`, which is fast enough to compress data on the hot path. */
+public class Lz4PayloadCompressor implements PayloadCompressor {
+  private final boolean highCompression;
+  private final LZ4Compressor compressor;
+  private final LZ4FastDecompressor decompressor;
+
+  public Lz4PayloadCompressor() {
+    this(false);
+  }
+
+  /**
+   * Create a `lz4` compressor.
+   *
+   * @param highCompression use `lz4 hc` which has better compression ratio but is much slower when
+   *     compressing. Decompression speed is same.
+   */
+  public Lz4PayloadCompressor(boolean highCompression) {
+    this.highCompression = highCompression;
+    LZ4Factory factory = LZ4Factory.fastestInstance();
+    compressor = highCompression ? factory.highCompressor() : factory.fastCompressor();
+    decompressor = factory.fastDecompressor();
+  }
+
+  @Override
+  public int maxCompressedLength(int length) {
+    return compressor.maxCompressedLength(length);
+  }
+
+  @Override
+  public int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+    return compressor.compress(
+        src, srcOffset, length, dst, dstOffset, compressor.maxCompressedLength(length));
+  }
+
+  @Override
+  public void decompress(
+      byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int rawLength) {
+    int size = decompressor.decompress(src, srcOffset, dst, dstOffset, rawLength);
+    if (size != length) {
+      throw new DeserializationException(
+          String.format("Decompressed from %d bytes, but %d bytes expected", size, length));
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Lz4PayloadCompressor.class.hashCode() * 31 + (highCompression ? 1 : 0);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o != null
+        && getClass() == o.getClass()
+        && highCompression == ((Lz4PayloadCompressor) o).highCompression;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.io;
+
+import com.github.luben.zstd.Zstd;
+import org.apache.fury.exception.DeserializationException;
+
+/** A payload compressor based on `zstd`, which has better compression ratio than `lz4`. */
+public class ZstdPayloadCompressor implements PayloadCompressor {
+  private final int level;
+
+  public ZstdPayloadCompressor() {
+    this(Zstd.defaultCompressionLevel());
+  }
+
+  public ZstdPayloadCompressor(int level) {
+    this.level = level;
+  }
+
+  @Override
+  public int maxCompressedLength(int length) {
+    return (int) Zstd.compressBound(length);
+  }
+
+  @Override
+  public int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+    return (int)
+        Zstd.compressByteArray(
+            dst, dstOffset, maxCompressedLength(length), src, srcOffset, length, level);
+  }
+
+  @Override
+  public void decompress(
+      byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int rawLength) {
+    long size = Zstd.decompressByteArray(dst, dstOffset, rawLength, src, srcOffset, length);
+    if (size != rawLength) {
+      throw new DeserializationException(
+          String.format("Decompressed %d bytes, but %d bytes expected", size, rawLength));
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return ZstdPayloadCompressor.class.hashCode() * 31 + level;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o != null && getClass() == o.getClass() && level == ((ZstdPayloadCompressor) o).level;
+  }
+}
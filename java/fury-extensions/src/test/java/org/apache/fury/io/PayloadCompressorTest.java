@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fury.io;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fury.Fury;
+import org.apache.fury.test.bean.BeanA;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class PayloadCompressorTest {
+
+  @DataProvider
+  public static Object[][] compressors() {
+    return new Object[][] {
+      {new Lz4PayloadCompressor()}, {new Lz4PayloadCompressor(true)}, {new ZstdPayloadCompressor()}
+    };
+  }
+
+  @Test(dataProvider = "compressors")
+  public void testPayloadCompression(PayloadCompressor compressor) throws IOException {
+    Fury fury =
+        Fury.builder()
+            .requireClassRegistration(false)
+            .withPayloadCompression(compressor, 64)
+            .build();
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      list.add(BeanA.createBeanA(2));
+    }
+    byte[] bytes = fury.serialize(list);
+    assertTrue(
+        bytes.length
+            < Fury.builder().requireClassRegistration(false).build().serialize(list).length);
+    assertEquals(fury.deserialize(bytes), list);
+    ByteArrayOutputStream bas = new ByteArrayOutputStream();
+    try (FuryOutputStream stream = new FuryOutputStream(bas, 64)) {
+      fury.serialize(stream, list);
+      fury.serialize(stream, 1);
+    }
+    FuryInputStream inputStream =
+        new FuryInputStream(new ByteArrayInputStream(bas.toByteArray()), 16);
+    assertEquals(fury.deserialize(inputStream), list);
+    assertEquals(fury.deserialize(inputStream), 1);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import java.util.List;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.fury.format.vectorized.ArrowTable;
+
+/**
+ * Encoder to encode a batch of java beans into arrow columnar format and decode them back. Beans
+ * with nested fields can only be encoded by an {@link ArrowBatchWriter}.
+ */
+public interface ArrowBatchEncoder<T> extends ArrowBatchWriter<T> {
+
+  /**
+   * Decode all rows of <code>root</code> into java beans. Columns are matched by name, so <code>
+   * root</code> can be produced by other languages as long as column types are compatible.
+   */
+  List<T> decode(VectorSchemaRoot root);
+
+  /** Decode all record batches of <code>table</code> into java beans. */
+  List<T> decode(ArrowTable table);
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import java.util.Iterator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Writer to encode a batch of java beans into arrow columnar format.
+ *
+ * <p>The returned {@link VectorSchemaRoot} is owned by the writer and reused by next encode call,
+ * so it must be consumed before encoding another batch.
+ */
+public interface ArrowBatchWriter<T> {
+  Schema schema();
+
+  VectorSchemaRoot encode(Iterator<T> objects);
+
+  default VectorSchemaRoot encode(Iterable<T> objects) {
+    return encode(objects.iterator());
+  }
+}
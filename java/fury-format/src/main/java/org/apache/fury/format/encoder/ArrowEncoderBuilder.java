@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import static org.apache.fury.type.TypeUtils.CLASS_TYPE;
+import static org.apache.fury.type.TypeUtils.getRawType;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.stream.IntStream;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.fury.builder.CodecBuilder;
+import org.apache.fury.codegen.CodeGenerator;
+import org.apache.fury.codegen.CodegenContext;
+import org.apache.fury.codegen.Expression;
+import org.apache.fury.codegen.Expression.Literal;
+import org.apache.fury.codegen.Expression.Reference;
+import org.apache.fury.codegen.ExpressionUtils;
+import org.apache.fury.format.type.TypeInference;
+import org.apache.fury.format.vectorized.ArrowUtils;
+import org.apache.fury.logging.Logger;
+import org.apache.fury.logging.LoggerFactory;
+import org.apache.fury.memory.MemoryBuffer;
+import org.apache.fury.reflect.TypeRef;
+import org.apache.fury.type.Descriptor;
+import org.apache.fury.type.TypeUtils;
+import org.apache.fury.util.DateTimeUtils;
+import org.apache.fury.util.GraalvmSupport;
+import org.apache.fury.util.Preconditions;
+import org.apache.fury.util.StringUtils;
+
+/**
+ * Expression builder for building jit arrow codec class, which writes bean fields into column
+ * vectors of a {@link VectorSchemaRoot} and reads them back directly without an intermediate row.
+ * Reading is done column by column, so the loop over a fixed-width column only touches one vector.
+ *
+ * <p>Only flat columns are generated, nested columns such as struct/list/map are left to be written
+ * by an {@link org.apache.fury.format.vectorized.ArrowWriter} from a row, see {@link
+ * #nestedFieldOrdinals}.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ArrowEncoderBuilder extends BaseBinaryEncoderBuilder {
+  private static final Logger LOG = LoggerFactory.getLogger(ArrowEncoderBuilder.class);
+  static final String ROOT_NAME = "root";
+  static final String ROW_INDEX_NAME = "rowIndex";
+  static final String BEANS_NAME = "beans";
+  static final String NUM_ROWS_NAME = "numRows";
+  private static final String VECTOR_NAME_PREFIX = "vector";
+  private static final String UTF8_BUFFER_NAME = "utf8Buffer";
+  private static final Reference UTF8_CHARSET =
+      new Reference("java.nio.charset.StandardCharsets.UTF_8", TypeRef.of(Charset.class));
+
+  private final SortedMap<String, Descriptor> descriptorsMap;
+  private final Schema schema;
+  protected static final String BEAN_CLASS_NAME = "beanClass";
+  protected Reference beanClassRef = new Reference(BEAN_CLASS_NAME, CLASS_TYPE);
+
+  public ArrowEncoderBuilder(Class<?> beanClass) {
+    this(TypeRef.of(beanClass));
+  }
+
+  public ArrowEncoderBuilder(TypeRef<?> beanType) {
+    super(new CodegenContext(), beanType);
+    Preconditions.checkArgument(TypeUtils.isBean(beanType));
+    this.schema = TypeInference.inferSchema(getRawType(beanType));
+    this.descriptorsMap = Descriptor.getDescriptorsMap(beanClass);
+    ctx.reserveName(ROOT_NAME);
+    ctx.reserveName(ROW_INDEX_NAME);
+    ctx.reserveName(BEANS_NAME);
+    ctx.reserveName(NUM_ROWS_NAME);
+    ctx.reserveName(BEAN_CLASS_NAME);
+    ctx.reserveName(UTF8_BUFFER_NAME);
+    for (int i = 0; i < schema.getFields().size(); i++) {
+      ctx.reserveName(VECTOR_NAME_PREFIX + i);
+    }
+    Expression clsExpr;
+    if (Modifier.isPublic(beanClass.getModifiers())) {
+      clsExpr = Literal.ofClass(beanClass);
+    } else {
+      // non-public class is not accessible in other class.
+      clsExpr =
+          new Expression.StaticInvoke(
+              Class.class, "forName", CLASS_TYPE, false, Literal.ofClass(beanClass));
+    }
+    ctx.addField(Class.class, BEAN_CLASS_NAME, clsExpr);
+  }
+
+  @Override
+  protected String codecSuffix() {
+    return "ArrowCodec";
+  }
+
+  @Override
+  public String genCode() {
+    ctx.setPackage(CodeGenerator.getPackage(beanClass));
+    String className = codecClassName(beanClass);
+    ctx.setClassName(className);
+    // don't addImport(beanClass), because user class may name collide.
+    ctx.implementsInterfaces(ctx.type(GeneratedArrowEncoder.class));
+    ctx.addField(ctx.type(VectorSchemaRoot.class), ROOT_NAME);
+    // vectors are bound by `setRoot`, so that the codec can be reused for other roots.
+    StringBuilder setRootCode =
+        new StringBuilder(StringUtils.format("this.${root} = newRoot;\n", "root", ROOT_NAME));
+    List<Field> fields = schema.getFields();
+    for (int i = 0; i < fields.size(); i++) {
+      Class<? extends ValueVector> vectorClass = vectorClass(fields.get(i));
+      if (vectorClass != null) {
+        String vectorName = VECTOR_NAME_PREFIX + i;
+        ctx.addField(ctx.type(vectorClass), vectorName);
+        setRootCode.append(
+            StringUtils.format(
+                "${vector} = (${vectorType})newRoot.getVector(\"${name}\");\n",
+                "vector",
+                vectorName,
+                "vectorType",
+                ctx.type(vectorClass),
+                "name",
+                fields.get(i).getName()));
+      }
+    }
+    ctx.overrideMethod(
+        "setRoot", setRootCode.toString(), void.class, VectorSchemaRoot.class, "newRoot");
+    String constructorCode =
+        StringUtils.format(
+            "setRoot((${rootType})${references}[0]);\n",
+            "references",
+            REFERENCES_NAME,
+            "rootType",
+            ctx.type(VectorSchemaRoot.class));
+
+    Expression encodeExpr = buildEncodeExpression();
+    Expression decodeExpr = buildDecodeExpression();
+    String encodeCode = encodeExpr.genCode(ctx).code();
+    String decodeCode = decodeExpr.genCode(ctx).code();
+    ctx.overrideMethod(
+        "write", encodeCode, void.class, Object.class, ROOT_OBJECT_NAME, int.class, ROW_INDEX_NAME);
+    ctx.overrideMethod(
+        "read", decodeCode, void.class, List.class, BEANS_NAME, int.class, NUM_ROWS_NAME);
+    ctx.addConstructor(constructorCode, Object[].class, REFERENCES_NAME);
+
+    long startTime = System.nanoTime();
+    String code = ctx.genCode();
+    long durationMs = (System.nanoTime() - startTime) / 1000;
+    LOG.info("Generate arrow codec for class {} take {} us", beanClass, durationMs);
+    return code;
+  }
+
+  /**
+   * Returns an expression that writes flat fields of java bean of type {@link
+   * CodecBuilder#beanClass} into column vectors at <code>rowIndex</code>.
+   */
+  @Override
+  public Expression buildEncodeExpression() {
+    Reference inputObject = new Reference(ROOT_OBJECT_NAME, TypeUtils.OBJECT_TYPE, false);
+    Reference rowIndex = new Reference(ROW_INDEX_NAME, TypeUtils.PRIMITIVE_INT_TYPE, false);
+    Expression.ListExpression expressions = new Expression.ListExpression();
+    Expression.Cast bean = new Expression.Cast(inputObject, beanType, ctx.newName(beanClass));
+    List<Field> fields = schema.getFields();
+    // schema field's name must correspond to descriptor's name.
+    for (int i = 0; i < fields.size(); i++) {
+      Class<? extends ValueVector> vectorClass = vectorClass(fields.get(i));
+      if (vectorClass == null) {
+        continue;
+      }
+      Descriptor d = getDescriptorByFieldName(fields.get(i).getName());
+      Preconditions.checkNotNull(d);
+      Reference vector = new Reference(VECTOR_NAME_PREFIX + i, TypeRef.of(vectorClass), false);
+      Expression fieldValue = getFieldValue(bean, d);
+      expressions.add(writeColumn(vector, rowIndex, fieldValue, d.getTypeRef()));
+    }
+    return expressions;
+  }
+
+  private Expression writeColumn(
+      Reference vector, Expression rowIndex, Expression inputObject, TypeRef<?> typeRef) {
+    Class<?> rawType = getRawType(typeRef);
+    if (rawType == boolean.class) {
+      return setBoolean(vector, rowIndex, inputObject);
+    } else if (rawType.isPrimitive()) {
+      return new Expression.Invoke(vector, "setSafe", rowIndex, inputObject);
+    }
+    Expression value;
+    if (rawType == Boolean.class) {
+      value =
+          setBoolean(
+              vector,
+              rowIndex,
+              new Expression.Invoke(inputObject, "booleanValue", TypeUtils.PRIMITIVE_BOOLEAN_TYPE));
+      return setValueOrNull(vector, rowIndex, inputObject, value);
+    } else if (TypeUtils.isBoxed(rawType)) {
+      Class<?> primitiveType = TypeUtils.unwrap(rawType);
+      value =
+          new Expression.Invoke(
+              inputObject, primitiveType.getName() + "Value", TypeRef.of(primitiveType));
+    } else if (rawType == BigDecimal.class) {
+      value = inputObject;
+    } else if (rawType == java.math.BigInteger.class) {
+      value = new Expression.NewInstance(TypeRef.of(BigDecimal.class), inputObject);
+    } else if (rawType == java.time.LocalDate.class) {
+      value =
+          new Expression.StaticInvoke(
+              DateTimeUtils.class,
+              "localDateToDays",
+              TypeUtils.PRIMITIVE_INT_TYPE,
+              false,
+              inputObject);
+    } else if (rawType == java.sql.Date.class) {
+      value =
+          new Expression.StaticInvoke(
+              DateTimeUtils.class,
+              "fromJavaDate",
+              TypeUtils.PRIMITIVE_INT_TYPE,
+              false,
+              inputObject);
+    } else if (rawType == java.sql.Timestamp.class) {
+      value =
+          new Expression.StaticInvoke(
+              DateTimeUtils.class,
+              "fromJavaTimestamp",
+              TypeUtils.PRIMITIVE_LONG_TYPE,
+              false,
+              inputObject);
+    } else if (rawType == java.time.Instant.class) {
+      value =
+          new Expression.StaticInvoke(
+              DateTimeUtils.class,
+              "instantToMicros",
+              TypeUtils.PRIMITIVE_LONG_TYPE,
+              false,
+              inputObject);
+    } else if (rawType == String.class) {
+      value = utf8Bytes(inputObject);
+    } else if (rawType.isEnum()) {
+      value = utf8Bytes(new Expression.Invoke(inputObject, "name", TypeUtils.STRING_TYPE));
+    } else {
+      throw new UnsupportedOperationException(
+          String.format("Unsupported type %s for arrow column %s", typeRef, vector.name()));
+    }
+    return setValueOrNull(
+        vector, rowIndex, inputObject, new Expression.Invoke(vector, "setSafe", rowIndex, value));
+  }
+
+  private static Expression setBoolean(Reference vector, Expression rowIndex, Expression value) {
+    return new Expression.If(
+        value,
+        new Expression.Invoke(vector, "setSafe", rowIndex, Literal.ofInt(1)),
+        new Expression.Invoke(vector, "setSafe", rowIndex, Literal.ofInt(0)));
+  }
+
+  private static Expression utf8Bytes(Expression str) {
+    return new Expression.Invoke(str, "getBytes", TypeRef.of(byte[].class), UTF8_CHARSET);
+  }
+
+  private static Expression setValueOrNull(
+      Reference vector, Expression rowIndex, Expression inputObject, Expression action) {
+    return new Expression.If(
+        ExpressionUtils.eqNull(inputObject),
+        new Expression.Invoke(vector, "setNull", rowIndex),
+        action);
+  }
+
+  /**
+   * Returns an expression that appends <code>numRows</code> java beans of type {@link
+   * CodecBuilder#beanClass} read from column vectors to <code>beans</code>. Beans are created
+   * first, then every flat column is read in its own loop.
+   */
+  @Override
+  public Expression buildDecodeExpression() {
+    Reference beans = new Reference(BEANS_NAME, TypeRef.of(List.class), false);
+    Reference numRows = new Reference(NUM_ROWS_NAME, TypeUtils.PRIMITIVE_INT_TYPE, false);
+    Expression.ListExpression expressions = new Expression.ListExpression();
+    Expression offset =
+        new Expression.Invoke(beans, "size", "offset", TypeUtils.PRIMITIVE_INT_TYPE, false);
+    expressions.add(offset);
+    Literal zero = Literal.ofInt(0);
+    Literal one = Literal.ofInt(1);
+    expressions.add(
+        new Expression.ForLoop(
+            zero, numRows, one, i -> new Expression.Invoke(beans, "add", newBean())));
+    List<Field> fields = schema.getFields();
+    for (int i = 0; i < fields.size(); i++) {
+      Field field = fields.get(i);
+      Class<? extends ValueVector> vectorClass = vectorClass(field);
+      if (vectorClass == null) {
+        continue;
+      }
+      Descriptor d = getDescriptorByFieldName(field.getName());
+      Preconditions.checkNotNull(d);
+      Reference vector = new Reference(VECTOR_NAME_PREFIX + i, TypeRef.of(vectorClass), false);
+      expressions.add(
+          new Expression.ForLoop(
+              zero,
+              numRows,
+              one,
+              rowIndex -> {
+                Expression bean =
+                    new Expression.Cast(
+                        new Expression.Invoke(
+                            beans,
+                            "get",
+                            TypeUtils.OBJECT_TYPE,
+                            ExpressionUtils.add(offset, rowIndex)),
+                        beanType);
+                Expression value = readColumn(vector, rowIndex, d.getTypeRef());
+                Expression setField = setFieldValue(bean, d, value);
+                if (!field.isNullable()) {
+                  return setField;
+                }
+                Expression isNull =
+                    new Expression.Invoke(
+                        vector, "isNull", TypeUtils.PRIMITIVE_BOOLEAN_TYPE, rowIndex);
+                return new Expression.If(ExpressionUtils.not(isNull), setField);
+              }));
+    }
+    return expressions;
+  }
+
+  private Expression readColumn(Reference vector, Expression rowIndex, TypeRef<?> typeRef) {
+    Class<?> rawType = getRawType(typeRef);
+    if (rawType == boolean.class || rawType == Boolean.class) {
+      Expression value =
+          new Expression.Invoke(vector, "get", TypeUtils.PRIMITIVE_INT_TYPE, rowIndex);
+      return ExpressionUtils.neq(value, Literal.ofInt(0));
+    } else if (rawType.isPrimitive() || TypeUtils.isBoxed(rawType)) {
+      return new Expression.Invoke(vector, "get", TypeRef.of(TypeUtils.unwrap(rawType)), rowIndex);
+    } else if (rawType == BigDecimal.class) {
+      return new Expression.Invoke(vector, "getObject", TypeRef.of(BigDecimal.class), rowIndex);
+    } else if (rawType == java.math.BigInteger.class) {
+      Expression value =
+          new Expression.Invoke(vector, "getObject", TypeRef.of(BigDecimal.class), rowIndex);
+      return new Expression.Invoke(value, "toBigInteger", TypeUtils.BIG_INTEGER_TYPE);
+    } else if (rawType == java.time.LocalDate.class || rawType == java.sql.Date.class) {
+      Expression value =
+          new Expression.Invoke(vector, "get", TypeUtils.PRIMITIVE_INT_TYPE, rowIndex);
+      return deserializeFor(value, typeRef);
+    } else if (rawType == java.sql.Timestamp.class || rawType == java.time.Instant.class) {
+      Expression value =
+          new Expression.Invoke(vector, "get", TypeUtils.PRIMITIVE_LONG_TYPE, rowIndex);
+      return deserializeFor(value, typeRef);
+    } else if (rawType == String.class || rawType.isEnum()) {
+      if (!ctx.hasField(UTF8_BUFFER_NAME)) {
+        ctx.addField(
+            MemoryBuffer.class,
+            UTF8_BUFFER_NAME,
+            new Expression.StaticInvoke(
+                MemoryBuffer.class,
+                "newHeapBuffer",
+                TypeRef.of(MemoryBuffer.class),
+                false,
+                Literal.ofInt(64)));
+      }
+      Expression str =
+          new Expression.StaticInvoke(
+              ArrowUtils.class,
+              "readUtf8",
+              TypeUtils.STRING_TYPE,
+              false,
+              vector,
+              rowIndex,
+              new Reference(UTF8_BUFFER_NAME, TypeRef.of(MemoryBuffer.class)));
+      return rawType == String.class ? str : deserializeFor(str, typeRef);
+    } else {
+      throw new UnsupportedOperationException(
+          String.format("Unsupported type %s for arrow column %s", typeRef, vector.name()));
+    }
+  }
+
+  /**
+   * Returns the vector class written by generated code for <code>field</code>, or null if the field
+   * is a nested field which should be written from a row.
+   */
+  static Class<? extends ValueVector> vectorClass(Field field) {
+    ArrowType type = field.getType();
+    switch (type.getTypeID()) {
+      case Bool:
+        return BitVector.class;
+      case Int:
+        switch (((ArrowType.Int) type).getBitWidth()) {
+          case 8:
+            return TinyIntVector.class;
+          case 16:
+            return SmallIntVector.class;
+          case 32:
+            return IntVector.class;
+          case 64:
+            return BigIntVector.class;
+          default:
+            return null;
+        }
+      case FloatingPoint:
+        FloatingPointPrecision precision = ((ArrowType.FloatingPoint) type).getPrecision();
+        if (precision == FloatingPointPrecision.SINGLE) {
+          return Float4Vector.class;
+        }
+        return precision == FloatingPointPrecision.DOUBLE ? Float8Vector.class : null;
+      case Decimal:
+        return DecimalVector.class;
+      case Date:
+        return ((ArrowType.Date) type).getUnit() == DateUnit.DAY ? DateDayVector.class : null;
+      case Timestamp:
+        return TimeStampVector.class;
+      case Utf8:
+        return VarCharVector.class;
+      default:
+        return null;
+    }
+  }
+
+  /** Returns ordinals of fields which can't be written by generated arrow codec. */
+  public static int[] nestedFieldOrdinals(Schema schema) {
+    List<Field> fields = schema.getFields();
+    return IntStream.range(0, fields.size())
+        .filter(i -> vectorClass(fields.get(i)) == null)
+        .toArray();
+  }
+
+  private Descriptor getDescriptorByFieldName(String fieldName) {
+    String name = StringUtils.lowerUnderscoreToLowerCamelCase(fieldName);
+    return descriptorsMap.get(name);
+  }
+
+  @Override
+  protected Expression beanClassExpr() {
+    if (GraalvmSupport.isGraalBuildtime()) {
+      return staticBeanClassExpr();
+    }
+    return beanClassRef;
+  }
+}
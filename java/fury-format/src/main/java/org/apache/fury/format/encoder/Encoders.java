@@ -22,12 +22,21 @@ package org.apache.fury.format.encoder;
 import static org.apache.fury.type.TypeUtils.OBJECT_TYPE;
 import static org.apache.fury.type.TypeUtils.getRawType;
 
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.arrow.util.Preconditions;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.ArrowType;
 import org.apache.arrow.vector.types.pojo.Field;
 import org.apache.arrow.vector.types.pojo.Schema;
 import org.apache.fury.Fury;
@@ -42,6 +51,9 @@ import org.apache.fury.format.row.binary.writer.BinaryArrayWriter;
 import org.apache.fury.format.row.binary.writer.BinaryRowWriter;
 import org.apache.fury.format.type.DataTypes;
 import org.apache.fury.format.type.TypeInference;
+import org.apache.fury.format.vectorized.ArrowTable;
+import org.apache.fury.format.vectorized.ArrowUtils;
+import org.apache.fury.format.vectorized.ArrowWriter;
 import org.apache.fury.logging.Logger;
 import org.apache.fury.logging.LoggerFactory;
 import org.apache.fury.memory.MemoryBuffer;
@@ -218,6 +230,167 @@ public class Encoders {
     }
   }
 
+  /**
+   * Creates an encoder which writes a batch of java beans of type T into arrow column vectors and
+   * reads them back. Beans with nested fields such as struct, list and map can't be decoded, use
+   * {@link #arrowBatchWriter} to encode them.
+   */
+  public static <T> ArrowBatchEncoder<T> arrowBatch(Class<T> beanClass) {
+    Schema schema = TypeInference.inferSchema(beanClass);
+    int[] nestedOrdinals = ArrowEncoderBuilder.nestedFieldOrdinals(schema);
+    if (nestedOrdinals.length > 0) {
+      throw new UnsupportedOperationException(
+          String.format(
+              "Decoding nested fields %s of %s is not supported, use `arrowBatchWriter` instead",
+              Arrays.stream(nestedOrdinals)
+                  .mapToObj(i -> schema.getFields().get(i).getName())
+                  .collect(Collectors.toList()),
+              beanClass));
+    }
+    return newArrowBatchEncoder(beanClass, schema, nestedOrdinals);
+  }
+
+  /**
+   * Creates a writer which writes a batch of java beans of type T into arrow column vectors.
+   *
+   * <p>Flat fields are written into vectors by generated code directly. Nested fields such as
+   * struct, list and map are converted to a row holding only those fields first, which is slower.
+   */
+  public static <T> ArrowBatchWriter<T> arrowBatchWriter(Class<T> beanClass) {
+    Schema schema = TypeInference.inferSchema(beanClass);
+    return newArrowBatchEncoder(beanClass, schema, ArrowEncoderBuilder.nestedFieldOrdinals(schema));
+  }
+
+  private static <T> ArrowBatchEncoder<T> newArrowBatchEncoder(
+      Class<T> beanClass, Schema schema, int[] nestedOrdinals) {
+    try {
+      Constructor<? extends GeneratedArrowEncoder> codecConstructor =
+          loadOrGenArrowCodecClass(beanClass)
+              .asSubclass(GeneratedArrowEncoder.class)
+              .getConstructor(Object[].class);
+      VectorSchemaRoot root = ArrowUtils.createVectorSchemaRoot(schema);
+      GeneratedArrowEncoder codec = codecConstructor.newInstance((Object) new Object[] {root});
+      List<ValueVector> flatVectors = new ArrayList<>();
+      for (int i = 0; i < schema.getFields().size(); i++) {
+        if (Arrays.binarySearch(nestedOrdinals, i) < 0) {
+          ValueVector vector = root.getVector(i);
+          vector.allocateNew();
+          flatVectors.add(vector);
+        }
+      }
+      BinaryRowWriter rowWriter;
+      GeneratedRowEncoder rowEncoder;
+      ArrowWriter nestedWriter;
+      if (nestedOrdinals.length > 0) {
+        // only nested fields are converted to rows, flat fields are written by `codec` already.
+        Schema nestedSchema =
+            new Schema(
+                Arrays.stream(nestedOrdinals)
+                    .mapToObj(i -> schema.getFields().get(i))
+                    .collect(Collectors.toList()));
+        rowWriter = new BinaryRowWriter(nestedSchema);
+        rowEncoder =
+            loadOrGenNestedRowCodecClass(beanClass, nestedSchema)
+                .asSubclass(GeneratedRowEncoder.class)
+                .getConstructor(Object[].class)
+                .newInstance((Object) new Object[] {nestedSchema, rowWriter, null});
+        nestedWriter = new ArrowWriter(root, nestedOrdinals);
+      } else {
+        rowWriter = null;
+        rowEncoder = null;
+        nestedWriter = null;
+      }
+      return new ArrowBatchEncoder<T>() {
+        // codec bound to roots which are not owned by this encoder, created on first use.
+        private GeneratedArrowEncoder peerCodec;
+        private VectorSchemaRoot peerRoot;
+        private Schema checkedSchema;
+
+        @Override
+        public Schema schema() {
+          return schema;
+        }
+
+        @Override
+        public VectorSchemaRoot encode(Iterator<T> objects) {
+          for (ValueVector vector : flatVectors) {
+            vector.reset();
+          }
+          if (nestedWriter != null) {
+            nestedWriter.reset();
+          }
+          int rowCount = 0;
+          while (objects.hasNext()) {
+            T obj = objects.next();
+            codec.write(obj, rowCount++);
+            if (nestedWriter != null) {
+              rowWriter.reset();
+              nestedWriter.write(rowEncoder.toRow(obj));
+            }
+          }
+          if (nestedWriter != null) {
+            nestedWriter.finish();
+          }
+          root.setRowCount(rowCount);
+          return root;
+        }
+
+        @Override
+        public List<T> decode(VectorSchemaRoot root) {
+          List<T> beans = new ArrayList<>(root.getRowCount());
+          decode(root, beans);
+          return beans;
+        }
+
+        @Override
+        public List<T> decode(ArrowTable table) {
+          List<T> beans = new ArrayList<>();
+          try (VectorSchemaRoot root = table.toVectorSchemaRoot(true)) {
+            while (table.loadNextBatch()) {
+              decode(root, beans);
+            }
+          }
+          return beans;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void decode(VectorSchemaRoot batch, List<T> beans) {
+          GeneratedArrowEncoder reader = codec;
+          if (batch != root) {
+            reader = peerCodec(batch);
+          }
+          reader.read((List<Object>) beans, batch.getRowCount());
+        }
+
+        private GeneratedArrowEncoder peerCodec(VectorSchemaRoot batch) {
+          GeneratedArrowEncoder reader = peerCodec;
+          if (batch == peerRoot) {
+            return reader;
+          }
+          Schema batchSchema = batch.getSchema();
+          if (!batchSchema.equals(checkedSchema)) {
+            checkArrowSchema(schema, batchSchema);
+            checkedSchema = batchSchema;
+          }
+          if (reader == null) {
+            try {
+              reader = peerCodec = codecConstructor.newInstance((Object) new Object[] {batch});
+            } catch (ReflectiveOperationException e) {
+              throw new EncoderException("Create arrow decoder failed", e);
+            }
+          } else {
+            reader.setRoot(batch);
+          }
+          peerRoot = batch;
+          return reader;
+        }
+      };
+    } catch (Exception e) {
+      String msg = String.format("Create arrow encoder failed, \nbeanClass: %s", beanClass);
+      throw new EncoderException(msg, e);
+    }
+  }
+
   /**
    * Supported nested list format. For instance, nest collection can be expressed as Collection in
    * Collection. Input param must explicit specified type, like this: <code>
@@ -648,6 +821,60 @@ public class Encoders {
     return loadCls(compileUnits);
   }
 
+  /**
+   * Load or generate a row codec of <code>beanClass</code> which only encodes fields in <code>
+   * nestedSchema</code>, codecs of beans in those fields are the normal full row codecs.
+   */
+  private static Class<?> loadOrGenNestedRowCodecClass(Class<?> beanClass, Schema nestedSchema) {
+    LOG.info("Create nested fields RowCodec for class {}", beanClass);
+    List<CompileUnit> compileUnits = new ArrayList<>();
+    RowEncoderBuilder codecBuilder =
+        new RowEncoderBuilder(TypeRef.of(beanClass), nestedSchema, "Nested");
+    compileUnits.add(
+        new CompileUnit(
+            CodeGenerator.getPackage(beanClass),
+            codecBuilder.codecClassName(beanClass, "Nested"),
+            codecBuilder::genCode));
+    for (Class<?> cls : TypeUtils.listBeansRecursiveInclusive(beanClass)) {
+      if (cls != beanClass) {
+        RowEncoderBuilder builder = new RowEncoderBuilder(cls);
+        compileUnits.add(
+            new CompileUnit(
+                CodeGenerator.getPackage(cls), builder.codecClassName(cls), builder::genCode));
+      }
+    }
+    return loadCls(compileUnits.toArray(new CompileUnit[0]));
+  }
+
+  private static void checkArrowSchema(Schema schema, Schema peerSchema) {
+    for (Field field : schema.getFields()) {
+      Field peerField = peerSchema.findField(field.getName());
+      Class<?> vectorClass = ArrowEncoderBuilder.vectorClass(field);
+      boolean compatible = vectorClass == ArrowEncoderBuilder.vectorClass(peerField);
+      if (compatible && field.getType() instanceof ArrowType.Timestamp) {
+        ArrowType.Timestamp type = (ArrowType.Timestamp) field.getType();
+        compatible = type.getUnit() == ((ArrowType.Timestamp) peerField.getType()).getUnit();
+      }
+      if (!compatible) {
+        throw new ClassNotCompatibleException(
+            String.format(
+                "Arrow field %s is not compatible with %s, encoder schema is %s",
+                peerField, field, schema));
+      }
+    }
+  }
+
+  private static Class<?> loadOrGenArrowCodecClass(Class<?> beanClass) {
+    LOG.info("Create ArrowCodec for class {}", beanClass);
+    ArrowEncoderBuilder codecBuilder = new ArrowEncoderBuilder(beanClass);
+    CompileUnit compileUnit =
+        new CompileUnit(
+            CodeGenerator.getPackage(beanClass),
+            codecBuilder.codecClassName(beanClass),
+            codecBuilder::genCode);
+    return loadCls(compileUnit);
+  }
+
   private static <B> Class<?> loadOrGenArrayCodecClass(
       TypeRef<? extends Collection> arrayCls, TypeRef<B> elementType) {
     LOG.info("Create ArrayCodec for classes {}", elementType);
@@ -63,6 +63,7 @@ public class RowEncoderBuilder extends BaseBinaryEncoderBuilder {
 
   private final SortedMap<String, Descriptor> descriptorsMap;
   private final Schema schema;
+  private final String codecPrefix;
   protected static final String BEAN_CLASS_NAME = "beanClass";
   protected Reference beanClassRef = new Reference(BEAN_CLASS_NAME, CLASS_TYPE);
 
@@ -71,9 +72,20 @@ public class RowEncoderBuilder extends BaseBinaryEncoderBuilder {
   }
 
   public RowEncoderBuilder(TypeRef<?> beanType) {
+    this(beanType, TypeInference.inferSchema(getRawType(beanType)), "");
+  }
+
+  /**
+   * Create a builder whose codec only reads and writes the fields in <code>schema</code>, which
+   * must be a subset of the bean schema. <code>codecPrefix</code> is inserted into the generated
+   * class name and must be unique for every distinct subset of the same bean. Beans in those fields
+   * are still encoded by their full row codecs.
+   */
+  RowEncoderBuilder(TypeRef<?> beanType, Schema schema, String codecPrefix) {
     super(new CodegenContext(), beanType);
     Preconditions.checkArgument(TypeUtils.isBean(beanType));
-    this.schema = TypeInference.inferSchema(getRawType(beanType));
+    this.schema = schema;
+    this.codecPrefix = codecPrefix;
     this.descriptorsMap = Descriptor.getDescriptorsMap(beanClass);
     ctx.reserveName(ROOT_ROW_WRITER_NAME);
     ctx.reserveName(SCHEMA_NAME);
@@ -102,7 +114,7 @@ public class RowEncoderBuilder extends BaseBinaryEncoderBuilder {
   @Override
   public String genCode() {
     ctx.setPackage(CodeGenerator.getPackage(beanClass));
-    String className = codecClassName(beanClass);
+    String className = codecClassName(beanClass, codecPrefix);
     ctx.setClassName(className);
     // don't addImport(beanClass), because user class may name collide.
     // janino don't support generics, so GeneratedCodec has no generics
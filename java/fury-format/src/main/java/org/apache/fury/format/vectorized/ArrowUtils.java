@@ -21,8 +21,10 @@ package org.apache.fury.format.vectorized;
 
 import java.io.IOException;
 import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import org.apache.arrow.memory.ArrowBuf;
 import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VarCharVector;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.ipc.ReadChannel;
 import org.apache.arrow.vector.ipc.WriteChannel;
@@ -51,6 +53,20 @@ public class ArrowUtils {
     return decimalArrowBuf.get();
   }
 
+  /**
+   * Decode utf8 value at <code>index</code> of <code>vector</code> from its data buffer. Bytes are
+   * copied into <code>scratch</code> which is reused across values, instead of a new array for
+   * every value as {@link VarCharVector#get(int)} does, then decoded into a string.
+   */
+  public static String readUtf8(VarCharVector vector, int index, MemoryBuffer scratch) {
+    int start = vector.getStartOffset(index);
+    int length = vector.getEndOffset(index) - start;
+    scratch.ensure(length);
+    byte[] bytes = scratch.getHeapMemory();
+    vector.getDataBuffer().getBytes(start, bytes, 0, length);
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
   public static VectorSchemaRoot createVectorSchemaRoot(Schema schema) {
     return VectorSchemaRoot.create(schema, allocator);
   }
@@ -28,7 +28,7 @@ import org.apache.arrow.vector.Float4Vector;
 import org.apache.arrow.vector.Float8Vector;
 import org.apache.arrow.vector.IntVector;
 import org.apache.arrow.vector.SmallIntVector;
-import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.TimeStampVector;
 import org.apache.arrow.vector.TinyIntVector;
 import org.apache.arrow.vector.ValueVector;
 import org.apache.arrow.vector.VarBinaryVector;
@@ -59,12 +59,22 @@ public class ArrowWriter {
   private final ArrowArrayWriter[] fieldWriters;
 
   public ArrowWriter(VectorSchemaRoot root) {
+    this(root, IntStream.range(0, root.getFieldVectors().size()).toArray());
+  }
+
+  /**
+   * Create a writer which only fills the columns at <code>ordinals</code>, other columns of <code>
+   * root</code> are left to be written by the caller. Field <code>i</code> of written rows goes to
+   * column <code>ordinals[i]</code>, so rows only need to contain those columns.
+   */
+  public ArrowWriter(VectorSchemaRoot root, int[] ordinals) {
     this.root = root;
     this.unloader = new VectorUnloader(root);
     this.fieldWriters =
-        root.getFieldVectors().stream()
-            .map(
-                valueVector -> {
+        Arrays.stream(ordinals)
+            .mapToObj(
+                i -> {
+                  ValueVector valueVector = root.getVector(i);
                   valueVector.allocateNew();
                   return createFieldWriter(valueVector);
                 })
@@ -149,7 +159,7 @@ public class ArrowWriter {
 
           @Override
           public ArrowArrayWriter visit(ArrowType.Timestamp type) {
-            return new TimestampWriter((TimeStampMicroTZVector) vector);
+            return new TimestampWriter((TimeStampVector) vector);
           }
 
           @Override
@@ -494,9 +504,9 @@ class DateWriter extends ArrowArrayWriter {
 }
 
 class TimestampWriter extends ArrowArrayWriter {
-  private final TimeStampMicroTZVector valueVector;
+  private final TimeStampVector valueVector;
 
-  TimestampWriter(TimeStampMicroTZVector valueVector) {
+  TimestampWriter(TimeStampVector valueVector) {
     this.valueVector = valueVector;
   }
 
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.format.encoder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.Data;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.VectorUnloader;
+import org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.fury.format.vectorized.ArrowTable;
+import org.apache.fury.format.vectorized.ArrowUtils;
+import org.apache.fury.format.vectorized.ArrowWriter;
+import org.apache.fury.test.bean.BeanA;
+import org.apache.fury.util.DateTimeUtils;
+import org.apache.fury.util.DecimalUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ArrowBatchEncoderTest {
+
+  @Data
+  public static class FlatBean {
+    public boolean f1;
+    public int f2;
+    public long f3;
+    public double f4;
+    public Integer f5;
+    public String f6;
+    public BigDecimal f7;
+    public LocalDate f8;
+    public Instant f9;
+  }
+
+  private static FlatBean createFlatBean(int i) {
+    FlatBean bean = new FlatBean();
+    bean.f1 = i % 2 == 0;
+    bean.f2 = i;
+    bean.f3 = i * 1_000_000_000L;
+    bean.f4 = i / 3.0;
+    if (i % 3 != 0) {
+      bean.f5 = -i;
+      bean.f6 = i % 2 == 0 ? "str" + i : "\u5b57\u7b26" + i;
+      bean.f7 = BigDecimal.valueOf(i).setScale(DecimalUtils.MAX_SCALE);
+      bean.f8 = LocalDate.of(2020, 1, 1).plusDays(i);
+      bean.f9 = Instant.ofEpochSecond(1_700_000_000L + i);
+    }
+    return bean;
+  }
+
+  @Test
+  public void testEncodeFlatBean() {
+    ArrowBatchEncoder<FlatBean> encoder = Encoders.arrowBatch(FlatBean.class);
+    for (int n : new int[] {10, 1000, 0, 3}) {
+      List<FlatBean> beans = new ArrayList<>();
+      for (int i = 0; i < n; i++) {
+        beans.add(createFlatBean(i));
+      }
+      VectorSchemaRoot root = encoder.encode(beans);
+      Assert.assertEquals(root.getRowCount(), n);
+      for (int i = 0; i < n; i++) {
+        FlatBean bean = beans.get(i);
+        Assert.assertEquals(((BitVector) root.getVector("f1")).get(i), bean.f1 ? 1 : 0);
+        Assert.assertEquals(((IntVector) root.getVector("f2")).get(i), bean.f2);
+        Assert.assertEquals(((BigIntVector) root.getVector("f3")).get(i), bean.f3);
+        Assert.assertEquals(((Float8Vector) root.getVector("f4")).get(i), bean.f4);
+        Assert.assertEquals(((IntVector) root.getVector("f5")).getObject(i), bean.f5);
+        if (bean.f6 == null) {
+          for (int j = 5; j < 9; j++) {
+            Assert.assertTrue(root.getVector(j).isNull(i));
+          }
+        } else {
+          VarCharVector f6 = (VarCharVector) root.getVector("f6");
+          Assert.assertEquals(f6.getObject(i).toString(), bean.f6);
+          Assert.assertEquals(((DecimalVector) root.getVector("f7")).getObject(i), bean.f7);
+          Assert.assertEquals(
+              ((DateDayVector) root.getVector("f8")).get(i),
+              DateTimeUtils.localDateToDays(bean.f8));
+          Assert.assertEquals(
+              ((TimeStampVector) root.getVector("f9")).get(i),
+              DateTimeUtils.instantToMicros(bean.f9));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testDecodeFlatBean() {
+    ArrowBatchEncoder<FlatBean> encoder = Encoders.arrowBatch(FlatBean.class);
+    List<FlatBean> beans = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      beans.add(createFlatBean(i));
+    }
+    Assert.assertEquals(encoder.decode(encoder.encode(beans)), beans);
+    Assert.assertEquals(encoder.decode(encoder.encode(Collections.emptyList())).size(), 0);
+    // decode vectors which are not owned by the encoder.
+    ArrowRecordBatch recordBatch =
+        new VectorUnloader(encoder.encode(beans.subList(0, 10))).getRecordBatch();
+    ArrowTable table = new ArrowTable(encoder.schema(), Arrays.asList(recordBatch, recordBatch));
+    VectorSchemaRoot root = table.toVectorSchemaRoot();
+    Assert.assertTrue(table.loadNextBatch());
+    Assert.assertEquals(encoder.decode(root), beans.subList(0, 10));
+    List<FlatBean> expected = new ArrayList<>(beans.subList(0, 10));
+    expected.addAll(beans.subList(0, 10));
+    Assert.assertEquals(encoder.decode(table), expected);
+    // codec of peer roots is reused after the root is changed.
+    Assert.assertEquals(encoder.decode(table), expected);
+    root.close();
+    recordBatch.close();
+  }
+
+  @Test
+  public void testEncodeNestedBean() {
+    List<BeanA> beans = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      beans.add(BeanA.createBeanA(2));
+    }
+    ArrowBatchWriter<BeanA> encoder = Encoders.arrowBatchWriter(BeanA.class);
+    ArrowWriter arrowWriter = ArrowUtils.createArrowWriter(encoder.schema());
+    RowEncoder<BeanA> rowEncoder = Encoders.bean(BeanA.class);
+    for (BeanA bean : beans) {
+      arrowWriter.write(rowEncoder.toRow(bean));
+    }
+    String expected = arrowWriter.finish().contentToTSVString();
+    Assert.assertEquals(encoder.encode(beans).contentToTSVString(), expected);
+    // root is reused across batches.
+    Assert.assertEquals(encoder.encode(beans.iterator()).contentToTSVString(), expected);
+    Assert.assertEquals(encoder.encode(Collections.emptyList()).getRowCount(), 0);
+    // nested fields can't be decoded, which should fail before encoding.
+    Assert.assertThrows(
+        UnsupportedOperationException.class, () -> Encoders.arrowBatch(BeanA.class));
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.jfr.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.apache.fury.annotation.Internal;
+
+/** Event of compiling generated source code into classes. */
+@Name("org.apache.fury.Compile")
+@Label("Fury JIT Compile")
+@Category("Fury")
+@Description("Compilation of generated serializer classes")
+@Internal
+public final class CompileEvent extends Event {
+  @Label("Classes")
+  String classNames;
+
+  @Label("Source Size")
+  @DataAmount
+  long sourceSize;
+
+  @Label("Loaded From Code Cache")
+  boolean cached;
+
+  @Label("Async")
+  @Description("Whether compiled in fury jit compiler thread")
+  boolean async;
+}
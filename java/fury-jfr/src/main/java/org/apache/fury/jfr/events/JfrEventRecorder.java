@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.jfr.events;
+
+import org.apache.fury.annotation.Internal;
+import org.apache.fury.jfr.EventRecorder;
+import org.apache.fury.jfr.FuryEvents;
+
+/**
+ * {@link EventRecorder} which emits Java Flight Recorder events, loaded by {@link FuryEvents} when
+ * this module is in classpath.
+ */
+@Internal
+public class JfrEventRecorder implements EventRecorder {
+
+  @Override
+  public Object beginSerialize() {
+    SerializeEvent event = new SerializeEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void commitSerialize(Object e, Object obj, long bytes) {
+    SerializeEvent event = (SerializeEvent) e;
+    event.end();
+    if (event.shouldCommit()) {
+      event.rootClass = obj == null ? null : obj.getClass();
+      event.bytes = bytes;
+      event.commit();
+    }
+  }
+
+  @Override
+  public Object beginDeserialize() {
+    DeserializeEvent event = new DeserializeEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void commitDeserialize(Object e, Object obj, long bytes) {
+    DeserializeEvent event = (DeserializeEvent) e;
+    event.end();
+    if (event.shouldCommit()) {
+      event.rootClass = obj == null ? null : obj.getClass();
+      event.bytes = bytes;
+      event.commit();
+    }
+  }
+
+  @Override
+  public Object beginCompile() {
+    CompileEvent event = new CompileEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void commitCompile(
+      Object e, String classNames, long sourceSize, boolean cached, boolean async) {
+    CompileEvent event = (CompileEvent) e;
+    event.end();
+    if (event.shouldCommit()) {
+      event.classNames = classNames;
+      event.sourceSize = sourceSize;
+      event.cached = cached;
+      event.async = async;
+      event.commit();
+    }
+  }
+
+  @Override
+  public Object beginWriteClassDefs() {
+    ClassDefsWriteEvent event = new ClassDefsWriteEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void commitWriteClassDefs(Object e, int numClassDefs, long bytes) {
+    ClassDefsWriteEvent event = (ClassDefsWriteEvent) e;
+    event.end();
+    if (event.shouldCommit()) {
+      event.numClassDefs = numClassDefs;
+      event.bytes = bytes;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void bufferGrow(long oldSize, long newSize) {
+    BufferGrowEvent event = new BufferGrowEvent();
+    if (event.shouldCommit()) {
+      event.oldSize = oldSize;
+      event.newSize = newSize;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.fury.jfr.events;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.fury.jfr.FuryEvents;
+import org.testng.annotations.Test;
+
+public class JfrEventRecorderTest {
+
+  @Test
+  public void testDisabledByDefault() {
+    assertFalse(FuryEvents.ENABLED);
+    // Recorder is loaded from classpath, but events are not enabled when there is no recording.
+    assertNull(FuryEvents.beginSerialize());
+    assertNull(FuryEvents.beginCompile());
+  }
+
+  @Test
+  public void testCommitEvents() throws Exception {
+    Path file = Files.createTempFile("fury", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(SerializeEvent.class).withoutThreshold();
+      recording.enable(DeserializeEvent.class).withoutThreshold();
+      recording.enable(CompileEvent.class).withoutThreshold();
+      recording.enable(ClassDefsWriteEvent.class).withoutThreshold();
+      recording.enable(BufferGrowEvent.class).withoutThreshold();
+      recording.start();
+      Object serializeEvent = FuryEvents.beginSerialize();
+      assertTrue(serializeEvent instanceof SerializeEvent);
+      FuryEvents.commitSerialize(serializeEvent, "abc", 10);
+      FuryEvents.commitDeserialize(FuryEvents.beginDeserialize(), null, 2);
+      FuryEvents.commitCompile(FuryEvents.beginCompile(), "a.B", 100, false, true);
+      FuryEvents.commitWriteClassDefs(FuryEvents.beginWriteClassDefs(), 3, 30);
+      FuryEvents.bufferGrow(32, 128);
+      recording.stop();
+      recording.dump(file);
+    }
+    try {
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      assertEquals(events.size(), 5);
+      for (RecordedEvent event : events) {
+        switch (event.getEventType().getName()) {
+          case "org.apache.fury.Serialize":
+            assertEquals(event.getClass("rootClass").getName(), String.class.getName());
+            assertEquals(event.getLong("bytes"), 10);
+            break;
+          case "org.apache.fury.Deserialize":
+            assertNull(event.getClass("rootClass"));
+            assertEquals(event.getLong("bytes"), 2);
+            break;
+          case "org.apache.fury.Compile":
+            assertEquals(event.getString("classNames"), "a.B");
+            assertEquals(event.getLong("sourceSize"), 100);
+            assertEquals(event.getBoolean("async"), true);
+            break;
+          case "org.apache.fury.ClassDefsWrite":
+            assertEquals(event.getInt("numClassDefs"), 3);
+            break;
+          case "org.apache.fury.BufferGrow":
+            assertEquals(event.getLong("newSize"), 128);
+            break;
+          default:
+            throw new AssertionError(event.getEventType().getName());
+        }
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+}